@@ -45,6 +45,12 @@ public final class AlertConfig implements Validator {
 
     private int senderParallelism = 100;
 
+    private int pluginInstanceParallelism = 10;
+
+    private int pluginInstanceQueueCapacity = 1000;
+
+    private int maxFetchSize = 1000;
+
     private String alertServerAddress;
 
     @Override
@@ -64,6 +70,18 @@ public final class AlertConfig implements Validator {
             errors.rejectValue("sender-parallelism", null, "should be a positive number");
         }
 
+        if (pluginInstanceParallelism <= 0) {
+            errors.rejectValue("plugin-instance-parallelism", null, "should be a positive number");
+        }
+
+        if (pluginInstanceQueueCapacity <= 0) {
+            errors.rejectValue("plugin-instance-queue-capacity", null, "should be a positive number");
+        }
+
+        if (maxFetchSize <= 0) {
+            errors.rejectValue("max-fetch-size", null, "should be a positive number");
+        }
+
         if (StringUtils.isEmpty(alertServerAddress)) {
             alertConfig.setAlertServerAddress(NetUtils.getAddr(alertConfig.getPort()));
         }
@@ -75,5 +93,9 @@ public final class AlertConfig implements Validator {
         log.info("Alert config: port -> {}", port);
         log.info("Alert config: alertServerAddress -> {}", alertServerAddress);
         log.info("Alert config: maxHeartbeatInterval -> {}", maxHeartbeatInterval);
+        log.info("Alert config: senderParallelism -> {}", senderParallelism);
+        log.info("Alert config: pluginInstanceParallelism -> {}", pluginInstanceParallelism);
+        log.info("Alert config: pluginInstanceQueueCapacity -> {}", pluginInstanceQueueCapacity);
+        log.info("Alert config: maxFetchSize -> {}", maxFetchSize);
     }
 }
@@ -17,12 +17,15 @@
 
 package org.apache.dolphinscheduler.alert.metrics;
 
+import java.time.Duration;
 import java.util.function.Supplier;
 
 import lombok.experimental.UtilityClass;
 import io.micrometer.core.instrument.Counter;
 import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.Meter;
 import io.micrometer.core.instrument.Metrics;
+import io.micrometer.core.instrument.Timer;
 
 @UtilityClass
 public class AlertServerMetrics {
@@ -57,6 +60,41 @@ public class AlertServerMetrics {
                 .register(Metrics.globalRegistry);
     }
 
+    public Meter registerPluginInstancePendingGauge(final String sender, final int pluginInstanceId,
+                                                    final Supplier<Number> supplier) {
+        return Gauge.builder("ds.alert.plugin.instance.pending", supplier)
+                .tag("sender", sender)
+                .tag("plugin_instance_id", String.valueOf(pluginInstanceId))
+                .description("Number of alerts waiting to be sent by the plugin instance")
+                .register(Metrics.globalRegistry);
+    }
+
+    public void removePluginInstanceMeters(final Meter pendingGauge, final int pluginInstanceId) {
+        Metrics.globalRegistry.remove(pendingGauge);
+        Metrics.globalRegistry.find("ds.alert.plugin.instance.send.time")
+                .tag("plugin_instance_id", String.valueOf(pluginInstanceId))
+                .meters()
+                .forEach(Metrics.globalRegistry::remove);
+    }
+
+    public void recordPluginInstanceSendTime(final int pluginInstanceId, final boolean success,
+                                             final long costMillis) {
+        Timer.builder("ds.alert.plugin.instance.send.time")
+                .tag("plugin_instance_id", String.valueOf(pluginInstanceId))
+                .tag("status", success ? "success" : "fail")
+                .description("Time cost of sending an alert by the plugin instance")
+                .register(Metrics.globalRegistry)
+                .record(Duration.ofMillis(costMillis));
+    }
+
+    public void recordAlertDeliveryLatency(final String sender, final long latencyMillis) {
+        Timer.builder("ds.alert.delivery.latency")
+                .tag("sender", sender)
+                .description("Time from the alert is created to it is sent to all the plugin instances")
+                .register(Metrics.globalRegistry)
+                .record(Duration.ofMillis(latencyMillis));
+    }
+
     public void incAlertSuccessCount() {
         alertSuccessCounter.increment();
     }
@@ -17,6 +17,7 @@
 
 package org.apache.dolphinscheduler.alert.service;
 
+import org.apache.dolphinscheduler.alert.config.AlertConfig;
 import org.apache.dolphinscheduler.common.thread.BaseDaemonThread;
 
 import org.apache.commons.collections4.CollectionUtils;
@@ -29,7 +30,7 @@ import lombok.extern.slf4j.Slf4j;
 @Slf4j
 public abstract class AbstractEventFetcher<T> extends BaseDaemonThread implements EventFetcher<T> {
 
-    protected static final int FETCH_SIZE = 100;
+    protected static final int MIN_FETCH_SIZE = 100;
 
     protected static final long FETCH_INTERVAL = 5_000;
 
@@ -39,15 +40,26 @@ public abstract class AbstractEventFetcher<T> extends BaseDaemonThread implement
 
     private final AtomicBoolean runningFlag = new AtomicBoolean(false);
 
+    private final int maxFetchSize;
+
     private Integer eventOffset;
 
+    /**
+     * The fetch size is doubled when a full batch is fetched and halved when the batch is small, so the backlog of an
+     * alert storm can be drained in larger batches while the idle polling stays cheap.
+     */
+    private int fetchSize;
+
     protected AbstractEventFetcher(String fetcherName,
                                    AlertHAServer alertHAServer,
-                                   EventPendingQueue<T> eventPendingQueue) {
+                                   EventPendingQueue<T> eventPendingQueue,
+                                   AlertConfig alertConfig) {
         super(fetcherName);
         this.alertHAServer = alertHAServer;
         this.eventPendingQueue = eventPendingQueue;
+        this.maxFetchSize = Math.max(alertConfig.getMaxFetchSize(), MIN_FETCH_SIZE);
         this.eventOffset = -1;
+        this.fetchSize = MIN_FETCH_SIZE;
     }
 
     @Override
@@ -69,7 +81,8 @@ public abstract class AbstractEventFetcher<T> extends BaseDaemonThread implement
                     Thread.sleep(FETCH_INTERVAL);
                     continue;
                 }
-                List<T> pendingEvents = fetchPendingEvent(eventOffset);
+                List<T> pendingEvents = fetchPendingEvent(eventOffset, fetchSize);
+                adjustFetchSize(CollectionUtils.size(pendingEvents));
                 if (CollectionUtils.isEmpty(pendingEvents)) {
                     log.debug("No pending events found");
                     Thread.sleep(FETCH_INTERVAL);
@@ -88,6 +101,18 @@ public abstract class AbstractEventFetcher<T> extends BaseDaemonThread implement
         }
     }
 
+    void adjustFetchSize(int fetchedSize) {
+        if (fetchedSize >= fetchSize) {
+            fetchSize = Math.min(fetchSize * 2, maxFetchSize);
+        } else if (fetchedSize < fetchSize / 4) {
+            fetchSize = Math.max(fetchSize / 2, MIN_FETCH_SIZE);
+        }
+    }
+
+    int getFetchSize() {
+        return fetchSize;
+    }
+
     protected abstract int getEventOffset(T event);
 
     @Override
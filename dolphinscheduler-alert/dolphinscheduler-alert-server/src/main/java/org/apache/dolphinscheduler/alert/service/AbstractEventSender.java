@@ -24,6 +24,7 @@ import org.apache.dolphinscheduler.alert.api.AlertConstants;
 import org.apache.dolphinscheduler.alert.api.AlertData;
 import org.apache.dolphinscheduler.alert.api.AlertInfo;
 import org.apache.dolphinscheduler.alert.api.AlertResult;
+import org.apache.dolphinscheduler.alert.metrics.AlertServerMetrics;
 import org.apache.dolphinscheduler.alert.plugin.AlertPluginManager;
 import org.apache.dolphinscheduler.common.enums.AlertStatus;
 import org.apache.dolphinscheduler.common.enums.AlertType;
@@ -41,7 +42,11 @@ import java.util.Date;
 import java.util.List;
 import java.util.Optional;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
 
 import lombok.extern.slf4j.Slf4j;
 
@@ -55,9 +60,16 @@ public abstract class AbstractEventSender<T> implements EventSender<T> {
 
     private final long sendEventTimeout;
 
-    protected AbstractEventSender(AlertPluginManager alertPluginManager, long sendEventTimeout) {
+    private final AlertPluginInstanceExecutors pluginInstanceExecutors;
+
+    protected AbstractEventSender(AlertPluginManager alertPluginManager,
+                                  long sendEventTimeout,
+                                  int pluginInstanceParallelism,
+                                  int pluginInstanceQueueCapacity) {
         this.alertPluginManager = alertPluginManager;
         this.sendEventTimeout = sendEventTimeout;
+        this.pluginInstanceExecutors = new AlertPluginInstanceExecutors(getClass().getSimpleName(),
+                pluginInstanceParallelism, pluginInstanceQueueCapacity);
     }
 
     @Override
@@ -65,12 +77,21 @@ public abstract class AbstractEventSender<T> implements EventSender<T> {
         List<AlertPluginInstance> alertPluginInstanceList = getAlertPluginInstanceList(event);
         if (CollectionUtils.isEmpty(alertPluginInstanceList)) {
             onError(event, "No bind plugin instance found");
+            AlertServerMetrics.incAlertFailCount();
             return;
         }
         AlertData alertData = getAlertData(event);
-        List<AlertSendStatus> alertSendStatuses = new ArrayList<>();
+        // Send to all the plugin instances at once, so the time cost is bounded by the slowest plugin instance rather
+        // than the sum of them.
+        long submitTime = System.currentTimeMillis();
+        List<Future<AlertResult>> alertResultFutures = new ArrayList<>(alertPluginInstanceList.size());
         for (AlertPluginInstance instance : alertPluginInstanceList) {
-            AlertResult alertResult = doSendEvent(instance, alertData);
+            alertResultFutures.add(submitSendEvent(instance, alertData));
+        }
+        List<AlertSendStatus> alertSendStatuses = new ArrayList<>();
+        for (int i = 0; i < alertPluginInstanceList.size(); i++) {
+            AlertPluginInstance instance = alertPluginInstanceList.get(i);
+            AlertResult alertResult = waitSendResult(alertResultFutures.get(i), alertData, submitTime);
             AlertStatus alertStatus =
                     alertResult.isSuccess() ? AlertStatus.EXECUTION_SUCCESS : AlertStatus.EXECUTION_FAILURE;
             AlertSendStatus alertSendStatus = AlertSendStatus.builder()
@@ -83,19 +104,26 @@ public abstract class AbstractEventSender<T> implements EventSender<T> {
             alertSendStatuses.add(alertSendStatus);
         }
         long failureCount = alertSendStatuses.stream()
-                .map(alertSendStatus -> alertSendStatus.getSendStatus() == AlertStatus.EXECUTION_FAILURE)
+                .filter(alertSendStatus -> alertSendStatus.getSendStatus() == AlertStatus.EXECUTION_FAILURE)
                 .count();
         long successCount = alertSendStatuses.stream()
-                .map(alertSendStatus -> alertSendStatus.getSendStatus() == AlertStatus.EXECUTION_SUCCESS)
+                .filter(alertSendStatus -> alertSendStatus.getSendStatus() == AlertStatus.EXECUTION_SUCCESS)
                 .count();
         if (successCount == 0) {
             onError(event, JSONUtils.toJsonString(alertSendStatuses));
+            AlertServerMetrics.incAlertFailCount();
         } else {
             if (failureCount > 0) {
                 onPartialSuccess(event, JSONUtils.toJsonString(alertSendStatuses));
             } else {
                 onSuccess(event, JSONUtils.toJsonString(alertSendStatuses));
             }
+            AlertServerMetrics.incAlertSuccessCount();
+        }
+        Date eventCreateTime = getEventCreateTime(event);
+        if (eventCreateTime != null) {
+            AlertServerMetrics.recordAlertDeliveryLatency(getClass().getSimpleName(),
+                    System.currentTimeMillis() - eventCreateTime.getTime());
         }
     }
 
@@ -105,6 +133,8 @@ public abstract class AbstractEventSender<T> implements EventSender<T> {
 
     public abstract Integer getEventId(T event);
 
+    public abstract Date getEventCreateTime(T event);
+
     public abstract void onError(T event, String log);
 
     public abstract void onPartialSuccess(T event, String log);
@@ -113,10 +143,19 @@ public abstract class AbstractEventSender<T> implements EventSender<T> {
 
     @Override
     public AlertResult doSendEvent(AlertPluginInstance instance, AlertData alertData) {
+        return waitSendResult(submitSendEvent(instance, alertData), alertData, System.currentTimeMillis());
+    }
+
+    /**
+     * Submit the alert data to the executor of the plugin instance, the concurrency of each plugin instance is bounded
+     * by its executor, and the alert is failed directly if there are too many pending alerts of the plugin instance.
+     */
+    private Future<AlertResult> submitSendEvent(AlertPluginInstance instance, AlertData alertData) {
         int pluginDefineId = instance.getPluginDefineId();
         Optional<AlertChannel> alertChannelOptional = alertPluginManager.getAlertChannel(pluginDefineId);
         if (!alertChannelOptional.isPresent()) {
-            return AlertResult.fail("Cannot find the alertPlugin: " + pluginDefineId);
+            return CompletableFuture.completedFuture(
+                    AlertResult.fail("Cannot find the alertPlugin: " + pluginDefineId));
         }
         AlertChannel alertChannel = alertChannelOptional.get();
 
@@ -126,30 +165,56 @@ public abstract class AbstractEventSender<T> implements EventSender<T> {
                 .alertPluginInstanceId(instance.getId())
                 .build();
         try {
-            AlertResult alertResult;
-            if (sendEventTimeout <= 0) {
-                if (alertData.getAlertType() == AlertType.CLOSE_ALERT.getCode()) {
-                    alertResult = alertChannel.closeAlert(alertInfo);
-                } else {
-                    alertResult = alertChannel.process(alertInfo);
-                }
+            return pluginInstanceExecutors.getExecutor(instance.getId())
+                    .submit(() -> sendByAlertChannel(instance, alertChannel, alertInfo));
+        } catch (RejectedExecutionException rejectedExecutionException) {
+            log.error("Too many pending alerts of the plugin instance: {}, reject the alert data {}",
+                    instance.getId(), alertData);
+            return CompletableFuture.completedFuture(AlertResult.fail(
+                    "Too many pending alerts of the plugin instance: " + instance.getId()));
+        }
+    }
+
+    private AlertResult sendByAlertChannel(AlertPluginInstance instance, AlertChannel alertChannel,
+                                           AlertInfo alertInfo) {
+        long startTime = System.currentTimeMillis();
+        AlertResult alertResult = null;
+        try {
+            if (alertInfo.getAlertData().getAlertType() == AlertType.CLOSE_ALERT.getCode()) {
+                alertResult = alertChannel.closeAlert(alertInfo);
             } else {
-                CompletableFuture<AlertResult> future;
-                if (alertData.getAlertType() == AlertType.CLOSE_ALERT.getCode()) {
-                    future = CompletableFuture.supplyAsync(() -> alertChannel.closeAlert(alertInfo));
-                } else {
-                    future = CompletableFuture.supplyAsync(() -> alertChannel.process(alertInfo));
-                }
-                alertResult = future.get(sendEventTimeout, TimeUnit.MILLISECONDS);
+                alertResult = alertChannel.process(alertInfo);
             }
             checkNotNull(alertResult, "AlertResult cannot be null");
             return alertResult;
+        } finally {
+            AlertServerMetrics.recordPluginInstanceSendTime(instance.getId(),
+                    alertResult != null && alertResult.isSuccess(), System.currentTimeMillis() - startTime);
+        }
+    }
+
+    /**
+     * Wait for the send result, the alert is marked as failed if it is not sent within the timeout since it is
+     * submitted, and the sending will be cancelled.
+     */
+    private AlertResult waitSendResult(Future<AlertResult> alertResultFuture, AlertData alertData, long submitTime) {
+        try {
+            if (sendEventTimeout <= 0) {
+                return alertResultFuture.get();
+            }
+            long remainingTime = submitTime + sendEventTimeout - System.currentTimeMillis();
+            return alertResultFuture.get(Math.max(remainingTime, 0), TimeUnit.MILLISECONDS);
         } catch (InterruptedException interruptedException) {
+            alertResultFuture.cancel(true);
             Thread.currentThread().interrupt();
             return AlertResult.fail(ExceptionUtils.getMessage(interruptedException));
-        } catch (Exception e) {
-            log.error("Send alert data {} failed", alertData, e);
-            return AlertResult.fail(ExceptionUtils.getMessage(e));
+        } catch (TimeoutException timeoutException) {
+            alertResultFuture.cancel(true);
+            log.error("Send alert data {} timeout after {} ms", alertData, sendEventTimeout);
+            return AlertResult.fail("Send alert timeout after " + sendEventTimeout + " ms");
+        } catch (ExecutionException executionException) {
+            log.error("Send alert data {} failed", alertData, executionException.getCause());
+            return AlertResult.fail(ExceptionUtils.getMessage(executionException.getCause()));
         }
     }
 
@@ -17,6 +17,7 @@
 
 package org.apache.dolphinscheduler.alert.service;
 
+import org.apache.dolphinscheduler.alert.config.AlertConfig;
 import org.apache.dolphinscheduler.dao.AlertDao;
 import org.apache.dolphinscheduler.dao.entity.Alert;
 
@@ -34,14 +35,15 @@ public class AlertEventFetcher extends AbstractEventFetcher<Alert> {
 
     public AlertEventFetcher(AlertHAServer alertHAServer,
                              AlertDao alertDao,
-                             AlertEventPendingQueue alertEventPendingQueue) {
-        super("AlertEventFetcher", alertHAServer, alertEventPendingQueue);
+                             AlertEventPendingQueue alertEventPendingQueue,
+                             AlertConfig alertConfig) {
+        super("AlertEventFetcher", alertHAServer, alertEventPendingQueue, alertConfig);
         this.alertDao = alertDao;
     }
 
     @Override
-    public List<Alert> fetchPendingEvent(int eventOffset) {
-        return alertDao.listPendingAlerts(eventOffset);
+    public List<Alert> fetchPendingEvent(int eventOffset, int fetchSize) {
+        return alertDao.listPendingAlerts(eventOffset, fetchSize);
     }
 
     @Override
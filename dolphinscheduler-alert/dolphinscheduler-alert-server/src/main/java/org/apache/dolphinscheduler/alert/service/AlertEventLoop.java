@@ -35,7 +35,7 @@ public class AlertEventLoop extends AbstractEventLoop<Alert> {
                           AlertSender alertSender) {
         super("AlertEventLoop", alertSenderThreadPoolFactory.getThreadPool(), alertEventPendingQueue);
         this.alertSender = alertSender;
-        AlertServerMetrics.registerPendingAlertGauge(this::getHandlingEventCount);
+        AlertServerMetrics.registerSendingAlertGauge(this::getHandlingEventCount);
     }
 
     @Override
@@ -0,0 +1,135 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.dolphinscheduler.alert.service;
+
+import org.apache.dolphinscheduler.alert.metrics.AlertServerMetrics;
+import org.apache.dolphinscheduler.common.thread.ThreadUtils;
+
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+import lombok.extern.slf4j.Slf4j;
+
+import io.micrometer.core.instrument.Meter;
+
+/**
+ * The executors to send alerts by each alert plugin instance.
+ * <p>
+ * Each plugin instance has its own bounded executor, so the alerts are sent to the plugin instances in parallel, and a
+ * slow or hanging channel only occupies its own threads rather than blocking the other channels. The pending alerts of
+ * each plugin instance are bounded by the queue capacity, the alerts beyond it are rejected by
+ * {@link java.util.concurrent.RejectedExecutionException}.
+ * <p>
+ * The idle threads are released, and the executor which is not used for a while is removed, so the plugin instances
+ * which are rarely used or already deleted cost nothing.
+ */
+@Slf4j
+public class AlertPluginInstanceExecutors {
+
+    private static final long IDLE_THREAD_KEEP_ALIVE_SECONDS = 60;
+
+    private static final long IDLE_EXECUTOR_EXPIRE_MILLIS = TimeUnit.MINUTES.toMillis(30);
+
+    private final String name;
+
+    private final int parallelism;
+
+    private final int queueCapacity;
+
+    private final Map<Integer, PluginInstanceExecutor> executors = new ConcurrentHashMap<>();
+
+    private volatile long lastExpireCheckTime = System.currentTimeMillis();
+
+    public AlertPluginInstanceExecutors(String name, int parallelism, int queueCapacity) {
+        this.name = name;
+        this.parallelism = Math.max(parallelism, 1);
+        this.queueCapacity = Math.max(queueCapacity, 1);
+    }
+
+    public ThreadPoolExecutor getExecutor(int pluginInstanceId) {
+        long now = System.currentTimeMillis();
+        removeExpiredExecutors(now);
+        // Touch the executor inside the compute, so it will not be removed as expired concurrently.
+        return executors.compute(pluginInstanceId, (id, executor) -> {
+            PluginInstanceExecutor pluginInstanceExecutor = executor == null ? createExecutor(id) : executor;
+            pluginInstanceExecutor.lastUsedTime = now;
+            return pluginInstanceExecutor;
+        }).threadPoolExecutor;
+    }
+
+    int size() {
+        return executors.size();
+    }
+
+    void removeExpiredExecutors(long now) {
+        if (now - lastExpireCheckTime < IDLE_THREAD_KEEP_ALIVE_SECONDS * 1000) {
+            return;
+        }
+        lastExpireCheckTime = now;
+        for (Integer pluginInstanceId : executors.keySet()) {
+            executors.computeIfPresent(pluginInstanceId, (id, executor) -> {
+                if (!executor.isExpired(now)) {
+                    return executor;
+                }
+                log.info("The executor of alert plugin instance {} is not used for a while, remove it", id);
+                executor.threadPoolExecutor.shutdown();
+                AlertServerMetrics.removePluginInstanceMeters(executor.pendingGauge, id);
+                return null;
+            });
+        }
+    }
+
+    private PluginInstanceExecutor createExecutor(int pluginInstanceId) {
+        ThreadPoolExecutor threadPoolExecutor = new ThreadPoolExecutor(
+                parallelism,
+                parallelism,
+                IDLE_THREAD_KEEP_ALIVE_SECONDS,
+                TimeUnit.SECONDS,
+                new ArrayBlockingQueue<>(queueCapacity),
+                ThreadUtils.newDaemonThreadFactory(name + "-" + pluginInstanceId + "-%d"),
+                new ThreadPoolExecutor.AbortPolicy());
+        threadPoolExecutor.allowCoreThreadTimeOut(true);
+        Meter pendingGauge = AlertServerMetrics.registerPluginInstancePendingGauge(name, pluginInstanceId,
+                () -> threadPoolExecutor.getQueue().size());
+        return new PluginInstanceExecutor(threadPoolExecutor, pendingGauge);
+    }
+
+    private static class PluginInstanceExecutor {
+
+        private final ThreadPoolExecutor threadPoolExecutor;
+
+        private final Meter pendingGauge;
+
+        private volatile long lastUsedTime;
+
+        private PluginInstanceExecutor(ThreadPoolExecutor threadPoolExecutor, Meter pendingGauge) {
+            this.threadPoolExecutor = threadPoolExecutor;
+            this.pendingGauge = pendingGauge;
+        }
+
+        private boolean isExpired(long now) {
+            return now - lastUsedTime > IDLE_EXECUTOR_EXPIRE_MILLIS
+                    && threadPoolExecutor.getActiveCount() == 0
+                    && threadPoolExecutor.getQueue().isEmpty();
+        }
+    }
+
+}
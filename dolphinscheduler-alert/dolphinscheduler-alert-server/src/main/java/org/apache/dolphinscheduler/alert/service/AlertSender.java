@@ -30,6 +30,7 @@ import org.apache.dolphinscheduler.extract.alert.request.AlertSendResponse;
 import org.apache.commons.collections4.CollectionUtils;
 
 import java.util.ArrayList;
+import java.util.Date;
 import java.util.List;
 
 import lombok.extern.slf4j.Slf4j;
@@ -45,7 +46,8 @@ public class AlertSender extends AbstractEventSender<Alert> {
     public AlertSender(AlertDao alertDao,
                        AlertPluginManager alertPluginManager,
                        AlertConfig alertConfig) {
-        super(alertPluginManager, alertConfig.getWaitTimeout());
+        super(alertPluginManager, alertConfig.getWaitTimeout(), alertConfig.getPluginInstanceParallelism(),
+                alertConfig.getPluginInstanceQueueCapacity());
         this.alertDao = alertDao;
     }
 
@@ -114,6 +116,11 @@ public class AlertSender extends AbstractEventSender<Alert> {
         return event.getId();
     }
 
+    @Override
+    public Date getEventCreateTime(Alert event) {
+        return event.getCreateTime();
+    }
+
     @Override
     public void onError(Alert event, String log) {
         alertDao.updateAlert(AlertStatus.EXECUTION_FAILURE, log, event.getId());
@@ -28,7 +28,7 @@ public interface EventFetcher<T> {
 
     void start();
 
-    List<T> fetchPendingEvent(int eventOffset);
+    List<T> fetchPendingEvent(int eventOffset, int fetchSize);
 
     void shutdown();
 }
@@ -17,6 +17,7 @@
 
 package org.apache.dolphinscheduler.alert.service;
 
+import org.apache.dolphinscheduler.alert.config.AlertConfig;
 import org.apache.dolphinscheduler.dao.entity.ListenerEvent;
 import org.apache.dolphinscheduler.dao.repository.ListenerEventDao;
 
@@ -34,8 +35,9 @@ public class ListenerEventFetcher extends AbstractEventFetcher<ListenerEvent> {
 
     protected ListenerEventFetcher(AlertHAServer alertHAServer,
                                    ListenerEventDao listenerEventDao,
-                                   ListenerEventPendingQueue listenerEventPendingQueue) {
-        super("ListenerEventFetcher", alertHAServer, listenerEventPendingQueue);
+                                   ListenerEventPendingQueue listenerEventPendingQueue,
+                                   AlertConfig alertConfig) {
+        super("ListenerEventFetcher", alertHAServer, listenerEventPendingQueue, alertConfig);
         this.listenerEventDao = listenerEventDao;
     }
 
@@ -45,7 +47,7 @@ public class ListenerEventFetcher extends AbstractEventFetcher<ListenerEvent> {
     }
 
     @Override
-    public List<ListenerEvent> fetchPendingEvent(int eventOffset) {
-        return listenerEventDao.listingPendingEvents(eventOffset, FETCH_SIZE);
+    public List<ListenerEvent> fetchPendingEvent(int eventOffset, int fetchSize) {
+        return listenerEventDao.listingPendingEvents(eventOffset, fetchSize);
     }
 }
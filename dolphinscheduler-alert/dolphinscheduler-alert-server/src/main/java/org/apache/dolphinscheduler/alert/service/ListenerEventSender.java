@@ -59,7 +59,8 @@ public class ListenerEventSender extends AbstractEventSender<ListenerEvent> {
                                AlertPluginInstanceMapper alertPluginInstanceMapper,
                                AlertPluginManager alertPluginManager,
                                AlertConfig alertConfig) {
-        super(alertPluginManager, alertConfig.getWaitTimeout());
+        super(alertPluginManager, alertConfig.getWaitTimeout(), alertConfig.getPluginInstanceParallelism(),
+                alertConfig.getPluginInstanceQueueCapacity());
         this.listenerEventDao = listenerEventDao;
         this.alertPluginInstanceMapper = alertPluginInstanceMapper;
     }
@@ -129,6 +130,11 @@ public class ListenerEventSender extends AbstractEventSender<ListenerEvent> {
         return event.getId();
     }
 
+    @Override
+    public Date getEventCreateTime(ListenerEvent event) {
+        return event.getCreateTime();
+    }
+
     @Override
     public void onError(ListenerEvent event, String log) {
         listenerEventDao.updateListenerEvent(event.getId(), AlertStatus.EXECUTION_FAILURE, log, new Date());
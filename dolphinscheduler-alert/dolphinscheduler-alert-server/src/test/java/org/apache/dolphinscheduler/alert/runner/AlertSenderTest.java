@@ -17,7 +17,10 @@
 
 package org.apache.dolphinscheduler.alert.runner;
 
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 import org.apache.dolphinscheduler.alert.api.AlertChannel;
@@ -25,6 +28,8 @@ import org.apache.dolphinscheduler.alert.api.AlertResult;
 import org.apache.dolphinscheduler.alert.config.AlertConfig;
 import org.apache.dolphinscheduler.alert.plugin.AlertPluginManager;
 import org.apache.dolphinscheduler.alert.service.AlertSender;
+import org.apache.dolphinscheduler.common.enums.AlertStatus;
+import org.apache.dolphinscheduler.common.enums.AlertType;
 import org.apache.dolphinscheduler.common.enums.WarningType;
 import org.apache.dolphinscheduler.common.utils.JSONUtils;
 import org.apache.dolphinscheduler.dao.AlertDao;
@@ -166,6 +171,64 @@ class AlertSenderTest {
         alertSender.sendEvent(alert);
     }
 
+    @Test
+    void testSendEventPartialSuccess() {
+        Alert alert = createAlert();
+        List<AlertPluginInstance> alertInstanceList = new ArrayList<>();
+        alertInstanceList.add(createAlertPluginInstance(1, 1));
+        alertInstanceList.add(createAlertPluginInstance(2, 2));
+        when(alertDao.listInstanceByAlertGroupId(ALERT_GROUP_ID)).thenReturn(alertInstanceList);
+
+        AlertChannel successAlertChannel = mock(AlertChannel.class);
+        when(successAlertChannel.process(Mockito.any())).thenReturn(AlertResult.success());
+        AlertChannel failedAlertChannel = mock(AlertChannel.class);
+        when(failedAlertChannel.process(Mockito.any())).thenReturn(AlertResult.fail("send failed"));
+        when(alertPluginManager.getAlertChannel(1)).thenReturn(Optional.of(successAlertChannel));
+        when(alertPluginManager.getAlertChannel(2)).thenReturn(Optional.of(failedAlertChannel));
+
+        alertSender.sendEvent(alert);
+        verify(alertDao).updateAlert(eq(AlertStatus.EXECUTION_PARTIAL_SUCCESS), anyString(), eq(alert.getId()));
+    }
+
+    @Test
+    void testSendEventTimeout() {
+        when(alertConfig.getWaitTimeout()).thenReturn(100);
+        AlertSender timeoutAlertSender = new AlertSender(alertDao, alertPluginManager, alertConfig);
+
+        Alert alert = createAlert();
+        List<AlertPluginInstance> alertInstanceList = new ArrayList<>();
+        alertInstanceList.add(createAlertPluginInstance(1, 1));
+        when(alertDao.listInstanceByAlertGroupId(ALERT_GROUP_ID)).thenReturn(alertInstanceList);
+
+        AlertChannel slowAlertChannel = mock(AlertChannel.class);
+        when(slowAlertChannel.process(Mockito.any())).thenAnswer(invocation -> {
+            Thread.sleep(10_000);
+            return AlertResult.success();
+        });
+        when(alertPluginManager.getAlertChannel(1)).thenReturn(Optional.of(slowAlertChannel));
+
+        timeoutAlertSender.sendEvent(alert);
+        verify(alertDao).updateAlert(eq(AlertStatus.EXECUTION_FAILURE), anyString(), eq(alert.getId()));
+    }
+
+    private Alert createAlert() {
+        Alert alert = new Alert();
+        alert.setId(1);
+        alert.setAlertGroupId(ALERT_GROUP_ID);
+        alert.setTitle(TITLE);
+        alert.setContent(CONTENT);
+        alert.setAlertType(AlertType.TASK_FAILURE);
+        alert.setWarningType(WarningType.FAILURE);
+        return alert;
+    }
+
+    private AlertPluginInstance createAlertPluginInstance(int id, int pluginDefineId) {
+        AlertPluginInstance alertPluginInstance =
+                new AlertPluginInstance(pluginDefineId, "[]", PLUGIN_INSTANCE_NAME);
+        alertPluginInstance.setId(id);
+        return alertPluginInstance;
+    }
+
     @Test
     void testSendAlert() {
         AlertResult sendResult = new AlertResult();
@@ -0,0 +1,106 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.dolphinscheduler.alert.service;
+
+import static com.google.common.truth.Truth.assertThat;
+
+import org.apache.dolphinscheduler.alert.config.AlertConfig;
+
+import java.util.Collections;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+class AbstractEventFetcherTest {
+
+    @Mock
+    private AlertHAServer alertHAServer;
+
+    @Mock
+    private EventPendingQueue<Integer> eventPendingQueue;
+
+    private AbstractEventFetcher<Integer> eventFetcher;
+
+    @BeforeEach
+    void setUp() {
+        AlertConfig alertConfig = new AlertConfig();
+        alertConfig.setMaxFetchSize(800);
+        eventFetcher = new AbstractEventFetcher<Integer>("TestEventFetcher", alertHAServer, eventPendingQueue,
+                alertConfig) {
+
+            @Override
+            protected int getEventOffset(Integer event) {
+                return event;
+            }
+
+            @Override
+            public List<Integer> fetchPendingEvent(int eventOffset, int fetchSize) {
+                return Collections.emptyList();
+            }
+        };
+    }
+
+    @Test
+    void testGrowFetchSizeUpToMaxFetchSize() {
+        assertThat(eventFetcher.getFetchSize()).isEqualTo(AbstractEventFetcher.MIN_FETCH_SIZE);
+
+        eventFetcher.adjustFetchSize(100);
+        assertThat(eventFetcher.getFetchSize()).isEqualTo(200);
+        eventFetcher.adjustFetchSize(200);
+        assertThat(eventFetcher.getFetchSize()).isEqualTo(400);
+        eventFetcher.adjustFetchSize(400);
+        assertThat(eventFetcher.getFetchSize()).isEqualTo(800);
+        eventFetcher.adjustFetchSize(800);
+        assertThat(eventFetcher.getFetchSize()).isEqualTo(800);
+    }
+
+    @Test
+    void testShrinkFetchSizeDownToMinFetchSize() {
+        eventFetcher.adjustFetchSize(100);
+        eventFetcher.adjustFetchSize(200);
+        eventFetcher.adjustFetchSize(400);
+        assertThat(eventFetcher.getFetchSize()).isEqualTo(800);
+
+        eventFetcher.adjustFetchSize(0);
+        assertThat(eventFetcher.getFetchSize()).isEqualTo(400);
+        eventFetcher.adjustFetchSize(0);
+        assertThat(eventFetcher.getFetchSize()).isEqualTo(200);
+        eventFetcher.adjustFetchSize(0);
+        assertThat(eventFetcher.getFetchSize()).isEqualTo(100);
+        eventFetcher.adjustFetchSize(0);
+        assertThat(eventFetcher.getFetchSize()).isEqualTo(AbstractEventFetcher.MIN_FETCH_SIZE);
+    }
+
+    @Test
+    void testKeepFetchSizeForModerateBatch() {
+        eventFetcher.adjustFetchSize(100);
+        eventFetcher.adjustFetchSize(200);
+        assertThat(eventFetcher.getFetchSize()).isEqualTo(400);
+
+        // Neither a full batch nor less than a quarter of the fetch size.
+        eventFetcher.adjustFetchSize(100);
+        assertThat(eventFetcher.getFetchSize()).isEqualTo(400);
+        eventFetcher.adjustFetchSize(399);
+        assertThat(eventFetcher.getFetchSize()).isEqualTo(400);
+    }
+}
@@ -0,0 +1,66 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.dolphinscheduler.alert.service;
+
+import static com.google.common.truth.Truth.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.Test;
+
+class AlertPluginInstanceExecutorsTest {
+
+    @Test
+    void testRejectWhenQueueIsFull() throws Exception {
+        AlertPluginInstanceExecutors executors = new AlertPluginInstanceExecutors("TestSender", 1, 1);
+        ThreadPoolExecutor executor = executors.getExecutor(1);
+        CountDownLatch blockLatch = new CountDownLatch(1);
+        try {
+            // One task occupies the only thread, the other one fills the queue.
+            executor.submit(() -> blockLatch.await(10, TimeUnit.SECONDS));
+            executor.submit(() -> blockLatch.await(10, TimeUnit.SECONDS));
+            assertThrows(RejectedExecutionException.class,
+                    () -> executor.submit(() -> blockLatch.await(10, TimeUnit.SECONDS)));
+            // The other plugin instances are not affected.
+            assertThat(executors.getExecutor(2).submit(() -> 1).get(10, TimeUnit.SECONDS)).isEqualTo(1);
+        } finally {
+            blockLatch.countDown();
+            executor.shutdown();
+            executor.awaitTermination(10, TimeUnit.SECONDS);
+        }
+    }
+
+    @Test
+    void testRemoveExpiredExecutors() {
+        AlertPluginInstanceExecutors executors = new AlertPluginInstanceExecutors("TestSender", 1, 1);
+        ThreadPoolExecutor executor = executors.getExecutor(1);
+        assertThat(executors.size()).isEqualTo(1);
+
+        executors.removeExpiredExecutors(System.currentTimeMillis() + TimeUnit.MINUTES.toMillis(10));
+        assertThat(executors.size()).isEqualTo(1);
+
+        executors.removeExpiredExecutors(System.currentTimeMillis() + TimeUnit.HOURS.toMillis(1));
+        assertThat(executors.size()).isEqualTo(0);
+        assertThat(executor.isShutdown()).isTrue();
+        assertThat(executors.getExecutor(1)).isNotSameInstanceAs(executor);
+    }
+}
@@ -40,6 +40,13 @@ public class ApiConfig implements Validator {
 
     private boolean auditEnable = false;
 
+    /**
+     * If set true, the workflow/task instance state statistics are served from the hourly rollup tables, which are
+     * maintained by the master when master.state-count-rollup.enabled is set true. The rollup is at the hour
+     * granularity, the instances up to an hour outside the queried time range may be counted at each end.
+     */
+    private boolean stateCountRollupEnabled = false;
+
     private TrafficConfiguration trafficControl = new TrafficConfiguration();
 
     private PythonGatewayConfiguration pythonGateway = new PythonGatewayConfiguration();
@@ -56,6 +63,7 @@ public class ApiConfig implements Validator {
 
     private void printConfig() {
         log.info("API config: auditEnable -> {} ", auditEnable);
+        log.info("API config: stateCountRollupEnabled -> {} ", stateCountRollupEnabled);
         log.info("API config: trafficControl -> {} ", trafficControl);
         log.info("API config: pythonGateway -> {} ", pythonGateway);
     }
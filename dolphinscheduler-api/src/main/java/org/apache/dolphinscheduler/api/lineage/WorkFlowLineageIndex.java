@@ -0,0 +1,305 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.dolphinscheduler.api.lineage;
+
+import org.apache.dolphinscheduler.common.utils.JSONUtils;
+import org.apache.dolphinscheduler.dao.entity.TaskDefinition;
+import org.apache.dolphinscheduler.dao.entity.TaskMainInfo;
+import org.apache.dolphinscheduler.dao.entity.WorkFlowRelation;
+import org.apache.dolphinscheduler.dao.mapper.TaskDefinitionMapper;
+import org.apache.dolphinscheduler.dao.mapper.WorkFlowLineageMapper;
+import org.apache.dolphinscheduler.plugin.task.api.model.DependentItem;
+import org.apache.dolphinscheduler.plugin.task.api.model.DependentTaskModel;
+import org.apache.dolphinscheduler.plugin.task.api.parameters.DependentParameters;
+
+import org.apache.commons.collections4.CollectionUtils;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.Predicate;
+import java.util.stream.Collectors;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+import com.google.common.collect.Lists;
+
+/**
+ * The in-memory index of the dependent tasks, which is used to answer the workflow lineage queries without scanning
+ * and parsing the task params of all the dependent tasks.
+ * <p>
+ * The index is synced before the queries, only the code and version of the dependent tasks are loaded from the
+ * database, and the task params are reloaded only for the tasks which are created, changed or moved. The lineage
+ * display syncs at most once every {@link #SYNC_INTERVAL_MILLIS}, so it may lag behind the definitions saved by any api
+ * server for a few seconds, while the checks before deleting a definition always sync to be consistent.
+ */
+@Slf4j
+@Component
+public class WorkFlowLineageIndex {
+
+    private static final int LOAD_TASK_BATCH_SIZE = 1000;
+
+    private static final long SYNC_INTERVAL_MILLIS = 5_000;
+
+    @Autowired
+    private WorkFlowLineageMapper workFlowLineageMapper;
+
+    @Autowired
+    private TaskDefinitionMapper taskDefinitionMapper;
+
+    private final Map<Long, DependentTaskNode> dependentTasks = new HashMap<>();
+
+    /**
+     * workflow code -> codes of the dependent tasks in the workflow
+     */
+    private final Map<Long, Set<Long>> dependentTasksByWorkflow = new HashMap<>();
+
+    /**
+     * upstream workflow code -> codes of the dependent tasks which depend on the workflow
+     */
+    private final Map<Long, Set<Long>> dependentTasksByUpstreamWorkflow = new HashMap<>();
+
+    private long lastSyncTime;
+
+    /**
+     * Sync the index with the dependent tasks in the database, if it is not synced in the last
+     * {@link #SYNC_INTERVAL_MILLIS}.
+     */
+    public synchronized void sync() {
+        if (System.currentTimeMillis() - lastSyncTime < SYNC_INTERVAL_MILLIS) {
+            return;
+        }
+        forceSync();
+    }
+
+    /**
+     * Sync the index with the dependent tasks in the database.
+     */
+    public synchronized void forceSync() {
+        lastSyncTime = System.currentTimeMillis();
+        List<TaskMainInfo> taskVersions = workFlowLineageMapper.queryDependentTaskVersions();
+        Set<Long> existTaskCodes = new HashSet<>();
+        List<Long> changedTaskCodes = new ArrayList<>();
+        for (TaskMainInfo taskVersion : taskVersions) {
+            existTaskCodes.add(taskVersion.getTaskCode());
+            DependentTaskNode dependentTask = dependentTasks.get(taskVersion.getTaskCode());
+            if (dependentTask == null
+                    || dependentTask.getTaskVersion() != taskVersion.getTaskVersion()
+                    || dependentTask.getWorkflowCode() != taskVersion.getProcessDefinitionCode()) {
+                changedTaskCodes.add(taskVersion.getTaskCode());
+            }
+        }
+        List<Long> removedTaskCodes = dependentTasks.keySet().stream()
+                .filter(taskCode -> !existTaskCodes.contains(taskCode))
+                .collect(Collectors.toList());
+        removedTaskCodes.forEach(this::removeDependentTask);
+
+        if (changedTaskCodes.isEmpty()) {
+            return;
+        }
+        Map<Long, Long> workflowCodes = taskVersions.stream()
+                .collect(Collectors.toMap(TaskMainInfo::getTaskCode, TaskMainInfo::getProcessDefinitionCode,
+                        (code1, code2) -> code1));
+        for (List<Long> taskCodes : Lists.partition(changedTaskCodes, LOAD_TASK_BATCH_SIZE)) {
+            for (TaskDefinition taskDefinition : taskDefinitionMapper.queryByCodeList(taskCodes)) {
+                removeDependentTask(taskDefinition.getCode());
+                addDependentTask(new DependentTaskNode(
+                        taskDefinition.getCode(),
+                        taskDefinition.getVersion(),
+                        taskDefinition.getProjectCode(),
+                        workflowCodes.get(taskDefinition.getCode()),
+                        parseDependentItems(taskDefinition)));
+            }
+        }
+        log.info("Synced the workflow lineage index, removed {} dependent tasks, reloaded {} dependent tasks",
+                removedTaskCodes.size(), changedTaskCodes.size());
+    }
+
+    /**
+     * Find all the upstream workflows of the given workflow to arbitrary depth.
+     *
+     * @return the relations from the upstream workflow to the downstream workflow
+     */
+    public synchronized Set<WorkFlowRelation> traverseUpstream(long workflowCode) {
+        Set<WorkFlowRelation> workFlowRelations = new HashSet<>();
+        Set<Long> visitedWorkflowCodes = new HashSet<>();
+        Deque<Long> pendingWorkflowCodes = new ArrayDeque<>();
+        pendingWorkflowCodes.add(workflowCode);
+        visitedWorkflowCodes.add(workflowCode);
+        while (!pendingWorkflowCodes.isEmpty()) {
+            long downstreamWorkflowCode = pendingWorkflowCodes.poll();
+            for (DependentTaskNode dependentTask : getDependentTasks(
+                    dependentTasksByWorkflow.get(downstreamWorkflowCode))) {
+                for (DependentItem dependentItem : dependentTask.getDependentItems()) {
+                    long upstreamWorkflowCode = dependentItem.getDefinitionCode();
+                    if (upstreamWorkflowCode == downstreamWorkflowCode) {
+                        continue;
+                    }
+                    workFlowRelations.add(new WorkFlowRelation(upstreamWorkflowCode, downstreamWorkflowCode));
+                    if (visitedWorkflowCodes.add(upstreamWorkflowCode)) {
+                        pendingWorkflowCodes.add(upstreamWorkflowCode);
+                    }
+                }
+            }
+        }
+        return workFlowRelations;
+    }
+
+    /**
+     * Find all the downstream workflows of the given workflow to arbitrary depth.
+     *
+     * @return the relations from the upstream workflow to the downstream workflow
+     */
+    public synchronized Set<WorkFlowRelation> traverseDownstream(long workflowCode) {
+        Set<WorkFlowRelation> workFlowRelations = new HashSet<>();
+        Set<Long> visitedWorkflowCodes = new HashSet<>();
+        Deque<Long> pendingWorkflowCodes = new ArrayDeque<>();
+        pendingWorkflowCodes.add(workflowCode);
+        visitedWorkflowCodes.add(workflowCode);
+        while (!pendingWorkflowCodes.isEmpty()) {
+            long upstreamWorkflowCode = pendingWorkflowCodes.poll();
+            for (DependentTaskNode dependentTask : getDependentTasks(
+                    dependentTasksByUpstreamWorkflow.get(upstreamWorkflowCode))) {
+                long downstreamWorkflowCode = dependentTask.getWorkflowCode();
+                if (upstreamWorkflowCode == downstreamWorkflowCode) {
+                    continue;
+                }
+                workFlowRelations.add(new WorkFlowRelation(upstreamWorkflowCode, downstreamWorkflowCode));
+                if (visitedWorkflowCodes.add(downstreamWorkflowCode)) {
+                    pendingWorkflowCodes.add(downstreamWorkflowCode);
+                }
+            }
+        }
+        return workFlowRelations;
+    }
+
+    /**
+     * Get the dependent tasks in the given workflow.
+     */
+    public synchronized List<DependentTaskNode> getDependentTasksInWorkflow(long workflowCode) {
+        return getDependentTasks(dependentTasksByWorkflow.get(workflowCode));
+    }
+
+    /**
+     * Get the dependent tasks in the other workflows whose dependent items matching the predicate depend on the given
+     * workflow.
+     */
+    public synchronized List<DependentTaskNode> getDependentTasksOnWorkflow(long workflowCode,
+                                                                            Predicate<DependentItem> itemPredicate) {
+        return getDependentTasks(dependentTasksByUpstreamWorkflow.get(workflowCode)).stream()
+                .filter(dependentTask -> dependentTask.getWorkflowCode() != workflowCode)
+                .filter(dependentTask -> dependentTask.getDependentItems().stream()
+                        .anyMatch(item -> item.getDefinitionCode() == workflowCode && itemPredicate.test(item)))
+                .collect(Collectors.toList());
+    }
+
+    public synchronized int size() {
+        return dependentTasks.size();
+    }
+
+    private List<DependentTaskNode> getDependentTasks(Set<Long> taskCodes) {
+        if (CollectionUtils.isEmpty(taskCodes)) {
+            return Collections.emptyList();
+        }
+        return taskCodes.stream()
+                .map(dependentTasks::get)
+                .filter(Objects::nonNull)
+                .collect(Collectors.toList());
+    }
+
+    private void addDependentTask(DependentTaskNode dependentTask) {
+        dependentTasks.put(dependentTask.getTaskCode(), dependentTask);
+        dependentTasksByWorkflow.computeIfAbsent(dependentTask.getWorkflowCode(), k -> new HashSet<>())
+                .add(dependentTask.getTaskCode());
+        for (DependentItem dependentItem : dependentTask.getDependentItems()) {
+            dependentTasksByUpstreamWorkflow.computeIfAbsent(dependentItem.getDefinitionCode(), k -> new HashSet<>())
+                    .add(dependentTask.getTaskCode());
+        }
+    }
+
+    private void removeDependentTask(long taskCode) {
+        DependentTaskNode dependentTask = dependentTasks.remove(taskCode);
+        if (dependentTask == null) {
+            return;
+        }
+        removeFromIndex(dependentTasksByWorkflow, dependentTask.getWorkflowCode(), taskCode);
+        for (DependentItem dependentItem : dependentTask.getDependentItems()) {
+            removeFromIndex(dependentTasksByUpstreamWorkflow, dependentItem.getDefinitionCode(), taskCode);
+        }
+    }
+
+    private void removeFromIndex(Map<Long, Set<Long>> index, long key, long taskCode) {
+        Set<Long> taskCodes = index.get(key);
+        if (taskCodes == null) {
+            return;
+        }
+        taskCodes.remove(taskCode);
+        if (taskCodes.isEmpty()) {
+            index.remove(key);
+        }
+    }
+
+    private List<DependentItem> parseDependentItems(TaskDefinition taskDefinition) {
+        List<DependentItem> dependentItems = new ArrayList<>();
+        DependentParameters dependentParameters;
+        try {
+            dependentParameters = JSONUtils.parseObject(taskDefinition.getDependence(), DependentParameters.class);
+        } catch (Exception e) {
+            log.warn("Parse the dependence of task {} failed, will ignore it in the workflow lineage",
+                    taskDefinition.getCode(), e);
+            return dependentItems;
+        }
+        if (dependentParameters == null || dependentParameters.getDependTaskList() == null) {
+            return dependentItems;
+        }
+        for (DependentTaskModel dependentTaskModel : dependentParameters.getDependTaskList()) {
+            if (dependentTaskModel.getDependItemList() != null) {
+                dependentItems.addAll(dependentTaskModel.getDependItemList());
+            }
+        }
+        return dependentItems;
+    }
+
+    @Getter
+    @AllArgsConstructor
+    public static class DependentTaskNode {
+
+        private final long taskCode;
+
+        private final int taskVersion;
+
+        private final long projectCode;
+
+        private final long workflowCode;
+
+        private final List<DependentItem> dependentItems;
+    }
+
+}
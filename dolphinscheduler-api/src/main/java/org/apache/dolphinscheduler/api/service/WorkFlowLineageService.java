@@ -55,7 +55,7 @@ public interface WorkFlowLineageService {
     Map<String, Object> queryDownstreamDependentTasks(Long processDefinitionCode, Long taskCode);
 
     /**
-     * Query and return tasks dependence with string format, is a wrapper of queryTaskDepOnTask and task query method.
+     * Query and return tasks dependence with string format, is a wrapper of the dependent task index and task query method.
      *
      * @param projectCode Project code want to query tasks dependence
      * @param processDefinitionCode Process definition code want to query tasks dependence
@@ -19,6 +19,7 @@ package org.apache.dolphinscheduler.api.service.impl;
 
 import static org.apache.dolphinscheduler.api.constants.ApiFuncIdentificationConstant.PROJECT_OVERVIEW;
 
+import org.apache.dolphinscheduler.api.configuration.ApiConfig;
 import org.apache.dolphinscheduler.api.dto.CommandStateCount;
 import org.apache.dolphinscheduler.api.dto.DefineUserDto;
 import org.apache.dolphinscheduler.api.dto.TaskCountDto;
@@ -50,6 +51,8 @@ import org.apache.dolphinscheduler.dao.mapper.TaskInstanceMapper;
 import org.apache.dolphinscheduler.dao.model.TaskInstanceStatusCountDto;
 import org.apache.dolphinscheduler.dao.model.WorkflowDefinitionCountDto;
 import org.apache.dolphinscheduler.dao.model.WorkflowInstanceStatusCountDto;
+import org.apache.dolphinscheduler.dao.repository.ProcessInstanceStateCountDao;
+import org.apache.dolphinscheduler.dao.repository.TaskInstanceStateCountDao;
 import org.apache.dolphinscheduler.plugin.task.api.enums.TaskExecutionStatus;
 
 import org.apache.commons.collections4.CollectionUtils;
@@ -104,6 +107,15 @@ public class DataAnalysisServiceImpl extends BaseServiceImpl implements DataAnal
     @Autowired
     private TaskDefinitionMapper taskDefinitionMapper;
 
+    @Autowired
+    private ProcessInstanceStateCountDao processInstanceStateCountDao;
+
+    @Autowired
+    private TaskInstanceStateCountDao taskInstanceStateCountDao;
+
+    @Autowired
+    private ApiConfig apiConfig;
+
     @Override
     public TaskInstanceCountVO getTaskInstanceStateCountByProject(User loginUser,
                                                                   Long projectCode,
@@ -262,6 +274,16 @@ public class DataAnalysisServiceImpl extends BaseServiceImpl implements DataAnal
                 : statisticsStateRequest.getStartTime();
         Date endTime = statisticsStateRequest.getEndTime() == null ? date : statisticsStateRequest.getEndTime();
 
+        if (apiConfig.isStateCountRollupEnabled()) {
+            List<Long> projectCodes = queryProjectCodes(projectIds);
+            if (projectCodes.isEmpty()) {
+                return new TaskCountDto(Collections.emptyList());
+            }
+            return new TaskCountDto(processInstanceStateCountDao.countInstanceState(startTime, endTime,
+                    projectCodes,
+                    model >= Constants.QUERY_ALL_ON_PROJECT ? projectCode : null,
+                    model >= Constants.QUERY_ALL_ON_WORKFLOW ? workflowCode : null));
+        }
         List<ExecuteStatusCount> executeStatusCounts = processInstanceMapper.countInstanceStateV2(
                 startTime, endTime, projectCode, workflowCode, model, projectIds);
         return new TaskCountDto(executeStatusCounts);
@@ -335,6 +357,18 @@ public class DataAnalysisServiceImpl extends BaseServiceImpl implements DataAnal
                 : statisticsStateRequest.getStartTime();
         Date endTime = statisticsStateRequest.getEndTime() == null ? date : statisticsStateRequest.getEndTime();
 
+        if (apiConfig.isStateCountRollupEnabled()) {
+            List<Long> projectCodes = queryProjectCodes(projectIds);
+            if (projectCodes.isEmpty()) {
+                return new TaskCountDto(Collections.emptyList());
+            }
+            // The task instances are bucketed by the submit time in the rollup, so no state needs to be recounted
+            return new TaskCountDto(taskInstanceStateCountDao.countTaskInstanceState(startTime, endTime,
+                    projectCodes,
+                    model >= Constants.QUERY_ALL_ON_PROJECT ? projectCode : null,
+                    model >= Constants.QUERY_ALL_ON_WORKFLOW ? workflowCode : null,
+                    model >= Constants.QUERY_ALL_ON_TASK ? taskCode : null));
+        }
         Optional<List<ExecuteStatusCount>> startTimeStates = Optional.ofNullable(
                 taskInstanceMapper.countTaskInstanceStateByProjectIdsV2(startTime, endTime, projectIds));
         List<TaskExecutionStatus> needRecountState = setOptional(startTimeStates);
@@ -408,6 +442,13 @@ public class DataAnalysisServiceImpl extends BaseServiceImpl implements DataAnal
         return new DefineUserDto(workflowDefinitionCountDtos);
     }
 
+    private List<Long> queryProjectCodes(Set<Integer> projectIds) {
+        return projectMapper.selectBatchIds(projectIds)
+                .stream()
+                .map(Project::getCode)
+                .collect(Collectors.toList());
+    }
+
     private List<TaskExecutionStatus> setOptional(Optional<List<ExecuteStatusCount>> startTimeStates) {
         List<TaskExecutionStatus> allState = Arrays.stream(TaskExecutionStatus.values()).collect(Collectors.toList());
         if (startTimeStates.isPresent() && startTimeStates.get().size() != 0) {
@@ -17,28 +17,21 @@
 
 package org.apache.dolphinscheduler.api.service.impl;
 
-import static org.apache.dolphinscheduler.plugin.task.api.TaskConstants.TASK_TYPE_DEPENDENT;
-
 import org.apache.dolphinscheduler.api.enums.Status;
 import org.apache.dolphinscheduler.api.exceptions.ServiceException;
+import org.apache.dolphinscheduler.api.lineage.WorkFlowLineageIndex;
+import org.apache.dolphinscheduler.api.lineage.WorkFlowLineageIndex.DependentTaskNode;
 import org.apache.dolphinscheduler.api.service.WorkFlowLineageService;
 import org.apache.dolphinscheduler.common.constants.Constants;
-import org.apache.dolphinscheduler.common.utils.JSONUtils;
-import org.apache.dolphinscheduler.dao.entity.DependentProcessDefinition;
-import org.apache.dolphinscheduler.dao.entity.ProcessLineage;
 import org.apache.dolphinscheduler.dao.entity.Project;
 import org.apache.dolphinscheduler.dao.entity.TaskDefinition;
-import org.apache.dolphinscheduler.dao.entity.TaskDefinitionLog;
 import org.apache.dolphinscheduler.dao.entity.TaskMainInfo;
 import org.apache.dolphinscheduler.dao.entity.WorkFlowLineage;
 import org.apache.dolphinscheduler.dao.entity.WorkFlowRelation;
 import org.apache.dolphinscheduler.dao.mapper.ProjectMapper;
-import org.apache.dolphinscheduler.dao.mapper.TaskDefinitionLogMapper;
 import org.apache.dolphinscheduler.dao.mapper.TaskDefinitionMapper;
 import org.apache.dolphinscheduler.dao.mapper.WorkFlowLineageMapper;
 import org.apache.dolphinscheduler.plugin.task.api.model.DependentItem;
-import org.apache.dolphinscheduler.plugin.task.api.model.DependentTaskModel;
-import org.apache.dolphinscheduler.plugin.task.api.parameters.DependentParameters;
 
 import org.apache.commons.lang3.StringUtils;
 
@@ -48,11 +41,12 @@ import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
-import java.util.Map.Entry;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.Set;
+import java.util.function.Predicate;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 import lombok.extern.slf4j.Slf4j;
 
@@ -74,10 +68,10 @@ public class WorkFlowLineageServiceImpl extends BaseServiceImpl implements WorkF
     private ProjectMapper projectMapper;
 
     @Autowired
-    private TaskDefinitionLogMapper taskDefinitionLogMapper;
+    private TaskDefinitionMapper taskDefinitionMapper;
 
     @Autowired
-    private TaskDefinitionMapper taskDefinitionMapper;
+    private WorkFlowLineageIndex workFlowLineageIndex;
 
     @Override
     public List<WorkFlowLineage> queryWorkFlowLineageByName(long projectCode, String workFlowName) {
@@ -94,9 +88,22 @@ public class WorkFlowLineageServiceImpl extends BaseServiceImpl implements WorkF
         if (project == null) {
             throw new ServiceException(Status.PROJECT_NOT_FOUND, projectCode);
         }
-        List<WorkFlowLineage> workFlowLineages = new ArrayList<>();
+        workFlowLineageIndex.sync();
         Set<WorkFlowRelation> workFlowRelations = new HashSet<>();
-        recursiveWorkFlow(projectCode, sourceWorkFlowCode, workFlowLineages, workFlowRelations);
+        workFlowRelations.addAll(workFlowLineageIndex.traverseUpstream(sourceWorkFlowCode));
+        workFlowRelations.addAll(workFlowLineageIndex.traverseDownstream(sourceWorkFlowCode));
+
+        List<WorkFlowLineage> workFlowLineages = new ArrayList<>();
+        workFlowLineages.add(workFlowLineageMapper.queryWorkFlowLineageByCode(projectCode, sourceWorkFlowCode));
+        List<Long> relatedWorkFlowCodes = workFlowRelations.stream()
+                .flatMap(relation -> Stream.of(relation.getSourceWorkFlowCode(), relation.getTargetWorkFlowCode()))
+                .filter(code -> code != sourceWorkFlowCode)
+                .distinct()
+                .collect(Collectors.toList());
+        if (!relatedWorkFlowCodes.isEmpty()) {
+            workFlowLineages.addAll(
+                    workFlowLineageMapper.queryWorkFlowLineageByProcessDefinitionCodes(relatedWorkFlowCodes));
+        }
         Map<String, Object> workFlowLists = new HashMap<>();
         // todo: use vo
         workFlowLists.put(Constants.WORKFLOW_LIST, workFlowLineages);
@@ -104,59 +111,6 @@ public class WorkFlowLineageServiceImpl extends BaseServiceImpl implements WorkF
         return workFlowLists;
     }
 
-    private void recursiveWorkFlow(long projectCode,
-                                   long sourceWorkFlowCode,
-                                   List<WorkFlowLineage> workFlowLineages,
-                                   Set<WorkFlowRelation> workFlowRelations) {
-        workFlowLineages.add(workFlowLineageMapper.queryWorkFlowLineageByCode(projectCode, sourceWorkFlowCode));
-
-        List<WorkFlowLineage> downStreamWorkFlowLineages =
-                workFlowLineageMapper.queryDownstreamLineageByProcessDefinitionCode(sourceWorkFlowCode, "DEPENDENT");
-        workFlowLineages.addAll(downStreamWorkFlowLineages);
-        downStreamWorkFlowLineages.forEach(workFlowLineage -> workFlowRelations
-                .add(new WorkFlowRelation(sourceWorkFlowCode, workFlowLineage.getWorkFlowCode())));
-
-        List<WorkFlowLineage> upstreamWorkFlowLineages = new ArrayList<>();
-        getUpstreamLineages(sourceWorkFlowCode, upstreamWorkFlowLineages);
-        workFlowLineages.addAll(upstreamWorkFlowLineages);
-        upstreamWorkFlowLineages.forEach(workFlowLineage -> workFlowRelations
-                .add(new WorkFlowRelation(workFlowLineage.getWorkFlowCode(), sourceWorkFlowCode)));
-    }
-
-    private void getUpstreamLineages(long sourceWorkFlowCode,
-                                     List<WorkFlowLineage> upstreamWorkFlowLineages) {
-        List<DependentProcessDefinition> workFlowDependentDefinitionList =
-                workFlowLineageMapper.queryUpstreamDependentParamsByProcessDefinitionCode(sourceWorkFlowCode,
-                        "DEPENDENT");
-
-        List<Long> upstreamProcessDefinitionCodes = new ArrayList<>();
-
-        getProcessDefinitionCodeByDependentDefinitionList(workFlowDependentDefinitionList,
-                upstreamProcessDefinitionCodes);
-
-        if (!upstreamProcessDefinitionCodes.isEmpty()) {
-            upstreamWorkFlowLineages.addAll(
-                    workFlowLineageMapper.queryWorkFlowLineageByProcessDefinitionCodes(upstreamProcessDefinitionCodes));
-        }
-    }
-
-    /**
-     * get dependent process definition code by dependent process definition list
-     */
-    private void getProcessDefinitionCodeByDependentDefinitionList(List<DependentProcessDefinition> dependentDefinitionList,
-                                                                   List<Long> processDefinitionCodes) {
-        for (DependentProcessDefinition dependentProcessDefinition : dependentDefinitionList) {
-            for (DependentTaskModel dependentTaskModel : dependentProcessDefinition.getDependentParameters()
-                    .getDependTaskList()) {
-                for (DependentItem dependentItem : dependentTaskModel.getDependItemList()) {
-                    if (!processDefinitionCodes.contains(dependentItem.getDefinitionCode())) {
-                        processDefinitionCodes.add(dependentItem.getDefinitionCode());
-                    }
-                }
-            }
-        }
-    }
-
     @Override
     public Map<String, Object> queryWorkFlowLineage(long projectCode) {
         Map<String, Object> result = new HashMap<>();
@@ -166,41 +120,20 @@ public class WorkFlowLineageServiceImpl extends BaseServiceImpl implements WorkF
             putMsg(result, Status.PROJECT_NOT_FOUND, projectCode);
             return result;
         }
-        List<ProcessLineage> processLineages = workFlowLineageMapper.queryProcessLineage(projectCode);
-        Map<Long, WorkFlowLineage> workFlowLineagesMap = new HashMap<>();
+        workFlowLineageIndex.sync();
+        Map<Long, WorkFlowLineage> workFlowLineagesMap = workFlowLineageMapper
+                .queryWorkFlowLineageByProjectCode(projectCode).stream()
+                .collect(Collectors.toMap(WorkFlowLineage::getWorkFlowCode, workFlowLineage -> workFlowLineage,
+                        (lineage1, lineage2) -> lineage1));
         Set<WorkFlowRelation> workFlowRelations = new HashSet<>();
-        if (!processLineages.isEmpty()) {
-            List<WorkFlowLineage> workFlowLineages =
-                    workFlowLineageMapper.queryWorkFlowLineageByLineage(processLineages);
-            workFlowLineagesMap = workFlowLineages.stream()
-                    .collect(Collectors.toMap(WorkFlowLineage::getWorkFlowCode, workFlowLineage -> workFlowLineage));
-            Map<Long, List<TaskDefinition>> workFlowMap = new HashMap<>();
-            for (ProcessLineage processLineage : processLineages) {
-                workFlowMap.compute(processLineage.getProcessDefinitionCode(), (k, v) -> {
-                    if (v == null) {
-                        v = new ArrayList<>();
-                    }
-                    if (processLineage.getPreTaskCode() > 0) {
-                        v.add(new TaskDefinition(processLineage.getPreTaskCode(), processLineage.getPreTaskVersion()));
-                    }
-                    if (processLineage.getPostTaskCode() > 0) {
-                        v.add(new TaskDefinition(processLineage.getPostTaskCode(),
-                                processLineage.getPostTaskVersion()));
-                    }
-                    return v;
-                });
-            }
-            for (Entry<Long, List<TaskDefinition>> workFlow : workFlowMap.entrySet()) {
-                Set<Long> sourceWorkFlowCodes =
-                        querySourceWorkFlowCodes(projectCode, workFlow.getKey(), workFlow.getValue());
-                if (sourceWorkFlowCodes.isEmpty()) {
-                    workFlowRelations.add(new WorkFlowRelation(0L, workFlow.getKey()));
-                } else {
-                    workFlowLineagesMap.get(workFlow.getKey())
-                            .setSourceWorkFlowCode(StringUtils.join(sourceWorkFlowCodes, Constants.COMMA));
-                    sourceWorkFlowCodes
-                            .forEach(code -> workFlowRelations.add(new WorkFlowRelation(code, workFlow.getKey())));
-                }
+        for (WorkFlowLineage workFlowLineage : workFlowLineagesMap.values()) {
+            long workFlowCode = workFlowLineage.getWorkFlowCode();
+            Set<Long> sourceWorkFlowCodes = querySourceWorkFlowCodes(projectCode, workFlowCode);
+            if (sourceWorkFlowCodes.isEmpty()) {
+                workFlowRelations.add(new WorkFlowRelation(0L, workFlowCode));
+            } else {
+                workFlowLineage.setSourceWorkFlowCode(StringUtils.join(sourceWorkFlowCodes, Constants.COMMA));
+                sourceWorkFlowCodes.forEach(code -> workFlowRelations.add(new WorkFlowRelation(code, workFlowCode)));
             }
         }
         Map<String, Object> workFlowLists = new HashMap<>();
@@ -211,33 +144,16 @@ public class WorkFlowLineageServiceImpl extends BaseServiceImpl implements WorkF
         return result;
     }
 
-    private Set<Long> querySourceWorkFlowCodes(long projectCode, long workFlowCode,
-                                               List<TaskDefinition> taskDefinitionList) {
+    private Set<Long> querySourceWorkFlowCodes(long projectCode, long workFlowCode) {
         Set<Long> sourceWorkFlowCodes = new HashSet<>();
-        if (taskDefinitionList == null || taskDefinitionList.isEmpty()) {
-            return sourceWorkFlowCodes;
-        }
-        List<TaskDefinitionLog> taskDefinitionLogs = taskDefinitionLogMapper.queryByTaskDefinitions(taskDefinitionList);
-        for (TaskDefinitionLog taskDefinitionLog : taskDefinitionLogs) {
-            if (taskDefinitionLog.getProjectCode() == projectCode) {
-                if (taskDefinitionLog.getTaskType().equals(TASK_TYPE_DEPENDENT)) {
-                    DependentParameters dependentParameters =
-                            JSONUtils.parseObject(taskDefinitionLog.getDependence(), DependentParameters.class);
-                    if (dependentParameters != null) {
-                        List<DependentTaskModel> dependTaskList =
-                                dependentParameters.getDependTaskList();
-                        if (!CollectionUtils.isEmpty(dependTaskList)) {
-                            for (DependentTaskModel taskModel : dependTaskList) {
-                                List<DependentItem> dependItemList = taskModel.getDependItemList();
-                                for (DependentItem dependentItem : dependItemList) {
-                                    if (dependentItem.getProjectCode() == projectCode
-                                            && dependentItem.getDefinitionCode() != workFlowCode) {
-                                        sourceWorkFlowCodes.add(dependentItem.getDefinitionCode());
-                                    }
-                                }
-                            }
-                        }
-                    }
+        for (DependentTaskNode dependentTask : workFlowLineageIndex.getDependentTasksInWorkflow(workFlowCode)) {
+            if (dependentTask.getProjectCode() != projectCode) {
+                continue;
+            }
+            for (DependentItem dependentItem : dependentTask.getDependentItems()) {
+                if (dependentItem.getProjectCode() == projectCode
+                        && dependentItem.getDefinitionCode() != workFlowCode) {
+                    sourceWorkFlowCodes.add(dependentItem.getDefinitionCode());
                 }
             }
         }
@@ -245,7 +161,20 @@ public class WorkFlowLineageServiceImpl extends BaseServiceImpl implements WorkF
     }
 
     /**
-     * Query and return tasks dependence with string format, is a wrapper of queryTaskDepOnTask and task query method.
+     * Query the tasks with their process definitions of the given dependent tasks.
+     */
+    private List<TaskMainInfo> queryTaskMainInfos(List<DependentTaskNode> dependentTasks) {
+        if (dependentTasks.isEmpty()) {
+            return new ArrayList<>();
+        }
+        List<Long> taskCodes = dependentTasks.stream()
+                .map(DependentTaskNode::getTaskCode)
+                .collect(Collectors.toList());
+        return workFlowLineageMapper.queryTaskMainInfoByTaskCodes(taskCodes);
+    }
+
+    /**
+     * Query and return tasks dependence with string format, is a wrapper of the dependent task index and task query method.
      *
      * @param projectCode Project code want to query tasks dependence
      * @param processDefinitionCode Process definition code want to query tasks dependence
@@ -254,8 +183,13 @@ public class WorkFlowLineageServiceImpl extends BaseServiceImpl implements WorkF
      */
     @Override
     public Optional<String> taskDepOnTaskMsg(long projectCode, long processDefinitionCode, long taskCode) {
-        List<TaskMainInfo> tasksDep =
-                workFlowLineageMapper.queryTaskDepOnTask(projectCode, processDefinitionCode, taskCode);
+        workFlowLineageIndex.forceSync();
+        List<DependentTaskNode> dependentTasks = workFlowLineageIndex
+                .getDependentTasksOnWorkflow(processDefinitionCode, item -> item.getDepTaskCode() == taskCode)
+                .stream()
+                .filter(dependentTask -> projectCode == 0 || dependentTask.getProjectCode() == projectCode)
+                .collect(Collectors.toList());
+        List<TaskMainInfo> tasksDep = queryTaskMainInfos(dependentTasks);
         if (CollectionUtils.isEmpty(tasksDep)) {
             return Optional.empty();
         }
@@ -278,8 +212,9 @@ public class WorkFlowLineageServiceImpl extends BaseServiceImpl implements WorkF
     @Override
     public Set<TaskMainInfo> queryTaskDepOnProcess(long projectCode, long processDefinitionCode) {
         Set<TaskMainInfo> taskMainInfos = new HashSet<>();
-        List<TaskMainInfo> taskDependents =
-                workFlowLineageMapper.queryTaskDependentOnProcess(processDefinitionCode, 0);
+        workFlowLineageIndex.forceSync();
+        List<TaskMainInfo> taskDependents = queryTaskMainInfos(
+                workFlowLineageIndex.getDependentTasksOnWorkflow(processDefinitionCode, item -> true));
         List<TaskMainInfo> taskSubProcess =
                 workFlowLineageMapper.queryTaskSubProcessDepOnProcess(projectCode, processDefinitionCode);
         taskMainInfos.addAll(taskDependents);
@@ -297,9 +232,16 @@ public class WorkFlowLineageServiceImpl extends BaseServiceImpl implements WorkF
     @Override
     public Map<String, Object> queryDownstreamDependentTasks(Long processDefinitionCode, Long taskCode) {
         Map<String, Object> result = new HashMap<>();
-        List<TaskMainInfo> taskDependents =
-                workFlowLineageMapper.queryTaskDependentOnProcess(processDefinitionCode,
-                        Objects.isNull(taskCode) ? 0 : taskCode.longValue());
+        List<TaskMainInfo> taskDependents = new ArrayList<>();
+        if (Objects.nonNull(processDefinitionCode)) {
+            workFlowLineageIndex.sync();
+            Predicate<DependentItem> itemPredicate = Objects.isNull(taskCode) || taskCode == 0
+                    ? item -> true
+                    : item -> item.getDepTaskCode() == taskCode
+                            || item.getDepTaskCode() == Constants.DEPENDENT_ALL_TASK_CODE;
+            taskDependents = queryTaskMainInfos(
+                    workFlowLineageIndex.getDependentTasksOnWorkflow(processDefinitionCode, itemPredicate));
+        }
         result.put(Constants.DATA_LIST, taskDependents);
         putMsg(result, Status.SUCCESS);
         return result;
@@ -0,0 +1,133 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.dolphinscheduler.api.lineage;
+
+import static org.mockito.Mockito.when;
+
+import org.apache.dolphinscheduler.dao.entity.TaskDefinition;
+import org.apache.dolphinscheduler.dao.entity.TaskMainInfo;
+import org.apache.dolphinscheduler.dao.entity.WorkFlowRelation;
+import org.apache.dolphinscheduler.dao.mapper.TaskDefinitionMapper;
+import org.apache.dolphinscheduler.dao.mapper.WorkFlowLineageMapper;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Mockito;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+public class WorkFlowLineageIndexTest {
+
+    @InjectMocks
+    private WorkFlowLineageIndex workFlowLineageIndex;
+
+    @Mock
+    private WorkFlowLineageMapper workFlowLineageMapper;
+
+    @Mock
+    private TaskDefinitionMapper taskDefinitionMapper;
+
+    @Test
+    public void testTraverse() {
+        // workflow 1 <- workflow 2 <- workflow 3
+        when(workFlowLineageMapper.queryDependentTaskVersions()).thenReturn(Arrays.asList(
+                getTaskVersion(20L, 1, 2L),
+                getTaskVersion(30L, 1, 3L)));
+        when(taskDefinitionMapper.queryByCodeList(Arrays.asList(20L, 30L))).thenReturn(Arrays.asList(
+                getDependentTask(20L, 1, 1L),
+                getDependentTask(30L, 1, 2L)));
+        workFlowLineageIndex.sync();
+
+        Assertions.assertEquals(2, workFlowLineageIndex.size());
+        Assertions.assertEquals(
+                new HashSet<>(Arrays.asList(new WorkFlowRelation(1L, 2L), new WorkFlowRelation(2L, 3L))),
+                workFlowLineageIndex.traverseDownstream(1L));
+        Assertions.assertEquals(
+                new HashSet<>(Arrays.asList(new WorkFlowRelation(1L, 2L), new WorkFlowRelation(2L, 3L))),
+                workFlowLineageIndex.traverseUpstream(3L));
+        Assertions.assertEquals(1, workFlowLineageIndex.getDependentTasksOnWorkflow(1L, item -> true).size());
+        Assertions.assertTrue(workFlowLineageIndex.getDependentTasksOnWorkflow(3L, item -> true).isEmpty());
+    }
+
+    @Test
+    public void testSyncChangedTasks() {
+        when(workFlowLineageMapper.queryDependentTaskVersions())
+                .thenReturn(Arrays.asList(getTaskVersion(20L, 1, 2L), getTaskVersion(30L, 1, 3L)))
+                .thenReturn(Collections.singletonList(getTaskVersion(20L, 2, 2L)));
+        when(taskDefinitionMapper.queryByCodeList(Arrays.asList(20L, 30L))).thenReturn(Arrays.asList(
+                getDependentTask(20L, 1, 1L),
+                getDependentTask(30L, 1, 2L)));
+        when(taskDefinitionMapper.queryByCodeList(Collections.singletonList(20L)))
+                .thenReturn(Collections.singletonList(getDependentTask(20L, 2, 4L)));
+        workFlowLineageIndex.forceSync();
+        workFlowLineageIndex.forceSync();
+
+        Assertions.assertEquals(1, workFlowLineageIndex.size());
+        Assertions.assertTrue(workFlowLineageIndex.traverseDownstream(1L).isEmpty());
+        Assertions.assertEquals(Collections.singleton(new WorkFlowRelation(4L, 2L)),
+                workFlowLineageIndex.traverseUpstream(2L));
+
+        // nothing changed, the task params should not be reloaded
+        workFlowLineageIndex.forceSync();
+        Mockito.verify(taskDefinitionMapper, Mockito.times(2)).queryByCodeList(Mockito.any());
+    }
+
+    @Test
+    public void testThrottleSync() {
+        when(workFlowLineageMapper.queryDependentTaskVersions())
+                .thenReturn(Collections.singletonList(getTaskVersion(20L, 1, 2L)));
+        when(taskDefinitionMapper.queryByCodeList(Collections.singletonList(20L)))
+                .thenReturn(Collections.singletonList(getDependentTask(20L, 1, 1L)));
+        workFlowLineageIndex.sync();
+        // synced recently, the dependent tasks should not be queried again
+        workFlowLineageIndex.sync();
+        Mockito.verify(workFlowLineageMapper, Mockito.times(1)).queryDependentTaskVersions();
+
+        workFlowLineageIndex.forceSync();
+        Mockito.verify(workFlowLineageMapper, Mockito.times(2)).queryDependentTaskVersions();
+        Assertions.assertEquals(1, workFlowLineageIndex.size());
+    }
+
+    private TaskMainInfo getTaskVersion(long taskCode, int taskVersion, long workflowCode) {
+        TaskMainInfo taskMainInfo = new TaskMainInfo();
+        taskMainInfo.setTaskCode(taskCode);
+        taskMainInfo.setTaskVersion(taskVersion);
+        taskMainInfo.setProjectCode(1L);
+        taskMainInfo.setProcessDefinitionCode(workflowCode);
+        return taskMainInfo;
+    }
+
+    private TaskDefinition getDependentTask(long taskCode, int taskVersion, long upstreamWorkflowCode) {
+        TaskDefinition taskDefinition = new TaskDefinition();
+        taskDefinition.setCode(taskCode);
+        taskDefinition.setVersion(taskVersion);
+        taskDefinition.setProjectCode(1L);
+        taskDefinition.setTaskType("DEPENDENT");
+        taskDefinition.setTaskParams("{\"dependence\":{\"relation\":\"AND\",\"dependTaskList\":[{\"relation\":\"AND\","
+                + "\"dependItemList\":[{\"projectCode\":1,\"definitionCode\":" + upstreamWorkflowCode
+                + ",\"depTaskCode\":-1,\"cycle\":\"day\",\"dateValue\":\"today\"}]}]}}");
+        return taskDefinition;
+    }
+}
@@ -23,11 +23,18 @@ import static org.assertj.core.api.Assertions.assertThat;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
 import static org.mockito.Mockito.doNothing;
 import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
+import org.apache.dolphinscheduler.api.configuration.ApiConfig;
 import org.apache.dolphinscheduler.api.dto.CommandStateCount;
+import org.apache.dolphinscheduler.api.dto.TaskCountDto;
+import org.apache.dolphinscheduler.api.dto.project.StatisticsStateRequest;
 import org.apache.dolphinscheduler.api.enums.Status;
 import org.apache.dolphinscheduler.api.exceptions.ServiceException;
 import org.apache.dolphinscheduler.api.permission.ResourcePermissionCheckService;
@@ -47,6 +54,8 @@ import org.apache.dolphinscheduler.dao.mapper.ProcessDefinitionMapper;
 import org.apache.dolphinscheduler.dao.mapper.ProcessInstanceMapper;
 import org.apache.dolphinscheduler.dao.mapper.ProjectMapper;
 import org.apache.dolphinscheduler.dao.mapper.TaskInstanceMapper;
+import org.apache.dolphinscheduler.dao.repository.ProcessInstanceStateCountDao;
+import org.apache.dolphinscheduler.dao.repository.TaskInstanceStateCountDao;
 import org.apache.dolphinscheduler.plugin.task.api.enums.TaskExecutionStatus;
 
 import java.text.MessageFormat;
@@ -103,6 +112,15 @@ public class DataAnalysisServiceTest {
     @Mock
     TaskInstanceMapper taskInstanceMapper;
 
+    @Mock
+    ProcessInstanceStateCountDao processInstanceStateCountDao;
+
+    @Mock
+    TaskInstanceStateCountDao taskInstanceStateCountDao;
+
+    @Mock
+    ApiConfig apiConfig;
+
     @Mock
     private ResourcePermissionCheckService resourcePermissionCheckService;
 
@@ -276,6 +294,63 @@ public class DataAnalysisServiceTest {
         assertThat(commandStateCounts).asList().containsOnlyOnce(commandStateCount);
     }
 
+    @Test
+    public void testCountWorkflowStatesFromRollup() {
+        when(apiConfig.isStateCountRollupEnabled()).thenReturn(true);
+        when(resourcePermissionCheckService.userOwnedResourceIdsAcquisition(AuthorizationType.PROJECTS, 1,
+                serviceLogger)).thenReturn(projectIds());
+        Project project = new Project();
+        project.setId(1);
+        project.setCode(1L);
+        when(projectMapper.selectBatchIds(projectIds())).thenReturn(Collections.singletonList(project));
+        when(processInstanceStateCountDao.countInstanceState(any(), any(), eq(Collections.singletonList(1L)),
+                eq(1L), eq(2L))).thenReturn(
+                Collections.singletonList(new ExecuteStatusCount(TaskExecutionStatus.SUCCESS, 10)));
+
+        StatisticsStateRequest statisticsStateRequest = new StatisticsStateRequest();
+        statisticsStateRequest.setProjectCode(1L);
+        statisticsStateRequest.setWorkflowCode(2L);
+        TaskCountDto taskCountDto = dataAnalysisServiceImpl.countWorkflowStates(user, statisticsStateRequest);
+        assertThat(taskCountDto.getTotalCount()).isEqualTo(10);
+        verify(processInstanceMapper, never()).countInstanceStateV2(any(), any(), any(), any(), any(), any());
+    }
+
+    @Test
+    public void testCountTaskStatesFromRollup() {
+        when(apiConfig.isStateCountRollupEnabled()).thenReturn(true);
+        when(resourcePermissionCheckService.userOwnedResourceIdsAcquisition(AuthorizationType.PROJECTS, 1,
+                serviceLogger)).thenReturn(projectIds());
+        Project project = new Project();
+        project.setId(1);
+        project.setCode(1L);
+        when(projectMapper.selectBatchIds(projectIds())).thenReturn(Collections.singletonList(project));
+        when(taskInstanceStateCountDao.countTaskInstanceState(any(), any(), eq(Collections.singletonList(1L)),
+                eq(1L), isNull(), isNull())).thenReturn(
+                Collections.singletonList(new ExecuteStatusCount(TaskExecutionStatus.SUCCESS, 10)));
+
+        StatisticsStateRequest statisticsStateRequest = new StatisticsStateRequest();
+        statisticsStateRequest.setProjectCode(1L);
+        TaskCountDto taskCountDto = dataAnalysisServiceImpl.countTaskStates(user, statisticsStateRequest);
+        assertThat(taskCountDto.getTotalCount()).isEqualTo(10);
+        verify(taskInstanceMapper, never()).countTaskInstanceStateByProjectIdsV2(any(), any(), any());
+    }
+
+    @Test
+    public void testCountStatesFromRollupWithoutProject() {
+        when(apiConfig.isStateCountRollupEnabled()).thenReturn(true);
+        when(resourcePermissionCheckService.userOwnedResourceIdsAcquisition(AuthorizationType.PROJECTS, 1,
+                serviceLogger)).thenReturn(projectIds());
+        when(projectMapper.selectBatchIds(projectIds())).thenReturn(Collections.emptyList());
+
+        StatisticsStateRequest statisticsStateRequest = new StatisticsStateRequest();
+        assertThat(dataAnalysisServiceImpl.countWorkflowStates(user, statisticsStateRequest).getTotalCount())
+                .isEqualTo(0);
+        assertThat(dataAnalysisServiceImpl.countTaskStates(user, statisticsStateRequest).getTotalCount())
+                .isEqualTo(0);
+        verify(processInstanceStateCountDao, never()).countInstanceState(any(), any(), any(), any(), any());
+        verify(taskInstanceStateCountDao, never()).countTaskInstanceState(any(), any(), any(), any(), any(), any());
+    }
+
     @Test
     public void testCountQueueState() {
         // when project check success when return all count are 0
@@ -19,20 +19,23 @@ package org.apache.dolphinscheduler.api.service;
 
 import static org.mockito.Mockito.when;
 
+import org.apache.dolphinscheduler.api.lineage.WorkFlowLineageIndex;
+import org.apache.dolphinscheduler.api.lineage.WorkFlowLineageIndex.DependentTaskNode;
 import org.apache.dolphinscheduler.api.service.impl.WorkFlowLineageServiceImpl;
 import org.apache.dolphinscheduler.common.constants.Constants;
-import org.apache.dolphinscheduler.dao.entity.ProcessLineage;
 import org.apache.dolphinscheduler.dao.entity.Project;
+import org.apache.dolphinscheduler.dao.entity.TaskMainInfo;
 import org.apache.dolphinscheduler.dao.entity.WorkFlowLineage;
 import org.apache.dolphinscheduler.dao.entity.WorkFlowRelation;
 import org.apache.dolphinscheduler.dao.mapper.ProjectMapper;
-import org.apache.dolphinscheduler.dao.mapper.TaskDefinitionLogMapper;
 import org.apache.dolphinscheduler.dao.mapper.WorkFlowLineageMapper;
+import org.apache.dolphinscheduler.plugin.task.api.model.DependentItem;
 
 import org.apache.commons.collections4.CollectionUtils;
 
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Collections;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
@@ -61,7 +64,7 @@ public class WorkFlowLineageServiceTest {
     private ProjectMapper projectMapper;
 
     @Mock
-    private TaskDefinitionLogMapper taskDefinitionLogMapper;
+    private WorkFlowLineageIndex workFlowLineageIndex;
 
     /**
      * get mock Project
@@ -93,16 +96,6 @@ public class WorkFlowLineageServiceTest {
     public void testQueryWorkFlowLineage() {
         Project project = getProject("test");
 
-        List<ProcessLineage> processLineages = new ArrayList<>();
-        ProcessLineage processLineage = new ProcessLineage();
-        processLineage.setPreTaskVersion(1);
-        processLineage.setPreTaskCode(1L);
-        processLineage.setPostTaskCode(2L);
-        processLineage.setPostTaskVersion(1);
-        processLineage.setProcessDefinitionCode(1111L);
-        processLineage.setProcessDefinitionVersion(1);
-        processLineage.setProjectCode(1111L);
-        processLineages.add(processLineage);
         WorkFlowLineage workFlowLineage = new WorkFlowLineage();
         workFlowLineage.setSourceWorkFlowCode("");
         workFlowLineage.setWorkFlowCode(1111L);
@@ -110,8 +103,7 @@ public class WorkFlowLineageServiceTest {
         workFlowLineages.add(workFlowLineage);
 
         when(projectMapper.queryByCode(1L)).thenReturn(project);
-        when(workFlowLineageMapper.queryProcessLineage(project.getCode())).thenReturn(processLineages);
-        when(workFlowLineageMapper.queryWorkFlowLineageByLineage(processLineages)).thenReturn(workFlowLineages);
+        when(workFlowLineageMapper.queryWorkFlowLineageByProjectCode(project.getCode())).thenReturn(workFlowLineages);
 
         Map<String, Object> result = workFlowLineageService.queryWorkFlowLineage(1L);
 
@@ -124,6 +116,49 @@ public class WorkFlowLineageServiceTest {
         Assertions.assertTrue(workFlowRelations.size() > 0);
     }
 
+    @Test
+    public void testQueryWorkFlowLineageWithSourceWorkFlow() {
+        Project project = getProject("test");
+        WorkFlowLineage workFlowLineage = new WorkFlowLineage();
+        workFlowLineage.setSourceWorkFlowCode("");
+        workFlowLineage.setWorkFlowCode(1111L);
+        List<WorkFlowLineage> workFlowLineages = new ArrayList<>();
+        workFlowLineages.add(workFlowLineage);
+        DependentItem dependentItem = new DependentItem();
+        dependentItem.setProjectCode(1L);
+        dependentItem.setDefinitionCode(2222L);
+
+        when(projectMapper.queryByCode(1L)).thenReturn(project);
+        when(workFlowLineageMapper.queryWorkFlowLineageByProjectCode(project.getCode())).thenReturn(workFlowLineages);
+        when(workFlowLineageIndex.getDependentTasksInWorkflow(1111L)).thenReturn(Collections.singletonList(
+                new DependentTaskNode(1L, 1, 1L, 1111L, Collections.singletonList(dependentItem))));
+
+        Map<String, Object> result = workFlowLineageService.queryWorkFlowLineage(1L);
+
+        Map<String, Object> workFlowLists = (Map<String, Object>) result.get(Constants.DATA_LIST);
+        Set<WorkFlowRelation> workFlowRelations =
+                (Set<WorkFlowRelation>) workFlowLists.get(Constants.WORKFLOW_RELATION_LIST);
+        Assertions.assertEquals(Collections.singleton(new WorkFlowRelation(2222L, 1111L)), workFlowRelations);
+        Assertions.assertEquals("2222", workFlowLineage.getSourceWorkFlowCode());
+    }
+
+    @Test
+    public void testQueryDownstreamDependentTasks() {
+        DependentTaskNode dependentTask = new DependentTaskNode(1L, 1, 1L, 2222L, Collections.emptyList());
+        TaskMainInfo taskMainInfo = new TaskMainInfo();
+        taskMainInfo.setTaskCode(1L);
+        when(workFlowLineageIndex.getDependentTasksOnWorkflow(Mockito.eq(1111L), Mockito.any()))
+                .thenReturn(Collections.singletonList(dependentTask));
+        when(workFlowLineageMapper.queryTaskMainInfoByTaskCodes(Collections.singletonList(1L)))
+                .thenReturn(Collections.singletonList(taskMainInfo));
+
+        Map<String, Object> result = workFlowLineageService.queryDownstreamDependentTasks(1111L, 1L);
+        Assertions.assertEquals(Collections.singletonList(taskMainInfo), result.get(Constants.DATA_LIST));
+
+        result = workFlowLineageService.queryDownstreamDependentTasks(null, null);
+        Assertions.assertEquals(Collections.emptyList(), result.get(Constants.DATA_LIST));
+    }
+
     private List<WorkFlowLineage> getWorkFlowLineages() {
         List<WorkFlowLineage> workFlowLineages = new ArrayList<>();
         WorkFlowLineage workFlowLineage = new WorkFlowLineage();
@@ -149,6 +149,18 @@ public final class Constants {
     public static final String HUAWEI_CLOUD_OBS_BUCKET_NAME = "resource.huawei.cloud.obs.bucket.name";
     public static final String HUAWEI_CLOUD_OBS_END_POINT = "resource.huawei.cloud.obs.endpoint";
 
+    /**
+     * resource transfer, only used by the storages which support ranged download and multipart upload
+     */
+    public static final String RESOURCE_TRANSFER_MULTIPART_THRESHOLD = "resource.transfer.multipart.threshold.mb";
+    public static final String RESOURCE_TRANSFER_PART_SIZE = "resource.transfer.part.size.mb";
+    public static final String RESOURCE_TRANSFER_CONCURRENCY = "resource.transfer.concurrency";
+    public static final String RESOURCE_TRANSFER_PART_RETRY_TIMES = "resource.transfer.part.retry.times";
+    public static final String RESOURCE_TRANSFER_CHECKSUM_ENABLED = "resource.transfer.checksum.enabled";
+    public static final String RESOURCE_TRANSFER_RESUMABLE_ENABLED = "resource.transfer.resumable.enabled";
+    public static final String RESOURCE_TRANSFER_CHECKPOINT_PATH = "resource.transfer.checkpoint.path";
+    public static final String RESOURCE_TRANSFER_CHECKPOINT_EXPIRE_HOURS = "resource.transfer.checkpoint.expire.hours";
+
     /**
      * fetch applicationId way
      */
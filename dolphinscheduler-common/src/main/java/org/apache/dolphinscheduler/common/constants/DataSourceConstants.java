@@ -120,6 +120,21 @@ public class DataSourceConstants {
 
     public static final String SPRING_DATASOURCE_TEST_ON_BORROW = "spring.datasource.testOnBorrow";
 
+    /**
+     * pooled datasource client config
+     */
+    public static final String DATASOURCE_POOL_CACHE_SIZE = "datasource.pool.cache.size";
+
+    public static final String DATASOURCE_POOL_IDLE_EXPIRE_MINUTES = "datasource.pool.idle.expire.minutes";
+
+    public static final String DATASOURCE_POOL_MIN_IDLE = "datasource.pool.min.idle";
+
+    public static final String DATASOURCE_POOL_MAX_SIZE = "datasource.pool.max.size";
+
+    public static final String DATASOURCE_POOL_TYPE_MIN_IDLE = "datasource.pool.%s.min.idle";
+
+    public static final String DATASOURCE_POOL_TYPE_MAX_SIZE = "datasource.pool.%s.max.size";
+
     /**
      * azure static websites
      */
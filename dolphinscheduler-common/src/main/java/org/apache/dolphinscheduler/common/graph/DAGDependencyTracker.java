@@ -0,0 +1,109 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.dolphinscheduler.common.graph;
+
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Predicate;
+
+/**
+ * Track the number of the unsatisfied previous nodes of each node in a {@link DAG} incrementally.
+ * <p>
+ * A node is satisfied if it is complete, skipped or always satisfied, e.g. a forbidden task node. When a node becomes
+ * satisfied or unsatisfied, only the counters of its subsequent nodes are updated, so checking whether all the
+ * previous nodes of a node are satisfied is O(1), rather than O(in-degree).
+ */
+public class DAGDependencyTracker<Node> {
+
+    private final DAG<Node, ?, ?> dag;
+
+    private final Predicate<Node> alwaysSatisfied;
+
+    private final Map<Node, Integer> unsatisfiedPreviousNodeCounts = new HashMap<>();
+
+    private final Set<Node> completeNodes = new HashSet<>();
+
+    private final Set<Node> skippedNodes = new HashSet<>();
+
+    public DAGDependencyTracker(DAG<Node, ?, ?> dag, Predicate<Node> alwaysSatisfied) {
+        this.dag = dag;
+        this.alwaysSatisfied = alwaysSatisfied;
+        for (Node node : dag.getAllNodesList()) {
+            int unsatisfiedCount = 0;
+            for (Node previousNode : dag.getPreviousNodes(node)) {
+                if (!alwaysSatisfied.test(previousNode)) {
+                    unsatisfiedCount++;
+                }
+            }
+            unsatisfiedPreviousNodeCounts.put(node, unsatisfiedCount);
+        }
+    }
+
+    public synchronized void markComplete(Node node) {
+        boolean satisfied = isSatisfied(node);
+        completeNodes.add(node);
+        onSatisfiedChanged(node, satisfied);
+    }
+
+    public synchronized void unmarkComplete(Node node) {
+        boolean satisfied = isSatisfied(node);
+        completeNodes.remove(node);
+        onSatisfiedChanged(node, satisfied);
+    }
+
+    public synchronized void markSkipped(Node node) {
+        boolean satisfied = isSatisfied(node);
+        skippedNodes.add(node);
+        onSatisfiedChanged(node, satisfied);
+    }
+
+    public synchronized void clearComplete() {
+        for (Node node : new HashSet<>(completeNodes)) {
+            unmarkComplete(node);
+        }
+    }
+
+    /**
+     * Whether all the previous nodes of the given node are satisfied, the node which is not in the DAG has no
+     * previous nodes.
+     */
+    public synchronized boolean isAllPreviousNodesSatisfied(Node node) {
+        return getUnsatisfiedPreviousNodeCount(node) == 0;
+    }
+
+    public synchronized int getUnsatisfiedPreviousNodeCount(Node node) {
+        return unsatisfiedPreviousNodeCounts.getOrDefault(node, 0);
+    }
+
+    private boolean isSatisfied(Node node) {
+        return completeNodes.contains(node) || skippedNodes.contains(node) || alwaysSatisfied.test(node);
+    }
+
+    private void onSatisfiedChanged(Node node, boolean oldSatisfied) {
+        boolean newSatisfied = isSatisfied(node);
+        if (oldSatisfied == newSatisfied || !dag.containsNode(node)) {
+            return;
+        }
+        int delta = newSatisfied ? -1 : 1;
+        for (Node subsequentNode : dag.getSubsequentNodes(node)) {
+            unsatisfiedPreviousNodeCounts.merge(subsequentNode, delta, Integer::sum);
+        }
+    }
+}
@@ -0,0 +1,431 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.dolphinscheduler.common.graph;
+
+import java.util.AbstractSet;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Set;
+
+/**
+ * A read-only {@link DAG} whose nodes are the long codes, it's built once from a DAG, and can be read by multiple
+ * threads without lock.
+ * <p>
+ * The node codes are sorted in a primitive array, and the edges are stored in the compressed sparse row form, the
+ * successors and the predecessors of the node i are the node indexes in the range [offsets[i], offsets[i + 1]) of the
+ * edge array. The topological order and the in-degrees are computed when the DAG is built, the reachability is computed
+ * on the first call of {@link #isReachable(Long, Long)}.
+ * <p>
+ * The edge information is not kept, since it cannot be read from the DAG. All the modification methods will throw
+ * {@link UnsupportedOperationException}.
+ */
+public class FrozenDAG<NodeInfo, EdgeInfo> extends DAG<Long, NodeInfo, EdgeInfo> {
+
+    private final long[] nodeCodes;
+
+    private final Object[] nodeInfos;
+
+    private final int[] successorOffsets;
+
+    private final int[] successors;
+
+    private final int[] predecessorOffsets;
+
+    private final int[] predecessors;
+
+    private final int[] topologicalOrder;
+
+    private final List<Long> beginNodes;
+
+    private final List<Long> endNodes;
+
+    /**
+     * reachability[i] is the bitset of the node indexes which can be reached from the node i.
+     */
+    private volatile long[][] reachability;
+
+    private FrozenDAG(long[] nodeCodes,
+                      Object[] nodeInfos,
+                      int[] successorOffsets,
+                      int[] successors,
+                      int[] predecessorOffsets,
+                      int[] predecessors) {
+        this.nodeCodes = nodeCodes;
+        this.nodeInfos = nodeInfos;
+        this.successorOffsets = successorOffsets;
+        this.successors = successors;
+        this.predecessorOffsets = predecessorOffsets;
+        this.predecessors = predecessors;
+        this.topologicalOrder = computeTopologicalOrder();
+        List<Long> begins = new ArrayList<>();
+        List<Long> ends = new ArrayList<>();
+        for (int i = 0; i < nodeCodes.length; i++) {
+            if (predecessorOffsets[i] == predecessorOffsets[i + 1]) {
+                begins.add(nodeCodes[i]);
+            }
+            if (successorOffsets[i] == successorOffsets[i + 1]) {
+                ends.add(nodeCodes[i]);
+            }
+        }
+        this.beginNodes = Collections.unmodifiableList(begins);
+        this.endNodes = Collections.unmodifiableList(ends);
+    }
+
+    /**
+     * Build a frozen DAG with the same nodes and edges of the given DAG, the given DAG should not be modified during
+     * the copy.
+     */
+    @SuppressWarnings("unchecked")
+    public static <NodeInfo, EdgeInfo> FrozenDAG<NodeInfo, EdgeInfo> copyOf(DAG<Long, NodeInfo, EdgeInfo> dag) {
+        if (dag instanceof FrozenDAG) {
+            return (FrozenDAG<NodeInfo, EdgeInfo>) dag;
+        }
+        long[] nodeCodes = dag.getAllNodesList().stream().mapToLong(Long::longValue).sorted().toArray();
+        int nodeCount = nodeCodes.length;
+        Object[] nodeInfos = new Object[nodeCount];
+        int[] successorOffsets = new int[nodeCount + 1];
+        int[] predecessorOffsets = new int[nodeCount + 1];
+        for (int i = 0; i < nodeCount; i++) {
+            nodeInfos[i] = dag.getNode(nodeCodes[i]);
+            successorOffsets[i + 1] = successorOffsets[i] + dag.getSubsequentNodes(nodeCodes[i]).size();
+            predecessorOffsets[i + 1] = predecessorOffsets[i] + dag.getPreviousNodes(nodeCodes[i]).size();
+        }
+        int[] successors = new int[successorOffsets[nodeCount]];
+        int[] predecessors = new int[predecessorOffsets[nodeCount]];
+        for (int i = 0; i < nodeCount; i++) {
+            fillNeighbors(nodeCodes, dag.getSubsequentNodes(nodeCodes[i]), successors, successorOffsets[i]);
+            fillNeighbors(nodeCodes, dag.getPreviousNodes(nodeCodes[i]), predecessors, predecessorOffsets[i]);
+        }
+        return new FrozenDAG<>(nodeCodes, nodeInfos, successorOffsets, successors, predecessorOffsets, predecessors);
+    }
+
+    private static void fillNeighbors(long[] nodeCodes, Set<Long> neighborCodes, int[] neighbors, int offset) {
+        int from = offset;
+        for (Long neighborCode : neighborCodes) {
+            neighbors[offset++] = Arrays.binarySearch(nodeCodes, neighborCode);
+        }
+        // Sort the neighbors, so they can be searched by binary search
+        Arrays.sort(neighbors, from, offset);
+    }
+
+    @Override
+    public void addNode(Long node, NodeInfo nodeInfo) {
+        throw new UnsupportedOperationException("The frozen DAG cannot be modified");
+    }
+
+    @Override
+    public boolean addEdge(Long fromNode, Long toNode, EdgeInfo edge, boolean createNode) {
+        throw new UnsupportedOperationException("The frozen DAG cannot be modified");
+    }
+
+    @Override
+    public boolean containsNode(Long node) {
+        return indexOf(node) >= 0;
+    }
+
+    @Override
+    public boolean containsEdge(Long fromNode, Long toNode) {
+        int fromIndex = indexOf(fromNode);
+        int toIndex = indexOf(toNode);
+        if (fromIndex < 0 || toIndex < 0) {
+            return false;
+        }
+        return Arrays.binarySearch(successors, successorOffsets[fromIndex], successorOffsets[fromIndex + 1],
+                toIndex) >= 0;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public NodeInfo getNode(Long node) {
+        int index = indexOf(node);
+        return index < 0 ? null : (NodeInfo) nodeInfos[index];
+    }
+
+    @Override
+    public int getNodesCount() {
+        return nodeCodes.length;
+    }
+
+    @Override
+    public int getEdgesCount() {
+        return successors.length;
+    }
+
+    @Override
+    public Collection<Long> getBeginNode() {
+        return beginNodes;
+    }
+
+    @Override
+    public Collection<Long> getEndNode() {
+        return endNodes;
+    }
+
+    @Override
+    public Set<Long> getPreviousNodes(Long node) {
+        int index = indexOf(node);
+        if (index < 0) {
+            return Collections.emptySet();
+        }
+        return new NodeIndexSet(predecessors, predecessorOffsets[index], predecessorOffsets[index + 1]);
+    }
+
+    @Override
+    public Set<Long> getSubsequentNodes(Long node) {
+        int index = indexOf(node);
+        if (index < 0) {
+            return Collections.emptySet();
+        }
+        return new NodeIndexSet(successors, successorOffsets[index], successorOffsets[index + 1]);
+    }
+
+    @Override
+    public int getIndegree(Long node) {
+        int index = indexOf(node);
+        return index < 0 ? 0 : predecessorOffsets[index + 1] - predecessorOffsets[index];
+    }
+
+    @Override
+    public boolean hasCycle() {
+        return topologicalOrder.length != nodeCodes.length;
+    }
+
+    @Override
+    public List<Long> topologicalSort() throws Exception {
+        if (hasCycle()) {
+            throw new Exception("serious error: graph has cycle ! ");
+        }
+        List<Long> result = new ArrayList<>(topologicalOrder.length);
+        for (int index : topologicalOrder) {
+            result.add(nodeCodes[index]);
+        }
+        return result;
+    }
+
+    @Override
+    public Set<Long> getAllNodesList() {
+        return new NodeCodeSet();
+    }
+
+    /**
+     * Whether the toNode can be reached from the fromNode through one or more edges.
+     */
+    public boolean isReachable(Long fromNode, Long toNode) {
+        int fromIndex = indexOf(fromNode);
+        int toIndex = indexOf(toNode);
+        if (fromIndex < 0 || toIndex < 0) {
+            return false;
+        }
+        long[] reachableNodes = getReachability()[fromIndex];
+        return (reachableNodes[toIndex >>> 6] & (1L << toIndex)) != 0;
+    }
+
+    private long[][] getReachability() {
+        long[][] result = reachability;
+        if (result == null) {
+            synchronized (this) {
+                result = reachability;
+                if (result == null) {
+                    result = computeReachability();
+                    reachability = result;
+                }
+            }
+        }
+        return result;
+    }
+
+    private long[][] computeReachability() {
+        int words = (nodeCodes.length + 63) >>> 6;
+        long[][] result = new long[nodeCodes.length][words];
+        if (hasCycle()) {
+            for (int index = 0; index < nodeCodes.length; index++) {
+                traverseReachableNodes(index, result[index]);
+            }
+            return result;
+        }
+        // Visit the nodes in the reversed topological order, so the successors are computed before their predecessors
+        for (int i = topologicalOrder.length - 1; i >= 0; i--) {
+            int index = topologicalOrder[i];
+            long[] reachableNodes = result[index];
+            for (int j = successorOffsets[index]; j < successorOffsets[index + 1]; j++) {
+                int successor = successors[j];
+                reachableNodes[successor >>> 6] |= 1L << successor;
+                long[] successorReachableNodes = result[successor];
+                for (int w = 0; w < words; w++) {
+                    reachableNodes[w] |= successorReachableNodes[w];
+                }
+            }
+        }
+        return result;
+    }
+
+    private void traverseReachableNodes(int fromIndex, long[] reachableNodes) {
+        int[] stack = new int[nodeCodes.length];
+        int top = 0;
+        stack[top++] = fromIndex;
+        while (top > 0) {
+            int index = stack[--top];
+            for (int j = successorOffsets[index]; j < successorOffsets[index + 1]; j++) {
+                int successor = successors[j];
+                if ((reachableNodes[successor >>> 6] & (1L << successor)) == 0) {
+                    reachableNodes[successor >>> 6] |= 1L << successor;
+                    stack[top++] = successor;
+                }
+            }
+        }
+    }
+
+    /**
+     * Kahn's algorithm, the result doesn't contain the nodes in the cycles.
+     */
+    private int[] computeTopologicalOrder() {
+        int nodeCount = nodeCodes.length;
+        int[] inDegrees = new int[nodeCount];
+        int[] order = new int[nodeCount];
+        int tail = 0;
+        for (int i = 0; i < nodeCount; i++) {
+            inDegrees[i] = predecessorOffsets[i + 1] - predecessorOffsets[i];
+            if (inDegrees[i] == 0) {
+                order[tail++] = i;
+            }
+        }
+        for (int head = 0; head < tail; head++) {
+            int index = order[head];
+            for (int j = successorOffsets[index]; j < successorOffsets[index + 1]; j++) {
+                if (--inDegrees[successors[j]] == 0) {
+                    order[tail++] = successors[j];
+                }
+            }
+        }
+        return tail == nodeCount ? order : Arrays.copyOf(order, tail);
+    }
+
+    private int indexOf(Long node) {
+        if (node == null) {
+            return -1;
+        }
+        return Arrays.binarySearch(nodeCodes, node);
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder builder = new StringBuilder("FrozenDAG{nodes=").append(Arrays.toString(nodeCodes))
+                .append(", edges=[");
+        for (int i = 0; i < nodeCodes.length; i++) {
+            for (int j = successorOffsets[i]; j < successorOffsets[i + 1]; j++) {
+                builder.append(nodeCodes[i]).append("->").append(nodeCodes[successors[j]]).append(", ");
+            }
+        }
+        return builder.append("]}").toString();
+    }
+
+    /**
+     * The read-only view of the node codes of the sorted node indexes in the range [from, to) of the given array.
+     */
+    private class NodeIndexSet extends AbstractSet<Long> {
+
+        private final int[] nodeIndexes;
+
+        private final int from;
+
+        private final int to;
+
+        private NodeIndexSet(int[] nodeIndexes, int from, int to) {
+            this.nodeIndexes = nodeIndexes;
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        public boolean contains(Object o) {
+            if (!(o instanceof Long)) {
+                return false;
+            }
+            int index = indexOf((Long) o);
+            return index >= 0 && Arrays.binarySearch(nodeIndexes, from, to, index) >= 0;
+        }
+
+        @Override
+        public Iterator<Long> iterator() {
+            return new Iterator<Long>() {
+
+                private int cursor = from;
+
+                @Override
+                public boolean hasNext() {
+                    return cursor < to;
+                }
+
+                @Override
+                public Long next() {
+                    if (cursor >= to) {
+                        throw new NoSuchElementException();
+                    }
+                    return nodeCodes[nodeIndexes[cursor++]];
+                }
+            };
+        }
+
+        @Override
+        public int size() {
+            return to - from;
+        }
+    }
+
+    /**
+     * The read-only view of all the node codes.
+     */
+    private class NodeCodeSet extends AbstractSet<Long> {
+
+        @Override
+        public boolean contains(Object o) {
+            return o instanceof Long && indexOf((Long) o) >= 0;
+        }
+
+        @Override
+        public Iterator<Long> iterator() {
+            return new Iterator<Long>() {
+
+                private int cursor;
+
+                @Override
+                public boolean hasNext() {
+                    return cursor < nodeCodes.length;
+                }
+
+                @Override
+                public Long next() {
+                    if (cursor >= nodeCodes.length) {
+                        throw new NoSuchElementException();
+                    }
+                    return nodeCodes[cursor++];
+                }
+            };
+        }
+
+        @Override
+        public int size() {
+            return nodeCodes.length;
+        }
+    }
+}
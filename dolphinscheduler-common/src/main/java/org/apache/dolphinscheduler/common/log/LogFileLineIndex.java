@@ -0,0 +1,215 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.dolphinscheduler.common.log;
+
+import java.io.BufferedInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * A sparse line offset index of a log file, the byte offset of every {@link #INDEX_INTERVAL} lines is recorded, so a
+ * page of lines can be read by seeking to the nearest indexed line rather than reading from the start of the file.
+ * <p>
+ * The log files are append only, so the index is extended lazily, only as far as the requested page, by scanning the
+ * bytes after the indexed length, if the file becomes smaller than the indexed length, the index will be rebuilt.
+ * The lines are separated by {@code \n}, and the trailing {@code \r} of a line is removed.
+ */
+public class LogFileLineIndex {
+
+    static final int INDEX_INTERVAL = 1000;
+
+    private static final int SCAN_BUFFER_SIZE = 64 * 1024;
+
+    private final Path filePath;
+
+    /**
+     * lineOffsets[i] is the byte offset of the line i * INDEX_INTERVAL.
+     */
+    private long[] lineOffsets = new long[16];
+
+    private int lineOffsetsSize;
+
+    /**
+     * The bytes which have been scanned.
+     */
+    private long indexedLength;
+
+    /**
+     * The number of the complete lines in the scanned bytes.
+     */
+    private long indexedLines;
+
+    public LogFileLineIndex(Path filePath) {
+        this.filePath = filePath;
+        reset();
+    }
+
+    /**
+     * Read at most limit lines after skipping the given number of lines.
+     */
+    public synchronized List<String> readLines(long skipLines, int limit) throws IOException {
+        if (skipLines < 0 || limit <= 0) {
+            return Collections.emptyList();
+        }
+        try (FileChannel fileChannel = FileChannel.open(filePath, StandardOpenOption.READ)) {
+            updateIndex(fileChannel, skipLines / INDEX_INTERVAL);
+            int indexPosition = (int) Math.min(skipLines / INDEX_INTERVAL, lineOffsetsSize - 1);
+            return readLines(fileChannel, lineOffsets[indexPosition], (long) indexPosition * INDEX_INTERVAL,
+                    skipLines, limit);
+        }
+    }
+
+    /**
+     * Read the last limit lines of the file, the file is scanned backward from the end, so the index is not used.
+     */
+    public List<String> readLastLines(int limit) throws IOException {
+        if (limit <= 0) {
+            return Collections.emptyList();
+        }
+        try (FileChannel fileChannel = FileChannel.open(filePath, StandardOpenOption.READ)) {
+            long fileLength = fileChannel.size();
+            // The line separator at the end of the file doesn't start a new line
+            long position = fileLength - 1;
+            long startOffset = 0;
+            int lineSeparators = 0;
+            ByteBuffer buffer = ByteBuffer.allocate(SCAN_BUFFER_SIZE);
+            while (position > 0 && lineSeparators < limit) {
+                int readBytes = (int) Math.min(SCAN_BUFFER_SIZE, position);
+                buffer.clear();
+                buffer.limit(readBytes);
+                long bufferOffset = position - readBytes;
+                while (buffer.hasRemaining()) {
+                    if (fileChannel.read(buffer, bufferOffset + buffer.position()) < 0) {
+                        throw new IOException("The file: " + filePath + " is truncated while reading");
+                    }
+                }
+                byte[] bytes = buffer.array();
+                for (int i = readBytes - 1; i >= 0; i--) {
+                    if (bytes[i] == '\n' && ++lineSeparators == limit) {
+                        startOffset = bufferOffset + i + 1;
+                        break;
+                    }
+                }
+                position = bufferOffset;
+            }
+            return readLines(fileChannel, startOffset, 0, 0, limit);
+        }
+    }
+
+    private List<String> readLines(FileChannel fileChannel,
+                                   long offset,
+                                   long firstLine,
+                                   long skipLines,
+                                   int limit) throws IOException {
+        long currentLine = firstLine;
+        fileChannel.position(offset);
+
+        List<String> lines = new ArrayList<>(Math.min(limit, INDEX_INTERVAL));
+        InputStream inputStream = new BufferedInputStream(Channels.newInputStream(fileChannel), SCAN_BUFFER_SIZE);
+        ByteArrayOutputStream lineBytes = new ByteArrayOutputStream();
+        int b;
+        while (lines.size() < limit && (b = inputStream.read()) != -1) {
+            if (b != '\n') {
+                if (currentLine >= skipLines) {
+                    lineBytes.write(b);
+                }
+                continue;
+            }
+            if (currentLine >= skipLines) {
+                lines.add(toLine(lineBytes));
+            }
+            currentLine++;
+        }
+        // The last line without line separator
+        if (lines.size() < limit && currentLine >= skipLines && lineBytes.size() > 0) {
+            lines.add(toLine(lineBytes));
+        }
+        return lines;
+    }
+
+    /**
+     * Scan the bytes after the indexed length until the offset of the given index position is recorded or the end of
+     * the file is reached.
+     */
+    private void updateIndex(FileChannel fileChannel, long indexPosition) throws IOException {
+        long fileLength = fileChannel.size();
+        if (fileLength < indexedLength) {
+            // The file is rewritten
+            reset();
+        }
+        ByteBuffer buffer = ByteBuffer.allocate(SCAN_BUFFER_SIZE);
+        while (lineOffsetsSize <= indexPosition && indexedLength < fileLength) {
+            buffer.clear();
+            int readBytes = fileChannel.read(buffer, indexedLength);
+            if (readBytes <= 0) {
+                break;
+            }
+            byte[] bytes = buffer.array();
+            for (int i = 0; i < readBytes; i++) {
+                if (bytes[i] != '\n') {
+                    continue;
+                }
+                indexedLines++;
+                if (indexedLines % INDEX_INTERVAL == 0) {
+                    addLineOffset(indexedLength + i + 1);
+                    if (lineOffsetsSize > indexPosition) {
+                        // Stop after the line separator, so the rest bytes are scanned by the next update
+                        readBytes = i + 1;
+                        break;
+                    }
+                }
+            }
+            indexedLength += readBytes;
+        }
+    }
+
+    private void addLineOffset(long offset) {
+        if (lineOffsetsSize == lineOffsets.length) {
+            lineOffsets = Arrays.copyOf(lineOffsets, lineOffsets.length * 2);
+        }
+        lineOffsets[lineOffsetsSize++] = offset;
+    }
+
+    private void reset() {
+        lineOffsetsSize = 0;
+        indexedLength = 0;
+        indexedLines = 0;
+        addLineOffset(0);
+    }
+
+    private static String toLine(ByteArrayOutputStream lineBytes) {
+        byte[] bytes = lineBytes.toByteArray();
+        lineBytes.reset();
+        int length = bytes.length;
+        if (length > 0 && bytes[length - 1] == '\r') {
+            length--;
+        }
+        return new String(bytes, 0, length, StandardCharsets.UTF_8);
+    }
+}
@@ -17,6 +17,7 @@
 
 package org.apache.dolphinscheduler.common.utils;
 
+import org.apache.dolphinscheduler.common.log.LogFileLineIndex;
 import org.apache.dolphinscheduler.common.log.remote.RemoteLogUtils;
 
 import java.io.BufferedReader;
@@ -27,11 +28,9 @@ import java.io.IOException;
 import java.io.InputStream;
 import java.io.InputStreamReader;
 import java.nio.charset.StandardCharsets;
-import java.nio.file.Files;
 import java.nio.file.Paths;
 import java.util.List;
-import java.util.stream.Collectors;
-import java.util.stream.Stream;
+import java.util.concurrent.TimeUnit;
 
 import lombok.extern.slf4j.Slf4j;
 
@@ -39,9 +38,21 @@ import org.slf4j.LoggerFactory;
 
 import ch.qos.logback.classic.LoggerContext;
 
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+
 @Slf4j
 public class LogUtils {
 
+    /**
+     * The line index of the recent viewed log files, so the page query of a large log file doesn't need to read the
+     * file from the beginning.
+     */
+    private static final Cache<String, LogFileLineIndex> LOG_FILE_LINE_INDEX_CACHE = CacheBuilder.newBuilder()
+            .maximumSize(1000)
+            .expireAfterAccess(10, TimeUnit.MINUTES)
+            .build();
+
     public static byte[] getFileContentBytesFromLocal(String filePath) {
         try (
                 InputStream in = new FileInputStream(filePath);
@@ -79,8 +90,25 @@ public class LogUtils {
                                                             int limit) {
         File file = new File(filePath);
         if (file.exists() && file.isFile()) {
-            try (Stream<String> stream = Files.lines(Paths.get(filePath))) {
-                return stream.skip(skipLine).limit(limit).collect(Collectors.toList());
+            try {
+                return getLogFileLineIndex(filePath).readLines(skipLine, limit);
+            } catch (IOException e) {
+                log.error("read file error", e);
+                throw new RuntimeException(String.format("Read file: %s error", filePath), e);
+            }
+        } else {
+            throw new RuntimeException("The file path: " + filePath + " not exists");
+        }
+    }
+
+    /**
+     * Read the last limit lines of the local file.
+     */
+    public static List<String> readLastPartFileContentFromLocal(String filePath, int limit) {
+        File file = new File(filePath);
+        if (file.exists() && file.isFile()) {
+            try {
+                return getLogFileLineIndex(filePath).readLastLines(limit);
             } catch (IOException e) {
                 log.error("read file error", e);
                 throw new RuntimeException(String.format("Read file: %s error", filePath), e);
@@ -90,6 +118,11 @@ public class LogUtils {
         }
     }
 
+    private static LogFileLineIndex getLogFileLineIndex(String filePath) {
+        return LOG_FILE_LINE_INDEX_CACHE.asMap().computeIfAbsent(filePath,
+                path -> new LogFileLineIndex(Paths.get(path)));
+    }
+
     public static List<String> readPartFileContentFromRemote(String filePath,
                                                              int skipLine,
                                                              int limit) {
@@ -110,6 +143,22 @@ public class LogUtils {
         return readPartFileContentFromLocal(filePath, skipLine, limit);
     }
 
+    public static List<String> readLastPartFileContentFromRemote(String filePath, int limit) {
+        RemoteLogUtils.getRemoteLog(filePath);
+        return readLastPartFileContentFromLocal(filePath, limit);
+    }
+
+    public static List<String> readLastPartFileContent(String filePath, int limit) {
+        File file = new File(filePath);
+        if (file.exists()) {
+            return readLastPartFileContentFromLocal(filePath, limit);
+        }
+        if (RemoteLogUtils.isRemoteLoggingEnable()) {
+            return readLastPartFileContentFromRemote(filePath, limit);
+        }
+        return readLastPartFileContentFromLocal(filePath, limit);
+    }
+
     public static String readWholeFileContentFromRemote(String filePath) {
         RemoteLogUtils.getRemoteLog(filePath);
         return LogUtils.readWholeFileContentFromLocal(filePath);
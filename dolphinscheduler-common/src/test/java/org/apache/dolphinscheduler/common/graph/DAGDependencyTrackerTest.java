@@ -0,0 +1,94 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.dolphinscheduler.common.graph;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class DAGDependencyTrackerTest {
+
+    private DAG<Long, String, String> dag;
+
+    @BeforeEach
+    void setUp() {
+        // 1->4, 2->4, 3->4, 4->5, 3 is forbidden
+        dag = new DAG<>();
+        for (long i = 1; i <= 5; ++i) {
+            dag.addNode(i, i == 3 ? "forbidden" : "v(" + i + ")");
+        }
+        dag.addEdge(1L, 4L);
+        dag.addEdge(2L, 4L);
+        dag.addEdge(3L, 4L);
+        dag.addEdge(4L, 5L);
+    }
+
+    private DAGDependencyTracker<Long> newTracker() {
+        return new DAGDependencyTracker<>(dag, node -> "forbidden".equals(dag.getNode(node)));
+    }
+
+    @Test
+    void testInitialCount() {
+        DAGDependencyTracker<Long> tracker = newTracker();
+        Assertions.assertTrue(tracker.isAllPreviousNodesSatisfied(1L));
+        Assertions.assertEquals(2, tracker.getUnsatisfiedPreviousNodeCount(4L));
+        Assertions.assertEquals(1, tracker.getUnsatisfiedPreviousNodeCount(5L));
+        // the node not in the dag has no previous nodes
+        Assertions.assertTrue(tracker.isAllPreviousNodesSatisfied(6L));
+    }
+
+    @Test
+    void testMarkCompleteAndSkipped() {
+        DAGDependencyTracker<Long> tracker = newTracker();
+        tracker.markComplete(1L);
+        // mark the same node again should not change the count
+        tracker.markComplete(1L);
+        Assertions.assertEquals(1, tracker.getUnsatisfiedPreviousNodeCount(4L));
+
+        tracker.markSkipped(2L);
+        Assertions.assertTrue(tracker.isAllPreviousNodesSatisfied(4L));
+        Assertions.assertFalse(tracker.isAllPreviousNodesSatisfied(5L));
+
+        // the skipped node is still satisfied after complete
+        tracker.markComplete(2L);
+        tracker.unmarkComplete(2L);
+        Assertions.assertTrue(tracker.isAllPreviousNodesSatisfied(4L));
+    }
+
+    @Test
+    void testUnmarkAndClearComplete() {
+        DAGDependencyTracker<Long> tracker = newTracker();
+        tracker.markComplete(1L);
+        tracker.markComplete(2L);
+        tracker.markComplete(4L);
+        Assertions.assertTrue(tracker.isAllPreviousNodesSatisfied(4L));
+        Assertions.assertTrue(tracker.isAllPreviousNodesSatisfied(5L));
+
+        tracker.unmarkComplete(2L);
+        Assertions.assertEquals(1, tracker.getUnsatisfiedPreviousNodeCount(4L));
+        // unmark the node which is not complete should not change the count
+        tracker.unmarkComplete(2L);
+        tracker.unmarkComplete(6L);
+        Assertions.assertEquals(1, tracker.getUnsatisfiedPreviousNodeCount(4L));
+
+        tracker.clearComplete();
+        Assertions.assertEquals(2, tracker.getUnsatisfiedPreviousNodeCount(4L));
+        Assertions.assertEquals(1, tracker.getUnsatisfiedPreviousNodeCount(5L));
+    }
+
+}
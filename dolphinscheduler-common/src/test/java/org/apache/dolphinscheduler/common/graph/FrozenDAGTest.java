@@ -0,0 +1,90 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.dolphinscheduler.common.graph;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class FrozenDAGTest {
+
+    private DAG<Long, String, String> dag;
+
+    private FrozenDAG<String, String> frozenDAG;
+
+    @BeforeEach
+    void setUp() {
+        // 1->2, 2->5, 3->5, 4->6, 5->6, 6->7
+        dag = new DAG<>();
+        for (long i = 1; i <= 7; ++i) {
+            dag.addNode(i, "v(" + i + ")");
+        }
+        dag.addEdge(1L, 2L);
+        dag.addEdge(2L, 5L);
+        dag.addEdge(3L, 5L);
+        dag.addEdge(4L, 6L);
+        dag.addEdge(5L, 6L);
+        dag.addEdge(6L, 7L);
+        frozenDAG = FrozenDAG.copyOf(dag);
+    }
+
+    @Test
+    void testReadNodesAndEdges() {
+        Assertions.assertEquals(7, frozenDAG.getNodesCount());
+        Assertions.assertEquals(6, frozenDAG.getEdgesCount());
+        Assertions.assertEquals(dag.getAllNodesList(), frozenDAG.getAllNodesList());
+        Assertions.assertEquals("v(5)", frozenDAG.getNode(5L));
+        Assertions.assertNull(frozenDAG.getNode(8L));
+        Assertions.assertTrue(frozenDAG.containsNode(1L));
+        Assertions.assertFalse(frozenDAG.containsNode(null));
+        Assertions.assertTrue(frozenDAG.containsEdge(2L, 5L));
+        Assertions.assertFalse(frozenDAG.containsEdge(5L, 2L));
+
+        Assertions.assertEquals(new HashSet<>(Arrays.asList(2L, 3L)), frozenDAG.getPreviousNodes(5L));
+        Assertions.assertEquals(Collections.singleton(6L), frozenDAG.getSubsequentNodes(5L));
+        Assertions.assertEquals(Collections.emptySet(), frozenDAG.getSubsequentNodes(7L));
+        Assertions.assertEquals(Collections.emptySet(), frozenDAG.getSubsequentNodes(8L));
+        Assertions.assertEquals(2, frozenDAG.getIndegree(6L));
+
+        Assertions.assertEquals(new HashSet<>(dag.getBeginNode()), new HashSet<>(frozenDAG.getBeginNode()));
+        Assertions.assertEquals(new HashSet<>(dag.getEndNode()), new HashSet<>(frozenDAG.getEndNode()));
+    }
+
+    @Test
+    void testTopologicalSortAndReachability() throws Exception {
+        Assertions.assertFalse(frozenDAG.hasCycle());
+        Assertions.assertEquals(Arrays.asList(1L, 3L, 4L, 2L, 5L, 6L, 7L), frozenDAG.topologicalSort());
+
+        Assertions.assertTrue(frozenDAG.isReachable(1L, 7L));
+        Assertions.assertTrue(frozenDAG.isReachable(3L, 6L));
+        Assertions.assertFalse(frozenDAG.isReachable(4L, 5L));
+        Assertions.assertFalse(frozenDAG.isReachable(7L, 1L));
+        Assertions.assertFalse(frozenDAG.isReachable(1L, 1L));
+    }
+
+    @Test
+    void testModifyFrozenDAG() {
+        Assertions.assertThrows(UnsupportedOperationException.class, () -> frozenDAG.addNode(8L, "v(8)"));
+        Assertions.assertThrows(UnsupportedOperationException.class, () -> frozenDAG.addEdge(1L, 3L));
+        Assertions.assertSame(frozenDAG, FrozenDAG.copyOf(frozenDAG));
+    }
+}
@@ -0,0 +1,120 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.dolphinscheduler.common.log;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+class LogFileLineIndexTest {
+
+    @TempDir
+    Path tempDir;
+
+    @Test
+    void testReadLines() throws IOException {
+        Path logFile = tempDir.resolve("task.log");
+        writeLines(logFile, 0, 2500);
+        LogFileLineIndex logFileLineIndex = new LogFileLineIndex(logFile);
+
+        Assertions.assertEquals(Arrays.asList("line-0", "line-1"), logFileLineIndex.readLines(0, 2));
+        Assertions.assertEquals(expectedLines(999, 1003), logFileLineIndex.readLines(999, 4));
+        Assertions.assertEquals(expectedLines(2000, 2500), logFileLineIndex.readLines(2000, 1000));
+        Assertions.assertEquals(Collections.emptyList(), logFileLineIndex.readLines(2500, 10));
+        Assertions.assertEquals(Collections.emptyList(), logFileLineIndex.readLines(10000, 10));
+    }
+
+    @Test
+    void testReadAppendedLines() throws IOException {
+        Path logFile = tempDir.resolve("task.log");
+        writeLines(logFile, 0, 1500);
+        LogFileLineIndex logFileLineIndex = new LogFileLineIndex(logFile);
+        Assertions.assertEquals(expectedLines(1490, 1500), logFileLineIndex.readLastLines(10));
+
+        writeLines(logFile, 1500, 3200);
+        Files.write(logFile, "last line without separator".getBytes(StandardCharsets.UTF_8),
+                StandardOpenOption.APPEND);
+        Assertions.assertEquals(expectedLines(3000, 3002), logFileLineIndex.readLines(3000, 2));
+        Assertions.assertEquals(Arrays.asList("line-3199", "last line without separator"),
+                logFileLineIndex.readLastLines(2));
+        Assertions.assertEquals(expectedLines(3190, 3200), logFileLineIndex.readLines(3190, 10));
+    }
+
+    @Test
+    void testExtendIndexLazily() throws IOException {
+        Path logFile = tempDir.resolve("task.log");
+        writeLines(logFile, 0, 5500);
+        LogFileLineIndex logFileLineIndex = new LogFileLineIndex(logFile);
+
+        Assertions.assertEquals(expectedLines(0, 2), logFileLineIndex.readLines(0, 2));
+        Assertions.assertEquals(expectedLines(2999, 3001), logFileLineIndex.readLines(2999, 2));
+        Assertions.assertEquals(expectedLines(1000, 1001), logFileLineIndex.readLines(1000, 1));
+        Assertions.assertEquals(expectedLines(5000, 5500), logFileLineIndex.readLines(5000, 1000));
+        Assertions.assertEquals(expectedLines(4000, 4001), logFileLineIndex.readLines(4000, 1));
+    }
+
+    @Test
+    void testReadLastLines() throws IOException {
+        Path logFile = tempDir.resolve("task.log");
+        Files.write(logFile, new byte[0]);
+        LogFileLineIndex logFileLineIndex = new LogFileLineIndex(logFile);
+        Assertions.assertEquals(Collections.emptyList(), logFileLineIndex.readLastLines(10));
+
+        writeLines(logFile, 0, 3);
+        Assertions.assertEquals(expectedLines(0, 3), logFileLineIndex.readLastLines(10));
+
+        Files.write(logFile, "a\r\n\r\nb".getBytes(StandardCharsets.UTF_8), StandardOpenOption.TRUNCATE_EXISTING);
+        Assertions.assertEquals(Arrays.asList("", "b"), logFileLineIndex.readLastLines(2));
+
+        // The lines cross the scan buffer
+        Files.write(logFile, new byte[0], StandardOpenOption.TRUNCATE_EXISTING);
+        writeLines(logFile, 0, 20000);
+        Assertions.assertEquals(expectedLines(10000, 20000), logFileLineIndex.readLastLines(10000));
+    }
+
+    @Test
+    void testReadRewrittenFile() throws IOException {
+        Path logFile = tempDir.resolve("task.log");
+        writeLines(logFile, 0, 2000);
+        LogFileLineIndex logFileLineIndex = new LogFileLineIndex(logFile);
+        Assertions.assertEquals(expectedLines(1500, 1501), logFileLineIndex.readLines(1500, 1));
+
+        Files.write(logFile, "a\r\nb\r\n".getBytes(StandardCharsets.UTF_8), StandardOpenOption.TRUNCATE_EXISTING);
+        Assertions.assertEquals(Arrays.asList("a", "b"), logFileLineIndex.readLines(0, 10));
+    }
+
+    private void writeLines(Path logFile, int from, int to) throws IOException {
+        Files.write(logFile, expectedLines(from, to), StandardCharsets.UTF_8, StandardOpenOption.CREATE,
+                StandardOpenOption.APPEND);
+    }
+
+    private List<String> expectedLines(int from, int to) {
+        return IntStream.range(from, to).mapToObj(i -> "line-" + i).collect(Collectors.toList());
+    }
+}
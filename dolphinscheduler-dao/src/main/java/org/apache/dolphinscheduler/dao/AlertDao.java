@@ -273,8 +273,11 @@ public class AlertDao {
      * List pending alerts which id > minAlertId and status = {@link AlertStatus#WAIT_EXECUTION} order by id asc.
      */
     public List<Alert> listPendingAlerts(int minAlertId) {
-        return alertMapper.listingAlertByStatus(minAlertId, AlertStatus.WAIT_EXECUTION.getCode(),
-                QUERY_ALERT_THRESHOLD);
+        return listPendingAlerts(minAlertId, QUERY_ALERT_THRESHOLD);
+    }
+
+    public List<Alert> listPendingAlerts(int minAlertId, int limit) {
+        return alertMapper.listingAlertByStatus(minAlertId, AlertStatus.WAIT_EXECUTION.getCode(), limit);
     }
 
     public List<Alert> listAlerts(int processInstanceId) {
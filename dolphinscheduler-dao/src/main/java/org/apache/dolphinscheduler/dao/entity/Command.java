@@ -113,6 +113,12 @@ public class Command {
     @TableField("test_flag")
     private int testFlag;
 
+    /**
+     * The persisted slot of the command, assigned when inserting, used to partition the commands among masters
+     */
+    @TableField("slot")
+    private int slot;
+
     public Command(
                    CommandType commandType,
                    TaskDependType taskDependType,
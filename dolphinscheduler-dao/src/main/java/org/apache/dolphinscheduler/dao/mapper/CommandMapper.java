@@ -22,6 +22,7 @@ import org.apache.dolphinscheduler.dao.entity.CommandCount;
 
 import org.apache.ibatis.annotations.Param;
 
+import java.util.Collection;
 import java.util.Date;
 import java.util.List;
 
@@ -57,5 +58,17 @@ public interface CommandMapper extends BaseMapper<Command> {
                                        @Param("idStep") int idStep,
                                        @Param("fetchNumber") int fetchNum);
 
+    List<Command> queryCommandBySlots(@Param("slots") Collection<Integer> slots,
+                                      @Param("fetchNumber") int fetchNum);
+
     void deleteByWorkflowInstanceIds(@Param("workflowInstanceIds") List<Integer> workflowInstanceIds);
+
+    /**
+     * Insert the commands in one statement, the generated ids will be set back to the commands, the null fields will
+     * use the column default value, the same as {@link #insert(Object)}.
+     *
+     * @param commands commands
+     * @return insert count
+     */
+    int batchInsert(@Param("commands") Collection<Command> commands);
 }
@@ -20,6 +20,7 @@ package org.apache.dolphinscheduler.dao.mapper;
 import org.apache.dolphinscheduler.common.enums.WorkflowExecutionStatus;
 import org.apache.dolphinscheduler.dao.entity.ExecuteStatusCount;
 import org.apache.dolphinscheduler.dao.entity.ProcessInstance;
+import org.apache.dolphinscheduler.dao.entity.ProcessInstanceStateCount;
 import org.apache.dolphinscheduler.dao.model.WorkflowInstanceStatusCountDto;
 
 import org.apache.ibatis.annotations.Param;
@@ -130,6 +131,16 @@ public interface ProcessInstanceMapper extends BaseMapper<ProcessInstance> {
     int setFailoverByHostAndStateArray(@Param("host") String host,
                                        @Param("states") int[] stateArray);
 
+    /**
+     * update the host of the process instances in the given ids
+     *
+     * @param ids  process instance ids
+     * @param host host
+     * @return update result
+     */
+    int updateHostByIds(@Param("ids") Collection<Integer> ids,
+                        @Param("host") String host);
+
     /**
      * update process instance by state
      *
@@ -320,6 +331,17 @@ public interface ProcessInstanceMapper extends BaseMapper<ProcessInstance> {
                                                   @Param("model") Integer model,
                                                   @Param("projectIds") Set<Integer> projectIds);
 
+    /**
+     * Count the workflow instances which start time is in [startTime, endTime), group by the workflow definition and
+     * the state, the sub workflow instances are excluded.
+     *
+     * @param startTime the start time, inclusive
+     * @param endTime   the end time, exclusive
+     * @return the state count of each workflow definition
+     */
+    List<ProcessInstanceStateCount> countInstanceStateByDefinition(@Param("startTime") Date startTime,
+                                                                   @Param("endTime") Date endTime);
+
     /**
      * query process list by triggerCode
      *
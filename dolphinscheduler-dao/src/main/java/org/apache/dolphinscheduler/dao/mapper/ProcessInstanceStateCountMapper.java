@@ -0,0 +1,45 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.dolphinscheduler.dao.mapper;
+
+import org.apache.dolphinscheduler.dao.entity.ExecuteStatusCount;
+import org.apache.dolphinscheduler.dao.entity.ProcessInstanceStateCount;
+
+import org.apache.ibatis.annotations.Param;
+
+import java.util.Collection;
+import java.util.Date;
+import java.util.List;
+
+import com.baomidou.mybatisplus.core.mapper.BaseMapper;
+
+public interface ProcessInstanceStateCountMapper extends BaseMapper<ProcessInstanceStateCount> {
+
+    int batchInsert(@Param("stateCounts") List<ProcessInstanceStateCount> stateCounts);
+
+    int deleteByStatTime(@Param("statTime") Date statTime);
+
+    /**
+     * Sum the rollup of the hour buckets in [startTime, endTime] group by the state, the filters are ignored if null.
+     */
+    List<ExecuteStatusCount> countInstanceState(@Param("startTime") Date startTime,
+                                                @Param("endTime") Date endTime,
+                                                @Param("projectCodes") Collection<Long> projectCodes,
+                                                @Param("projectCode") Long projectCode,
+                                                @Param("workflowCode") Long workflowCode);
+}
@@ -21,6 +21,7 @@ import org.apache.dolphinscheduler.common.enums.Flag;
 import org.apache.dolphinscheduler.common.enums.TaskExecuteType;
 import org.apache.dolphinscheduler.dao.entity.ExecuteStatusCount;
 import org.apache.dolphinscheduler.dao.entity.TaskInstance;
+import org.apache.dolphinscheduler.dao.entity.TaskInstanceStateCount;
 import org.apache.dolphinscheduler.dao.model.TaskInstanceStatusCountDto;
 import org.apache.dolphinscheduler.plugin.task.api.enums.TaskExecutionStatus;
 
@@ -81,6 +82,17 @@ public interface TaskInstanceMapper extends BaseMapper<TaskInstance> {
                                                                   @Param("endTime") Date endTime,
                                                                   @Param("projectIds") Set<Integer> projectIds);
 
+    /**
+     * Count the task instances which submit time is in [startTime, endTime), group by the task definition and the
+     * state.
+     *
+     * @param startTime the start time, inclusive
+     * @param endTime   the end time, exclusive
+     * @return the state count of each task definition
+     */
+    List<TaskInstanceStateCount> countTaskInstanceStateByTaskCode(@Param("startTime") Date startTime,
+                                                                  @Param("endTime") Date endTime);
+
     /**
      * Statistics task instance group by given project codes list by submit time
      * <p>
@@ -24,6 +24,7 @@ import org.apache.dolphinscheduler.dao.entity.WorkFlowLineage;
 
 import org.apache.ibatis.annotations.Param;
 
+import java.util.Collection;
 import java.util.List;
 
 public interface WorkFlowLineageMapper {
@@ -56,22 +57,6 @@ public interface WorkFlowLineageMapper {
      */
     List<WorkFlowLineage> queryWorkFlowLineageByProcessDefinitionCodes(@Param("workFlowCodes") List<Long> workFlowCodes);
 
-    /**
-     * queryWorkFlowLineageByCode
-     *
-     * @param processLineages processLineages
-     * @return WorkFlowLineage list
-     */
-    List<WorkFlowLineage> queryWorkFlowLineageByLineage(@Param("processLineages") List<ProcessLineage> processLineages);
-
-    /**
-     * queryProcessLineage
-     *
-     * @param projectCode projectCode
-     * @return ProcessLineage list
-     */
-    List<ProcessLineage> queryProcessLineage(@Param("projectCode") long projectCode);
-
     /**
      * queryCodeRelation
      *
@@ -89,22 +74,6 @@ public interface WorkFlowLineageMapper {
      */
     List<DependentProcessDefinition> queryDependentProcessDefinitionByProcessDefinitionCode(@Param("code") long code);
 
-    /**
-     * query downstream work flow lineage by process definition code
-     *
-     * @return dependent process definition
-     */
-    List<WorkFlowLineage> queryDownstreamLineageByProcessDefinitionCode(@Param("code") long code,
-                                                                        @Param("taskType") String taskType);
-
-    /**
-     * query upstream work flow dependent task params by process definition code
-     *
-     * @return task_params
-     */
-    List<DependentProcessDefinition> queryUpstreamDependentParamsByProcessDefinitionCode(@Param("code") long code,
-                                                                                         @Param("taskType") String taskType);
-
     /**
      * Query all tasks type sub process depend on process definition.
      *
@@ -118,31 +87,26 @@ public interface WorkFlowLineageMapper {
                                                        @Param("processDefinitionCode") long processDefinitionCode);
 
     /**
-     * Query all tasks type dependent depend on process definition.
+     * Query the work flow lineage of all the process definitions in the project.
      *
-     * Query all downstream tasks from task type dependent, method `queryTaskDepOnTask` is a proper subset of
-     * current method `queryTaskDepOnProcess`. Which mean with the same parameter processDefinitionCode, all tasks in
-     * `queryTaskDepOnTask` are in the result of method `queryTaskDepOnProcess`.
+     * @param projectCode projectCode
+     * @return WorkFlowLineage list
+     */
+    List<WorkFlowLineage> queryWorkFlowLineageByProjectCode(@Param("projectCode") long projectCode);
+
+    /**
+     * Query the code, version, project code and process definition code of all the dependent tasks, the task params
+     * are not returned so it is cheap to check which dependent tasks are changed.
      *
-     * @param processDefinitionCode Process definition code want to query tasks dependence
-     * @param taskCode Task code want to query tasks dependence
      * @return List of TaskMainInfo
      */
-    List<TaskMainInfo> queryTaskDependentOnProcess(@Param("processDefinitionCode") long processDefinitionCode,
-                                                   @Param("taskCode") long taskCode);
+    List<TaskMainInfo> queryDependentTaskVersions();
 
     /**
-     * Query all tasks depend on task, only downstream task support currently(from dependent task type).
-     *
-     * In case of dependent task type, method `queryTaskDepOnTask` is a proper subset of `queryTaskDepOnProcess`. Which
-     * mean with the same processDefinitionCode, all tasks in `queryTaskDepOnTask` are in method `queryTaskDepOnProcess`.
+     * Query the tasks with their process definitions by task codes.
      *
-     * @param projectCode Project code want to query tasks dependence
-     * @param processDefinitionCode Process definition code want to query tasks dependence
-     * @param taskCode Task code want to query tasks dependence
-     * @return dependent process definition
+     * @param taskCodes task codes
+     * @return List of TaskMainInfo
      */
-    List<TaskMainInfo> queryTaskDepOnTask(@Param("projectCode") long projectCode,
-                                          @Param("processDefinitionCode") long processDefinitionCode,
-                                          @Param("taskCode") long taskCode);
+    List<TaskMainInfo> queryTaskMainInfoByTaskCodes(@Param("taskCodes") Collection<Long> taskCodes);
 }
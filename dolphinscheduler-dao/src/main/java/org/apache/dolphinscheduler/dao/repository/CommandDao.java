@@ -19,10 +19,17 @@ package org.apache.dolphinscheduler.dao.repository;
 
 import org.apache.dolphinscheduler.dao.entity.Command;
 
+import java.util.Collection;
 import java.util.List;
 
 public interface CommandDao extends IDao<Command> {
 
+    /**
+     * The total number of the persisted command slots, each command will be assigned to one slot in [0, COMMAND_SLOT_SIZE)
+     * when inserting. Don't change this value, since the slot of the commands in db depends on it.
+     */
+    int COMMAND_SLOT_SIZE = 32;
+
     /**
      * Query command by command id and server slot, return the command which match (commandId / step) %s totalSlot = currentSlotIndex
      *
@@ -36,4 +43,14 @@ public interface CommandDao extends IDao<Command> {
                                        int totalSlot,
                                        int idStep,
                                        int fetchNum);
+
+    /**
+     * Query the commands which belong to the given persisted slots, order by priority and id, each slot is an index range
+     * scan of (slot, process_instance_priority, id), so the cost doesn't grow with the command backlog.
+     *
+     * @param slots    the persisted slots, each slot should be in [0, COMMAND_SLOT_SIZE)
+     * @param fetchNum fetch number
+     * @return command list
+     */
+    List<Command> queryCommandBySlots(Collection<Integer> slots, int fetchNum);
 }
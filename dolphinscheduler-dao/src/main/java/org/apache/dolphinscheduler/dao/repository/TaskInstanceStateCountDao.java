@@ -0,0 +1,50 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.dolphinscheduler.dao.repository;
+
+import org.apache.dolphinscheduler.dao.entity.ExecuteStatusCount;
+import org.apache.dolphinscheduler.dao.entity.TaskInstanceStateCount;
+
+import java.util.Collection;
+import java.util.Date;
+import java.util.List;
+
+public interface TaskInstanceStateCountDao extends IDao<TaskInstanceStateCount> {
+
+    /**
+     * Recompute the rollup of the hour bucket which contains the given time from t_ds_task_instance, the old rollup
+     * of the bucket is replaced in one transaction.
+     *
+     * @return the row count of the new rollup
+     */
+    int rollup(Date statTime);
+
+    /**
+     * Count the task instance states from the rollup, the hour buckets which overlap [startTime, endTime] are summed
+     * up, the filters are ignored if null.
+     * <p>
+     * The buckets are counted as a whole, so the instances started in the hour of the startTime before the startTime,
+     * and in the hour of the endTime after the endTime, are counted as well, up to an hour at each end.
+     */
+    List<ExecuteStatusCount> countTaskInstanceState(Date startTime,
+                                                    Date endTime,
+                                                    Collection<Long> projectCodes,
+                                                    Long projectCode,
+                                                    Long workflowCode,
+                                                    Long taskCode);
+}
@@ -20,15 +20,28 @@ package org.apache.dolphinscheduler.dao.repository.impl;
 import org.apache.dolphinscheduler.dao.entity.Command;
 import org.apache.dolphinscheduler.dao.mapper.CommandMapper;
 import org.apache.dolphinscheduler.dao.repository.BaseDao;
+import org.apache.dolphinscheduler.dao.repository.CommandCreatedNotifier;
 import org.apache.dolphinscheduler.dao.repository.CommandDao;
 
+import org.apache.commons.collections4.CollectionUtils;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
 import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+
+import lombok.NonNull;
 
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Repository;
 
 @Repository
 public class CommandDaoImpl extends BaseDao<Command, CommandMapper> implements CommandDao {
 
+    @Autowired(required = false)
+    private CommandCreatedNotifier commandCreatedNotifier;
+
     public CommandDaoImpl(CommandMapper commandMapper) {
         super(commandMapper);
     }
@@ -38,4 +51,41 @@ public class CommandDaoImpl extends BaseDao<Command, CommandMapper> implements C
         return mybatisMapper.queryCommandByIdSlot(currentSlotIndex, totalSlot, idStep, fetchNum);
     }
 
+    @Override
+    public int insert(@NonNull Command command) {
+        // the slot is assigned randomly, so the commands are distributed evenly among the masters
+        command.setSlot(ThreadLocalRandom.current().nextInt(COMMAND_SLOT_SIZE));
+        int result = super.insert(command);
+        if (result > 0 && commandCreatedNotifier != null) {
+            commandCreatedNotifier.notifyCommandCreated(command);
+        }
+        return result;
+    }
+
+    @Override
+    public void insertBatch(Collection<Command> commands) {
+        if (CollectionUtils.isEmpty(commands)) {
+            return;
+        }
+        for (Command command : commands) {
+            command.setSlot(ThreadLocalRandom.current().nextInt(COMMAND_SLOT_SIZE));
+        }
+        mybatisMapper.batchInsert(commands);
+        if (commandCreatedNotifier != null) {
+            // the notification only carries the latest command id, so notify once with the latest command
+            commands.stream()
+                    .filter(command -> command.getId() != null)
+                    .max(Comparator.comparing(Command::getId))
+                    .ifPresent(commandCreatedNotifier::notifyCommandCreated);
+        }
+    }
+
+    @Override
+    public List<Command> queryCommandBySlots(Collection<Integer> slots, int fetchNum) {
+        if (CollectionUtils.isEmpty(slots)) {
+            return Collections.emptyList();
+        }
+        return mybatisMapper.queryCommandBySlots(slots, fetchNum);
+    }
+
 }
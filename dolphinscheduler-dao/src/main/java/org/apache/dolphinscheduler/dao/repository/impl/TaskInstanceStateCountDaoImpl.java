@@ -0,0 +1,86 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.dolphinscheduler.dao.repository.impl;
+
+import org.apache.dolphinscheduler.common.utils.DateUtils;
+import org.apache.dolphinscheduler.dao.entity.ExecuteStatusCount;
+import org.apache.dolphinscheduler.dao.entity.TaskInstanceStateCount;
+import org.apache.dolphinscheduler.dao.mapper.TaskInstanceMapper;
+import org.apache.dolphinscheduler.dao.mapper.TaskInstanceStateCountMapper;
+import org.apache.dolphinscheduler.dao.repository.BaseDao;
+import org.apache.dolphinscheduler.dao.repository.TaskInstanceStateCountDao;
+
+import java.util.Calendar;
+import java.util.Collection;
+import java.util.Date;
+import java.util.List;
+
+import lombok.NonNull;
+import lombok.extern.slf4j.Slf4j;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.google.common.collect.Lists;
+
+@Slf4j
+@Repository
+public class TaskInstanceStateCountDaoImpl extends BaseDao<TaskInstanceStateCount, TaskInstanceStateCountMapper>
+        implements
+            TaskInstanceStateCountDao {
+
+    private static final int INSERT_BATCH_SIZE = 1000;
+
+    @Autowired
+    private TaskInstanceMapper taskInstanceMapper;
+
+    public TaskInstanceStateCountDaoImpl(@NonNull TaskInstanceStateCountMapper taskInstanceStateCountMapper) {
+        super(taskInstanceStateCountMapper);
+    }
+
+    @Override
+    @Transactional(rollbackFor = Exception.class)
+    public int rollup(Date statTime) {
+        Date bucketStartTime = DateUtils.getStartOfHour(statTime);
+        Date bucketEndTime = DateUtils.add(bucketStartTime, Calendar.HOUR_OF_DAY, 1);
+        List<TaskInstanceStateCount> stateCounts =
+                taskInstanceMapper.countTaskInstanceStateByTaskCode(bucketStartTime, bucketEndTime);
+        Date now = new Date();
+        for (TaskInstanceStateCount stateCount : stateCounts) {
+            stateCount.setStatTime(bucketStartTime);
+            stateCount.setUpdateTime(now);
+        }
+        mybatisMapper.deleteByStatTime(bucketStartTime);
+        for (List<TaskInstanceStateCount> batch : Lists.partition(stateCounts, INSERT_BATCH_SIZE)) {
+            mybatisMapper.batchInsert(batch);
+        }
+        return stateCounts.size();
+    }
+
+    @Override
+    public List<ExecuteStatusCount> countTaskInstanceState(Date startTime,
+                                                           Date endTime,
+                                                           Collection<Long> projectCodes,
+                                                           Long projectCode,
+                                                           Long workflowCode,
+                                                           Long taskCode) {
+        return mybatisMapper.countTaskInstanceState(DateUtils.getStartOfHour(startTime), endTime, projectCodes,
+                projectCode, workflowCode, taskCode);
+    }
+}
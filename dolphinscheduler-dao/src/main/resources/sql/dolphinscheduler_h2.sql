@@ -339,8 +339,10 @@ CREATE TABLE t_ds_command
     process_instance_id        int(11) DEFAULT 0,
     process_definition_version int(11) DEFAULT 0,
     test_flag                  int NULL DEFAULT 0,
+    slot                       int NOT NULL DEFAULT 0,
     PRIMARY KEY (id),
-    KEY                        priority_id_index (process_instance_priority, id)
+    KEY                        priority_id_index (process_instance_priority, id),
+    KEY                        slot_priority_id_index (slot, process_instance_priority, id)
 );
 
 -- ----------------------------
@@ -937,13 +939,49 @@ CREATE TABLE t_ds_task_instance
     cpu_quota               int(11) DEFAULT '-1' NOT NULL,
     memory_max              int(11) DEFAULT '-1' NOT NULL,
     test_flag               int NULL DEFAULT 0,
-    PRIMARY KEY (id)
+    PRIMARY KEY (id),
+    KEY                     idx_submit_time (submit_time)
 );
 
 -- ----------------------------
 -- Records of t_ds_task_instance
 -- ----------------------------
 
+-- ----------------------------
+-- Table structure for t_ds_process_instance_state_count
+-- ----------------------------
+DROP TABLE IF EXISTS t_ds_process_instance_state_count CASCADE;
+CREATE TABLE t_ds_process_instance_state_count
+(
+    id                      int(11) NOT NULL AUTO_INCREMENT,
+    stat_time               datetime   NOT NULL,
+    project_code            bigint(20) NOT NULL,
+    process_definition_code bigint(20) NOT NULL,
+    state                   tinyint(4) NOT NULL,
+    instance_count          int(11) NOT NULL DEFAULT '0',
+    update_time             datetime DEFAULT NULL,
+    PRIMARY KEY (id),
+    UNIQUE KEY process_instance_state_count_unique (stat_time, project_code, process_definition_code, state)
+);
+
+-- ----------------------------
+-- Table structure for t_ds_task_instance_state_count
+-- ----------------------------
+DROP TABLE IF EXISTS t_ds_task_instance_state_count CASCADE;
+CREATE TABLE t_ds_task_instance_state_count
+(
+    id                      int(11) NOT NULL AUTO_INCREMENT,
+    stat_time               datetime   NOT NULL,
+    project_code            bigint(20) NOT NULL,
+    process_definition_code bigint(20) NOT NULL,
+    task_code               bigint(20) NOT NULL,
+    state                   tinyint(4) NOT NULL,
+    instance_count          int(11) NOT NULL DEFAULT '0',
+    update_time             datetime DEFAULT NULL,
+    PRIMARY KEY (id),
+    UNIQUE KEY task_instance_state_count_unique (stat_time, project_code, process_definition_code, task_code, state)
+);
+
 -- ----------------------------
 -- Table structure for t_ds_tenant
 -- ----------------------------
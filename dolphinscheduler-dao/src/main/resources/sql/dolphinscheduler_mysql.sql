@@ -343,8 +343,10 @@ CREATE TABLE `t_ds_command` (
   `environment_code`          bigint(20) DEFAULT '-1' COMMENT 'environment code',
   `dry_run`                   tinyint(4) DEFAULT '0' COMMENT 'dry run flag：0 normal, 1 dry run',
   `test_flag`                 tinyint(4) DEFAULT null COMMENT 'test flag：0 normal, 1 test run',
+  `slot`                      int(11) NOT NULL DEFAULT '0' COMMENT 'command slot, assigned when inserting, used to partition the commands among masters',
   PRIMARY KEY (`id`),
-  KEY `priority_id_index` (`process_instance_priority`,`id`) USING BTREE
+  KEY `priority_id_index` (`process_instance_priority`,`id`) USING BTREE,
+  KEY `slot_priority_id_index` (`slot`,`process_instance_priority`,`id`) USING BTREE
 ) ENGINE=InnoDB AUTO_INCREMENT=1 DEFAULT CHARSET=utf8 COLLATE = utf8_bin;
 
 -- ----------------------------
@@ -931,13 +933,47 @@ CREATE TABLE `t_ds_task_instance` (
   PRIMARY KEY (`id`),
   KEY `process_instance_id` (`process_instance_id`) USING BTREE,
   KEY `idx_code_version` (`task_code`, `task_definition_version`) USING BTREE,
-  KEY `idx_cache_key` (`cache_key`) USING BTREE
+  KEY `idx_cache_key` (`cache_key`) USING BTREE,
+  KEY `idx_submit_time` (`submit_time`) USING BTREE
 ) ENGINE=InnoDB AUTO_INCREMENT=1 DEFAULT CHARSET=utf8 COLLATE = utf8_bin;
 
 -- ----------------------------
 -- Records of t_ds_task_instance
 -- ----------------------------
 
+-- ----------------------------
+-- Table structure for t_ds_process_instance_state_count
+-- ----------------------------
+DROP TABLE IF EXISTS `t_ds_process_instance_state_count`;
+CREATE TABLE `t_ds_process_instance_state_count` (
+  `id` int(11) NOT NULL AUTO_INCREMENT COMMENT 'key',
+  `stat_time` datetime NOT NULL COMMENT 'the start of the hour bucket',
+  `project_code` bigint(20) NOT NULL COMMENT 'project code',
+  `process_definition_code` bigint(20) NOT NULL COMMENT 'process definition code',
+  `state` tinyint(4) NOT NULL COMMENT 'process instance state',
+  `instance_count` int(11) NOT NULL DEFAULT '0' COMMENT 'process instance count',
+  `update_time` datetime DEFAULT NULL COMMENT 'update time',
+  PRIMARY KEY (`id`),
+  UNIQUE KEY `process_instance_state_count_unique` (`stat_time`,`project_code`,`process_definition_code`,`state`)
+) ENGINE=InnoDB AUTO_INCREMENT=1 DEFAULT CHARSET=utf8 COLLATE = utf8_bin;
+
+-- ----------------------------
+-- Table structure for t_ds_task_instance_state_count
+-- ----------------------------
+DROP TABLE IF EXISTS `t_ds_task_instance_state_count`;
+CREATE TABLE `t_ds_task_instance_state_count` (
+  `id` int(11) NOT NULL AUTO_INCREMENT COMMENT 'key',
+  `stat_time` datetime NOT NULL COMMENT 'the start of the hour bucket',
+  `project_code` bigint(20) NOT NULL COMMENT 'project code',
+  `process_definition_code` bigint(20) NOT NULL COMMENT 'process definition code',
+  `task_code` bigint(20) NOT NULL COMMENT 'task definition code',
+  `state` tinyint(4) NOT NULL COMMENT 'task instance state',
+  `instance_count` int(11) NOT NULL DEFAULT '0' COMMENT 'task instance count',
+  `update_time` datetime DEFAULT NULL COMMENT 'update time',
+  PRIMARY KEY (`id`),
+  UNIQUE KEY `task_instance_state_count_unique` (`stat_time`,`project_code`,`process_definition_code`,`task_code`,`state`)
+) ENGINE=InnoDB AUTO_INCREMENT=1 DEFAULT CHARSET=utf8 COLLATE = utf8_bin;
+
 -- ----------------------------
 -- Table structure for t_ds_tenant
 -- ----------------------------
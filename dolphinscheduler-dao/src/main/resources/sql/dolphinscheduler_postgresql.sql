@@ -270,10 +270,12 @@ CREATE TABLE t_ds_command (
   process_instance_id       int DEFAULT 0,
   process_definition_version int DEFAULT 0,
   test_flag                 int DEFAULT NULL ,
+  slot                      int NOT NULL DEFAULT 0 ,
   PRIMARY KEY (id)
 ) ;
 
 create index priority_id_index on t_ds_command (process_instance_priority,id);
+create index slot_priority_id_index on t_ds_command (slot,process_instance_priority,id);
 
 --
 -- Table structure for table t_ds_datasource
@@ -836,6 +838,42 @@ CREATE TABLE t_ds_task_instance (
 
 create index idx_task_instance_code_version on t_ds_task_instance (task_code, task_definition_version);
 create index idx_cache_key on t_ds_task_instance (cache_key);
+create index idx_task_instance_submit_time on t_ds_task_instance (submit_time);
+
+--
+-- Table structure for table t_ds_process_instance_state_count
+--
+
+DROP TABLE IF EXISTS t_ds_process_instance_state_count;
+CREATE TABLE t_ds_process_instance_state_count (
+  id                      serial NOT NULL,
+  stat_time               timestamp NOT NULL,
+  project_code            bigint NOT NULL,
+  process_definition_code bigint NOT NULL,
+  state                   int NOT NULL,
+  instance_count          int NOT NULL DEFAULT 0,
+  update_time             timestamp DEFAULT NULL,
+  PRIMARY KEY (id),
+  CONSTRAINT process_instance_state_count_unique UNIQUE (stat_time, project_code, process_definition_code, state)
+);
+
+--
+-- Table structure for table t_ds_task_instance_state_count
+--
+
+DROP TABLE IF EXISTS t_ds_task_instance_state_count;
+CREATE TABLE t_ds_task_instance_state_count (
+  id                      serial NOT NULL,
+  stat_time               timestamp NOT NULL,
+  project_code            bigint NOT NULL,
+  process_definition_code bigint NOT NULL,
+  task_code               bigint NOT NULL,
+  state                   int NOT NULL,
+  instance_count          int NOT NULL DEFAULT 0,
+  update_time             timestamp DEFAULT NULL,
+  PRIMARY KEY (id),
+  CONSTRAINT task_instance_state_count_unique UNIQUE (stat_time, project_code, process_definition_code, task_code, state)
+);
 
 --
 -- Table structure for table t_ds_tenant
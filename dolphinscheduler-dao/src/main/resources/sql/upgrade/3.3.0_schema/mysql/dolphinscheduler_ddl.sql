@@ -0,0 +1,81 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+*/
+
+-- add_t_ds_command_slot
+DROP PROCEDURE if EXISTS add_t_ds_command_slot;
+delimiter d//
+CREATE PROCEDURE add_t_ds_command_slot()
+BEGIN
+   IF NOT EXISTS (SELECT 1 FROM information_schema.COLUMNS
+           WHERE TABLE_NAME='t_ds_command'
+           AND TABLE_SCHEMA=(SELECT DATABASE())
+           AND COLUMN_NAME ='slot')
+   THEN
+ALTER TABLE `t_ds_command`
+    ADD COLUMN `slot` int(11) NOT NULL DEFAULT '0' COMMENT 'command slot, assigned when inserting, used to partition the commands among masters',
+    ADD KEY `slot_priority_id_index` (`slot`,`process_instance_priority`,`id`) USING BTREE;
+END IF;
+END;
+d//
+delimiter ;
+CALL add_t_ds_command_slot;
+DROP PROCEDURE add_t_ds_command_slot;
+
+-- add_t_ds_task_instance_idx_submit_time
+DROP PROCEDURE if EXISTS add_t_ds_task_instance_idx_submit_time;
+delimiter d//
+CREATE PROCEDURE add_t_ds_task_instance_idx_submit_time()
+BEGIN
+   IF NOT EXISTS (SELECT 1 FROM information_schema.STATISTICS
+           WHERE TABLE_NAME='t_ds_task_instance'
+           AND TABLE_SCHEMA=(SELECT DATABASE())
+           AND INDEX_NAME ='idx_submit_time')
+   THEN
+ALTER TABLE `t_ds_task_instance` ADD KEY `idx_submit_time` (`submit_time`) USING BTREE;
+END IF;
+END;
+d//
+delimiter ;
+CALL add_t_ds_task_instance_idx_submit_time;
+DROP PROCEDURE add_t_ds_task_instance_idx_submit_time;
+
+-- create_t_ds_process_instance_state_count
+CREATE TABLE IF NOT EXISTS `t_ds_process_instance_state_count` (
+  `id` int(11) NOT NULL AUTO_INCREMENT COMMENT 'key',
+  `stat_time` datetime NOT NULL COMMENT 'the start of the hour bucket',
+  `project_code` bigint(20) NOT NULL COMMENT 'project code',
+  `process_definition_code` bigint(20) NOT NULL COMMENT 'process definition code',
+  `state` tinyint(4) NOT NULL COMMENT 'process instance state',
+  `instance_count` int(11) NOT NULL DEFAULT '0' COMMENT 'process instance count',
+  `update_time` datetime DEFAULT NULL COMMENT 'update time',
+  PRIMARY KEY (`id`),
+  UNIQUE KEY `process_instance_state_count_unique` (`stat_time`,`project_code`,`process_definition_code`,`state`)
+) ENGINE=InnoDB AUTO_INCREMENT=1 DEFAULT CHARSET=utf8 COLLATE = utf8_bin;
+
+-- create_t_ds_task_instance_state_count
+CREATE TABLE IF NOT EXISTS `t_ds_task_instance_state_count` (
+  `id` int(11) NOT NULL AUTO_INCREMENT COMMENT 'key',
+  `stat_time` datetime NOT NULL COMMENT 'the start of the hour bucket',
+  `project_code` bigint(20) NOT NULL COMMENT 'project code',
+  `process_definition_code` bigint(20) NOT NULL COMMENT 'process definition code',
+  `task_code` bigint(20) NOT NULL COMMENT 'task definition code',
+  `state` tinyint(4) NOT NULL COMMENT 'task instance state',
+  `instance_count` int(11) NOT NULL DEFAULT '0' COMMENT 'task instance count',
+  `update_time` datetime DEFAULT NULL COMMENT 'update time',
+  PRIMARY KEY (`id`),
+  UNIQUE KEY `task_instance_state_count_unique` (`stat_time`,`project_code`,`process_definition_code`,`task_code`,`state`)
+) ENGINE=InnoDB AUTO_INCREMENT=1 DEFAULT CHARSET=utf8 COLLATE = utf8_bin;
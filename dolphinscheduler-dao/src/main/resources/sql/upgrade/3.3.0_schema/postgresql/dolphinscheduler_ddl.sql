@@ -0,0 +1,50 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+*/
+
+-- add_t_ds_command_slot
+ALTER TABLE t_ds_command ADD COLUMN IF NOT EXISTS slot int NOT NULL DEFAULT 0;
+CREATE INDEX IF NOT EXISTS slot_priority_id_index ON t_ds_command (slot, process_instance_priority, id);
+
+-- add_t_ds_task_instance_idx_submit_time
+CREATE INDEX IF NOT EXISTS idx_task_instance_submit_time ON t_ds_task_instance (submit_time);
+
+-- create_t_ds_process_instance_state_count
+CREATE TABLE IF NOT EXISTS t_ds_process_instance_state_count (
+  id                      serial NOT NULL,
+  stat_time               timestamp NOT NULL,
+  project_code            bigint NOT NULL,
+  process_definition_code bigint NOT NULL,
+  state                   int NOT NULL,
+  instance_count          int NOT NULL DEFAULT 0,
+  update_time             timestamp DEFAULT NULL,
+  PRIMARY KEY (id),
+  CONSTRAINT process_instance_state_count_unique UNIQUE (stat_time, project_code, process_definition_code, state)
+);
+
+-- create_t_ds_task_instance_state_count
+CREATE TABLE IF NOT EXISTS t_ds_task_instance_state_count (
+  id                      serial NOT NULL,
+  stat_time               timestamp NOT NULL,
+  project_code            bigint NOT NULL,
+  process_definition_code bigint NOT NULL,
+  task_code               bigint NOT NULL,
+  state                   int NOT NULL,
+  instance_count          int NOT NULL DEFAULT 0,
+  update_time             timestamp DEFAULT NULL,
+  PRIMARY KEY (id),
+  CONSTRAINT task_instance_state_count_unique UNIQUE (stat_time, project_code, process_definition_code, task_code, state)
+);
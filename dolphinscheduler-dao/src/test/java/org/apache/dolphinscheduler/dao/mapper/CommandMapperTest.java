@@ -183,6 +183,34 @@ public class CommandMapperTest extends BaseDaoTest {
         assertThat(commandMapper.selectList(null)).isEmpty();
     }
 
+    @Test
+    void testBatchInsert() {
+        Command command1 = new Command();
+        command1.setCommandType(CommandType.RECOVER_TOLERANCE_FAULT_PROCESS);
+        command1.setProcessDefinitionCode(1L);
+        command1.setProcessInstanceId(1);
+        command1.setProcessInstancePriority(Priority.HIGH);
+        command1.setSlot(1);
+        Command command2 = new Command();
+        command2.setCommandType(CommandType.RECOVER_TOLERANCE_FAULT_PROCESS);
+        command2.setProcessDefinitionCode(2L);
+        command2.setProcessInstanceId(2);
+        command2.setProcessInstancePriority(Priority.LOW);
+        command2.setSlot(2);
+
+        int insertCount = commandMapper.batchInsert(Lists.newArrayList(command1, command2));
+
+        Assertions.assertEquals(2, insertCount);
+        Assertions.assertNotNull(command1.getId());
+        Assertions.assertNotNull(command2.getId());
+        Command actualCommand = commandMapper.selectById(command2.getId());
+        Assertions.assertEquals(CommandType.RECOVER_TOLERANCE_FAULT_PROCESS, actualCommand.getCommandType());
+        Assertions.assertEquals(2L, actualCommand.getProcessDefinitionCode());
+        Assertions.assertEquals(2, actualCommand.getProcessInstanceId());
+        Assertions.assertEquals(Priority.LOW, actualCommand.getProcessInstancePriority());
+        Assertions.assertEquals(2, actualCommand.getSlot());
+    }
+
     private boolean toTestQueryCommandPageBySlot(int masterCount, int thisMasterSlot) {
         Command command = createCommand();
         Integer id = command.getId();
@@ -23,11 +23,13 @@ import org.apache.dolphinscheduler.common.enums.WorkflowExecutionStatus;
 import org.apache.dolphinscheduler.dao.BaseDaoTest;
 import org.apache.dolphinscheduler.dao.entity.ProcessDefinition;
 import org.apache.dolphinscheduler.dao.entity.ProcessInstance;
+import org.apache.dolphinscheduler.dao.entity.ProcessInstanceStateCount;
 import org.apache.dolphinscheduler.dao.model.WorkflowInstanceStatusCountDto;
 import org.apache.dolphinscheduler.plugin.task.api.enums.TaskExecutionStatus;
 
 import java.util.Date;
 import java.util.List;
+import java.util.stream.Collectors;
 
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Test;
@@ -152,6 +154,21 @@ public class ProcessInstanceMapperTest extends BaseDaoTest {
         Assertions.assertNotEquals(0, processInstances.size());
     }
 
+    @Test
+    public void testUpdateHostByIds() {
+        ProcessInstance processInstance1 = insertOne();
+        ProcessInstance processInstance2 = insertOne();
+        ProcessInstance processInstance3 = insertOne();
+
+        int update = processInstanceMapper.updateHostByIds(
+                Lists.newArrayList(processInstance1.getId(), processInstance2.getId()), "NULL");
+
+        Assertions.assertEquals(2, update);
+        Assertions.assertEquals("NULL", processInstanceMapper.selectById(processInstance1.getId()).getHost());
+        Assertions.assertEquals("NULL", processInstanceMapper.selectById(processInstance2.getId()).getHost());
+        Assertions.assertNotEquals("NULL", processInstanceMapper.selectById(processInstance3.getId()).getHost());
+    }
+
     /**
      * test query process instance page
      */
@@ -340,4 +357,47 @@ public class ProcessInstanceMapperTest extends BaseDaoTest {
         processInstanceMapper.deleteById(processInstance3.getId());
 
     }
+
+    /**
+     * test count process instance state by workflow definition
+     */
+    @Test
+    public void testCountInstanceStateByDefinition() {
+        ProcessDefinition processDefinition = new ProcessDefinition();
+        processDefinition.setCode(1001L);
+        processDefinition.setProjectCode(11L);
+        processDefinition.setReleaseState(ReleaseState.ONLINE);
+        processDefinition.setUpdateTime(new Date());
+        processDefinition.setCreateTime(new Date());
+        processDefinitionMapper.insert(processDefinition);
+        Date startTime = new Date(2019 - 1900, 2 - 1, 1, 0, 0, 0);
+        Date endTime = new Date(2019 - 1900, 2 - 1, 1, 1, 0, 0);
+        insertOne(processDefinition.getCode(), startTime, Flag.NO);
+        insertOne(processDefinition.getCode(), new Date(2019 - 1900, 2 - 1, 1, 0, 50, 0), Flag.NO);
+        // The sub workflow instance and the instance start at the end time are excluded
+        insertOne(processDefinition.getCode(), new Date(2019 - 1900, 2 - 1, 1, 0, 20, 0), Flag.YES);
+        insertOne(processDefinition.getCode(), endTime, Flag.NO);
+
+        List<ProcessInstanceStateCount> stateCounts =
+                processInstanceMapper.countInstanceStateByDefinition(startTime, endTime)
+                        .stream()
+                        .filter(stateCount -> stateCount.getProcessDefinitionCode() == 1001L)
+                        .collect(Collectors.toList());
+
+        Assertions.assertEquals(1, stateCounts.size());
+        Assertions.assertEquals(11L, stateCounts.get(0).getProjectCode());
+        Assertions.assertEquals(WorkflowExecutionStatus.SUCCESS, stateCounts.get(0).getState());
+        Assertions.assertEquals(2, stateCounts.get(0).getInstanceCount());
+    }
+
+    private void insertOne(long processDefinitionCode, Date startTime, Flag isSubProcess) {
+        ProcessInstance processInstance = new ProcessInstance();
+        processInstance.setProcessDefinitionCode(processDefinitionCode);
+        processInstance.setStartTime(startTime);
+        processInstance.setEndTime(startTime);
+        processInstance.setState(WorkflowExecutionStatus.SUCCESS);
+        processInstance.setIsSubProcess(isSubProcess);
+        processInstance.setTestFlag(0);
+        processInstanceMapper.insert(processInstance);
+    }
 }
@@ -0,0 +1,112 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.dolphinscheduler.dao.mapper;
+
+import org.apache.dolphinscheduler.common.enums.WorkflowExecutionStatus;
+import org.apache.dolphinscheduler.dao.BaseDaoTest;
+import org.apache.dolphinscheduler.dao.entity.ExecuteStatusCount;
+import org.apache.dolphinscheduler.dao.entity.ProcessInstanceStateCount;
+import org.apache.dolphinscheduler.plugin.task.api.enums.TaskExecutionStatus;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Date;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+
+public class ProcessInstanceStateCountMapperTest extends BaseDaoTest {
+
+    private final Date firstHour = new Date(2019 - 1900, 2 - 1, 1, 0, 0, 0);
+
+    private final Date secondHour = new Date(2019 - 1900, 2 - 1, 1, 1, 0, 0);
+
+    @Autowired
+    private ProcessInstanceStateCountMapper processInstanceStateCountMapper;
+
+    @Test
+    public void testCountInstanceState() {
+        insertStateCounts();
+
+        Map<TaskExecutionStatus, Integer> instanceCounts =
+                countInstanceState(firstHour, secondHour, Arrays.asList(1L, 2L), null, null);
+        Assertions.assertEquals(2, instanceCounts.size());
+        Assertions.assertEquals(6, instanceCounts.get(TaskExecutionStatus.SUCCESS));
+        Assertions.assertEquals(4, instanceCounts.get(TaskExecutionStatus.FAILURE));
+
+        // Only the buckets in the range are summed
+        instanceCounts = countInstanceState(secondHour, secondHour, Arrays.asList(1L, 2L), null, null);
+        Assertions.assertEquals(3, instanceCounts.get(TaskExecutionStatus.SUCCESS));
+        Assertions.assertNull(instanceCounts.get(TaskExecutionStatus.FAILURE));
+
+        // Filter by the project and the workflow
+        instanceCounts = countInstanceState(firstHour, secondHour, Collections.singletonList(1L), null, null);
+        Assertions.assertEquals(5, instanceCounts.get(TaskExecutionStatus.SUCCESS));
+        Assertions.assertNull(instanceCounts.get(TaskExecutionStatus.FAILURE));
+        instanceCounts = countInstanceState(firstHour, secondHour, Arrays.asList(1L, 2L), 2L, null);
+        Assertions.assertEquals(1, instanceCounts.get(TaskExecutionStatus.SUCCESS));
+        Assertions.assertEquals(4, instanceCounts.get(TaskExecutionStatus.FAILURE));
+        instanceCounts = countInstanceState(firstHour, secondHour, Arrays.asList(1L, 2L), 1L, 11L);
+        Assertions.assertEquals(2, instanceCounts.get(TaskExecutionStatus.SUCCESS));
+    }
+
+    @Test
+    public void testDeleteByStatTime() {
+        insertStateCounts();
+
+        Assertions.assertEquals(3, processInstanceStateCountMapper.deleteByStatTime(firstHour));
+
+        Map<TaskExecutionStatus, Integer> instanceCounts =
+                countInstanceState(firstHour, secondHour, Arrays.asList(1L, 2L), null, null);
+        Assertions.assertEquals(1, instanceCounts.size());
+        Assertions.assertEquals(3, instanceCounts.get(TaskExecutionStatus.SUCCESS));
+    }
+
+    private void insertStateCounts() {
+        int insertCount = processInstanceStateCountMapper.batchInsert(Arrays.asList(
+                createStateCount(firstHour, 1L, 11L, WorkflowExecutionStatus.SUCCESS, 2),
+                createStateCount(firstHour, 2L, 21L, WorkflowExecutionStatus.SUCCESS, 1),
+                createStateCount(firstHour, 2L, 21L, WorkflowExecutionStatus.FAILURE, 4),
+                createStateCount(secondHour, 1L, 12L, WorkflowExecutionStatus.SUCCESS, 3)));
+        Assertions.assertEquals(4, insertCount);
+    }
+
+    private Map<TaskExecutionStatus, Integer> countInstanceState(Date startTime, Date endTime, List<Long> projectCodes,
+                                                                 Long projectCode, Long workflowCode) {
+        return processInstanceStateCountMapper
+                .countInstanceState(startTime, endTime, projectCodes, projectCode, workflowCode)
+                .stream()
+                .collect(Collectors.toMap(ExecuteStatusCount::getState, ExecuteStatusCount::getCount));
+    }
+
+    private ProcessInstanceStateCount createStateCount(Date statTime, long projectCode, long processDefinitionCode,
+                                                       WorkflowExecutionStatus state, int instanceCount) {
+        return ProcessInstanceStateCount.builder()
+                .statTime(statTime)
+                .projectCode(projectCode)
+                .processDefinitionCode(processDefinitionCode)
+                .state(state)
+                .instanceCount(instanceCount)
+                .updateTime(new Date())
+                .build();
+    }
+}
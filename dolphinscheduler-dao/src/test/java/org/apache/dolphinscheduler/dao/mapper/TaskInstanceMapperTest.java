@@ -24,12 +24,15 @@ import org.apache.dolphinscheduler.dao.BaseDaoTest;
 import org.apache.dolphinscheduler.dao.entity.ProcessDefinition;
 import org.apache.dolphinscheduler.dao.entity.ProcessInstance;
 import org.apache.dolphinscheduler.dao.entity.TaskInstance;
+import org.apache.dolphinscheduler.dao.entity.TaskInstanceStateCount;
 import org.apache.dolphinscheduler.dao.model.TaskInstanceStatusCountDto;
 import org.apache.dolphinscheduler.plugin.task.api.enums.TaskExecutionStatus;
 
 import java.util.Collections;
 import java.util.Date;
 import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
 
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Test;
@@ -273,4 +276,64 @@ public class TaskInstanceMapperTest extends BaseDaoTest {
         Assertions.assertEquals(0, taskInstanceIPage.getTotal());
 
     }
+
+    /**
+     * test count task instance state by task definition
+     */
+    @Test
+    public void testCountTaskInstanceStateByTaskCode() {
+        ProcessDefinition definition = new ProcessDefinition();
+        definition.setCode(2001L);
+        definition.setProjectCode(21L);
+        definition.setName("definition");
+        definition.setCreateTime(new Date());
+        definition.setUpdateTime(new Date());
+        processDefinitionMapper.insert(definition);
+        ProcessInstance processInstance = new ProcessInstance();
+        processInstance.setName("definition");
+        processInstance.setState(WorkflowExecutionStatus.SUCCESS);
+        processInstance.setProcessDefinitionCode(definition.getCode());
+        processInstance.setProjectCode(definition.getProjectCode());
+        processInstance.setTestFlag(0);
+        processInstanceMapper.insert(processInstance);
+        Date startTime = new Date(2019 - 1900, 2 - 1, 1, 0, 0, 0);
+        Date endTime = new Date(2019 - 1900, 2 - 1, 1, 1, 0, 0);
+        insertTaskInstance(processInstance.getId(), 3001L, TaskExecutionStatus.SUCCESS, startTime);
+        insertTaskInstance(processInstance.getId(), 3001L, TaskExecutionStatus.SUCCESS,
+                new Date(2019 - 1900, 2 - 1, 1, 0, 30, 0));
+        insertTaskInstance(processInstance.getId(), 3001L, TaskExecutionStatus.FAILURE,
+                new Date(2019 - 1900, 2 - 1, 1, 0, 40, 0));
+        // The task instance submitted at the end time is excluded
+        insertTaskInstance(processInstance.getId(), 3001L, TaskExecutionStatus.SUCCESS, endTime);
+
+        List<TaskInstanceStateCount> stateCounts =
+                taskInstanceMapper.countTaskInstanceStateByTaskCode(startTime, endTime)
+                        .stream()
+                        .filter(stateCount -> stateCount.getTaskCode() == 3001L)
+                        .collect(Collectors.toList());
+
+        Assertions.assertEquals(2, stateCounts.size());
+        for (TaskInstanceStateCount stateCount : stateCounts) {
+            Assertions.assertEquals(21L, stateCount.getProjectCode());
+            Assertions.assertEquals(2001L, stateCount.getProcessDefinitionCode());
+        }
+        Map<TaskExecutionStatus, Integer> instanceCounts = stateCounts.stream()
+                .collect(Collectors.toMap(TaskInstanceStateCount::getState, TaskInstanceStateCount::getInstanceCount));
+        Assertions.assertEquals(2, instanceCounts.get(TaskExecutionStatus.SUCCESS));
+        Assertions.assertEquals(1, instanceCounts.get(TaskExecutionStatus.FAILURE));
+    }
+
+    private void insertTaskInstance(int processInstanceId, long taskCode, TaskExecutionStatus state,
+                                    Date submitTime) {
+        TaskInstance taskInstance = new TaskInstance();
+        taskInstance.setFlag(Flag.YES);
+        taskInstance.setName("us task");
+        taskInstance.setTaskCode(taskCode);
+        taskInstance.setState(state);
+        taskInstance.setSubmitTime(submitTime);
+        taskInstance.setProcessInstanceId(processInstanceId);
+        taskInstance.setProjectCode(21L);
+        taskInstance.setTaskType("SHELL");
+        taskInstanceMapper.insert(taskInstance);
+    }
 }
@@ -0,0 +1,113 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.dolphinscheduler.dao.mapper;
+
+import org.apache.dolphinscheduler.dao.BaseDaoTest;
+import org.apache.dolphinscheduler.dao.entity.ExecuteStatusCount;
+import org.apache.dolphinscheduler.dao.entity.TaskInstanceStateCount;
+import org.apache.dolphinscheduler.plugin.task.api.enums.TaskExecutionStatus;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Date;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+
+public class TaskInstanceStateCountMapperTest extends BaseDaoTest {
+
+    private final Date firstHour = new Date(2019 - 1900, 2 - 1, 1, 0, 0, 0);
+
+    private final Date secondHour = new Date(2019 - 1900, 2 - 1, 1, 1, 0, 0);
+
+    @Autowired
+    private TaskInstanceStateCountMapper taskInstanceStateCountMapper;
+
+    @Test
+    public void testCountTaskInstanceState() {
+        insertStateCounts();
+
+        Map<TaskExecutionStatus, Integer> instanceCounts =
+                countTaskInstanceState(firstHour, secondHour, Arrays.asList(1L, 2L), null, null, null);
+        Assertions.assertEquals(2, instanceCounts.size());
+        Assertions.assertEquals(6, instanceCounts.get(TaskExecutionStatus.SUCCESS));
+        Assertions.assertEquals(4, instanceCounts.get(TaskExecutionStatus.FAILURE));
+
+        // Only the buckets in the range are summed
+        instanceCounts = countTaskInstanceState(secondHour, secondHour, Arrays.asList(1L, 2L), null, null, null);
+        Assertions.assertEquals(3, instanceCounts.get(TaskExecutionStatus.SUCCESS));
+        Assertions.assertNull(instanceCounts.get(TaskExecutionStatus.FAILURE));
+
+        // Filter by the project, the workflow and the task
+        instanceCounts = countTaskInstanceState(firstHour, secondHour, Collections.singletonList(2L), null, null,
+                null);
+        Assertions.assertEquals(1, instanceCounts.get(TaskExecutionStatus.SUCCESS));
+        Assertions.assertEquals(4, instanceCounts.get(TaskExecutionStatus.FAILURE));
+        instanceCounts = countTaskInstanceState(firstHour, secondHour, Arrays.asList(1L, 2L), 1L, 11L, null);
+        Assertions.assertEquals(5, instanceCounts.get(TaskExecutionStatus.SUCCESS));
+        instanceCounts = countTaskInstanceState(firstHour, secondHour, Arrays.asList(1L, 2L), 1L, 11L, 112L);
+        Assertions.assertEquals(3, instanceCounts.get(TaskExecutionStatus.SUCCESS));
+    }
+
+    @Test
+    public void testDeleteByStatTime() {
+        insertStateCounts();
+
+        Assertions.assertEquals(3, taskInstanceStateCountMapper.deleteByStatTime(firstHour));
+
+        Map<TaskExecutionStatus, Integer> instanceCounts =
+                countTaskInstanceState(firstHour, secondHour, Arrays.asList(1L, 2L), null, null, null);
+        Assertions.assertEquals(1, instanceCounts.size());
+        Assertions.assertEquals(3, instanceCounts.get(TaskExecutionStatus.SUCCESS));
+    }
+
+    private void insertStateCounts() {
+        int insertCount = taskInstanceStateCountMapper.batchInsert(Arrays.asList(
+                createStateCount(firstHour, 1L, 11L, 111L, TaskExecutionStatus.SUCCESS, 2),
+                createStateCount(firstHour, 2L, 21L, 211L, TaskExecutionStatus.SUCCESS, 1),
+                createStateCount(firstHour, 2L, 21L, 211L, TaskExecutionStatus.FAILURE, 4),
+                createStateCount(secondHour, 1L, 11L, 112L, TaskExecutionStatus.SUCCESS, 3)));
+        Assertions.assertEquals(4, insertCount);
+    }
+
+    private Map<TaskExecutionStatus, Integer> countTaskInstanceState(Date startTime, Date endTime,
+                                                                     List<Long> projectCodes, Long projectCode,
+                                                                     Long workflowCode, Long taskCode) {
+        return taskInstanceStateCountMapper
+                .countTaskInstanceState(startTime, endTime, projectCodes, projectCode, workflowCode, taskCode)
+                .stream()
+                .collect(Collectors.toMap(ExecuteStatusCount::getState, ExecuteStatusCount::getCount));
+    }
+
+    private TaskInstanceStateCount createStateCount(Date statTime, long projectCode, long processDefinitionCode,
+                                                    long taskCode, TaskExecutionStatus state, int instanceCount) {
+        return TaskInstanceStateCount.builder()
+                .statTime(statTime)
+                .projectCode(projectCode)
+                .processDefinitionCode(processDefinitionCode)
+                .taskCode(taskCode)
+                .state(state)
+                .instanceCount(instanceCount)
+                .updateTime(new Date())
+                .build();
+    }
+}
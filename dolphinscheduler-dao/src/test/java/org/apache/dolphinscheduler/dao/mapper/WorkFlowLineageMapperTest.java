@@ -126,12 +126,11 @@ public class WorkFlowLineageMapperTest extends BaseDaoTest {
     }
 
     @Test
-    public void testQueryWorkFlowLineage() {
+    public void testQueryWorkFlowLineageByProjectCode() {
         insertOneProcessDefinition();
         ProcessDefinition processDefinition = processDefinitionMapper.queryByCode(1L);
-        insertOneProcessTaskRelation();
-        List<ProcessLineage> workFlowLineages =
-                workFlowLineageMapper.queryProcessLineage(processDefinition.getProjectCode());
+        List<WorkFlowLineage> workFlowLineages =
+                workFlowLineageMapper.queryWorkFlowLineageByProjectCode(processDefinition.getProjectCode());
         Assertions.assertNotEquals(0, workFlowLineages.size());
     }
 
@@ -32,7 +32,10 @@ import org.apache.dolphinscheduler.dao.repository.CommandDao;
 
 import org.apache.commons.lang3.RandomUtils;
 
+import java.util.Comparator;
 import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
 
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -66,6 +69,37 @@ class CommandDaoImplTest extends BaseDaoTest {
 
     }
 
+    @Test
+    void fetchCommandBySlots() {
+        int commandSize = RandomUtils.nextInt(1, 1000);
+        for (int i = 0; i < commandSize; i++) {
+            createCommand(CommandType.START_PROCESS, 0);
+        }
+        assertThat(commandDao.queryAll()
+                .stream()
+                .allMatch(command -> command.getSlot() >= 0 && command.getSlot() < CommandDao.COMMAND_SLOT_SIZE))
+                .isTrue();
+
+        int totalSlot = RandomUtils.nextInt(1, 10);
+        int currentSlotIndex = RandomUtils.nextInt(0, totalSlot);
+        int fetchSize = RandomUtils.nextInt(10, 100);
+        List<Integer> slots = IntStream.range(0, CommandDao.COMMAND_SLOT_SIZE)
+                .filter(slot -> slot % totalSlot == currentSlotIndex)
+                .boxed()
+                .collect(Collectors.toList());
+        List<Command> commands = commandDao.queryCommandBySlots(slots, fetchSize);
+        List<Integer> expectedCommandIds = commandDao.queryAll()
+                .stream()
+                .filter(command -> slots.contains(command.getSlot()))
+                .sorted(Comparator.comparing(Command::getProcessInstancePriority).thenComparing(Command::getId))
+                .limit(fetchSize)
+                .map(Command::getId)
+                .collect(Collectors.toList());
+        assertThat(commands.stream().map(Command::getId).collect(Collectors.toList()))
+                .containsExactlyElementsIn(expectedCommandIds)
+                .inOrder();
+    }
+
     private void createCommand(CommandType commandType, int processDefinitionCode) {
         Command command = new Command();
         command.setCommandType(commandType);
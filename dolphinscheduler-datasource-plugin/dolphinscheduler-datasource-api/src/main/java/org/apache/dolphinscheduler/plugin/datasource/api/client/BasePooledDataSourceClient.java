@@ -35,6 +35,7 @@ import java.sql.SQLException;
 import lombok.extern.slf4j.Slf4j;
 
 import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.HikariPoolMXBean;
 
 @Slf4j
 public abstract class BasePooledDataSourceClient implements PooledDataSourceClient {
@@ -59,8 +60,12 @@ public abstract class BasePooledDataSourceClient implements PooledDataSourceClie
         dataSource.setUsername(baseConnectionParam.getUser());
         dataSource.setPassword(PasswordUtils.decodePassword(baseConnectionParam.getPassword()));
 
-        dataSource.setMinimumIdle(PropertyUtils.getInt(DataSourceConstants.SPRING_DATASOURCE_MIN_IDLE, 5));
-        dataSource.setMaximumPoolSize(PropertyUtils.getInt(DataSourceConstants.SPRING_DATASOURCE_MAX_ACTIVE, 50));
+        dataSource.setMinimumIdle(getPoolSize(DataSourceConstants.DATASOURCE_POOL_MIN_IDLE,
+                DataSourceConstants.DATASOURCE_POOL_TYPE_MIN_IDLE, dbType,
+                PropertyUtils.getInt(DataSourceConstants.SPRING_DATASOURCE_MIN_IDLE, 5)));
+        dataSource.setMaximumPoolSize(getPoolSize(DataSourceConstants.DATASOURCE_POOL_MAX_SIZE,
+                DataSourceConstants.DATASOURCE_POOL_TYPE_MAX_SIZE, dbType,
+                PropertyUtils.getInt(DataSourceConstants.SPRING_DATASOURCE_MAX_ACTIVE, 50)));
         dataSource.setConnectionTestQuery(baseConnectionParam.getValidationQuery());
 
         if (MapUtils.isNotEmpty(baseConnectionParam.getOther())) {
@@ -71,11 +76,35 @@ public abstract class BasePooledDataSourceClient implements PooledDataSourceClie
         return dataSource;
     }
 
+    /**
+     * The pool size of the given datasource type overrides the global one, e.g. datasource.pool.mysql.max.size
+     * overrides datasource.pool.max.size.
+     */
+    private static int getPoolSize(String key, String typeKeyFormat, DbType dbType, int defaultValue) {
+        int poolSize = PropertyUtils.getInt(key, defaultValue);
+        return PropertyUtils.getInt(String.format(typeKeyFormat, dbType.getName()), poolSize);
+    }
+
     @Override
     public Connection getConnection() throws SQLException {
         return dataSource.getConnection();
     }
 
+    public int getActiveConnections() {
+        HikariPoolMXBean poolMXBean = dataSource.getHikariPoolMXBean();
+        return poolMXBean == null ? 0 : poolMXBean.getActiveConnections();
+    }
+
+    public int getIdleConnections() {
+        HikariPoolMXBean poolMXBean = dataSource.getHikariPoolMXBean();
+        return poolMXBean == null ? 0 : poolMXBean.getIdleConnections();
+    }
+
+    public int getPendingThreads() {
+        HikariPoolMXBean poolMXBean = dataSource.getHikariPoolMXBean();
+        return poolMXBean == null ? 0 : poolMXBean.getThreadsAwaitingConnection();
+    }
+
     @Override
     public void close() {
         log.info("do close dataSource {}.", baseConnectionParam.getDatabase());
@@ -0,0 +1,94 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.dolphinscheduler.plugin.datasource.api.metrics;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Supplier;
+
+import lombok.experimental.UtilityClass;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.Meter;
+import io.micrometer.core.instrument.Metrics;
+
+@UtilityClass
+public class DataSourceMetrics {
+
+    private final Counter pooledDataSourceClientCreateCounter =
+            Counter.builder("ds.datasource.pool.create.count")
+                    .description("Pooled datasource client create count")
+                    .register(Metrics.globalRegistry);
+
+    private final Counter pooledDataSourceClientEvictCounter =
+            Counter.builder("ds.datasource.pool.evict.count")
+                    .description("Pooled datasource client evict count")
+                    .register(Metrics.globalRegistry);
+
+    public synchronized void registerPooledDataSourceClientCountGauge(Supplier<Number> supplier) {
+        Gauge.builder("ds.datasource.pool.size", supplier)
+                .description("Pooled datasource client count")
+                .register(Metrics.globalRegistry);
+    }
+
+    /**
+     * Register the connection gauges of a pooled datasource client, the returned meters should be removed by
+     * {@link #removeMeters(List)} when the client is closed.
+     *
+     * @param datasource   the readable name of the datasource, which may be shared by different clients.
+     * @param datasourceId the id of the client which is unique in this process, it should not be derived from the
+     *                     password.
+     */
+    public List<Meter> registerPooledConnectionGauges(String datasource,
+                                                      String datasourceId,
+                                                      Supplier<Number> activeConnections,
+                                                      Supplier<Number> idleConnections,
+                                                      Supplier<Number> pendingThreads) {
+        List<Meter> meters = new ArrayList<>();
+        meters.add(registerPooledConnectionGauge(datasource, datasourceId, "active", activeConnections));
+        meters.add(registerPooledConnectionGauge(datasource, datasourceId, "idle", idleConnections));
+        meters.add(registerPooledConnectionGauge(datasource, datasourceId, "pending", pendingThreads));
+        return meters;
+    }
+
+    private Meter registerPooledConnectionGauge(String datasource,
+                                                String datasourceId,
+                                                String state,
+                                                Supplier<Number> supplier) {
+        return Gauge.builder("ds.datasource.pool.connections", supplier)
+                .tag("datasource", datasource)
+                .tag("datasource_id", datasourceId)
+                .tag("state", state)
+                .description("Pooled datasource connections, the pending state is the threads waiting for a connection")
+                .register(Metrics.globalRegistry);
+    }
+
+    public void removeMeters(List<Meter> meters) {
+        meters.forEach(Metrics.globalRegistry::remove);
+    }
+
+    public void incPooledDataSourceClientCreate() {
+        pooledDataSourceClientCreateCounter.increment();
+    }
+
+    public void incPooledDataSourceClientEvict() {
+        pooledDataSourceClientEvictCounter.increment();
+    }
+
+}
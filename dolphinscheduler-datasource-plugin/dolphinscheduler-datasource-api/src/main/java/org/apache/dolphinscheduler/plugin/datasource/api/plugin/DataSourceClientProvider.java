@@ -17,7 +17,11 @@
 
 package org.apache.dolphinscheduler.plugin.datasource.api.plugin;
 
+import org.apache.dolphinscheduler.common.constants.DataSourceConstants;
+import org.apache.dolphinscheduler.common.thread.ThreadUtils;
 import org.apache.dolphinscheduler.common.utils.PropertyUtils;
+import org.apache.dolphinscheduler.plugin.datasource.api.client.BasePooledDataSourceClient;
+import org.apache.dolphinscheduler.plugin.datasource.api.metrics.DataSourceMetrics;
 import org.apache.dolphinscheduler.plugin.datasource.api.utils.DataSourceUtils;
 import org.apache.dolphinscheduler.plugin.task.api.TaskConstants;
 import org.apache.dolphinscheduler.spi.datasource.AdHocDataSourceClient;
@@ -30,51 +34,121 @@ import org.apache.dolphinscheduler.spi.enums.DbType;
 
 import java.sql.Connection;
 import java.sql.SQLException;
+import java.util.Collections;
+import java.util.List;
 import java.util.Map;
 import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
 
 import lombok.extern.slf4j.Slf4j;
 
+import com.google.common.base.Ticker;
 import com.google.common.cache.Cache;
 import com.google.common.cache.CacheBuilder;
 import com.google.common.cache.RemovalListener;
+import io.micrometer.core.instrument.Meter;
 
 @Slf4j
 public class DataSourceClientProvider {
 
     // We use the cache here to avoid creating a new datasource client every time,
     // One DataSourceClient corresponds to one unique datasource.
-    private static final Cache<String, PooledDataSourceClient> POOLED_DATASOURCE_CLIENT_CACHE =
-            CacheBuilder.newBuilder()
-                    .expireAfterWrite(PropertyUtils.getLong(TaskConstants.KERBEROS_EXPIRE_TIME, 24L), TimeUnit.HOURS)
-                    .removalListener((RemovalListener<String, PooledDataSourceClient>) notification -> {
-                        try (PooledDataSourceClient closedClient = notification.getValue()) {
-                            log.info("Datasource: {} is removed from cache due to expire", notification.getKey());
-                        } catch (Exception e) {
-                            log.error("Close datasource client error", e);
-                        }
-                    })
-                    .maximumSize(100)
-                    .build();
+    // The least recently used client is evicted when the cache is full, or it has not been used for a while, so the
+    // frequently used pools are not rebuilt when there are many datasources.
+    private static final Cache<String, PooledDataSourceClientHolder> POOLED_DATASOURCE_CLIENT_CACHE =
+            createPooledDataSourceClientCache(
+                    PropertyUtils.getLong(DataSourceConstants.DATASOURCE_POOL_IDLE_EXPIRE_MINUTES, 60L),
+                    PropertyUtils.getInt(DataSourceConstants.DATASOURCE_POOL_CACHE_SIZE, 500),
+                    Ticker.systemTicker());
+
+    /**
+     * The pooled client of a kerberos datasource is rebuilt after the kerberos ticket is expired.
+     */
+    private static final long KERBEROS_EXPIRE_TIME_MILLIS =
+            TimeUnit.HOURS.toMillis(PropertyUtils.getLong(TaskConstants.KERBEROS_EXPIRE_TIME, 24L));
+
+    private static final ExecutorService WARM_UP_EXECUTOR =
+            ThreadUtils.newDaemonFixedThreadExecutor("DataSourceWarmUpThread", 1);
+
+    /**
+     * Identifies the pooled clients in the metrics, the unique id can't be used since it contains the password.
+     */
+    private static final AtomicLong POOLED_DATASOURCE_CLIENT_ID_GENERATOR = new AtomicLong();
+
     private static final DataSourcePluginManager dataSourcePluginManager = new DataSourcePluginManager();
 
     static {
         dataSourcePluginManager.installPlugin();
+        DataSourceMetrics.registerPooledDataSourceClientCountGauge(POOLED_DATASOURCE_CLIENT_CACHE::size);
+    }
+
+    static Cache<String, PooledDataSourceClientHolder> createPooledDataSourceClientCache(long idleExpireMinutes,
+                                                                                         int maximumSize,
+                                                                                         Ticker ticker) {
+        return CacheBuilder.newBuilder()
+                // The cache is only written when a pool is created, a single segment makes the size based eviction a
+                // global least recently used eviction rather than per segment.
+                .concurrencyLevel(1)
+                .expireAfterAccess(idleExpireMinutes, TimeUnit.MINUTES)
+                .ticker(ticker)
+                .removalListener((RemovalListener<String, PooledDataSourceClientHolder>) notification -> {
+                    PooledDataSourceClientHolder holder = notification.getValue();
+                    try (PooledDataSourceClient closedClient = holder.getClient()) {
+                        DataSourceMetrics.removeMeters(holder.getMeters());
+                        DataSourceMetrics.incPooledDataSourceClientEvict();
+                        log.info("Datasource: {} is removed from cache due to {}", holder.getName(),
+                                notification.getCause());
+                    } catch (Exception e) {
+                        log.error("Close datasource client error", e);
+                    }
+                })
+                .maximumSize(maximumSize)
+                .build();
     }
 
     public static DataSourceClient getPooledDataSourceClient(DbType dbType,
                                                              ConnectionParam connectionParam) throws ExecutionException {
         BaseConnectionParam baseConnectionParam = (BaseConnectionParam) connectionParam;
         String datasourceUniqueId = DataSourceUtils.getDatasourceUniqueId(baseConnectionParam, dbType);
-        return POOLED_DATASOURCE_CLIENT_CACHE.get(datasourceUniqueId, () -> {
-            Map<String, DataSourceChannel> dataSourceChannelMap = dataSourcePluginManager.getDataSourceChannelMap();
-            DataSourceChannel dataSourceChannel = dataSourceChannelMap.get(dbType.getName());
-            if (null == dataSourceChannel) {
-                throw new RuntimeException(String.format("datasource plugin '%s' is not found", dbType.getName()));
-            }
-            return dataSourceChannel.createPooledDataSourceClient(baseConnectionParam, dbType);
-        });
+        PooledDataSourceClientHolder holder = POOLED_DATASOURCE_CLIENT_CACHE.get(datasourceUniqueId,
+                () -> createPooledDataSourceClient(dbType, baseConnectionParam));
+        if (holder.isKerberosExpired()) {
+            // the expired client is closed by the removal listener, only remove it if it is not rebuilt by others
+            POOLED_DATASOURCE_CLIENT_CACHE.asMap().remove(datasourceUniqueId, holder);
+            holder = POOLED_DATASOURCE_CLIENT_CACHE.get(datasourceUniqueId,
+                    () -> createPooledDataSourceClient(dbType, baseConnectionParam));
+        }
+        return holder.getClient();
+    }
+
+    private static PooledDataSourceClientHolder createPooledDataSourceClient(DbType dbType,
+                                                                             BaseConnectionParam baseConnectionParam) {
+        Map<String, DataSourceChannel> dataSourceChannelMap = dataSourcePluginManager.getDataSourceChannelMap();
+        DataSourceChannel dataSourceChannel = dataSourceChannelMap.get(dbType.getName());
+        if (null == dataSourceChannel) {
+            throw new RuntimeException(String.format("datasource plugin '%s' is not found", dbType.getName()));
+        }
+        PooledDataSourceClient client = dataSourceChannel.createPooledDataSourceClient(baseConnectionParam, dbType);
+        // Don't use the unique id as the name, it contains the password
+        String name = String.format("%s@%s@%s/%s", dbType.getName(), baseConnectionParam.getUser(),
+                baseConnectionParam.getAddress(), baseConnectionParam.getDatabase());
+        List<Meter> meters = Collections.emptyList();
+        if (client instanceof BasePooledDataSourceClient) {
+            BasePooledDataSourceClient basePooledClient = (BasePooledDataSourceClient) client;
+            // The name is not unique, e.g. the same user and address with different passwords, so the meters are
+            // also tagged by an id which is only unique in this process.
+            meters = DataSourceMetrics.registerPooledConnectionGauges(name,
+                    String.valueOf(POOLED_DATASOURCE_CLIENT_ID_GENERATOR.incrementAndGet()),
+                    basePooledClient::getActiveConnections,
+                    basePooledClient::getIdleConnections,
+                    basePooledClient::getPendingThreads);
+        }
+        DataSourceMetrics.incPooledDataSourceClientCreate();
+        boolean kerberos = PropertyUtils.getBoolean(TaskConstants.HADOOP_SECURITY_AUTHENTICATION_STARTUP_STATE, false);
+        long expireTime = kerberos ? System.currentTimeMillis() + KERBEROS_EXPIRE_TIME_MILLIS : Long.MAX_VALUE;
+        return new PooledDataSourceClientHolder(name, client, meters, expireTime);
     }
 
     public static Connection getPooledConnection(DbType dbType,
@@ -82,6 +156,20 @@ public class DataSourceClientProvider {
         return getPooledDataSourceClient(dbType, connectionParam).getConnection();
     }
 
+    /**
+     * Create the pooled datasource client and open its connections asynchronously, so the task which uses the
+     * datasource later will not wait for the pool initialization and the JDBC handshakes.
+     */
+    public static void warmUpPooledDataSourceClient(DbType dbType, ConnectionParam connectionParam) {
+        WARM_UP_EXECUTOR.execute(() -> {
+            try (Connection connection = getPooledConnection(dbType, connectionParam)) {
+                log.info("Warm up the pooled datasource client of {} success", dbType.getName());
+            } catch (Exception e) {
+                log.warn("Warm up the pooled datasource client of {} failed", dbType.getName(), e);
+            }
+        });
+    }
+
     public static AdHocDataSourceClient getAdHocDataSourceClient(DbType dbType, ConnectionParam connectionParam) {
         BaseConnectionParam baseConnectionParam = (BaseConnectionParam) connectionParam;
         Map<String, DataSourceChannel> dataSourceChannelMap = dataSourcePluginManager.getDataSourceChannelMap();
@@ -96,4 +184,41 @@ public class DataSourceClientProvider {
                                                 ConnectionParam connectionParam) throws SQLException, ExecutionException {
         return getAdHocDataSourceClient(dbType, connectionParam).getConnection();
     }
+
+    static class PooledDataSourceClientHolder {
+
+        private final String name;
+
+        private final PooledDataSourceClient client;
+
+        private final List<Meter> meters;
+
+        private final long expireTime;
+
+        PooledDataSourceClientHolder(String name,
+                                     PooledDataSourceClient client,
+                                     List<Meter> meters,
+                                     long expireTime) {
+            this.name = name;
+            this.client = client;
+            this.meters = meters;
+            this.expireTime = expireTime;
+        }
+
+        private String getName() {
+            return name;
+        }
+
+        PooledDataSourceClient getClient() {
+            return client;
+        }
+
+        private List<Meter> getMeters() {
+            return meters;
+        }
+
+        private boolean isKerberosExpired() {
+            return System.currentTimeMillis() > expireTime;
+        }
+    }
 }
@@ -0,0 +1,91 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.dolphinscheduler.plugin.datasource.api.plugin;
+
+import org.apache.dolphinscheduler.plugin.datasource.api.plugin.DataSourceClientProvider.PooledDataSourceClientHolder;
+import org.apache.dolphinscheduler.spi.datasource.PooledDataSourceClient;
+
+import java.util.Collections;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+
+import com.google.common.base.Ticker;
+import com.google.common.cache.Cache;
+
+class DataSourceClientProviderTest {
+
+    private final AtomicLong nanos = new AtomicLong();
+
+    private final Ticker ticker = new Ticker() {
+
+        @Override
+        public long read() {
+            return nanos.get();
+        }
+    };
+
+    @Test
+    void testEvictLeastRecentlyUsedClient() throws Exception {
+        Cache<String, PooledDataSourceClientHolder> cache =
+                DataSourceClientProvider.createPooledDataSourceClientCache(60, 2, ticker);
+        PooledDataSourceClientHolder first = createHolder("first");
+        PooledDataSourceClientHolder second = createHolder("second");
+        cache.put("first", first);
+        cache.put("second", second);
+
+        // The first client is used recently, so the second one is evicted when the cache is full.
+        Assertions.assertSame(first, cache.getIfPresent("first"));
+        cache.put("third", createHolder("third"));
+
+        Assertions.assertSame(first, cache.getIfPresent("first"));
+        Assertions.assertNull(cache.getIfPresent("second"));
+        Assertions.assertNotNull(cache.getIfPresent("third"));
+        Mockito.verify(second.getClient()).close();
+        Mockito.verify(first.getClient(), Mockito.never()).close();
+    }
+
+    @Test
+    void testEvictIdleClient() throws Exception {
+        Cache<String, PooledDataSourceClientHolder> cache =
+                DataSourceClientProvider.createPooledDataSourceClientCache(60, 10, ticker);
+        PooledDataSourceClientHolder used = createHolder("used");
+        PooledDataSourceClientHolder idle = createHolder("idle");
+        cache.put("used", used);
+        cache.put("idle", idle);
+
+        nanos.addAndGet(TimeUnit.MINUTES.toNanos(40));
+        Assertions.assertSame(used, cache.getIfPresent("used"));
+        nanos.addAndGet(TimeUnit.MINUTES.toNanos(40));
+        cache.cleanUp();
+
+        // The idle time is measured from the last use rather than the creation.
+        Assertions.assertSame(used, cache.getIfPresent("used"));
+        Assertions.assertNull(cache.getIfPresent("idle"));
+        Mockito.verify(idle.getClient()).close();
+        Mockito.verify(used.getClient(), Mockito.never()).close();
+    }
+
+    private PooledDataSourceClientHolder createHolder(String name) {
+        return new PooledDataSourceClientHolder(name, Mockito.mock(PooledDataSourceClient.class),
+                Collections.emptyList(), Long.MAX_VALUE);
+    }
+}
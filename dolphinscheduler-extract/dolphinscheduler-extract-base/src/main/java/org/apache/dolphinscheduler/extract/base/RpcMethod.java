@@ -23,6 +23,13 @@ import java.lang.annotation.Retention;
 import java.lang.annotation.RetentionPolicy;
 import java.lang.annotation.Target;
 
+/**
+ * Mark the method as a rpc method.
+ * <p>
+ * If the method returns {@link java.util.concurrent.CompletableFuture}, the client will invoke it asynchronously, the
+ * requests are pipelined in the channel and the future will be completed once the response is received. The async
+ * method is identified by its sync signature on the wire, so changing a method between sync and async is compatible.
+ */
 @Target(ElementType.METHOD)
 @Retention(RetentionPolicy.RUNTIME)
 @Documented
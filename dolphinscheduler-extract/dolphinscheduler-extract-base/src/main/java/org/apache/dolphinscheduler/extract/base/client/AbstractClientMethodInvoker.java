@@ -18,6 +18,7 @@
 package org.apache.dolphinscheduler.extract.base.client;
 
 import org.apache.dolphinscheduler.extract.base.utils.Host;
+import org.apache.dolphinscheduler.extract.base.utils.RpcMethodUtils;
 
 import java.lang.reflect.Method;
 
@@ -35,7 +36,7 @@ abstract class AbstractClientMethodInvoker implements ClientMethodInvoker {
         this.serverHost = serverHost;
         this.localMethod = localMethod;
         this.nettyRemotingClient = nettyRemotingClient;
-        this.methodIdentifier = localMethod.toGenericString();
+        this.methodIdentifier = RpcMethodUtils.getMethodIdentifier(localMethod);
     }
 
 }
@@ -0,0 +1,87 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.dolphinscheduler.extract.base.client;
+
+import org.apache.dolphinscheduler.extract.base.IRpcResponse;
+import org.apache.dolphinscheduler.extract.base.RpcMethod;
+import org.apache.dolphinscheduler.extract.base.StandardRpcRequest;
+import org.apache.dolphinscheduler.extract.base.exception.MethodInvocationException;
+import org.apache.dolphinscheduler.extract.base.protocal.Transporter;
+import org.apache.dolphinscheduler.extract.base.protocal.TransporterHeader;
+import org.apache.dolphinscheduler.extract.base.serialize.RpcSerializer;
+import org.apache.dolphinscheduler.extract.base.utils.Host;
+
+import java.lang.reflect.Method;
+import java.lang.reflect.ParameterizedType;
+import java.lang.reflect.Type;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * The invoker of the rpc method which returns {@link CompletableFuture}, the invocation will return immediately
+ * after the request is sent, and the future will be completed once the response is received.
+ */
+class AsyncClientMethodInvoker extends AbstractClientMethodInvoker {
+
+    private final Class<?> responseClass;
+
+    AsyncClientMethodInvoker(Host serverHost, Method localMethod, NettyRemotingClient nettyRemotingClient) {
+        super(serverHost, localMethod, nettyRemotingClient);
+        this.responseClass = getFutureValueClass(localMethod);
+    }
+
+    static boolean isAsyncMethod(Method method) {
+        return CompletableFuture.class.isAssignableFrom(method.getReturnType());
+    }
+
+    @Override
+    public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+        RpcMethod rpcMethod = method.getAnnotation(RpcMethod.class);
+        RpcSerializer rpcSerializer = nettyRemotingClient.getRpcSerializer();
+        Transporter transporter = Transporter.of(
+                TransporterHeader.of(methodIdentifier),
+                rpcSerializer.serialize(StandardRpcRequest.of(args, rpcSerializer)),
+                rpcSerializer.getProtocolVersion());
+
+        return nettyRemotingClient.sendAsync(serverHost, transporter, rpcMethod.timeout())
+                .thenApply(iRpcResponse -> toResult(iRpcResponse, rpcSerializer));
+    }
+
+    private Object toResult(IRpcResponse iRpcResponse, RpcSerializer rpcSerializer) {
+        if (!iRpcResponse.isSuccess()) {
+            throw MethodInvocationException.of(iRpcResponse.getMessage());
+        }
+        if (iRpcResponse.getBody() == null) {
+            return null;
+        }
+        return rpcSerializer.deserialize(iRpcResponse.getBody(), responseClass);
+    }
+
+    private static Class<?> getFutureValueClass(Method method) {
+        Type returnType = method.getGenericReturnType();
+        if (returnType instanceof ParameterizedType) {
+            Type valueType = ((ParameterizedType) returnType).getActualTypeArguments()[0];
+            if (valueType instanceof Class) {
+                return (Class<?>) valueType;
+            }
+            if (valueType instanceof ParameterizedType) {
+                return (Class<?>) ((ParameterizedType) valueType).getRawType();
+            }
+        }
+        return Object.class;
+    }
+}
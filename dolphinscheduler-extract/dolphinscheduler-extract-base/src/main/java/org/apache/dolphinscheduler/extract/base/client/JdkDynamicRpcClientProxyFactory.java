@@ -37,7 +37,7 @@ class JdkDynamicRpcClientProxyFactory implements IRpcClientProxyFactory {
 
     private final NettyRemotingClient nettyRemotingClient;
 
-    private static final LoadingCache<String, Map<String, Object>> proxyClientCache = CacheBuilder.newBuilder()
+    private final LoadingCache<String, Map<String, Object>> proxyClientCache = CacheBuilder.newBuilder()
             // expire here to remove dead host
             .expireAfterAccess(Duration.ofHours(1))
             .build(new CacheLoader<String, Map<String, Object>>() {
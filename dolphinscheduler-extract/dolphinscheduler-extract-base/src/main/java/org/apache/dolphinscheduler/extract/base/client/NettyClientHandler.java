@@ -21,7 +21,7 @@ import org.apache.dolphinscheduler.extract.base.StandardRpcResponse;
 import org.apache.dolphinscheduler.extract.base.future.ResponseFuture;
 import org.apache.dolphinscheduler.extract.base.protocal.HeartBeatTransporter;
 import org.apache.dolphinscheduler.extract.base.protocal.Transporter;
-import org.apache.dolphinscheduler.extract.base.serialize.JsonSerializer;
+import org.apache.dolphinscheduler.extract.base.serialize.RpcSerializerManager;
 import org.apache.dolphinscheduler.extract.base.utils.ChannelUtils;
 
 import lombok.extern.slf4j.Slf4j;
@@ -58,7 +58,8 @@ public class NettyClientHandler extends ChannelInboundHandlerAdapter {
             log.warn("Cannot find the ResponseFuture if transporter: {}", transporter);
             return;
         }
-        StandardRpcResponse deserialize = JsonSerializer.deserialize(transporter.getBody(), StandardRpcResponse.class);
+        StandardRpcResponse deserialize = RpcSerializerManager.getSerializer(transporter.getVersion())
+                .deserialize(transporter.getBody(), StandardRpcResponse.class);
         future.setIRpcResponse(deserialize);
         future.putResponse(deserialize);
     }
@@ -22,16 +22,24 @@ import org.apache.dolphinscheduler.extract.base.IRpcResponse;
 import org.apache.dolphinscheduler.extract.base.config.NettyClientConfig;
 import org.apache.dolphinscheduler.extract.base.exception.RemotingException;
 import org.apache.dolphinscheduler.extract.base.exception.RemotingTimeoutException;
+import org.apache.dolphinscheduler.extract.base.exception.RemotingTooMuchRequestException;
+import org.apache.dolphinscheduler.extract.base.future.ReleaseSemaphore;
 import org.apache.dolphinscheduler.extract.base.future.ResponseFuture;
 import org.apache.dolphinscheduler.extract.base.protocal.Transporter;
 import org.apache.dolphinscheduler.extract.base.protocal.TransporterDecoder;
 import org.apache.dolphinscheduler.extract.base.protocal.TransporterEncoder;
+import org.apache.dolphinscheduler.extract.base.serialize.RpcSerializer;
+import org.apache.dolphinscheduler.extract.base.serialize.RpcSerializerManager;
 import org.apache.dolphinscheduler.extract.base.utils.Constants;
 import org.apache.dolphinscheduler.extract.base.utils.Host;
 import org.apache.dolphinscheduler.extract.base.utils.NettyUtils;
 
 import java.net.InetSocketAddress;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.Semaphore;
 import java.util.concurrent.ThreadFactory;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicBoolean;
@@ -64,8 +72,20 @@ public class NettyRemotingClient implements AutoCloseable {
 
     private final NettyClientHandler clientHandler;
 
+    private final RpcSerializer rpcSerializer;
+
+    /**
+     * The in-flight window of the async requests of each host.
+     */
+    private final ConcurrentHashMap<Host, Semaphore> inFlightSemaphores = new ConcurrentHashMap<>(128);
+
+    private final ExecutorService callbackExecutor;
+
+    private final ScheduledExecutorService responseFutureScanner;
+
     public NettyRemotingClient(final NettyClientConfig clientConfig) {
         this.clientConfig = clientConfig;
+        this.rpcSerializer = RpcSerializerManager.getSerializer(clientConfig.getSerializer());
         ThreadFactory nettyClientThreadFactory = ThreadUtils.newDaemonThreadFactory("NettyClientThread-");
         if (Epoll.isAvailable()) {
             this.workerGroup = new EpollEventLoopGroup(clientConfig.getWorkerThreads(), nettyClientThreadFactory);
@@ -73,6 +93,10 @@ public class NettyRemotingClient implements AutoCloseable {
             this.workerGroup = new NioEventLoopGroup(clientConfig.getWorkerThreads(), nettyClientThreadFactory);
         }
         this.clientHandler = new NettyClientHandler(this);
+        this.callbackExecutor = ThreadUtils.newDaemonFixedThreadExecutor(
+                "NettyClientCallbackThread", clientConfig.getCallbackThreads());
+        this.responseFutureScanner =
+                ThreadUtils.newSingleDaemonScheduledExecutorService("NettyClientResponseFutureScanner");
 
         this.start();
     }
@@ -101,6 +125,8 @@ public class NettyRemotingClient implements AutoCloseable {
                                 .addLast(new TransporterDecoder(), clientHandler, new TransporterEncoder());
                     }
                 });
+        this.responseFutureScanner.scheduleWithFixedDelay(
+                ResponseFuture::scanFutureTable, 1000, 1000, TimeUnit.MILLISECONDS);
         isStarted.compareAndSet(false, true);
     }
 
@@ -137,6 +163,71 @@ public class NettyRemotingClient implements AutoCloseable {
         return iRpcResponse;
     }
 
+    /**
+     * Send the request without waiting for the response, the requests to the same host are pipelined in the same
+     * channel and matched to their responses by the opaque.
+     * <p>
+     * The in-flight requests of each host are bounded by {@link NettyClientConfig#getMaxInFlightRequestsPerHost()},
+     * if the window is full the caller will wait up to the timeout, and then fail by
+     * {@link RemotingTooMuchRequestException}.
+     *
+     * @return the future which will be completed in the callback executor once the response is received, or
+     * completed exceptionally if the request is failed or timeout.
+     */
+    public CompletableFuture<IRpcResponse> sendAsync(final Host host,
+                                                     final Transporter transporter,
+                                                     final long timeoutMillis) {
+        final CompletableFuture<IRpcResponse> result = new CompletableFuture<>();
+        final Semaphore semaphore = inFlightSemaphores.computeIfAbsent(host,
+                h -> new Semaphore(clientConfig.getMaxInFlightRequestsPerHost()));
+        try {
+            if (!semaphore.tryAcquire(timeoutMillis, TimeUnit.MILLISECONDS)) {
+                result.completeExceptionally(new RemotingTooMuchRequestException(String.format(
+                        "The in-flight requests to %s exceed %s, wait %s/ms timeout", host,
+                        clientConfig.getMaxInFlightRequestsPerHost(), timeoutMillis)));
+                return result;
+            }
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            result.completeExceptionally(ex);
+            return result;
+        }
+        final ReleaseSemaphore releaseSemaphore = new ReleaseSemaphore(semaphore);
+        final Channel channel;
+        try {
+            channel = getChannel(host);
+        } catch (Exception ex) {
+            releaseSemaphore.release();
+            result.completeExceptionally(new RemotingException(String.format("connect to : %s fail", host), ex));
+            return result;
+        }
+        final long opaque = transporter.getHeader().getOpaque();
+        final ResponseFuture responseFuture = new ResponseFuture(opaque, timeoutMillis,
+                future -> callbackExecutor.execute(() -> {
+                    IRpcResponse iRpcResponse = future.getIRpcResponse();
+                    if (iRpcResponse != null) {
+                        result.complete(iRpcResponse);
+                    } else if (future.isSendOK()) {
+                        result.completeExceptionally(
+                                new RemotingTimeoutException(host.toString(), timeoutMillis, future.getCause()));
+                    } else {
+                        result.completeExceptionally(new RemotingException(host.toString(), future.getCause()));
+                    }
+                }),
+                releaseSemaphore);
+        channel.writeAndFlush(transporter).addListener(future -> {
+            if (future.isSuccess()) {
+                responseFuture.setSendOk(true);
+                return;
+            }
+            responseFuture.setSendOk(false);
+            responseFuture.setCause(future.cause());
+            responseFuture.putResponse(null);
+            log.error("Send Async request {} to host {} failed", transporter, host, responseFuture.getCause());
+        });
+        return result;
+    }
+
     private Channel getChannel(Host host) {
         Channel channel = channels.get(host);
         if (channel != null && channel.isActive()) {
@@ -181,6 +272,8 @@ public class NettyRemotingClient implements AutoCloseable {
                 if (workerGroup != null) {
                     this.workerGroup.shutdownGracefully();
                 }
+                this.responseFutureScanner.shutdownNow();
+                this.callbackExecutor.shutdown();
                 log.info("netty client closed");
             } catch (Exception ex) {
                 log.error("netty client close exception", ex);
@@ -195,6 +288,10 @@ public class NettyRemotingClient implements AutoCloseable {
         this.channels.clear();
     }
 
+    public RpcSerializer getRpcSerializer() {
+        return rpcSerializer;
+    }
+
     public void closeChannel(Host host) {
         Channel channel = this.channels.remove(host);
         if (channel != null) {
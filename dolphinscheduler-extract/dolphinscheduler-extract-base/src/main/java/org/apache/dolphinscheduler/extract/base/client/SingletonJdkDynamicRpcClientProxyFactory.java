@@ -17,12 +17,17 @@
 
 package org.apache.dolphinscheduler.extract.base.client;
 
+import org.apache.dolphinscheduler.common.utils.PropertyUtils;
 import org.apache.dolphinscheduler.extract.base.config.NettyClientConfig;
+import org.apache.dolphinscheduler.extract.base.serialize.JsonRpcSerializer;
+import org.apache.dolphinscheduler.extract.base.utils.Constants;
 
 public class SingletonJdkDynamicRpcClientProxyFactory {
 
     private static final JdkDynamicRpcClientProxyFactory INSTANCE = new JdkDynamicRpcClientProxyFactory(
-            NettyRemotingClientFactory.buildNettyRemotingClient(new NettyClientConfig()));
+            NettyRemotingClientFactory.buildNettyRemotingClient(NettyClientConfig.builder()
+                    .serializer(PropertyUtils.getString(Constants.RPC_SERIALIZER, JsonRpcSerializer.NAME))
+                    .build()));
 
     public static <T> T getProxyClient(String serverAddress, Class<T> clazz) {
         return INSTANCE.getProxyClient(serverAddress, clazz);
@@ -23,7 +23,7 @@ import org.apache.dolphinscheduler.extract.base.StandardRpcRequest;
 import org.apache.dolphinscheduler.extract.base.exception.MethodInvocationException;
 import org.apache.dolphinscheduler.extract.base.protocal.Transporter;
 import org.apache.dolphinscheduler.extract.base.protocal.TransporterHeader;
-import org.apache.dolphinscheduler.extract.base.serialize.JsonSerializer;
+import org.apache.dolphinscheduler.extract.base.serialize.RpcSerializer;
 import org.apache.dolphinscheduler.extract.base.utils.Host;
 
 import java.lang.reflect.Method;
@@ -37,9 +37,11 @@ class SyncClientMethodInvoker extends AbstractClientMethodInvoker {
     @Override
     public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
         RpcMethod sync = method.getAnnotation(RpcMethod.class);
-        Transporter transporter = new Transporter();
-        transporter.setBody(JsonSerializer.serialize(StandardRpcRequest.of(args)));
-        transporter.setHeader(TransporterHeader.of(methodIdentifier));
+        RpcSerializer rpcSerializer = nettyRemotingClient.getRpcSerializer();
+        Transporter transporter = Transporter.of(
+                TransporterHeader.of(methodIdentifier),
+                rpcSerializer.serialize(StandardRpcRequest.of(args, rpcSerializer)),
+                rpcSerializer.getProtocolVersion());
 
         IRpcResponse iRpcResponse =
                 nettyRemotingClient.sendSync(serverHost, transporter, sync.timeout());
@@ -50,6 +52,6 @@ class SyncClientMethodInvoker extends AbstractClientMethodInvoker {
             return null;
         }
         Class<?> responseClass = method.getReturnType();
-        return JsonSerializer.deserialize(iRpcResponse.getBody(), responseClass);
+        return rpcSerializer.deserialize(iRpcResponse.getBody(), responseClass);
     }
 }
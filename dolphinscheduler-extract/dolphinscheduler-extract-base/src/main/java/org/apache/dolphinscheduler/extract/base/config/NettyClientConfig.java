@@ -17,6 +17,8 @@
 
 package org.apache.dolphinscheduler.extract.base.config;
 
+import org.apache.dolphinscheduler.extract.base.serialize.JsonRpcSerializer;
+
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
@@ -64,4 +66,22 @@ public class NettyClientConfig {
     @Builder.Default
     private int connectTimeoutMillis = 3000;
 
+    /**
+     * the name of the serializer used to send the request, the server will reply in the same serializer
+     */
+    @Builder.Default
+    private String serializer = JsonRpcSerializer.NAME;
+
+    /**
+     * the max in-flight async requests to a single host, the caller will wait until the window is available
+     */
+    @Builder.Default
+    private int maxInFlightRequestsPerHost = 1024;
+
+    /**
+     * the threads which execute the callback of the async requests
+     */
+    @Builder.Default
+    private int callbackThreads = Runtime.getRuntime().availableProcessors();
+
 }
@@ -19,9 +19,12 @@ package org.apache.dolphinscheduler.extract.base.future;
 
 import org.apache.dolphinscheduler.extract.base.IRpcResponse;
 
+import java.util.ArrayList;
+import java.util.List;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
 
 import lombok.Getter;
 import lombok.Setter;
@@ -51,9 +54,28 @@ public class ResponseFuture {
 
     private Throwable cause;
 
+    /**
+     * The callback of the async request, will be invoked once the response is received, the request is failed or
+     * timeout.
+     */
+    private final InvokeCallback invokeCallback;
+
+    private final ReleaseSemaphore releaseSemaphore;
+
+    private final AtomicBoolean completed = new AtomicBoolean(false);
+
     public ResponseFuture(long opaque, long timeoutMillis) {
+        this(opaque, timeoutMillis, null, null);
+    }
+
+    public ResponseFuture(long opaque,
+                          long timeoutMillis,
+                          InvokeCallback invokeCallback,
+                          ReleaseSemaphore releaseSemaphore) {
         this.opaque = opaque;
         this.timeoutMillis = timeoutMillis;
+        this.invokeCallback = invokeCallback;
+        this.releaseSemaphore = releaseSemaphore;
         FUTURE_TABLE.put(opaque, this);
     }
 
@@ -70,9 +92,41 @@ public class ResponseFuture {
     }
 
     public void putResponse(final IRpcResponse iRpcResponse) {
+        // The response may race with the timeout scanner, only the first one will take effect.
+        if (!completed.compareAndSet(false, true)) {
+            return;
+        }
         this.iRpcResponse = iRpcResponse;
         this.latch.countDown();
         FUTURE_TABLE.remove(opaque);
+        if (releaseSemaphore != null) {
+            releaseSemaphore.release();
+        }
+        if (invokeCallback != null) {
+            try {
+                invokeCallback.operationComplete(this);
+            } catch (Throwable ex) {
+                log.error("Execute the callback of request id {} failed", opaque, ex);
+            }
+        }
+    }
+
+    /**
+     * Remove the timeout futures from the future table and complete them with a null response, so the in-flight
+     * window of the async request can be released and the sync request which is already given up will not leak.
+     */
+    public static void scanFutureTable() {
+        List<ResponseFuture> timeoutFutures = new ArrayList<>();
+        for (ResponseFuture future : FUTURE_TABLE.values()) {
+            if (future.isTimeout()) {
+                timeoutFutures.add(future);
+            }
+        }
+        for (ResponseFuture future : timeoutFutures) {
+            log.warn("Request id {} is timeout in {}/ms, remove it from the future table", future.opaque,
+                    future.timeoutMillis);
+            future.putResponse(null);
+        }
     }
 
     public static ResponseFuture getFuture(long opaque) {
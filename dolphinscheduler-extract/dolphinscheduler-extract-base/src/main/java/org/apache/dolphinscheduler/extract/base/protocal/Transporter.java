@@ -20,6 +20,7 @@ package org.apache.dolphinscheduler.extract.base.protocal;
 import org.apache.dolphinscheduler.extract.base.StandardRpcRequest;
 import org.apache.dolphinscheduler.extract.base.StandardRpcResponse;
 import org.apache.dolphinscheduler.extract.base.serialize.JsonSerializer;
+import org.apache.dolphinscheduler.extract.base.serialize.RpcSerializer;
 
 import java.io.Serializable;
 
@@ -32,8 +33,13 @@ public class Transporter implements Serializable {
     private static final long serialVersionUID = -1L;
 
     public static final byte MAGIC = (byte) 0xbabe;
+    /**
+     * The protocol version of json serializer, the other versions are bound to the
+     * {@link org.apache.dolphinscheduler.extract.base.serialize.RpcSerializer}.
+     */
     public static final byte VERSION = 0;
 
+    private byte version = VERSION;
     private TransporterHeader header;
     private byte[] body;
 
@@ -45,8 +51,19 @@ public class Transporter implements Serializable {
         return of(header, JsonSerializer.serialize(iRpcRequest));
     }
 
+    public static Transporter of(@NonNull TransporterHeader header,
+                                 StandardRpcResponse iRpcResponse,
+                                 @NonNull RpcSerializer rpcSerializer) {
+        return of(header, rpcSerializer.serialize(iRpcResponse), rpcSerializer.getProtocolVersion());
+    }
+
     public static Transporter of(@NonNull TransporterHeader header, byte[] body) {
+        return of(header, body, VERSION);
+    }
+
+    public static Transporter of(@NonNull TransporterHeader header, byte[] body, byte version) {
         Transporter transporter = new Transporter();
+        transporter.setVersion(version);
         transporter.setHeader(header);
         transporter.setBody(body);
         return transporter;
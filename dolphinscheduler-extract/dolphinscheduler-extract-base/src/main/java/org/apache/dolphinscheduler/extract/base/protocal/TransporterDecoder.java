@@ -17,7 +17,7 @@
 
 package org.apache.dolphinscheduler.extract.base.protocal;
 
-import org.apache.dolphinscheduler.extract.base.serialize.JsonSerializer;
+import org.apache.dolphinscheduler.extract.base.serialize.RpcSerializerManager;
 
 import java.util.List;
 
@@ -33,6 +33,7 @@ public class TransporterDecoder extends ReplayingDecoder<TransporterDecoder.Stat
         super(State.MAGIC);
     }
 
+    private byte version;
     private int headerLength;
     private byte[] header;
     private int bodyLength;
@@ -45,7 +46,8 @@ public class TransporterDecoder extends ReplayingDecoder<TransporterDecoder.Stat
                 checkMagic(in.readByte());
                 checkpoint(State.VERSION);
             case VERSION:
-                checkVersion(in.readByte());
+                version = in.readByte();
+                checkVersion(version);
                 checkpoint(State.HEADER_LENGTH);
             case HEADER_LENGTH:
                 headerLength = in.readInt();
@@ -61,7 +63,7 @@ public class TransporterDecoder extends ReplayingDecoder<TransporterDecoder.Stat
                 body = new byte[bodyLength];
                 in.readBytes(body);
                 Transporter transporter =
-                        Transporter.of(JsonSerializer.deserialize(header, TransporterHeader.class), body);
+                        Transporter.of(TransporterHeader.fromBytes(version, header), body, version);
                 out.add(transporter);
                 checkpoint(State.MAGIC);
                 break;
@@ -77,7 +79,7 @@ public class TransporterDecoder extends ReplayingDecoder<TransporterDecoder.Stat
     }
 
     private void checkVersion(byte version) {
-        if (version != Transporter.VERSION) {
+        if (!RpcSerializerManager.isSupported(version)) {
             throw new IllegalArgumentException("illegal protocol [version]" + version);
         }
     }
@@ -33,10 +33,10 @@ public class TransporterEncoder extends MessageToByteEncoder<Transporter> {
             throw new RemotingException("encode msg is null");
         }
         out.writeByte(Transporter.MAGIC);
-        out.writeByte(Transporter.VERSION);
+        out.writeByte(transporter.getVersion());
 
         // write header
-        byte[] header = transporter.getHeader().toBytes();
+        byte[] header = transporter.getHeader().toBytes(transporter.getVersion());
         out.writeInt(header.length);
         out.writeBytes(header);
 
@@ -20,6 +20,8 @@ package org.apache.dolphinscheduler.extract.base.protocal;
 import org.apache.dolphinscheduler.extract.base.serialize.JsonSerializer;
 
 import java.io.Serializable;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
 import java.util.concurrent.atomic.AtomicLong;
 
 import lombok.Data;
@@ -60,4 +62,30 @@ public class TransporterHeader implements Serializable {
         return JsonSerializer.serialize(this);
     }
 
+    /**
+     * Serialize the header in the given protocol version, the json version keeps the json format, the other versions
+     * use a fixed binary format: | opaque(8 bytes) | methodIdentifier(utf-8) |.
+     */
+    public byte[] toBytes(byte version) {
+        if (version == Transporter.VERSION) {
+            return toBytes();
+        }
+        byte[] methodIdentifierBytes = methodIdentifier.getBytes(StandardCharsets.UTF_8);
+        return ByteBuffer.allocate(Long.BYTES + methodIdentifierBytes.length)
+                .putLong(opaque)
+                .put(methodIdentifierBytes)
+                .array();
+    }
+
+    public static TransporterHeader fromBytes(byte version, byte[] bytes) {
+        if (version == Transporter.VERSION) {
+            return JsonSerializer.deserialize(bytes, TransporterHeader.class);
+        }
+        ByteBuffer byteBuffer = ByteBuffer.wrap(bytes);
+        long opaque = byteBuffer.getLong();
+        String methodIdentifier =
+                new String(bytes, Long.BYTES, bytes.length - Long.BYTES, StandardCharsets.UTF_8);
+        return new TransporterHeader(opaque, methodIdentifier);
+    }
+
 }
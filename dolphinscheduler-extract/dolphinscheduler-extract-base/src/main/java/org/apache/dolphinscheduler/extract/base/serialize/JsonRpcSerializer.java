@@ -0,0 +1,52 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.dolphinscheduler.extract.base.serialize;
+
+import org.apache.dolphinscheduler.extract.base.protocal.Transporter;
+
+import com.google.auto.service.AutoService;
+
+/**
+ * The default serializer, the header and the body are all serialized as json.
+ */
+@AutoService(RpcSerializer.class)
+public class JsonRpcSerializer implements RpcSerializer {
+
+    public static final String NAME = "json";
+
+    @Override
+    public String getName() {
+        return NAME;
+    }
+
+    @Override
+    public byte getProtocolVersion() {
+        return Transporter.VERSION;
+    }
+
+    @Override
+    public <T> byte[] serialize(T obj) {
+        return JsonSerializer.serialize(obj);
+    }
+
+    @Override
+    public <T> T deserialize(byte[] src, Class<T> clazz) {
+        return JsonSerializer.deserialize(src, clazz);
+    }
+
+}
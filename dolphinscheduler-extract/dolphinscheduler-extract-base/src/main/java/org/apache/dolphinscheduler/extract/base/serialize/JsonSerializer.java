@@ -26,7 +26,6 @@ import static org.apache.dolphinscheduler.common.constants.DateConstants.YYYY_MM
 import org.apache.dolphinscheduler.common.utils.JSONUtils;
 
 import java.io.IOException;
-import java.nio.charset.StandardCharsets;
 import java.text.SimpleDateFormat;
 import java.time.LocalDateTime;
 import java.util.TimeZone;
@@ -72,7 +71,7 @@ public class JsonSerializer {
             return null;
         }
         try {
-            return objectMapper.writeValueAsString(obj).getBytes(StandardCharsets.UTF_8);
+            return objectMapper.writeValueAsBytes(obj);
         } catch (JsonProcessingException e) {
             log.error("serializeToString exception!", e);
             return null;
@@ -110,9 +109,8 @@ public class JsonSerializer {
             return null;
         }
 
-        String json = new String(src, StandardCharsets.UTF_8);
         try {
-            return objectMapper.readValue(json, clazz);
+            return objectMapper.readValue(src, clazz);
         } catch (IOException e) {
             log.error("deserialize exception!", e);
             return null;
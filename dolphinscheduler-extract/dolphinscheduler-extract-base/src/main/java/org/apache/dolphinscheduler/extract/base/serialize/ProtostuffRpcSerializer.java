@@ -0,0 +1,93 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.dolphinscheduler.extract.base.serialize;
+
+import com.google.auto.service.AutoService;
+
+import io.protostuff.LinkedBuffer;
+import io.protostuff.ProtostuffIOUtil;
+import io.protostuff.Schema;
+import io.protostuff.runtime.RuntimeSchema;
+
+/**
+ * A compact binary serializer based on the protostuff runtime schema.
+ * <p>
+ * The object is wrapped by {@link Wrapper}, so the concrete class of the object is written into the message, this
+ * makes the serializer can handle the non-pojo object, e.g. String, List, and the declared type is not the concrete
+ * type, e.g. the return type of rpc method is an interface.
+ */
+@AutoService(RpcSerializer.class)
+public class ProtostuffRpcSerializer implements RpcSerializer {
+
+    public static final String NAME = "protostuff";
+
+    public static final byte PROTOCOL_VERSION = 1;
+
+    private static final Schema<Wrapper> WRAPPER_SCHEMA = RuntimeSchema.getSchema(Wrapper.class);
+
+    private static final ThreadLocal<LinkedBuffer> BUFFER_THREAD_LOCAL =
+            ThreadLocal.withInitial(() -> LinkedBuffer.allocate(LinkedBuffer.DEFAULT_BUFFER_SIZE));
+
+    @Override
+    public String getName() {
+        return NAME;
+    }
+
+    @Override
+    public byte getProtocolVersion() {
+        return PROTOCOL_VERSION;
+    }
+
+    @Override
+    public <T> byte[] serialize(T obj) {
+        if (obj == null) {
+            return null;
+        }
+        LinkedBuffer buffer = BUFFER_THREAD_LOCAL.get();
+        try {
+            return ProtostuffIOUtil.toByteArray(new Wrapper(obj), WRAPPER_SCHEMA, buffer);
+        } finally {
+            buffer.clear();
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    @Override
+    public <T> T deserialize(byte[] src, Class<T> clazz) {
+        if (src == null) {
+            return null;
+        }
+        Wrapper wrapper = WRAPPER_SCHEMA.newMessage();
+        ProtostuffIOUtil.mergeFrom(src, wrapper, WRAPPER_SCHEMA);
+        // the clazz may be a primitive type, so we cannot use clazz.cast here
+        return (T) wrapper.value;
+    }
+
+    static class Wrapper {
+
+        private Object value;
+
+        Wrapper() {
+        }
+
+        Wrapper(Object value) {
+            this.value = value;
+        }
+    }
+
+}
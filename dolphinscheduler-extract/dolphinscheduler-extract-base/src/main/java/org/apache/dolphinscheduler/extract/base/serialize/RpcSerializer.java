@@ -0,0 +1,43 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.dolphinscheduler.extract.base.serialize;
+
+/**
+ * The serializer of the rpc request/response body, the implementations are loaded by {@link java.util.ServiceLoader}.
+ * <p>
+ * Each serializer is bound to a protocol version, which is written in the version byte of the
+ * {@link org.apache.dolphinscheduler.extract.base.protocal.Transporter}, so the receiver can use the same serializer to
+ * decode the message, and the server will reply in the same protocol version of the request.
+ */
+public interface RpcSerializer {
+
+    /**
+     * The name of the serializer, used to choose the serializer by configuration.
+     */
+    String getName();
+
+    /**
+     * The protocol version of the serializer, should be unique between the serializers.
+     */
+    byte getProtocolVersion();
+
+    <T> byte[] serialize(T obj);
+
+    <T> T deserialize(byte[] src, Class<T> clazz);
+
+}
@@ -0,0 +1,74 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.dolphinscheduler.extract.base.serialize;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.ServiceLoader;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Manage the {@link RpcSerializer}s loaded by {@link ServiceLoader}.
+ */
+@Slf4j
+public class RpcSerializerManager {
+
+    private static final Map<Byte, RpcSerializer> PROTOCOL_VERSION_SERIALIZER_MAP = new HashMap<>();
+
+    private static final Map<String, RpcSerializer> NAME_SERIALIZER_MAP = new HashMap<>();
+
+    static {
+        ServiceLoader.load(RpcSerializer.class).forEach(rpcSerializer -> {
+            RpcSerializer existSerializer =
+                    PROTOCOL_VERSION_SERIALIZER_MAP.putIfAbsent(rpcSerializer.getProtocolVersion(), rpcSerializer);
+            if (existSerializer != null) {
+                throw new IllegalArgumentException(String.format(
+                        "Duplicate RpcSerializer protocol version: %s, %s and %s", rpcSerializer.getProtocolVersion(),
+                        existSerializer.getClass().getName(), rpcSerializer.getClass().getName()));
+            }
+            NAME_SERIALIZER_MAP.put(rpcSerializer.getName(), rpcSerializer);
+            log.info("Initialize RpcSerializer: {} for protocol version: {}",
+                    rpcSerializer.getName(), rpcSerializer.getProtocolVersion());
+        });
+    }
+
+    private RpcSerializerManager() {
+    }
+
+    public static boolean isSupported(byte protocolVersion) {
+        return PROTOCOL_VERSION_SERIALIZER_MAP.containsKey(protocolVersion);
+    }
+
+    public static RpcSerializer getSerializer(byte protocolVersion) {
+        RpcSerializer rpcSerializer = PROTOCOL_VERSION_SERIALIZER_MAP.get(protocolVersion);
+        if (rpcSerializer == null) {
+            throw new IllegalArgumentException("Cannot find the RpcSerializer of protocol version: " + protocolVersion);
+        }
+        return rpcSerializer;
+    }
+
+    public static RpcSerializer getSerializer(String name) {
+        RpcSerializer rpcSerializer = NAME_SERIALIZER_MAP.get(name);
+        if (rpcSerializer == null) {
+            throw new IllegalArgumentException("Cannot find the RpcSerializer: " + name);
+        }
+        return rpcSerializer;
+    }
+
+}
@@ -24,10 +24,12 @@ import org.apache.dolphinscheduler.extract.base.StandardRpcResponse;
 import org.apache.dolphinscheduler.extract.base.protocal.HeartBeatTransporter;
 import org.apache.dolphinscheduler.extract.base.protocal.Transporter;
 import org.apache.dolphinscheduler.extract.base.protocal.TransporterHeader;
-import org.apache.dolphinscheduler.extract.base.serialize.JsonSerializer;
+import org.apache.dolphinscheduler.extract.base.serialize.RpcSerializer;
+import org.apache.dolphinscheduler.extract.base.serialize.RpcSerializerManager;
 import org.apache.dolphinscheduler.extract.base.utils.ChannelUtils;
 
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.RejectedExecutionException;
@@ -79,6 +81,8 @@ class JdkDynamicServerHandler extends ChannelInboundHandlerAdapter {
             return;
         }
         ServerMethodInvoker methodInvoker = methodInvokerMap.get(methodIdentifier);
+        // reply in the same protocol version of the request
+        final RpcSerializer rpcSerializer = RpcSerializerManager.getSerializer(transporter.getVersion());
         try {
             if (methodInvoker == null) {
                 log.error("Cannot find the ServerMethodInvoker of : {}", transporter);
@@ -86,39 +90,45 @@ class JdkDynamicServerHandler extends ChannelInboundHandlerAdapter {
                         StandardRpcResponse.fail("Cannot find the ServerMethodInvoker of " + methodIdentifier);
                 TransporterHeader transporterHeader =
                         TransporterHeader.of(transporter.getHeader().getOpaque(), methodIdentifier);
-                Transporter response = Transporter.of(transporterHeader, iRpcResponse);
+                Transporter response = Transporter.of(transporterHeader, iRpcResponse, rpcSerializer);
                 channel.writeAndFlush(response);
                 return;
             }
             methodInvokeExecutor.execute(() -> {
-                StandardRpcResponse iRpcResponse;
+                Object result;
                 try {
                     StandardRpcRequest standardRpcRequest =
-                            JsonSerializer.deserialize(transporter.getBody(), StandardRpcRequest.class);
+                            rpcSerializer.deserialize(transporter.getBody(), StandardRpcRequest.class);
                     Object[] args;
                     if (standardRpcRequest.getArgs() == null || standardRpcRequest.getArgs().length == 0) {
                         args = null;
                     } else {
                         args = new Object[standardRpcRequest.getArgs().length];
                         for (int i = 0; i < standardRpcRequest.getArgs().length; i++) {
-                            args[i] = JsonSerializer.deserialize(standardRpcRequest.getArgs()[i],
+                            args[i] = rpcSerializer.deserialize(standardRpcRequest.getArgs()[i],
                                     standardRpcRequest.getArgsTypes()[i]);
                         }
                     }
-                    Object result = methodInvoker.invoke(args);
-                    if (result == null) {
-                        iRpcResponse = StandardRpcResponse.success(null, null);
-                    } else {
-                        iRpcResponse = StandardRpcResponse.success(JsonSerializer.serialize(result), result.getClass());
-                    }
+                    result = methodInvoker.invoke(args);
                 } catch (Throwable e) {
                     log.error("Invoke method {} failed, {}.", methodIdentifier, e.getMessage(), e);
-                    iRpcResponse = StandardRpcResponse.fail(e.getMessage());
+                    writeResponse(channel, transporter, StandardRpcResponse.fail(e.getMessage()), rpcSerializer);
+                    return;
                 }
-                TransporterHeader transporterHeader =
-                        TransporterHeader.of(transporter.getHeader().getOpaque(), methodIdentifier);
-                Transporter response = Transporter.of(transporterHeader, iRpcResponse);
-                channel.writeAndFlush(response);
+                if (result instanceof CompletableFuture) {
+                    // The async method, reply once the future is completed, so the invoke thread will not be blocked.
+                    ((CompletableFuture<?>) result).whenComplete((value, ex) -> {
+                        if (ex != null) {
+                            log.error("Invoke async method {} failed, {}.", methodIdentifier, ex.getMessage(), ex);
+                            writeResponse(channel, transporter, StandardRpcResponse.fail(ex.getMessage()),
+                                    rpcSerializer);
+                            return;
+                        }
+                        writeResponse(channel, transporter, toSuccessResponse(value, rpcSerializer), rpcSerializer);
+                    });
+                    return;
+                }
+                writeResponse(channel, transporter, toSuccessResponse(result, rpcSerializer), rpcSerializer);
             });
         } catch (RejectedExecutionException e) {
             log.warn("NettyRemotingServer's thread pool is full, discard msg {} from {}", transporter,
@@ -126,11 +136,32 @@ class JdkDynamicServerHandler extends ChannelInboundHandlerAdapter {
             StandardRpcResponse iRpcResponse = StandardRpcResponse.fail("NettyRemotingServer's thread pool is full");
             TransporterHeader transporterHeader =
                     TransporterHeader.of(transporter.getHeader().getOpaque(), methodIdentifier);
-            Transporter response = Transporter.of(transporterHeader, iRpcResponse);
+            Transporter response = Transporter.of(transporterHeader, iRpcResponse, rpcSerializer);
             channel.writeAndFlush(response);
         }
     }
 
+    private StandardRpcResponse toSuccessResponse(Object result, RpcSerializer rpcSerializer) {
+        try {
+            if (result == null) {
+                return StandardRpcResponse.success(null, null);
+            }
+            return StandardRpcResponse.success(rpcSerializer.serialize(result), result.getClass());
+        } catch (Throwable e) {
+            log.error("Serialize the result {} failed, {}.", result, e.getMessage(), e);
+            return StandardRpcResponse.fail(e.getMessage());
+        }
+    }
+
+    private void writeResponse(Channel channel,
+                               Transporter request,
+                               StandardRpcResponse iRpcResponse,
+                               RpcSerializer rpcSerializer) {
+        TransporterHeader transporterHeader = TransporterHeader.of(
+                request.getHeader().getOpaque(), request.getHeader().getMethodIdentifier());
+        channel.writeAndFlush(Transporter.of(transporterHeader, iRpcResponse, rpcSerializer));
+    }
+
     @Override
     public void exceptionCaught(ChannelHandlerContext ctx, Throwable cause) {
         log.error("exceptionCaught : {}", cause.getMessage(), cause);
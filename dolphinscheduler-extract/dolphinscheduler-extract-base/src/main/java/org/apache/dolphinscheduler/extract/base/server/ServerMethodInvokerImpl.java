@@ -17,6 +17,8 @@
 
 package org.apache.dolphinscheduler.extract.base.server;
 
+import org.apache.dolphinscheduler.extract.base.utils.RpcMethodUtils;
+
 import java.lang.reflect.InvocationTargetException;
 import java.lang.reflect.Method;
 
@@ -31,7 +33,7 @@ class ServerMethodInvokerImpl implements ServerMethodInvoker {
     ServerMethodInvokerImpl(Object serviceBean, Method method) {
         this.serviceBean = serviceBean;
         this.method = method;
-        this.methodIdentify = method.toGenericString();
+        this.methodIdentify = RpcMethodUtils.getMethodIdentifier(method);
     }
 
     @Override
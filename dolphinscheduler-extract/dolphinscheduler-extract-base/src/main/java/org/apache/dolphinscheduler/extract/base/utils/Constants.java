@@ -39,6 +39,11 @@ public class Constants {
 
     public static final int NETTY_CLIENT_HEART_BEAT_TIME = 1000 * 6;
 
+    /**
+     * the serializer used by the rpc client, e.g. json, protostuff
+     */
+    public static final String RPC_SERIALIZER = "rpc.serializer";
+
     /**
      * charset
      */
@@ -0,0 +1,65 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.dolphinscheduler.extract.base.utils;
+
+import java.lang.reflect.Method;
+import java.lang.reflect.ParameterizedType;
+import java.lang.reflect.Type;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * rpc method utils
+ */
+public class RpcMethodUtils {
+
+    private RpcMethodUtils() {
+        throw new IllegalStateException(RpcMethodUtils.class.getName());
+    }
+
+    /**
+     * Get the identifier of the rpc method, which is used to match the method between the client and the server.
+     * <p>
+     * The identifier of an async method which returns {@code CompletableFuture<T>} is the same as the identifier of the
+     * sync method which returns {@code T} ({@code void} for {@code CompletableFuture<Void>}), so the sync and the async
+     * signature of a method are the same on the wire, and the client and the server of different versions can still
+     * call each other after a method is changed from sync to async.
+     *
+     * @param method rpc method
+     * @return method identifier
+     */
+    public static String getMethodIdentifier(Method method) {
+        String genericString = method.toGenericString();
+        if (!CompletableFuture.class.equals(method.getReturnType())) {
+            return genericString;
+        }
+        Type returnType = method.getGenericReturnType();
+        String valueTypeName = Object.class.getTypeName();
+        if (returnType instanceof ParameterizedType) {
+            valueTypeName = ((ParameterizedType) returnType).getActualTypeArguments()[0].getTypeName();
+        }
+        if (Void.class.getTypeName().equals(valueTypeName)) {
+            valueTypeName = void.class.getTypeName();
+        }
+        // The return type is the first type name followed by a space in the generic string, after the modifiers.
+        String returnTypeName = returnType.getTypeName() + " ";
+        int index = genericString.indexOf(returnTypeName);
+        return genericString.substring(0, index) + valueTypeName + " "
+                + genericString.substring(index + returnTypeName.length());
+    }
+
+}
@@ -22,13 +22,21 @@ import static org.junit.jupiter.api.Assertions.assertEquals;
 
 import org.apache.dolphinscheduler.extract.base.RpcMethod;
 import org.apache.dolphinscheduler.extract.base.RpcService;
+import org.apache.dolphinscheduler.extract.base.config.NettyClientConfig;
 import org.apache.dolphinscheduler.extract.base.config.NettyServerConfig;
 import org.apache.dolphinscheduler.extract.base.exception.MethodInvocationException;
+import org.apache.dolphinscheduler.extract.base.serialize.ProtostuffRpcSerializer;
 import org.apache.dolphinscheduler.extract.base.server.SpringServerMethodInvokerDiscovery;
+import org.apache.dolphinscheduler.extract.base.utils.RpcMethodUtils;
 
 import org.apache.commons.lang3.RandomUtils;
 import org.apache.commons.lang3.StringUtils;
 
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.BeforeEach;
@@ -78,6 +86,58 @@ public class SingletonJdkDynamicRpcClientProxyFactoryTest {
         assertDoesNotThrow(proxyClient::voidMethod);
     }
 
+    @Test
+    public void testPingWithProtostuffSerializer() {
+        NettyRemotingClient nettyRemotingClient = NettyRemotingClientFactory.buildNettyRemotingClient(
+                NettyClientConfig.builder().serializer(ProtostuffRpcSerializer.NAME).build());
+        try {
+            IService proxyClient = new JdkDynamicRpcClientProxyFactory(nettyRemotingClient)
+                    .getProxyClient(serverAddress, IService.class);
+            assertEquals("pong", proxyClient.ping("ping"));
+            assertDoesNotThrow(proxyClient::voidMethod);
+
+            MethodInvocationException methodInvocationException =
+                    Assertions.assertThrows(MethodInvocationException.class, () -> proxyClient.ping(null));
+            assertEquals("ping: null is illegal", methodInvocationException.getMessage());
+        } finally {
+            nettyRemotingClient.close();
+        }
+    }
+
+    @Test
+    public void testAsyncPing() throws Exception {
+        IService proxyClient =
+                SingletonJdkDynamicRpcClientProxyFactory.getProxyClient(serverAddress, IService.class);
+        List<CompletableFuture<String>> futures = new ArrayList<>();
+        for (int i = 0; i < 100; i++) {
+            futures.add(proxyClient.asyncPing("ping"));
+        }
+        for (CompletableFuture<String> future : futures) {
+            assertEquals("pong", future.get());
+        }
+
+        ExecutionException executionException =
+                Assertions.assertThrows(ExecutionException.class, () -> proxyClient.asyncPing(null).get());
+        Assertions.assertTrue(executionException.getCause() instanceof MethodInvocationException);
+        assertEquals("ping: null is illegal", executionException.getCause().getMessage());
+    }
+
+    @Test
+    public void testAsyncMethodIdentifiedBySyncSignature() throws Exception {
+        // The client and the server of the old version identify the method by its sync signature
+        assertEquals(
+                "public abstract java.lang.String " + IService.class.getTypeName() + ".asyncPing(java.lang.String)",
+                RpcMethodUtils.getMethodIdentifier(IService.class.getMethod("asyncPing", String.class)));
+        assertEquals("public abstract void " + IService.class.getTypeName() + ".asyncVoidMethod()",
+                RpcMethodUtils.getMethodIdentifier(IService.class.getMethod("asyncVoidMethod")));
+        assertEquals(IService.class.getMethod("ping", String.class).toGenericString(),
+                RpcMethodUtils.getMethodIdentifier(IService.class.getMethod("ping", String.class)));
+
+        IService proxyClient =
+                SingletonJdkDynamicRpcClientProxyFactory.getProxyClient(serverAddress, IService.class);
+        Assertions.assertNull(proxyClient.asyncVoidMethod().get());
+    }
+
     @AfterEach
     public void tearDown() {
         springServerMethodInvokerDiscovery.close();
@@ -91,6 +151,12 @@ public class SingletonJdkDynamicRpcClientProxyFactoryTest {
 
         @RpcMethod
         void voidMethod();
+
+        @RpcMethod
+        CompletableFuture<String> asyncPing(String ping);
+
+        @RpcMethod
+        CompletableFuture<Void> asyncVoidMethod();
     }
 
     public static class IServiceImpl implements IService {
@@ -107,6 +173,22 @@ public class SingletonJdkDynamicRpcClientProxyFactoryTest {
         public void voidMethod() {
             System.out.println("void method");
         }
+
+        @Override
+        public CompletableFuture<String> asyncPing(String ping) {
+            CompletableFuture<String> future = new CompletableFuture<>();
+            if (StringUtils.isEmpty(ping)) {
+                future.completeExceptionally(new IllegalArgumentException("ping: " + ping + " is illegal"));
+            } else {
+                future.complete("pong");
+            }
+            return future;
+        }
+
+        @Override
+        public CompletableFuture<Void> asyncVoidMethod() {
+            return CompletableFuture.completedFuture(null);
+        }
     }
 
 }
@@ -0,0 +1,116 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.dolphinscheduler.extract.base.serialize;
+
+import org.apache.dolphinscheduler.extract.base.StandardRpcRequest;
+import org.apache.dolphinscheduler.extract.base.StandardRpcResponse;
+import org.apache.dolphinscheduler.extract.base.protocal.Transporter;
+import org.apache.dolphinscheduler.extract.base.protocal.TransporterHeader;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Date;
+import java.util.List;
+import java.util.Map;
+
+import lombok.Data;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+class RpcSerializerTest {
+
+    private static final List<RpcSerializer> RPC_SERIALIZERS = Arrays.asList(
+            RpcSerializerManager.getSerializer(JsonRpcSerializer.NAME),
+            RpcSerializerManager.getSerializer(ProtostuffRpcSerializer.NAME));
+
+    @Test
+    void testSerializeRequest() {
+        RPC_SERIALIZERS.forEach(this::assertSerializeRequest);
+    }
+
+    @Test
+    void testSerializeResponse() {
+        RPC_SERIALIZERS.forEach(this::assertSerializeResponse);
+    }
+
+    @Test
+    void testSerializeHeader() {
+        RPC_SERIALIZERS.forEach(rpcSerializer -> assertSerializeHeader(rpcSerializer.getProtocolVersion()));
+    }
+
+    @Test
+    void testGetSerializer() {
+        Assertions.assertEquals(Transporter.VERSION,
+                RpcSerializerManager.getSerializer(JsonRpcSerializer.NAME).getProtocolVersion());
+        Assertions.assertTrue(RpcSerializerManager.isSupported(ProtostuffRpcSerializer.PROTOCOL_VERSION));
+        Assertions.assertFalse(RpcSerializerManager.isSupported((byte) 100));
+        Assertions.assertThrows(IllegalArgumentException.class, () -> RpcSerializerManager.getSerializer("xml"));
+    }
+
+    private void assertSerializeRequest(RpcSerializer rpcSerializer) {
+        Payload payload = new Payload();
+        payload.setId(1);
+        payload.setName("task");
+        payload.setCreateTime(new Date(1000L));
+        payload.setTags(Arrays.asList("a", "b"));
+        payload.setParams(Collections.singletonMap("k", "v"));
+
+        byte[] bytes =
+                rpcSerializer.serialize(StandardRpcRequest.of(new Object[]{payload, "str", 2}, rpcSerializer));
+        StandardRpcRequest request = rpcSerializer.deserialize(bytes, StandardRpcRequest.class);
+
+        Assertions.assertArrayEquals(new Class[]{Payload.class, String.class, Integer.class}, request.getArgsTypes());
+        Assertions.assertEquals(payload, rpcSerializer.deserialize(request.getArgs()[0], Payload.class));
+        Assertions.assertEquals("str", rpcSerializer.deserialize(request.getArgs()[1], String.class));
+        Assertions.assertEquals(2, rpcSerializer.deserialize(request.getArgs()[2], int.class));
+    }
+
+    private void assertSerializeResponse(RpcSerializer rpcSerializer) {
+        StandardRpcResponse response = StandardRpcResponse.fail("failed");
+
+        StandardRpcResponse deserialized =
+                rpcSerializer.deserialize(rpcSerializer.serialize(response), StandardRpcResponse.class);
+        Assertions.assertFalse(deserialized.isSuccess());
+        Assertions.assertEquals("failed", deserialized.getMessage());
+        Assertions.assertNull(rpcSerializer.serialize(null));
+        Assertions.assertNull(rpcSerializer.deserialize(null, StandardRpcResponse.class));
+    }
+
+    private void assertSerializeHeader(byte version) {
+        TransporterHeader header = TransporterHeader.of(100L, "IService.ping(java.lang.String)");
+
+        TransporterHeader deserialized = TransporterHeader.fromBytes(version, header.toBytes(version));
+        Assertions.assertEquals(header, deserialized);
+    }
+
+    @Data
+    public static class Payload {
+
+        private int id;
+
+        private String name;
+
+        private Date createTime;
+
+        private List<String> tags;
+
+        private Map<String, String> params;
+    }
+
+}
@@ -35,4 +35,9 @@ public class TaskInstanceLogPageQueryRequest {
     private int skipLineNum;
     private int limit;
 
+    /**
+     * Read the last limit lines of the log rather than the lines after skipLineNum, the skipLineNum is ignored.
+     */
+    private boolean tail;
+
 }
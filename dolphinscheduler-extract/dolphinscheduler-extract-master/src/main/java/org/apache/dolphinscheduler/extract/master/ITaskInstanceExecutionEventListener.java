@@ -24,17 +24,19 @@ import org.apache.dolphinscheduler.extract.master.transportor.TaskInstanceExecut
 import org.apache.dolphinscheduler.extract.master.transportor.TaskInstanceExecutionRunningEvent;
 import org.apache.dolphinscheduler.extract.master.transportor.WorkflowInstanceStateChangeEvent;
 
+import java.util.concurrent.CompletableFuture;
+
 @RpcService
 public interface ITaskInstanceExecutionEventListener {
 
     @RpcMethod
-    void onTaskInstanceExecutionRunning(TaskInstanceExecutionRunningEvent taskInstanceExecutionRunningEvent);
+    CompletableFuture<Void> onTaskInstanceExecutionRunning(TaskInstanceExecutionRunningEvent taskInstanceExecutionRunningEvent);
 
     @RpcMethod
-    void onTaskInstanceExecutionFinish(TaskInstanceExecutionFinishEvent taskInstanceExecutionFinishEvent);
+    CompletableFuture<Void> onTaskInstanceExecutionFinish(TaskInstanceExecutionFinishEvent taskInstanceExecutionFinishEvent);
 
     @RpcMethod
-    void onTaskInstanceExecutionInfoUpdate(TaskInstanceExecutionInfoEvent taskInstanceExecutionInfoEvent);
+    CompletableFuture<Void> onTaskInstanceExecutionInfoUpdate(TaskInstanceExecutionInfoEvent taskInstanceExecutionInfoEvent);
 
     // todo: Split this into a separate interface
     @RpcMethod
@@ -0,0 +1,56 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.dolphinscheduler.extract.master.transportor;
+
+import java.util.List;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class UpstreamInstanceFinishedEvent {
+
+    /**
+     * The upstream instances finished in the sender master, the instances finished in a burst are merged into one
+     * event.
+     */
+    private List<FinishedUpstreamInstance> finishedUpstreamInstances;
+
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class FinishedUpstreamInstance {
+
+        private long workflowDefinitionCode;
+
+        /**
+         * The code of the finished task instance, null if the workflow instance is finished.
+         */
+        private Long taskCode;
+
+        /**
+         * The schedule time of the workflow instance, or its start time if it is not scheduled, in milliseconds.
+         */
+        private Long instanceTime;
+
+    }
+
+}
@@ -19,6 +19,8 @@ package org.apache.dolphinscheduler.extract.worker;
 
 import org.apache.dolphinscheduler.extract.base.RpcMethod;
 import org.apache.dolphinscheduler.extract.base.RpcService;
+import org.apache.dolphinscheduler.extract.worker.transportor.TaskInstanceBatchDispatchRequest;
+import org.apache.dolphinscheduler.extract.worker.transportor.TaskInstanceBatchDispatchResponse;
 import org.apache.dolphinscheduler.extract.worker.transportor.TaskInstanceDispatchRequest;
 import org.apache.dolphinscheduler.extract.worker.transportor.TaskInstanceDispatchResponse;
 import org.apache.dolphinscheduler.extract.worker.transportor.TaskInstanceKillRequest;
@@ -28,11 +30,16 @@ import org.apache.dolphinscheduler.extract.worker.transportor.TaskInstancePauseR
 import org.apache.dolphinscheduler.extract.worker.transportor.UpdateWorkflowHostRequest;
 import org.apache.dolphinscheduler.extract.worker.transportor.UpdateWorkflowHostResponse;
 
+import java.util.concurrent.CompletableFuture;
+
 @RpcService
 public interface ITaskInstanceOperator {
 
     @RpcMethod
-    TaskInstanceDispatchResponse dispatchTask(TaskInstanceDispatchRequest taskInstanceDispatchRequest);
+    CompletableFuture<TaskInstanceDispatchResponse> dispatchTask(TaskInstanceDispatchRequest taskInstanceDispatchRequest);
+
+    @RpcMethod
+    CompletableFuture<TaskInstanceBatchDispatchResponse> batchDispatchTask(TaskInstanceBatchDispatchRequest batchDispatchRequest);
 
     @RpcMethod
     TaskInstanceKillResponse killTask(TaskInstanceKillRequest taskInstanceKillRequest);
@@ -37,6 +37,7 @@ import org.apache.dolphinscheduler.server.master.rpc.MasterRpcServer;
 import org.apache.dolphinscheduler.server.master.runner.EventExecuteService;
 import org.apache.dolphinscheduler.server.master.runner.FailoverExecuteThread;
 import org.apache.dolphinscheduler.server.master.runner.MasterSchedulerBootstrap;
+import org.apache.dolphinscheduler.server.master.runner.StateCountRollupThread;
 import org.apache.dolphinscheduler.server.master.runner.taskgroup.TaskGroupCoordinator;
 import org.apache.dolphinscheduler.service.ServiceConfiguration;
 import org.apache.dolphinscheduler.service.bean.SpringApplicationContext;
@@ -90,6 +91,9 @@ public class MasterServer implements IStoppable {
     @Autowired
     private TaskGroupCoordinator taskGroupCoordinator;
 
+    @Autowired
+    private StateCountRollupThread stateCountRollupThread;
+
     public static void main(String[] args) {
         MasterServerMetrics.registerUncachedException(DefaultUncaughtExceptionHandler::getUncaughtExceptionCount);
 
@@ -122,6 +126,7 @@ public class MasterServer implements IStoppable {
 
         this.schedulerApi.start();
         this.taskGroupCoordinator.start();
+        this.stateCountRollupThread.start();
 
         MasterServerMetrics.registerMasterCpuUsageGauge(() -> {
             SystemMetrics systemMetrics = metricsProvider.getSystemMetrics();
@@ -66,5 +66,12 @@ public interface ProcessInstanceExecCacheManager {
      */
     Collection<WorkflowExecuteRunnable> getAll();
 
+    /**
+     * get the number of cached WorkflowExecuteThread
+     *
+     * @return the cached size
+     */
+    int size();
+
     void clearCache();
 }
@@ -41,6 +41,12 @@ public class CommandFetcherConfiguration {
                 CommandFetchStrategy.IdSlotBasedFetchConfig idSlotBasedFetchConfig =
                         (CommandFetchStrategy.IdSlotBasedFetchConfig) commandFetchStrategy.getConfig();
                 return new IdSlotBasedCommandFetcher(idSlotBasedFetchConfig, masterSlotManager, commandDao);
+            case NOTIFIED_ID_SLOT_BASED:
+                CommandFetchStrategy.IdSlotBasedFetchConfig notifiedFetchConfig =
+                        (CommandFetchStrategy.IdSlotBasedFetchConfig) commandFetchStrategy.getConfig();
+                return new NotifiedIdSlotBasedCommandFetcher(notifiedFetchConfig, masterSlotManager, commandDao);
+            case PERSISTED_SLOT_BASED:
+                return new PersistedSlotBasedCommandFetcher(masterSlotManager, commandDao);
             default:
                 throw new IllegalArgumentException(
                         "unsupported command fetch strategy type: " + commandFetchStrategy.getType());
@@ -17,6 +17,7 @@
 
 package org.apache.dolphinscheduler.server.master.command;
 
+import org.apache.dolphinscheduler.common.constants.Constants;
 import org.apache.dolphinscheduler.dao.entity.Command;
 
 import java.util.List;
@@ -29,8 +30,24 @@ public interface ICommandFetcher {
     /**
      * Fetch commands
      *
+     * @param fetchSize the max number of commands to fetch
      * @return command list which need to be handled
      */
-    List<Command> fetchCommands();
+    List<Command> fetchCommands(int fetchSize);
+
+    /**
+     * Block the current thread until there might be new commands to fetch, this is called when the last fetch
+     * returns nothing.
+     */
+    default void waitForNewCommands() throws InterruptedException {
+        Thread.sleep(Constants.SLEEP_TIME_MILLIS);
+    }
+
+    /**
+     * Receive the notification that new commands have been created, the fetcher which doesn't support notification
+     * can ignore it.
+     */
+    default void onCommandCreated() {
+    }
 
 }
@@ -49,7 +49,7 @@ public class IdSlotBasedCommandFetcher implements ICommandFetcher {
     }
 
     @Override
-    public List<Command> fetchCommands() {
+    public List<Command> fetchCommands(int fetchSize) {
         long scheduleStartTime = System.currentTimeMillis();
         int currentSlotIndex = masterSlotManager.getSlot();
         int totalSlot = masterSlotManager.getMasterSize();
@@ -62,7 +62,7 @@ public class IdSlotBasedCommandFetcher implements ICommandFetcher {
                 currentSlotIndex,
                 totalSlot,
                 idSlotBasedFetchConfig.getIdStep(),
-                idSlotBasedFetchConfig.getFetchSize());
+                fetchSize);
         long cost = System.currentTimeMillis() - scheduleStartTime;
         log.info("Fetch commands: {} success, cost: {}ms, totalSlot: {}, currentSlotIndex: {}", commands.size(), cost,
                 totalSlot, currentSlotIndex);
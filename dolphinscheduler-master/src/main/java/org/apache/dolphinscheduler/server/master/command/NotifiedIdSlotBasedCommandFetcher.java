@@ -0,0 +1,71 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.dolphinscheduler.server.master.command;
+
+import org.apache.dolphinscheduler.dao.repository.CommandDao;
+import org.apache.dolphinscheduler.server.master.config.CommandFetchStrategy;
+import org.apache.dolphinscheduler.server.master.registry.MasterSlotManager;
+
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+
+import lombok.extern.slf4j.Slf4j;
+
+import com.google.common.annotations.VisibleForTesting;
+
+/**
+ * The command fetcher which will be woken up once the command is created, the db is only polled every
+ * maxIdleInterval when there is no notification, this can reduce the latency of command handling and the db pressure
+ * of idle masters.
+ */
+@Slf4j
+public class NotifiedIdSlotBasedCommandFetcher extends IdSlotBasedCommandFetcher {
+
+    private final long maxIdleIntervalMills;
+
+    // At most one permit, the notifications received between two fetches will be merged
+    private final Semaphore commandCreatedSignal = new Semaphore(0);
+
+    public NotifiedIdSlotBasedCommandFetcher(CommandFetchStrategy.IdSlotBasedFetchConfig idSlotBasedFetchConfig,
+                                             MasterSlotManager masterSlotManager,
+                                             CommandDao commandDao) {
+        super(idSlotBasedFetchConfig, masterSlotManager, commandDao);
+        this.maxIdleIntervalMills = idSlotBasedFetchConfig.getMaxIdleInterval().toMillis();
+    }
+
+    @Override
+    public void waitForNewCommands() throws InterruptedException {
+        if (!commandCreatedSignal.tryAcquire(maxIdleIntervalMills, TimeUnit.MILLISECONDS)) {
+            log.debug("No command notification received in {}ms, will fetch commands from db", maxIdleIntervalMills);
+        }
+        commandCreatedSignal.drainPermits();
+    }
+
+    @Override
+    public void onCommandCreated() {
+        if (commandCreatedSignal.availablePermits() == 0) {
+            commandCreatedSignal.release();
+        }
+    }
+
+    @VisibleForTesting
+    int getPendingNotifications() {
+        return commandCreatedSignal.availablePermits();
+    }
+
+}
@@ -0,0 +1,108 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.dolphinscheduler.server.master.command;
+
+import org.apache.dolphinscheduler.dao.entity.Command;
+import org.apache.dolphinscheduler.dao.repository.CommandDao;
+import org.apache.dolphinscheduler.server.master.metrics.ProcessInstanceMetrics;
+import org.apache.dolphinscheduler.server.master.registry.MasterSlotManager;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * The command fetcher which fetch the commands by the persisted slot of t_ds_command.
+ * <p>
+ * Each command is assigned to one of the {@link CommandDao#COMMAND_SLOT_SIZE} persisted slots when inserting, the
+ * persisted slot belongs to the master whose slot index is persistedSlot % totalSlot. Each persisted slot is fetched
+ * by the index (slot, process_instance_priority, id), so the fetch cost will not grow with the command backlog.
+ */
+@Slf4j
+public class PersistedSlotBasedCommandFetcher implements ICommandFetcher {
+
+    private final CommandDao commandDao;
+
+    private final MasterSlotManager masterSlotManager;
+
+    private volatile OwnedSlots ownedSlots = new OwnedSlots(-1, -1, Collections.emptyList());
+
+    public PersistedSlotBasedCommandFetcher(MasterSlotManager masterSlotManager, CommandDao commandDao) {
+        this.masterSlotManager = masterSlotManager;
+        this.commandDao = commandDao;
+    }
+
+    @Override
+    public List<Command> fetchCommands(int fetchSize) {
+        long scheduleStartTime = System.currentTimeMillis();
+        int currentSlotIndex = masterSlotManager.getSlot();
+        int totalSlot = masterSlotManager.getMasterSize();
+        if (totalSlot <= 0 || currentSlotIndex < 0) {
+            log.warn("Slot is validated, current master slots: {}, the current slot index is {}", totalSlot,
+                    currentSlotIndex);
+            return Collections.emptyList();
+        }
+        List<Integer> persistedSlots = getPersistedSlots(currentSlotIndex, totalSlot);
+        if (persistedSlots.isEmpty()) {
+            log.warn("There is no persisted command slot belongs to current master, totalSlot: {}, currentSlotIndex: {}",
+                    totalSlot, currentSlotIndex);
+            return Collections.emptyList();
+        }
+        List<Command> commands = commandDao.queryCommandBySlots(persistedSlots, fetchSize);
+        long cost = System.currentTimeMillis() - scheduleStartTime;
+        log.info("Fetch commands: {} success, cost: {}ms, totalSlot: {}, currentSlotIndex: {}", commands.size(), cost,
+                totalSlot, currentSlotIndex);
+        ProcessInstanceMetrics.recordCommandQueryTime(cost);
+        return commands;
+    }
+
+    List<Integer> getPersistedSlots(int currentSlotIndex, int totalSlot) {
+        OwnedSlots slots = ownedSlots;
+        if (slots.currentSlotIndex == currentSlotIndex && slots.totalSlot == totalSlot) {
+            return slots.persistedSlots;
+        }
+        List<Integer> persistedSlots = new ArrayList<>();
+        for (int persistedSlot = 0; persistedSlot < CommandDao.COMMAND_SLOT_SIZE; persistedSlot++) {
+            if (persistedSlot % totalSlot == currentSlotIndex) {
+                persistedSlots.add(persistedSlot);
+            }
+        }
+        ownedSlots = new OwnedSlots(currentSlotIndex, totalSlot, Collections.unmodifiableList(persistedSlots));
+        log.info("The persisted command slots of current master changed to: {}, totalSlot: {}, currentSlotIndex: {}",
+                persistedSlots, totalSlot, currentSlotIndex);
+        return persistedSlots;
+    }
+
+    private static class OwnedSlots {
+
+        private final int currentSlotIndex;
+
+        private final int totalSlot;
+
+        private final List<Integer> persistedSlots;
+
+        private OwnedSlots(int currentSlotIndex, int totalSlot, List<Integer> persistedSlots) {
+            this.currentSlotIndex = currentSlotIndex;
+            this.totalSlot = totalSlot;
+            this.persistedSlots = persistedSlots;
+        }
+    }
+
+}
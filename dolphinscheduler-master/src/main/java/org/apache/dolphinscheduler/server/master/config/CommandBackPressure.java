@@ -0,0 +1,67 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.dolphinscheduler.server.master.config;
+
+import lombok.Data;
+
+import org.springframework.validation.Errors;
+
+/**
+ * The back pressure config between the workflow execution and the command consumption, if the master cannot drive the
+ * running workflows in time, the command fetch size will be decreased, and the command consumption will be paused.
+ * <p>
+ * The thresholds which are not positive will be ignored.
+ */
+@Data
+public class CommandBackPressure {
+
+    private boolean enabled = true;
+
+    /**
+     * The max size of the workflow event queue.
+     */
+    private int maxWorkflowEventQueueSize = 1000;
+
+    /**
+     * The max number of the tasks waiting to be dispatched.
+     */
+    private int maxWaitingDispatchTaskSize = 10000;
+
+    /**
+     * The max number of the workflow instances running in the current master, not limited by default.
+     */
+    private int maxRunningWorkflowInstanceSize = -1;
+
+    /**
+     * The max number of the pending events in the workflow execute thread pool.
+     */
+    private int maxWorkflowExecuteThreadPoolQueueSize = 1000;
+
+    /**
+     * The min fetch size when the master is under pressure, the max fetch size is the fetch size of the command fetch
+     * strategy.
+     */
+    private int minFetchSize = 1;
+
+    public void validate(Errors errors) {
+        if (minFetchSize <= 0) {
+            errors.rejectValue("command-back-pressure.min-fetch-size", null, "should be a positive value");
+        }
+    }
+
+}
@@ -17,6 +17,8 @@
 
 package org.apache.dolphinscheduler.server.master.config;
 
+import java.time.Duration;
+
 import lombok.Data;
 
 import org.springframework.validation.Errors;
@@ -34,11 +36,27 @@ public class CommandFetchStrategy {
 
     public enum CommandFetchStrategyType {
         ID_SLOT_BASED,
+        /**
+         * Same as {@link #ID_SLOT_BASED}, but the master will be notified when a command is created, and will only
+         * poll the db every {@link IdSlotBasedFetchConfig#getMaxIdleInterval()} as a safety net.
+         */
+        NOTIFIED_ID_SLOT_BASED,
+        /**
+         * Fetch the commands by the persisted slot column of t_ds_command, which is assigned when inserting the command,
+         * the fetch cost will not grow with the command backlog. Only the fetchSize in {@link IdSlotBasedFetchConfig}
+         * is used.
+         */
+        PERSISTED_SLOT_BASED,
         ;
     }
 
     public interface CommandFetchConfig {
 
+        /**
+         * The max number of commands fetched in one round.
+         */
+        int getFetchSize();
+
         void validate(Errors errors);
 
     }
@@ -48,6 +66,8 @@ public class CommandFetchStrategy {
 
         private int idStep = 1;
         private int fetchSize = 10;
+        // Only used by NOTIFIED_ID_SLOT_BASED, the max time to wait for a command notification before polling the db
+        private Duration maxIdleInterval = Duration.ofSeconds(10);
 
         @Override
         public void validate(Errors errors) {
@@ -57,6 +77,9 @@ public class CommandFetchStrategy {
             if (fetchSize <= 0) {
                 errors.rejectValue("fetchSize", null, "fetchSize must be greater than 0");
             }
+            if (maxIdleInterval == null || maxIdleInterval.toMillis() <= 0) {
+                errors.rejectValue("maxIdleInterval", null, "maxIdleInterval must be greater than 0");
+            }
         }
     }
 
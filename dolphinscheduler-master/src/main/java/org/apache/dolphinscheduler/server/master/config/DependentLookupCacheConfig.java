@@ -0,0 +1,61 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.dolphinscheduler.server.master.config;
+
+import java.time.Duration;
+
+import lombok.Data;
+
+import org.springframework.validation.Errors;
+
+/**
+ * The config of the cache of the upstream workflow/task instances queried by the dependent tasks, it is shared by all
+ * the dependent tasks in the master, so the dependent tasks waiting for the same upstream only query it once.
+ */
+@Data
+public class DependentLookupCacheConfig {
+
+    private boolean enabled = true;
+
+    private long maxSize = 10000;
+
+    /**
+     * The unfinished or not found upstream instances will be queried again after this duration.
+     */
+    private Duration expireAfterWrite = Duration.ofSeconds(5);
+
+    /**
+     * The finished upstream instances are revalidated by their id after the expire-after-write, and they will be
+     * queried again after this duration, so the new upstream instances started in other masters are found.
+     */
+    private Duration finishedExpireAfterWrite = Duration.ofMinutes(10);
+
+    public void validate(Errors errors) {
+        if (maxSize <= 0) {
+            errors.rejectValue("dependent-lookup-cache.max-size", null, "should be a positive value");
+        }
+        if (expireAfterWrite.toMillis() <= 0) {
+            errors.rejectValue("dependent-lookup-cache.expire-after-write", null, "should be a valid duration");
+        }
+        if (finishedExpireAfterWrite.compareTo(expireAfterWrite) < 0) {
+            errors.rejectValue("dependent-lookup-cache.finished-expire-after-write", null,
+                    "should >= expire-after-write");
+        }
+    }
+
+}
@@ -0,0 +1,50 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.dolphinscheduler.server.master.config;
+
+import java.time.Duration;
+
+import lombok.Data;
+
+import org.springframework.validation.Errors;
+
+/**
+ * The config of the state check of the dependent tasks which are waiting for the upstream workflows/tasks.
+ */
+@Data
+public class DependentTaskCheckConfig {
+
+    /**
+     * If set true, the waiting dependent tasks will be checked once the upstream workflow/task instances finished in
+     * any master, and the periodic check is only used as the fallback.
+     */
+    private boolean eventDrivenEnabled = true;
+
+    /**
+     * The min interval of the periodic check when the event driven check is enabled, it finds the upstream instances
+     * whose finished notifications are lost, e.g. the notifying master is down or the state is changed in the db.
+     */
+    private Duration fallbackCheckInterval = Duration.ofMinutes(5);
+
+    public void validate(Errors errors) {
+        if (fallbackCheckInterval.toMillis() <= 0) {
+            errors.rejectValue("dependent-task-check.fallback-check-interval", null, "should be a valid duration");
+        }
+    }
+
+}
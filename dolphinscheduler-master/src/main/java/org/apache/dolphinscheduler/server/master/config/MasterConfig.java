@@ -64,9 +64,13 @@ public class MasterConfig implements Validator {
 
     private int masterAsyncTaskExecutorThreadPoolSize = Runtime.getRuntime().availableProcessors();
     /**
-     * The task dispatch thread pool size.
+     * The max number of the tasks dispatched to the same worker in one request.
      */
     private int dispatchTaskNumber = 3;
+    /**
+     * The task dispatch thread pool size, the tasks of different worker hosts are dispatched in parallel.
+     */
+    private int dispatchTaskThreads = 10;
     /**
      * Worker select strategy.
      */
@@ -96,6 +100,18 @@ public class MasterConfig implements Validator {
 
     private CommandFetchStrategy commandFetchStrategy = new CommandFetchStrategy();
 
+    private CommandBackPressure commandBackPressure = new CommandBackPressure();
+
+    private WorkflowGraphCacheConfig workflowGraphCache = new WorkflowGraphCacheConfig();
+
+    private StateCountRollupConfig stateCountRollup = new StateCountRollupConfig();
+
+    private DependentTaskCheckConfig dependentTaskCheck = new DependentTaskCheckConfig();
+
+    private DependentLookupCacheConfig dependentLookupCache = new DependentLookupCacheConfig();
+
+    private WorkflowFailoverConfig workflowFailover = new WorkflowFailoverConfig();
+
     // ip:listenPort
     private String masterAddress;
 
@@ -122,6 +138,9 @@ public class MasterConfig implements Validator {
         if (masterConfig.getDispatchTaskNumber() <= 0) {
             errors.rejectValue("dispatch-task-number", null, "should be a positive value");
         }
+        if (masterConfig.getDispatchTaskThreads() <= 0) {
+            errors.rejectValue("dispatch-task-threads", null, "should be a positive value");
+        }
         if (masterConfig.getMaxHeartbeatInterval().toMillis() < 0) {
             errors.rejectValue("max-heartbeat-interval", null, "should be a valid duration");
         }
@@ -145,6 +164,12 @@ public class MasterConfig implements Validator {
             masterConfig.setMasterAddress(NetUtils.getAddr(masterConfig.getListenPort()));
         }
         commandFetchStrategy.validate(errors);
+        commandBackPressure.validate(errors);
+        workflowGraphCache.validate(errors);
+        stateCountRollup.validate(errors);
+        dependentTaskCheck.validate(errors);
+        dependentLookupCache.validate(errors);
+        workflowFailover.validate(errors);
 
         masterConfig.setMasterRegistryPath(
                 RegistryNodeType.MASTER.getRegistryPath() + "/" + masterConfig.getMasterAddress());
@@ -158,6 +183,7 @@ public class MasterConfig implements Validator {
                         "\n  pre-exec-threads -> " + preExecThreads +
                         "\n  exec-threads -> " + execThreads +
                         "\n  dispatch-task-number -> " + dispatchTaskNumber +
+                        "\n  dispatch-task-threads -> " + dispatchTaskThreads +
                         "\n  host-selector -> " + hostSelector +
                         "\n  max-heartbeat-interval -> " + maxHeartbeatInterval +
                         "\n  task-commit-retry-times -> " + taskCommitRetryTimes +
@@ -171,6 +197,12 @@ public class MasterConfig implements Validator {
                         "\n  master-registry-path: " + masterRegistryPath +
                         "\n  worker-group-refresh-interval: " + workerGroupRefreshInterval +
                         "\n  command-fetch-strategy: " + commandFetchStrategy +
+                        "\n  command-back-pressure: " + commandBackPressure +
+                        "\n  workflow-graph-cache: " + workflowGraphCache +
+                        "\n  state-count-rollup: " + stateCountRollup +
+                        "\n  dependent-task-check: " + dependentTaskCheck +
+                        "\n  dependent-lookup-cache: " + dependentLookupCache +
+                        "\n  workflow-failover: " + workflowFailover +
                         "\n****************************Master Configuration**************************************";
         log.info(config);
     }
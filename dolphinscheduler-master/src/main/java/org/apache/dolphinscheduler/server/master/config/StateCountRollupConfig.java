@@ -0,0 +1,58 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.dolphinscheduler.server.master.config;
+
+import java.time.Duration;
+
+import lombok.Data;
+
+import org.springframework.validation.Errors;
+
+/**
+ * The config of the hourly rollup of the workflow/task instance state counts, which is used by the statistics of the
+ * api server instead of scanning the instance tables.
+ */
+@Data
+public class StateCountRollupConfig {
+
+    /**
+     * Disabled by default, since the rollup is only read when the api server enables api.state-count-rollup-enabled.
+     */
+    private boolean enabled = false;
+
+    /**
+     * The interval to recompute the recent hour buckets.
+     */
+    private Duration interval = Duration.ofMinutes(5);
+
+    /**
+     * The hour buckets in this window are recomputed in each round, the instances which change state after the
+     * window need to be rolled up by the backfill tool.
+     */
+    private Duration recomputeWindow = Duration.ofHours(24);
+
+    public void validate(Errors errors) {
+        if (interval.toMillis() <= 0) {
+            errors.rejectValue("state-count-rollup.interval", null, "should be a valid duration");
+        }
+        if (recomputeWindow.toMillis() < 0) {
+            errors.rejectValue("state-count-rollup.recompute-window", null, "should be a valid duration");
+        }
+    }
+
+}
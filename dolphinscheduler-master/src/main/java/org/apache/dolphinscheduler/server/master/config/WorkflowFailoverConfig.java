@@ -0,0 +1,56 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.dolphinscheduler.server.master.config;
+
+import lombok.Data;
+
+import org.springframework.validation.Errors;
+
+/**
+ * The config of the workflow instance failover when a master is down, the workflow instances are failover in batches by
+ * a bounded number of threads, each batch is done in one transaction.
+ */
+@Data
+public class WorkflowFailoverConfig {
+
+    /**
+     * The max number of the batches which are failover concurrently.
+     */
+    private int parallelism = 4;
+
+    /**
+     * The number of the workflow instances which are failover in one transaction.
+     */
+    private int batchSize = 100;
+
+    /**
+     * The max number of the workflow instances failover per second, used to avoid saturating the database, the value
+     * <= 0 means unlimited.
+     */
+    private int maxInstancesPerSecond = 1000;
+
+    public void validate(Errors errors) {
+        if (parallelism <= 0) {
+            errors.rejectValue("workflow-failover.parallelism", null, "should be a positive value");
+        }
+        if (batchSize <= 0) {
+            errors.rejectValue("workflow-failover.batch-size", null, "should be a positive value");
+        }
+    }
+
+}
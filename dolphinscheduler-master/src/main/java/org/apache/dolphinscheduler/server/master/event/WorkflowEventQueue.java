@@ -44,6 +44,10 @@ public class WorkflowEventQueue {
         return workflowEventQueue.take();
     }
 
+    public int getWorkflowEventSize() {
+        return workflowEventQueue.size();
+    }
+
     public void clearWorkflowEventQueue() {
         workflowEventQueue.clear();
     }
@@ -22,7 +22,9 @@ import static org.apache.dolphinscheduler.common.constants.CommandKeyConstants.C
 import static org.apache.dolphinscheduler.common.constants.Constants.COMMA;
 
 import org.apache.dolphinscheduler.common.constants.Constants;
+import org.apache.dolphinscheduler.common.enums.TaskDependType;
 import org.apache.dolphinscheduler.common.graph.DAG;
+import org.apache.dolphinscheduler.common.graph.FrozenDAG;
 import org.apache.dolphinscheduler.common.model.TaskNodeRelation;
 import org.apache.dolphinscheduler.common.utils.JSONUtils;
 import org.apache.dolphinscheduler.dao.entity.ProcessInstance;
@@ -31,6 +33,9 @@ import org.apache.dolphinscheduler.dao.entity.TaskDefinitionLog;
 import org.apache.dolphinscheduler.dao.entity.TaskInstance;
 import org.apache.dolphinscheduler.dao.repository.TaskDefinitionLogDao;
 import org.apache.dolphinscheduler.dao.repository.TaskInstanceDao;
+import org.apache.dolphinscheduler.server.master.config.MasterConfig;
+import org.apache.dolphinscheduler.server.master.config.WorkflowGraphCacheConfig;
+import org.apache.dolphinscheduler.server.master.metrics.ProcessInstanceMetrics;
 import org.apache.dolphinscheduler.service.model.TaskNode;
 import org.apache.dolphinscheduler.service.process.ProcessDag;
 import org.apache.dolphinscheduler.service.process.ProcessService;
@@ -44,13 +49,28 @@ import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
 import java.util.stream.Collectors;
 
+import javax.annotation.PostConstruct;
+
+import lombok.Value;
 import lombok.extern.slf4j.Slf4j;
 
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Component;
 
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+
+/**
+ * Create the {@link IWorkflowGraph} of the workflow instance.
+ * <p>
+ * The task nodes and the whole graph of a workflow definition version are immutable, so they are cached by the
+ * definition code and version, and shared by all the workflow instances of the same version. The graph is only derived
+ * from the cached task nodes if the workflow instance is started from the given start nodes or recovery nodes.
+ */
 @Slf4j
 @Component
 public class WorkflowGraphFactory {
@@ -64,26 +84,90 @@ public class WorkflowGraphFactory {
     @Autowired
     private TaskDefinitionLogDao taskDefinitionLogDao;
 
+    @Autowired
+    private MasterConfig masterConfig;
+
+    private Cache<WorkflowDefinitionVersion, WorkflowDefinitionGraph> workflowDefinitionGraphCache;
+
+    @PostConstruct
+    public void init() {
+        WorkflowGraphCacheConfig workflowGraphCacheConfig = masterConfig.getWorkflowGraphCache();
+        if (!workflowGraphCacheConfig.isEnabled()) {
+            return;
+        }
+        workflowDefinitionGraphCache = CacheBuilder.newBuilder()
+                .maximumWeight(workflowGraphCacheConfig.getMaxTaskNodeSize())
+                .weigher((WorkflowDefinitionVersion key,
+                          WorkflowDefinitionGraph value) -> Math.max(1, value.getTaskNodes().size()))
+                .expireAfterAccess(workflowGraphCacheConfig.getExpireAfterAccess().toMillis(), TimeUnit.MILLISECONDS)
+                .build();
+        ProcessInstanceMetrics.registerWorkflowGraphCacheSizeGauge(workflowDefinitionGraphCache::size);
+    }
+
     public IWorkflowGraph createWorkflowGraph(ProcessInstance workflowInstance) throws Exception {
+        WorkflowDefinitionGraph workflowDefinitionGraph = getWorkflowDefinitionGraph(
+                workflowInstance.getProcessDefinitionCode(), workflowInstance.getProcessDefinitionVersion());
+
+        // generate process to get DAG info
+        List<Long> recoveryTaskNodeCodeList = getRecoveryTaskNodeCodeList(workflowInstance.getCommandParam());
+        List<Long> startNodeNameList = parseStartNodeName(workflowInstance.getCommandParam());
+        if (workflowInstance.getTaskDependType() == TaskDependType.TASK_POST
+                && recoveryTaskNodeCodeList.isEmpty()
+                && startNodeNameList.isEmpty()) {
+            // Run the whole workflow
+            return workflowDefinitionGraph.getWorkflowGraph();
+        }
+        return buildWorkflowGraph(workflowDefinitionGraph.getTaskNodes(), startNodeNameList, recoveryTaskNodeCodeList,
+                workflowInstance.getTaskDependType());
+    }
+
+    private WorkflowDefinitionGraph getWorkflowDefinitionGraph(long workflowDefinitionCode,
+                                                               int workflowDefinitionVersion) throws Exception {
+        if (workflowDefinitionGraphCache == null) {
+            return loadWorkflowDefinitionGraph(workflowDefinitionCode, workflowDefinitionVersion);
+        }
+        WorkflowDefinitionVersion key =
+                new WorkflowDefinitionVersion(workflowDefinitionCode, workflowDefinitionVersion);
+        WorkflowDefinitionGraph workflowDefinitionGraph = workflowDefinitionGraphCache.getIfPresent(key);
+        if (workflowDefinitionGraph != null) {
+            ProcessInstanceMetrics.incWorkflowGraphCacheHit();
+            return workflowDefinitionGraph;
+        }
+        ProcessInstanceMetrics.incWorkflowGraphCacheMiss();
+        try {
+            // The concurrent loads of the same key will wait for the first one
+            return workflowDefinitionGraphCache.get(key,
+                    () -> loadWorkflowDefinitionGraph(workflowDefinitionCode, workflowDefinitionVersion));
+        } catch (ExecutionException ex) {
+            throw ex.getCause() instanceof Exception ? (Exception) ex.getCause() : ex;
+        }
+    }
 
+    private WorkflowDefinitionGraph loadWorkflowDefinitionGraph(long workflowDefinitionCode,
+                                                                int workflowDefinitionVersion) throws Exception {
         List<ProcessTaskRelation> processTaskRelations =
-                processService.findRelationByCode(workflowInstance.getProcessDefinitionCode(),
-                        workflowInstance.getProcessDefinitionVersion());
+                processService.findRelationByCode(workflowDefinitionCode, workflowDefinitionVersion);
         List<TaskDefinitionLog> taskDefinitionLogs =
                 taskDefinitionLogDao.queryTaskDefineLogList(processTaskRelations);
-        List<TaskNode> taskNodeList = processService.transformTask(processTaskRelations, taskDefinitionLogs);
+        List<TaskNode> taskNodeList =
+                Collections.unmodifiableList(processService.transformTask(processTaskRelations, taskDefinitionLogs));
+        IWorkflowGraph workflowGraph = buildWorkflowGraph(taskNodeList, Collections.emptyList(),
+                Collections.emptyList(), TaskDependType.TASK_POST);
+        return new WorkflowDefinitionGraph(taskNodeList, workflowGraph);
+    }
 
-        // generate process to get DAG info
-        List<Long> recoveryTaskNodeCodeList = getRecoveryTaskNodeCodeList(workflowInstance.getCommandParam());
-        List<Long> startNodeNameList = parseStartNodeName(workflowInstance.getCommandParam());
+    private IWorkflowGraph buildWorkflowGraph(List<TaskNode> taskNodeList,
+                                              List<Long> startNodeNameList,
+                                              List<Long> recoveryTaskNodeCodeList,
+                                              TaskDependType taskDependType) throws Exception {
         ProcessDag processDag = DagHelper.generateFlowDag(taskNodeList, startNodeNameList, recoveryTaskNodeCodeList,
-                workflowInstance.getTaskDependType());
+                taskDependType);
         if (processDag == null) {
             log.error("ProcessDag is null");
             throw new IllegalArgumentException("Create WorkflowGraph failed, ProcessDag is null");
         }
-        // generate process dag
-        DAG<Long, TaskNode, TaskNodeRelation> dagGraph = DagHelper.buildDagGraph(processDag);
+        // generate process dag, the dag is never modified after built, so freeze it to be read without lock
+        DAG<Long, TaskNode, TaskNodeRelation> dagGraph = FrozenDAG.copyOf(DagHelper.buildDagGraph(processDag));
         log.debug("Build dag success, dag: {}", dagGraph);
 
         return new WorkflowGraph(taskNodeList, dagGraph);
@@ -129,4 +213,23 @@ public class WorkflowGraphFactory {
         return startNodeNameList;
     }
 
+    @Value
+    private static class WorkflowDefinitionVersion {
+
+        long code;
+
+        int version;
+    }
+
+    /**
+     * The task nodes and the graph of the whole workflow definition, should never be modified.
+     */
+    @Value
+    private static class WorkflowDefinitionGraph {
+
+        List<TaskNode> taskNodes;
+
+        IWorkflowGraph workflowGraph;
+    }
+
 }
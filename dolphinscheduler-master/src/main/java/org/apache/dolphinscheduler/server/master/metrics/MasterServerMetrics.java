@@ -43,6 +43,14 @@ public class MasterServerMetrics {
                     .description("Master server consume command count")
                     .register(Metrics.globalRegistry);
 
+    /**
+     * Used to measure the times that the master stop consuming commands due to the back pressure.
+     */
+    private final Counter masterCommandBackPressureCounter =
+            Counter.builder("ds.master.command.back.pressure.count")
+                    .description("Master server command back pressure count")
+                    .register(Metrics.globalRegistry);
+
     public void registerMasterMemoryAvailableGauge(Supplier<Number> supplier) {
         Gauge.builder("ds.master.memory.available", supplier)
                 .description("Master memory available")
@@ -61,6 +69,12 @@ public class MasterServerMetrics {
                 .register(Metrics.globalRegistry);
     }
 
+    public void registerCommandFetchSizeGauge(Supplier<Number> supplier) {
+        Gauge.builder("ds.master.command.fetch.size", supplier)
+                .description("The command fetch size chosen by the back pressure controller")
+                .register(Metrics.globalRegistry);
+    }
+
     public static void registerUncachedException(final Supplier<Number> supplier) {
         Gauge.builder("ds.master.uncached.exception", supplier)
                 .description("number of uncached exception")
@@ -71,6 +85,10 @@ public class MasterServerMetrics {
         masterOverloadCounter.increment();
     }
 
+    public void incMasterCommandBackPressure() {
+        masterCommandBackPressureCounter.increment();
+    }
+
     public void incMasterConsumeCommand(int commandCount) {
         masterConsumeCommandCounter.increment(commandCount);
     }
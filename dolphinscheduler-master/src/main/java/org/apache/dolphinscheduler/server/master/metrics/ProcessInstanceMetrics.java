@@ -58,6 +58,40 @@ public class ProcessInstanceMetrics {
                     .description("Process instance generated duration")
                     .register(Metrics.globalRegistry);
 
+    private final Timer workflowEventHandleTimer =
+            Timer.builder("ds.workflow.event.handle.duration")
+                    .description("Duration of handling the pending state events of a workflow instance")
+                    .register(Metrics.globalRegistry);
+
+    private final Counter workflowGraphCacheHitCounter =
+            Counter.builder("ds.workflow.graph.cache.count")
+                    .tag("result", "hit")
+                    .description("Workflow graph cache hit count")
+                    .register(Metrics.globalRegistry);
+
+    private final Counter workflowGraphCacheMissCounter =
+            Counter.builder("ds.workflow.graph.cache.count")
+                    .tag("result", "miss")
+                    .description("Workflow graph cache miss count")
+                    .register(Metrics.globalRegistry);
+
+    private final Timer workflowFailoverBatchTimer =
+            Timer.builder("ds.workflow.instance.failover.batch.duration")
+                    .description("Duration of failover a batch of workflow instances")
+                    .register(Metrics.globalRegistry);
+
+    private final Counter workflowFailoverSuccessCounter =
+            Counter.builder("ds.workflow.instance.failover.processed.count")
+                    .tag("result", "success")
+                    .description("The number of the workflow instances processed by the master failover")
+                    .register(Metrics.globalRegistry);
+
+    private final Counter workflowFailoverFailureCounter =
+            Counter.builder("ds.workflow.instance.failover.processed.count")
+                    .tag("result", "failure")
+                    .description("The number of the workflow instances processed by the master failover")
+                    .register(Metrics.globalRegistry);
+
     public void recordCommandQueryTime(long milliseconds) {
         commandQueryTimer.record(milliseconds, TimeUnit.MILLISECONDS);
     }
@@ -66,6 +100,48 @@ public class ProcessInstanceMetrics {
         processInstanceGenerateTimer.record(milliseconds, TimeUnit.MILLISECONDS);
     }
 
+    public void recordWorkflowEventHandleTime(long milliseconds) {
+        workflowEventHandleTimer.record(milliseconds, TimeUnit.MILLISECONDS);
+    }
+
+    public synchronized void registerWorkflowEventReadyQueueSizeGauge(Supplier<Number> function) {
+        Gauge.builder("ds.workflow.event.ready.size", function)
+                .description("The current workflow instance count which have pending state events")
+                .register(Metrics.globalRegistry);
+    }
+
+    public void incWorkflowGraphCacheHit() {
+        workflowGraphCacheHitCounter.increment();
+    }
+
+    public void incWorkflowGraphCacheMiss() {
+        workflowGraphCacheMissCounter.increment();
+    }
+
+    public synchronized void registerWorkflowGraphCacheSizeGauge(Supplier<Number> function) {
+        Gauge.builder("ds.workflow.graph.cache.size", function)
+                .description("The number of the cached workflow definition graphs")
+                .register(Metrics.globalRegistry);
+    }
+
+    public void recordWorkflowFailoverBatchTime(long milliseconds) {
+        workflowFailoverBatchTimer.record(milliseconds, TimeUnit.MILLISECONDS);
+    }
+
+    public void incWorkflowFailoverSuccess(int count) {
+        workflowFailoverSuccessCounter.increment(count);
+    }
+
+    public void incWorkflowFailoverFailure(int count) {
+        workflowFailoverFailureCounter.increment(count);
+    }
+
+    public synchronized void registerWorkflowFailoverRemainingGauge(Supplier<Number> function) {
+        Gauge.builder("ds.workflow.instance.failover.remaining", function)
+                .description("The number of the workflow instances waiting to be failover")
+                .register(Metrics.globalRegistry);
+    }
+
     public synchronized void registerProcessInstanceRunningGauge(Supplier<Number> function) {
         Gauge.builder("ds.workflow.instance.running", function)
                 .description("The current running process instance count")
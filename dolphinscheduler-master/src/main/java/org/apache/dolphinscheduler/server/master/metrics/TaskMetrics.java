@@ -20,6 +20,7 @@ package org.apache.dolphinscheduler.server.master.metrics;
 import java.util.HashMap;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.TimeUnit;
 import java.util.function.Supplier;
 
 import lombok.experimental.UtilityClass;
@@ -29,6 +30,7 @@ import com.facebook.presto.jdbc.internal.guava.collect.ImmutableSet;
 import io.micrometer.core.instrument.Counter;
 import io.micrometer.core.instrument.Gauge;
 import io.micrometer.core.instrument.Metrics;
+import io.micrometer.core.instrument.Timer;
 
 @UtilityClass
 public class TaskMetrics {
@@ -65,12 +67,48 @@ public class TaskMetrics {
                     .description("Number of errors during task dispatch")
                     .register(Metrics.globalRegistry);
 
+    private final Counter dependentLookupCacheHitCounter =
+            Counter.builder("ds.task.dependent.lookup.cache.count")
+                    .tag("result", "hit")
+                    .description("Dependent upstream lookup cache hit count")
+                    .register(Metrics.globalRegistry);
+
+    private final Counter dependentLookupCacheMissCounter =
+            Counter.builder("ds.task.dependent.lookup.cache.count")
+                    .tag("result", "miss")
+                    .description("Dependent upstream lookup cache miss count")
+                    .register(Metrics.globalRegistry);
+
+    private final Counter dependentLookupCoalescedCounter =
+            Counter.builder("ds.task.dependent.lookup.cache.count")
+                    .tag("result", "coalesced")
+                    .description("Dependent upstream lookup count which waited for the same in-flight query")
+                    .register(Metrics.globalRegistry);
+
     public synchronized void registerTaskPrepared(Supplier<Number> consumer) {
         Gauge.builder("ds.task.prepared", consumer)
                 .description("Task prepared count")
                 .register(Metrics.globalRegistry);
     }
 
+    public synchronized void registerDependentLookupCacheSizeGauge(Supplier<Number> function) {
+        Gauge.builder("ds.task.dependent.lookup.cache.size", function)
+                .description("The current cached dependent upstream lookup count")
+                .register(Metrics.globalRegistry);
+    }
+
+    public void incDependentLookupCacheHit() {
+        dependentLookupCacheHitCounter.increment();
+    }
+
+    public void incDependentLookupCacheMiss() {
+        dependentLookupCacheMissCounter.increment();
+    }
+
+    public void incDependentLookupCoalesced() {
+        dependentLookupCoalescedCounter.increment();
+    }
+
     public void incTaskDispatchFailed(int failedCount) {
         taskDispatchFailCounter.increment(failedCount);
     }
@@ -83,6 +121,22 @@ public class TaskMetrics {
         taskDispatchCounter.increment();
     }
 
+    public void recordTaskDispatchTime(String workerGroup, long milliseconds) {
+        Timer.builder("ds.task.dispatch.duration")
+                .tag("worker_group", workerGroup)
+                .description("Duration of dispatching the task to the worker")
+                .register(Metrics.globalRegistry)
+                .record(milliseconds, TimeUnit.MILLISECONDS);
+    }
+
+    public void recordTaskDispatchQueueWaitTime(String workerGroup, long milliseconds) {
+        Timer.builder("ds.task.dispatch.queue.wait.duration")
+                .tag("worker_group", workerGroup)
+                .description("Duration of the task waiting to be dispatched since it's ready")
+                .register(Metrics.globalRegistry)
+                .record(milliseconds, TimeUnit.MILLISECONDS);
+    }
+
     public void incTaskInstanceByState(final String state) {
         if (taskInstanceCounters.get(state) == null) {
             return;
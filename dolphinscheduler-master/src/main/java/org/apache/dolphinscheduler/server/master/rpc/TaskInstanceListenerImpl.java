@@ -24,6 +24,8 @@ import org.apache.dolphinscheduler.extract.master.transportor.TaskInstanceExecut
 import org.apache.dolphinscheduler.extract.master.transportor.WorkflowInstanceStateChangeEvent;
 import org.apache.dolphinscheduler.server.master.runner.listener.TaskInstanceExecutionEventListenerFunctionManager;
 
+import java.util.concurrent.CompletableFuture;
+
 import lombok.extern.slf4j.Slf4j;
 
 import org.springframework.beans.factory.annotation.Autowired;
@@ -37,23 +39,25 @@ public class TaskInstanceListenerImpl implements ITaskInstanceExecutionEventList
     private TaskInstanceExecutionEventListenerFunctionManager taskInstanceExecutionEventListenerManager;
 
     @Override
-    public void onTaskInstanceExecutionRunning(TaskInstanceExecutionRunningEvent taskInstanceExecutionRunningEvent) {
+    public CompletableFuture<Void> onTaskInstanceExecutionRunning(TaskInstanceExecutionRunningEvent taskInstanceExecutionRunningEvent) {
         taskInstanceExecutionEventListenerManager
                 .getTaskInstanceExecutionRunningEventListenFunction()
                 .handleTaskInstanceExecutionEvent(taskInstanceExecutionRunningEvent);
-
+        return CompletableFuture.completedFuture(null);
     }
 
     @Override
-    public void onTaskInstanceExecutionFinish(TaskInstanceExecutionFinishEvent taskInstanceExecutionFinishEvent) {
+    public CompletableFuture<Void> onTaskInstanceExecutionFinish(TaskInstanceExecutionFinishEvent taskInstanceExecutionFinishEvent) {
         taskInstanceExecutionEventListenerManager.getTaskInstanceExecutionResultEventListenFunction()
                 .handleTaskInstanceExecutionEvent(taskInstanceExecutionFinishEvent);
+        return CompletableFuture.completedFuture(null);
     }
 
     @Override
-    public void onTaskInstanceExecutionInfoUpdate(TaskInstanceExecutionInfoEvent taskInstanceExecutionInfoEvent) {
+    public CompletableFuture<Void> onTaskInstanceExecutionInfoUpdate(TaskInstanceExecutionInfoEvent taskInstanceExecutionInfoEvent) {
         taskInstanceExecutionEventListenerManager.getTaskInstanceExecutionInfoEventListenFunction()
                 .handleTaskInstanceExecutionEvent(taskInstanceExecutionInfoEvent);
+        return CompletableFuture.completedFuture(null);
     }
 
     @Override
@@ -31,8 +31,11 @@ import org.apache.dolphinscheduler.server.master.processor.queue.TaskEvent;
 import org.apache.dolphinscheduler.server.master.processor.queue.TaskEventService;
 import org.apache.dolphinscheduler.server.master.runner.dispatcher.TaskDispatcher;
 
+import java.util.ArrayList;
 import java.util.Date;
+import java.util.List;
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
 
 import lombok.extern.slf4j.Slf4j;
 
@@ -50,28 +53,76 @@ public abstract class BaseTaskDispatcher implements TaskDispatcher {
 
     @Override
     public void dispatchTask(TaskExecuteRunnable taskExecuteRunnable) throws TaskDispatchException {
-        Host taskInstanceDispatchHost;
+        Optional<Host> taskInstanceDispatchHost = selectDispatchHost(taskExecuteRunnable);
+        if (!taskInstanceDispatchHost.isPresent()) {
+            return;
+        }
+        taskExecuteRunnable.getTaskExecutionContext().setHost(taskInstanceDispatchHost.get().getAddress());
+        doDispatch(taskExecuteRunnable);
+        onDispatchSuccess(taskInstanceDispatchHost.get(), taskExecuteRunnable);
+    }
+
+    @Override
+    public Optional<Host> selectDispatchHost(TaskExecuteRunnable taskExecuteRunnable) throws TaskDispatchException {
         try {
-            taskInstanceDispatchHost = getTaskInstanceDispatchHost(taskExecuteRunnable)
-                    .orElseThrow(() -> new TaskDispatchException("Cannot find the host to execute task."));
+            return Optional.of(getTaskInstanceDispatchHost(taskExecuteRunnable)
+                    .orElseThrow(() -> new TaskDispatchException("Cannot find the host to execute task.")));
         } catch (WorkerGroupNotFoundException workerGroupNotFoundException) {
             log.error("Dispatch task: {} failed, worker group not found.",
                     taskExecuteRunnable.getTaskExecutionContext().getTaskName(), workerGroupNotFoundException);
             addDispatchFailedEvent(taskExecuteRunnable);
-            return;
+            return Optional.empty();
         }
-        taskExecuteRunnable.getTaskExecutionContext().setHost(taskInstanceDispatchHost.getAddress());
-        doDispatch(taskExecuteRunnable);
-        taskExecuteRunnable.getTaskInstance().setHost(taskInstanceDispatchHost.getAddress());
-        log.info("Success dispatch task {} to {}.", taskExecuteRunnable.getTaskExecutionContext().getTaskName(),
-                taskInstanceDispatchHost.getAddress());
-        addDispatchEvent(taskExecuteRunnable);
+    }
+
+    @Override
+    public CompletableFuture<List<TaskExecuteRunnable>> dispatchTasks(Host host,
+                                                                      List<TaskExecuteRunnable> taskExecuteRunnables) {
+        for (TaskExecuteRunnable taskExecuteRunnable : taskExecuteRunnables) {
+            taskExecuteRunnable.getTaskExecutionContext().setHost(host.getAddress());
+        }
+        return doDispatch(host, taskExecuteRunnables).thenApply(rejectedTaskExecuteRunnables -> {
+            for (TaskExecuteRunnable taskExecuteRunnable : taskExecuteRunnables) {
+                if (!rejectedTaskExecuteRunnables.contains(taskExecuteRunnable)) {
+                    onDispatchSuccess(host, taskExecuteRunnable);
+                }
+            }
+            return rejectedTaskExecuteRunnables;
+        });
     }
 
     protected abstract void doDispatch(TaskExecuteRunnable taskExecuteRunnable) throws TaskDispatchException;
 
+    /**
+     * Dispatch the tasks to the host, by default the tasks are dispatched one by one in the caller thread, the
+     * dispatcher which supports asynchronous batch request should override this method.
+     *
+     * @return the future of the tasks which are rejected by the host.
+     */
+    protected CompletableFuture<List<TaskExecuteRunnable>> doDispatch(Host host,
+                                                                      List<TaskExecuteRunnable> taskExecuteRunnables) {
+        List<TaskExecuteRunnable> rejectedTaskExecuteRunnables = new ArrayList<>();
+        for (TaskExecuteRunnable taskExecuteRunnable : taskExecuteRunnables) {
+            try {
+                doDispatch(taskExecuteRunnable);
+            } catch (TaskDispatchException ex) {
+                log.error("Dispatch task: {} to {} failed", taskExecuteRunnable.getTaskExecutionContext().getTaskName(),
+                        host, ex);
+                rejectedTaskExecuteRunnables.add(taskExecuteRunnable);
+            }
+        }
+        return CompletableFuture.completedFuture(rejectedTaskExecuteRunnables);
+    }
+
     protected abstract Optional<Host> getTaskInstanceDispatchHost(TaskExecuteRunnable taskExecutionContext) throws TaskDispatchException, WorkerGroupNotFoundException;
 
+    private void onDispatchSuccess(Host host, TaskExecuteRunnable taskExecuteRunnable) {
+        taskExecuteRunnable.getTaskInstance().setHost(host.getAddress());
+        log.info("Success dispatch task {} to {}.", taskExecuteRunnable.getTaskExecutionContext().getTaskName(),
+                host.getAddress());
+        addDispatchEvent(taskExecuteRunnable);
+    }
+
     protected void addDispatchEvent(TaskExecuteRunnable taskExecuteRunnable) {
         TaskExecutionContext taskExecutionContext = taskExecuteRunnable.getTaskExecutionContext();
         TaskEvent taskEvent = TaskEvent.newDispatchEvent(
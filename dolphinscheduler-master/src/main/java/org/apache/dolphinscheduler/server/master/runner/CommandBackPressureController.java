@@ -0,0 +1,120 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.dolphinscheduler.server.master.runner;
+
+import org.apache.dolphinscheduler.server.master.cache.ProcessInstanceExecCacheManager;
+import org.apache.dolphinscheduler.server.master.config.CommandBackPressure;
+import org.apache.dolphinscheduler.server.master.config.MasterConfig;
+import org.apache.dolphinscheduler.server.master.event.WorkflowEventQueue;
+import org.apache.dolphinscheduler.server.master.metrics.MasterServerMetrics;
+
+import javax.annotation.PostConstruct;
+
+import lombok.extern.slf4j.Slf4j;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+/**
+ * Control the command fetch size of {@link MasterSchedulerBootstrap} by the load of the workflow execution, in AIMD
+ * style: if any of the workflow event queue, the task dispatch waiting queue, the running workflow instances and the
+ * workflow execute thread pool queue is over its threshold, the fetch size will be halved, and the command consumption
+ * will be paused once the fetch size has reached the min fetch size; otherwise the fetch size will be increased by one
+ * until reaching the fetch size of the command fetch strategy.
+ */
+@Slf4j
+@Component
+public class CommandBackPressureController {
+
+    @Autowired
+    private MasterConfig masterConfig;
+
+    @Autowired
+    private WorkflowEventQueue workflowEventQueue;
+
+    @Autowired
+    private GlobalTaskDispatchWaitingQueue globalTaskDispatchWaitingQueue;
+
+    @Autowired
+    private ProcessInstanceExecCacheManager processInstanceExecCacheManager;
+
+    @Autowired
+    private WorkflowExecuteThreadPool workflowExecuteThreadPool;
+
+    private volatile int fetchSize;
+
+    @PostConstruct
+    public void init() {
+        fetchSize = getMaxFetchSize();
+        MasterServerMetrics.registerCommandFetchSizeGauge(() -> fetchSize);
+    }
+
+    /**
+     * Get the fetch size of the next command fetch round, this should only be called by the command fetch thread.
+     *
+     * @return the fetch size, 0 means the master is under back pressure and should not consume commands
+     */
+    public int acquireFetchSize() {
+        CommandBackPressure commandBackPressure = masterConfig.getCommandBackPressure();
+        int maxFetchSize = getMaxFetchSize();
+        if (!commandBackPressure.isEnabled()) {
+            fetchSize = maxFetchSize;
+            return fetchSize;
+        }
+        int minFetchSize = Math.min(commandBackPressure.getMinFetchSize(), maxFetchSize);
+        if (!isUnderPressure(commandBackPressure)) {
+            fetchSize = Math.min(maxFetchSize, fetchSize + 1);
+            return fetchSize;
+        }
+        if (fetchSize <= minFetchSize) {
+            fetchSize = minFetchSize;
+            return 0;
+        }
+        fetchSize = Math.max(minFetchSize, fetchSize / 2);
+        log.info("The master is under pressure, decrease the command fetch size to {}", fetchSize);
+        return fetchSize;
+    }
+
+    private boolean isUnderPressure(CommandBackPressure commandBackPressure) {
+        return isOverThreshold("workflow event queue size",
+                workflowEventQueue.getWorkflowEventSize(),
+                commandBackPressure.getMaxWorkflowEventQueueSize())
+                || isOverThreshold("waiting dispatch task size",
+                        globalTaskDispatchWaitingQueue.getWaitingDispatchTaskNumber(),
+                        commandBackPressure.getMaxWaitingDispatchTaskSize())
+                || isOverThreshold("running workflow instance size",
+                        processInstanceExecCacheManager.size(),
+                        commandBackPressure.getMaxRunningWorkflowInstanceSize())
+                || isOverThreshold("workflow execute thread pool queue size",
+                        workflowExecuteThreadPool.getThreadPoolExecutor().getQueue().size(),
+                        commandBackPressure.getMaxWorkflowExecuteThreadPoolQueueSize());
+    }
+
+    private boolean isOverThreshold(String indicator, int current, int threshold) {
+        if (threshold <= 0 || current < threshold) {
+            return false;
+        }
+        log.warn("BackPressure: the {}: {} is over the threshold: {}", indicator, current, threshold);
+        return true;
+    }
+
+    private int getMaxFetchSize() {
+        return masterConfig.getCommandFetchStrategy().getConfig().getFetchSize();
+    }
+
+}
@@ -47,6 +47,11 @@ public class EventExecuteService extends BaseDaemonThread {
     @Autowired
     private StreamTaskExecuteThreadPool streamTaskExecuteThreadPool;
 
+    @Autowired
+    private WorkflowEventReadyQueue workflowEventReadyQueue;
+
+    private long lastStreamTaskEventHandleTime = 0L;
+
     protected EventExecuteService() {
         super("EventServiceStarted");
     }
@@ -63,8 +68,11 @@ public class EventExecuteService extends BaseDaemonThread {
         while (!ServerLifeCycleManager.isStopped()) {
             try {
                 workflowEventHandler();
-                streamTaskEventHandler();
-                TimeUnit.MILLISECONDS.sleep(Constants.SLEEP_TIME_MILLIS_SHORT);
+                // the stream task doesn't have a ready queue, so we still scan it at a fixed interval
+                if (System.currentTimeMillis() - lastStreamTaskEventHandleTime >= Constants.SLEEP_TIME_MILLIS_SHORT) {
+                    streamTaskEventHandler();
+                    lastStreamTaskEventHandleTime = System.currentTimeMillis();
+                }
             } catch (InterruptedException interruptedException) {
                 log.warn("Master event service interrupted, will exit this loop", interruptedException);
                 Thread.currentThread().interrupt();
@@ -75,16 +83,25 @@ public class EventExecuteService extends BaseDaemonThread {
         }
     }
 
-    private void workflowEventHandler() {
-        for (WorkflowExecuteRunnable workflowExecuteThread : this.processInstanceExecCacheManager.getAll()) {
-            try {
-                LogUtils.setWorkflowInstanceIdMDC(
-                        workflowExecuteThread.getWorkflowExecuteContext().getWorkflowInstance().getId());
-                workflowExecuteThreadPool.executeEvent(workflowExecuteThread);
-
-            } finally {
-                LogUtils.removeWorkflowInstanceIdMDC();
+    /**
+     * Only schedule the workflows which have pending state events, the workflows are marked ready by
+     * {@link WorkflowExecuteRunnable} once a state event is added.
+     */
+    private void workflowEventHandler() throws InterruptedException {
+        Integer workflowInstanceId =
+                workflowEventReadyQueue.poll(Constants.SLEEP_TIME_MILLIS_SHORT, TimeUnit.MILLISECONDS);
+        while (workflowInstanceId != null) {
+            WorkflowExecuteRunnable workflowExecuteThread =
+                    processInstanceExecCacheManager.getByProcessInstanceId(workflowInstanceId);
+            if (workflowExecuteThread != null) {
+                try {
+                    LogUtils.setWorkflowInstanceIdMDC(workflowInstanceId);
+                    workflowExecuteThreadPool.executeEvent(workflowExecuteThread);
+                } finally {
+                    LogUtils.removeWorkflowInstanceIdMDC();
+                }
             }
+            workflowInstanceId = workflowEventReadyQueue.poll(0, TimeUnit.MILLISECONDS);
         }
     }
 
@@ -17,20 +17,43 @@
 
 package org.apache.dolphinscheduler.server.master.runner;
 
+import org.apache.dolphinscheduler.common.model.WorkerHeartBeat;
 import org.apache.dolphinscheduler.common.thread.BaseDaemonThread;
 import org.apache.dolphinscheduler.common.thread.ThreadUtils;
+import org.apache.dolphinscheduler.extract.base.utils.Host;
 import org.apache.dolphinscheduler.plugin.task.api.enums.TaskExecutionStatus;
+import org.apache.dolphinscheduler.server.master.config.MasterConfig;
+import org.apache.dolphinscheduler.server.master.metrics.TaskMetrics;
+import org.apache.dolphinscheduler.server.master.registry.ServerNodeManager;
+import org.apache.dolphinscheduler.server.master.registry.WorkerInfoChangeListener;
 import org.apache.dolphinscheduler.server.master.runner.dispatcher.TaskDispatchFactory;
 import org.apache.dolphinscheduler.server.master.runner.dispatcher.TaskDispatcher;
 
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicBoolean;
-import java.util.concurrent.atomic.AtomicInteger;
 
 import lombok.extern.slf4j.Slf4j;
 
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Component;
 
+/**
+ * Take the ready tasks from the {@link GlobalTaskDispatchWaitingQueue}, select the host of each task and put it into
+ * the {@link HostTaskDispatchQueue} of the host. The tasks of different hosts are dispatched in parallel by the
+ * dispatch thread pool, and the tasks of the same host are dispatched in batch.
+ * <p>
+ * If a dispatch failed, the tasks will be added back to the {@link GlobalTaskDispatchWaitingQueue} and delayed
+ * according to their dispatch failure times, so a failed host will not block the dispatch of the other hosts.
+ */
 @Slf4j
 @Component
 public class GlobalTaskDispatchWaitingQueueLooper extends BaseDaemonThread implements AutoCloseable {
@@ -41,11 +64,19 @@ public class GlobalTaskDispatchWaitingQueueLooper extends BaseDaemonThread imple
     @Autowired
     private TaskDispatchFactory taskDispatchFactory;
 
+    @Autowired
+    private MasterConfig masterConfig;
+
+    @Autowired
+    private ServerNodeManager serverNodeManager;
+
     private final AtomicBoolean RUNNING_FLAG = new AtomicBoolean(false);
 
-    private final AtomicInteger DISPATCHED_CONSECUTIVE_FAILURE_TIMES = new AtomicInteger();
+    private static final long MAX_DISPATCH_RETRY_INTERVAL_MILLIS = 10 * 1000L;
+
+    private final Map<Host, HostTaskDispatchQueue> hostTaskDispatchQueues = new ConcurrentHashMap<>();
 
-    private static final Integer MAX_DISPATCHED_FAILED_TIMES = 100;
+    private ThreadPoolExecutor taskDispatchThreadPool;
 
     public GlobalTaskDispatchWaitingQueueLooper() {
         super("GlobalTaskDispatchWaitingQueueLooper");
@@ -58,6 +89,9 @@ public class GlobalTaskDispatchWaitingQueueLooper extends BaseDaemonThread imple
             return;
         }
         log.info("GlobalTaskDispatchWaitingQueueLooper starting...");
+        taskDispatchThreadPool =
+                ThreadUtils.newDaemonFixedThreadExecutor("TaskDispatchThread", masterConfig.getDispatchTaskThreads());
+        serverNodeManager.addWorkerInfoChangeListener(new HostTaskDispatchQueueCleaner());
         super.start();
         log.info("GlobalTaskDispatchWaitingQueueLooper started...");
     }
@@ -68,24 +102,147 @@ public class GlobalTaskDispatchWaitingQueueLooper extends BaseDaemonThread imple
         while (RUNNING_FLAG.get()) {
             defaultTaskExecuteRunnable = globalTaskDispatchWaitingQueue.takeTaskExecuteRunnable();
             try {
-                TaskExecutionStatus status = defaultTaskExecuteRunnable.getTaskInstance().getState();
-                if (status != TaskExecutionStatus.SUBMITTED_SUCCESS && status != TaskExecutionStatus.DELAY_EXECUTION) {
-                    log.warn("The TaskInstance {} state is : {}, will not dispatch",
-                            defaultTaskExecuteRunnable.getTaskInstance().getName(), status);
+                if (!isDispatchable(defaultTaskExecuteRunnable)) {
                     continue;
                 }
 
                 TaskDispatcher taskDispatcher =
                         taskDispatchFactory.getTaskDispatcher(defaultTaskExecuteRunnable.getTaskInstance());
-                taskDispatcher.dispatchTask(defaultTaskExecuteRunnable);
-                DISPATCHED_CONSECUTIVE_FAILURE_TIMES.set(0);
-            } catch (Exception e) {
-                defaultTaskExecuteRunnable.getTaskExecutionContext().increaseDispatchFailTimes();
-                globalTaskDispatchWaitingQueue.submitTaskExecuteRunnable(defaultTaskExecuteRunnable);
-                if (DISPATCHED_CONSECUTIVE_FAILURE_TIMES.incrementAndGet() > MAX_DISPATCHED_FAILED_TIMES) {
-                    ThreadUtils.sleep(10 * 1000L);
+                Optional<Host> host = taskDispatcher.selectDispatchHost(defaultTaskExecuteRunnable);
+                if (!host.isPresent()) {
+                    continue;
+                }
+                // The master host and the worker hosts listen on different ports, so a host only has one dispatcher.
+                // The task is offered inside the compute, so the queue will not be removed concurrently as idle.
+                AtomicBoolean startDispatch = new AtomicBoolean(false);
+                HostTaskDispatchQueue hostTaskDispatchQueue = hostTaskDispatchQueues.compute(host.get(),
+                        (h, queue) -> {
+                            HostTaskDispatchQueue taskDispatchQueue =
+                                    queue == null ? new HostTaskDispatchQueue(h, taskDispatcher) : queue;
+                            startDispatch.set(taskDispatchQueue.offer(defaultTaskExecuteRunnable));
+                            return taskDispatchQueue;
+                        });
+                if (startDispatch.get()) {
+                    taskDispatchThreadPool.execute(() -> dispatchHostTasks(hostTaskDispatchQueue));
                 }
+            } catch (Exception e) {
                 log.error("Dispatch Task: {} failed", defaultTaskExecuteRunnable.getTaskInstance().getName(), e);
+                retryDispatch(Collections.singletonList(defaultTaskExecuteRunnable));
+            }
+        }
+    }
+
+    private void dispatchHostTasks(HostTaskDispatchQueue hostTaskDispatchQueue) {
+        List<DefaultTaskExecuteRunnable> taskExecuteRunnables =
+                hostTaskDispatchQueue.poll(masterConfig.getDispatchTaskNumber());
+        // The task may be killed or paused while waiting in the host queue.
+        taskExecuteRunnables.removeIf(taskExecuteRunnable -> !isDispatchable(taskExecuteRunnable));
+        if (taskExecuteRunnables.isEmpty()) {
+            finishHostDispatch(hostTaskDispatchQueue);
+            return;
+        }
+        long startTime = System.currentTimeMillis();
+        for (DefaultTaskExecuteRunnable taskExecuteRunnable : taskExecuteRunnables) {
+            TaskMetrics.recordTaskDispatchQueueWaitTime(getWorkerGroup(taskExecuteRunnable),
+                    taskExecuteRunnable.getDispatchWaitingTimeMillis());
+        }
+        CompletableFuture<List<TaskExecuteRunnable>> dispatchFuture;
+        try {
+            dispatchFuture = hostTaskDispatchQueue.getTaskDispatcher()
+                    .dispatchTasks(hostTaskDispatchQueue.getHost(), new ArrayList<>(taskExecuteRunnables));
+        } catch (Exception e) {
+            dispatchFuture = new CompletableFuture<>();
+            dispatchFuture.completeExceptionally(e);
+        }
+        // The dispatch thread is released once the request is sent, the next batch of the host is dispatched after
+        // the response is received.
+        dispatchFuture.whenComplete((rejectedTaskExecuteRunnables, ex) -> {
+            try {
+                if (ex != null) {
+                    onHostDispatchFailed(hostTaskDispatchQueue, taskExecuteRunnables, ex);
+                } else {
+                    onHostDispatchFinished(taskExecuteRunnables, rejectedTaskExecuteRunnables,
+                            System.currentTimeMillis() - startTime);
+                }
+            } finally {
+                finishHostDispatch(hostTaskDispatchQueue);
+            }
+        });
+    }
+
+    private void onHostDispatchFinished(List<DefaultTaskExecuteRunnable> taskExecuteRunnables,
+                                        List<TaskExecuteRunnable> rejectedTaskExecuteRunnables,
+                                        long costTime) {
+        List<DefaultTaskExecuteRunnable> retryTaskExecuteRunnables = new ArrayList<>();
+        for (DefaultTaskExecuteRunnable taskExecuteRunnable : taskExecuteRunnables) {
+            if (rejectedTaskExecuteRunnables.contains(taskExecuteRunnable)) {
+                retryTaskExecuteRunnables.add(taskExecuteRunnable);
+                continue;
+            }
+            TaskMetrics.incTaskDispatch();
+            TaskMetrics.recordTaskDispatchTime(getWorkerGroup(taskExecuteRunnable), costTime);
+        }
+        retryDispatch(retryTaskExecuteRunnables);
+    }
+
+    private void onHostDispatchFailed(HostTaskDispatchQueue hostTaskDispatchQueue,
+                                      List<DefaultTaskExecuteRunnable> taskExecuteRunnables,
+                                      Throwable ex) {
+        // The host may be unavailable, add all the tasks of the host back to the waiting queue, then they can be
+        // dispatched to the other hosts.
+        log.error("Dispatch {} tasks to {} failed", taskExecuteRunnables.size(), hostTaskDispatchQueue.getHost(), ex);
+        TaskMetrics.incTaskDispatchError();
+        List<DefaultTaskExecuteRunnable> retryTaskExecuteRunnables = new ArrayList<>(taskExecuteRunnables);
+        retryTaskExecuteRunnables.addAll(hostTaskDispatchQueue.pollAll());
+        retryDispatch(retryTaskExecuteRunnables);
+    }
+
+    private void finishHostDispatch(HostTaskDispatchQueue hostTaskDispatchQueue) {
+        if (hostTaskDispatchQueue.finishDispatch()) {
+            taskDispatchThreadPool.execute(() -> dispatchHostTasks(hostTaskDispatchQueue));
+        }
+    }
+
+    private boolean isDispatchable(DefaultTaskExecuteRunnable defaultTaskExecuteRunnable) {
+        TaskExecutionStatus status = defaultTaskExecuteRunnable.getTaskInstance().getState();
+        if (status != TaskExecutionStatus.SUBMITTED_SUCCESS && status != TaskExecutionStatus.DELAY_EXECUTION) {
+            log.warn("The TaskInstance {} state is : {}, will not dispatch",
+                    defaultTaskExecuteRunnable.getTaskInstance().getName(), status);
+            return false;
+        }
+        return true;
+    }
+
+    private void retryDispatch(List<DefaultTaskExecuteRunnable> taskExecuteRunnables) {
+        if (taskExecuteRunnables.isEmpty()) {
+            return;
+        }
+        TaskMetrics.incTaskDispatchFailed(taskExecuteRunnables.size());
+        for (DefaultTaskExecuteRunnable taskExecuteRunnable : taskExecuteRunnables) {
+            taskExecuteRunnable.getTaskExecutionContext().increaseDispatchFailTimes();
+            int dispatchFailTimes = taskExecuteRunnable.getTaskExecutionContext().getDispatchFailTimes();
+            taskExecuteRunnable.delayDispatch(
+                    Math.min(TimeUnit.SECONDS.toMillis(dispatchFailTimes), MAX_DISPATCH_RETRY_INTERVAL_MILLIS));
+            globalTaskDispatchWaitingQueue.submitTaskExecuteRunnable(taskExecuteRunnable);
+        }
+    }
+
+    private String getWorkerGroup(TaskExecuteRunnable taskExecuteRunnable) {
+        return String.valueOf(taskExecuteRunnable.getTaskExecutionContext().getWorkerGroup());
+    }
+
+    /**
+     * Remove the idle queues of the hosts which are not alive workers, e.g. the workers which are offline. The queue
+     * of the master host is also removed once idle, it will be created again at the next dispatch.
+     */
+    private class HostTaskDispatchQueueCleaner implements WorkerInfoChangeListener {
+
+        @Override
+        public void notify(Map<String, Set<String>> workerGroups, Map<String, WorkerHeartBeat> workerNodeInfo) {
+            for (Host host : hostTaskDispatchQueues.keySet()) {
+                if (!workerNodeInfo.containsKey(host.getAddress())) {
+                    hostTaskDispatchQueues.computeIfPresent(host, (h, queue) -> queue.isIdle() ? null : queue);
+                }
             }
         }
     }
@@ -94,6 +251,7 @@ public class GlobalTaskDispatchWaitingQueueLooper extends BaseDaemonThread imple
     public void close() throws Exception {
         if (RUNNING_FLAG.compareAndSet(true, false)) {
             log.info("GlobalTaskDispatchWaitingQueueLooper stopping...");
+            taskDispatchThreadPool.shutdown();
             log.info("GlobalTaskDispatchWaitingQueueLooper stopped...");
         } else {
             log.error("GlobalTaskDispatchWaitingQueueLooper is not started");
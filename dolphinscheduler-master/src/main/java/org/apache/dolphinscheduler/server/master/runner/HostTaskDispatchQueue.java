@@ -0,0 +1,97 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.dolphinscheduler.server.master.runner;
+
+import org.apache.dolphinscheduler.extract.base.utils.Host;
+import org.apache.dolphinscheduler.server.master.runner.dispatcher.TaskDispatcher;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import lombok.Getter;
+
+/**
+ * The tasks which are waiting to be dispatched to the same host.
+ * <p>
+ * At most one dispatch of a host is running at a time, so the tasks to the same host are dispatched in batch, and a
+ * slow or dead host only blocks its own tasks.
+ */
+class HostTaskDispatchQueue {
+
+    @Getter
+    private final Host host;
+
+    @Getter
+    private final TaskDispatcher taskDispatcher;
+
+    private final Queue<DefaultTaskExecuteRunnable> taskExecuteRunnables = new ConcurrentLinkedQueue<>();
+
+    private final AtomicBoolean dispatching = new AtomicBoolean(false);
+
+    HostTaskDispatchQueue(Host host, TaskDispatcher taskDispatcher) {
+        this.host = host;
+        this.taskDispatcher = taskDispatcher;
+    }
+
+    /**
+     * Add the task into the queue.
+     *
+     * @return true if there is no running dispatch of the host, the caller should start a dispatch.
+     */
+    boolean offer(DefaultTaskExecuteRunnable taskExecuteRunnable) {
+        taskExecuteRunnables.offer(taskExecuteRunnable);
+        return dispatching.compareAndSet(false, true);
+    }
+
+    List<DefaultTaskExecuteRunnable> poll(int maxSize) {
+        List<DefaultTaskExecuteRunnable> result = new ArrayList<>();
+        DefaultTaskExecuteRunnable taskExecuteRunnable;
+        while (result.size() < maxSize && (taskExecuteRunnable = taskExecuteRunnables.poll()) != null) {
+            result.add(taskExecuteRunnable);
+        }
+        return result;
+    }
+
+    List<DefaultTaskExecuteRunnable> pollAll() {
+        return poll(Integer.MAX_VALUE);
+    }
+
+    /**
+     * Finish the current dispatch of the host.
+     *
+     * @return true if there are remaining tasks in the queue, the caller should start the next dispatch.
+     */
+    boolean finishDispatch() {
+        dispatching.set(false);
+        // The tasks may be added after the last poll, and the adder didn't start a dispatch since the previous one was
+        // still running.
+        return !taskExecuteRunnables.isEmpty() && dispatching.compareAndSet(false, true);
+    }
+
+    /**
+     * Whether the queue is empty and there is no running dispatch, then the queue can be removed. The caller should
+     * make sure no task is offered concurrently.
+     */
+    boolean isIdle() {
+        return !dispatching.get() && taskExecuteRunnables.isEmpty();
+    }
+
+}
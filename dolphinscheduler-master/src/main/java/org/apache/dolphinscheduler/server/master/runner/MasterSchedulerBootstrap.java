@@ -80,6 +80,9 @@ public class MasterSchedulerBootstrap extends BaseDaemonThread implements AutoCl
     @Autowired
     private MetricsProvider metricsProvider;
 
+    @Autowired
+    private CommandBackPressureController commandBackPressureController;
+
     protected MasterSchedulerBootstrap() {
         super("MasterCommandLoopThread");
     }
@@ -114,7 +117,6 @@ public class MasterSchedulerBootstrap extends BaseDaemonThread implements AutoCl
                     log.warn("The current server is not at running status, cannot consumes commands.");
                     Thread.sleep(Constants.SLEEP_TIME_MILLIS);
                 }
-                // todo: if the workflow event queue is much, we need to handle the back pressure
                 SystemMetrics systemMetrics = metricsProvider.getSystemMetrics();
                 if (serverLoadProtection.isOverload(systemMetrics)) {
                     log.warn("The current server is overload, cannot consumes commands.");
@@ -122,12 +124,19 @@ public class MasterSchedulerBootstrap extends BaseDaemonThread implements AutoCl
                     Thread.sleep(Constants.SLEEP_TIME_MILLIS);
                     continue;
                 }
-                List<Command> commands = commandFetcher.fetchCommands();
-                if (CollectionUtils.isEmpty(commands)) {
-                    // indicate that no command ,sleep for 1s
+                int fetchSize = commandBackPressureController.acquireFetchSize();
+                if (fetchSize <= 0) {
+                    log.warn("The current server is under back pressure, cannot consumes commands.");
+                    MasterServerMetrics.incMasterCommandBackPressure();
                     Thread.sleep(Constants.SLEEP_TIME_MILLIS);
                     continue;
                 }
+                List<Command> commands = commandFetcher.fetchCommands(fetchSize);
+                if (CollectionUtils.isEmpty(commands)) {
+                    // indicate that no command, wait until there might be new commands
+                    commandFetcher.waitForNewCommands();
+                    continue;
+                }
 
                 commands.parallelStream()
                         .forEach(command -> {
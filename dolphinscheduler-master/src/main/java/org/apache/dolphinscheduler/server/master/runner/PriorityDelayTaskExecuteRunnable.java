@@ -27,6 +27,11 @@ import java.util.concurrent.TimeUnit;
 
 public abstract class PriorityDelayTaskExecuteRunnable extends BaseTaskExecuteRunnable implements Delayed {
 
+    /**
+     * The earliest time to dispatch the task again after the dispatch failure.
+     */
+    private volatile long nextDispatchTimeMillis;
+
     public PriorityDelayTaskExecuteRunnable(ProcessInstance workflowInstance,
                                             TaskInstance taskInstance,
                                             TaskExecutionContext taskExecutionContext) {
@@ -35,10 +40,29 @@ public abstract class PriorityDelayTaskExecuteRunnable extends BaseTaskExecuteRu
 
     @Override
     public long getDelay(TimeUnit unit) {
-        return unit.convert(
+        long remainTimeMillis = TimeUnit.SECONDS.toMillis(
                 DateUtils.getRemainTime(taskExecutionContext.getFirstSubmitTime(),
-                        taskExecutionContext.getDelayTime() * 60L),
-                TimeUnit.SECONDS);
+                        taskExecutionContext.getDelayTime() * 60L));
+        long retryRemainTimeMillis = nextDispatchTimeMillis - System.currentTimeMillis();
+        return unit.convert(Math.max(remainTimeMillis, retryRemainTimeMillis), TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * Delay the next dispatch of the task, should be called before the task is added back to the delay queue.
+     */
+    public void delayDispatch(long delayMillis) {
+        this.nextDispatchTimeMillis = System.currentTimeMillis() + delayMillis;
+    }
+
+    /**
+     * The time the task has been waiting for dispatch since it is ready to be dispatched.
+     */
+    public long getDispatchWaitingTimeMillis() {
+        long readyTimeMillis = Math.max(
+                taskExecutionContext.getFirstSubmitTime()
+                        + TimeUnit.MINUTES.toMillis(taskExecutionContext.getDelayTime()),
+                nextDispatchTimeMillis);
+        return Math.max(0, System.currentTimeMillis() - readyTimeMillis);
     }
 
     @Override
@@ -0,0 +1,142 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.dolphinscheduler.server.master.runner;
+
+import org.apache.dolphinscheduler.common.constants.Constants;
+import org.apache.dolphinscheduler.common.lifecycle.ServerLifeCycleManager;
+import org.apache.dolphinscheduler.common.thread.BaseDaemonThread;
+import org.apache.dolphinscheduler.common.thread.ThreadUtils;
+import org.apache.dolphinscheduler.common.utils.DateUtils;
+import org.apache.dolphinscheduler.dao.repository.ProcessInstanceStateCountDao;
+import org.apache.dolphinscheduler.dao.repository.TaskInstanceStateCountDao;
+import org.apache.dolphinscheduler.registry.api.RegistryClient;
+import org.apache.dolphinscheduler.registry.api.enums.RegistryNodeType;
+import org.apache.dolphinscheduler.server.master.config.MasterConfig;
+import org.apache.dolphinscheduler.server.master.config.StateCountRollupConfig;
+
+import org.apache.commons.lang3.time.StopWatch;
+
+import java.util.Calendar;
+import java.util.Date;
+
+import lombok.extern.slf4j.Slf4j;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+
+/**
+ * Maintain the hourly rollup of the workflow/task instance state counts.
+ * <p>
+ * The instances mostly change state shortly after they start, so each round recomputes the hour buckets in the
+ * recompute window from the instance tables, and replaces the old rollup of each bucket in one transaction. Recomputing
+ * the whole bucket is idempotent, it never drifts like counting the state transitions, and each bucket is a small
+ * indexed range of the instance tables. Only one master does the rollup in each interval.
+ */
+@Service
+@Slf4j
+public class StateCountRollupThread extends BaseDaemonThread {
+
+    @Autowired
+    private MasterConfig masterConfig;
+
+    @Autowired
+    private RegistryClient registryClient;
+
+    @Autowired
+    private ProcessInstanceStateCountDao processInstanceStateCountDao;
+
+    @Autowired
+    private TaskInstanceStateCountDao taskInstanceStateCountDao;
+
+    protected StateCountRollupThread() {
+        super("StateCountRollupThread");
+    }
+
+    @Override
+    public synchronized void start() {
+        if (!masterConfig.getStateCountRollup().isEnabled()) {
+            log.info("The state count rollup is disabled");
+            return;
+        }
+        log.info("StateCountRollupThread starting...");
+        super.start();
+        log.info("StateCountRollupThread started...");
+    }
+
+    @Override
+    public void run() {
+        // when startup, wait 10s for ready
+        ThreadUtils.sleep(Constants.SLEEP_TIME_MILLIS * 10);
+
+        StateCountRollupConfig stateCountRollupConfig = masterConfig.getStateCountRollup();
+        while (!ServerLifeCycleManager.isStopped()) {
+            try {
+                if (!ServerLifeCycleManager.isRunning()) {
+                    continue;
+                }
+                registryClient.getLock(RegistryNodeType.MASTER_STATE_COUNT_ROLLUP_LOCK.getRegistryPath());
+                try {
+                    if (isRecentlyRolledUp(stateCountRollupConfig)) {
+                        log.debug("The state count is rolled up by other master recently, skip this round");
+                        continue;
+                    }
+                    rollupRecentHours(stateCountRollupConfig);
+                    registryClient.persist(RegistryNodeType.MASTER_STATE_COUNT_ROLLUP_TIME.getRegistryPath(),
+                            String.valueOf(System.currentTimeMillis()));
+                } finally {
+                    registryClient.releaseLock(RegistryNodeType.MASTER_STATE_COUNT_ROLLUP_LOCK.getRegistryPath());
+                }
+            } catch (Throwable e) {
+                log.error("StateCountRollupThread error", e);
+            } finally {
+                ThreadUtils.sleep(stateCountRollupConfig.getInterval().toMillis());
+            }
+        }
+    }
+
+    /**
+     * The last rollup time is shared in the registry, so the masters take turns rather than each of them rolling up
+     * every round.
+     */
+    private boolean isRecentlyRolledUp(StateCountRollupConfig stateCountRollupConfig) {
+        String lastRollupTimePath = RegistryNodeType.MASTER_STATE_COUNT_ROLLUP_TIME.getRegistryPath();
+        if (!registryClient.exists(lastRollupTimePath)) {
+            return false;
+        }
+        long lastRollupTime = Long.parseLong(registryClient.get(lastRollupTimePath));
+        return System.currentTimeMillis() - lastRollupTime < stateCountRollupConfig.getInterval().toMillis();
+    }
+
+    private void rollupRecentHours(StateCountRollupConfig stateCountRollupConfig) {
+        StopWatch rollupCost = StopWatch.createStarted();
+        Date now = new Date();
+        long recomputeWindowMillis = stateCountRollupConfig.getRecomputeWindow().toMillis();
+        Date statTime = DateUtils.getStartOfHour(new Date(now.getTime() - recomputeWindowMillis));
+        int bucketCount = 0;
+        int rowCount = 0;
+        while (!statTime.after(now)) {
+            rowCount += processInstanceStateCountDao.rollup(statTime);
+            rowCount += taskInstanceStateCountDao.rollup(statTime);
+            bucketCount++;
+            statTime = DateUtils.add(statTime, Calendar.HOUR_OF_DAY, 1);
+        }
+        rollupCost.stop();
+        log.info("Success rollup {} hour buckets of the state count, {} rows, cost: {}/ms", bucketCount, rowCount,
+                rollupCost.getTime());
+    }
+}
@@ -22,7 +22,6 @@ import org.apache.dolphinscheduler.common.enums.TimeoutFlag;
 import org.apache.dolphinscheduler.common.enums.WorkflowExecutionStatus;
 import org.apache.dolphinscheduler.common.lifecycle.ServerLifeCycleManager;
 import org.apache.dolphinscheduler.common.thread.BaseDaemonThread;
-import org.apache.dolphinscheduler.common.utils.DateUtils;
 import org.apache.dolphinscheduler.dao.entity.ProcessInstance;
 import org.apache.dolphinscheduler.dao.entity.TaskDefinition;
 import org.apache.dolphinscheduler.dao.entity.TaskInstance;
@@ -34,8 +33,9 @@ import org.apache.dolphinscheduler.server.master.event.TaskStateEvent;
 import org.apache.dolphinscheduler.server.master.event.WorkflowStateEvent;
 import org.apache.dolphinscheduler.server.master.runner.task.TaskInstanceKey;
 
+import java.util.HashSet;
 import java.util.Optional;
-import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.Set;
 import java.util.concurrent.TimeUnit;
 
 import javax.annotation.PostConstruct;
@@ -53,25 +53,33 @@ import org.springframework.stereotype.Component;
  * 2. dependent task state check
  * 3. retry task check
  * 4. timeout process check
+ * <p>
+ * The checks are kept in {@link TimingWheel}s keyed by their deadline, so each tick only touches the expired checks.
+ * When a check expires it is re-evaluated, if it is not really due (e.g. the task is not started yet), it will be
+ * scheduled again by the new deadline.
  */
 @Component
 @Slf4j
 public class StateWheelExecuteThread extends BaseDaemonThread {
 
+    private static final int WHEEL_SIZE = 512;
+
     /**
-     * ProcessInstance timeout check list, element is the processInstanceId.
+     * ProcessInstance timeout check wheel, element is the processInstanceId.
      */
-    private final ConcurrentLinkedQueue<Integer> processInstanceTimeoutCheckList = new ConcurrentLinkedQueue<>();
+    private TimingWheel<Integer> processInstanceTimeoutCheckWheel;
 
     /**
-     * task time out check list
+     * task time out check wheel
      */
-    private final ConcurrentLinkedQueue<TaskInstanceKey> taskInstanceTimeoutCheckList = new ConcurrentLinkedQueue<>();
+    private TimingWheel<TaskInstanceKey> taskInstanceTimeoutCheckWheel;
 
     /**
-     * task retry check list
+     * task retry check wheel
      */
-    private final ConcurrentLinkedQueue<TaskInstanceKey> taskInstanceRetryCheckList = new ConcurrentLinkedQueue<>();
+    private TimingWheel<TaskInstanceKey> taskInstanceRetryCheckWheel;
+
+    private long wheelStartTime;
 
     @Autowired
     private MasterConfig masterConfig;
@@ -89,6 +97,11 @@ public class StateWheelExecuteThread extends BaseDaemonThread {
 
     @PostConstruct
     public void startWheelThread() {
+        final long checkInterval = masterConfig.getStateWheelInterval().toMillis();
+        wheelStartTime = System.currentTimeMillis();
+        processInstanceTimeoutCheckWheel = new TimingWheel<>(checkInterval, WHEEL_SIZE, wheelStartTime);
+        taskInstanceTimeoutCheckWheel = new TimingWheel<>(checkInterval, WHEEL_SIZE, wheelStartTime);
+        taskInstanceRetryCheckWheel = new TimingWheel<>(checkInterval, WHEEL_SIZE, wheelStartTime);
         super.start();
     }
 
@@ -97,14 +110,16 @@ public class StateWheelExecuteThread extends BaseDaemonThread {
         final long checkInterval = masterConfig.getStateWheelInterval().toMillis();
         while (!ServerLifeCycleManager.isStopped()) {
             try {
-                checkTask4Timeout();
-                checkTask4Retry();
-                checkProcess4Timeout();
+                final long now = System.currentTimeMillis();
+                checkTask4Timeout(now);
+                checkTask4Retry(now);
+                checkProcess4Timeout(now);
             } catch (Exception e) {
                 log.error("state wheel thread check error:", e);
             }
             try {
-                Thread.sleep(checkInterval);
+                // sleep to the next tick
+                Thread.sleep(checkInterval - (System.currentTimeMillis() - wheelStartTime) % checkInterval);
             } catch (InterruptedException e) {
                 log.error("state wheel thread sleep error, will close the loop", e);
                 Thread.currentThread().interrupt();
@@ -114,22 +129,19 @@ public class StateWheelExecuteThread extends BaseDaemonThread {
     }
 
     public void addProcess4TimeoutCheck(ProcessInstance processInstance) {
-        processInstanceTimeoutCheckList.add(processInstance.getId());
+        processInstanceTimeoutCheckWheel.schedule(processInstance.getId(), getProcessTimeoutDeadline(processInstance));
         log.info("Success add workflow instance {} into timeout check list", processInstance.getId());
     }
 
     public void removeProcess4TimeoutCheck(int processInstanceId) {
-        boolean removeFlag = processInstanceTimeoutCheckList.remove(processInstanceId);
+        boolean removeFlag = processInstanceTimeoutCheckWheel.cancel(processInstanceId);
         if (removeFlag) {
             log.info("Success remove workflow instance {} from timeout check list", processInstanceId);
         }
     }
 
-    private void checkProcess4Timeout() {
-        if (processInstanceTimeoutCheckList.isEmpty()) {
-            return;
-        }
-        for (Integer processInstanceId : processInstanceTimeoutCheckList) {
+    private void checkProcess4Timeout(long now) {
+        for (Integer processInstanceId : processInstanceTimeoutCheckWheel.advance(now)) {
             try {
                 LogUtils.setWorkflowInstanceIdMDC(processInstanceId);
                 WorkflowExecuteRunnable workflowExecuteThread = processInstanceExecCacheManager.getByProcessInstanceId(
@@ -137,7 +149,6 @@ public class StateWheelExecuteThread extends BaseDaemonThread {
                 if (workflowExecuteThread == null) {
                     log.warn(
                             "Check workflow timeout failed, can not find workflowExecuteThread from cache manager, will remove this workflowInstance from check list");
-                    processInstanceTimeoutCheckList.remove(processInstanceId);
                     continue;
                 }
                 ProcessInstance processInstance =
@@ -146,16 +157,18 @@ public class StateWheelExecuteThread extends BaseDaemonThread {
                     log.warn("Check workflow timeout failed, the workflowInstance is null");
                     continue;
                 }
-                long timeRemain = DateUtils.getRemainTime(processInstance.getStartTime(),
-                        TimeUnit.MINUTES.toSeconds(processInstance.getTimeout()));
-                if (timeRemain < 0) {
+                long deadline = getProcessTimeoutDeadline(processInstance);
+                if (deadline <= now) {
                     log.info("Workflow instance {} timeout, adding timeout event", processInstance.getId());
                     addProcessTimeoutEvent(processInstance);
-                    processInstanceTimeoutCheckList.remove(processInstance.getId());
                     log.info("Workflow instance timeout, added timeout event");
+                } else {
+                    processInstanceTimeoutCheckWheel.schedule(processInstanceId, deadline);
                 }
             } catch (Exception ex) {
-                log.error("Check workflow instance timeout error");
+                // The instance is already removed from the wheel, check it again at the next tick.
+                log.error("Check workflow instance timeout error, will check it again", ex);
+                processInstanceTimeoutCheckWheel.schedule(processInstanceId, getNextCheckTime(now));
             } finally {
                 LogUtils.removeWorkflowInstanceIdMDC();
             }
@@ -165,7 +178,7 @@ public class StateWheelExecuteThread extends BaseDaemonThread {
     public void addTask4TimeoutCheck(@NonNull ProcessInstance processInstance, @NonNull TaskInstance taskInstance) {
         TaskInstanceKey taskInstanceKey = TaskInstanceKey.getTaskInstanceKey(processInstance, taskInstance);
         log.info("Adding task instance into timeout check list");
-        if (taskInstanceTimeoutCheckList.contains(taskInstanceKey)) {
+        if (taskInstanceTimeoutCheckWheel.contains(taskInstanceKey)) {
             log.warn("Task instance is already in timeout check list");
             return;
         }
@@ -175,21 +188,22 @@ public class StateWheelExecuteThread extends BaseDaemonThread {
             return;
         }
         if (TimeoutFlag.OPEN == taskDefinition.getTimeoutFlag()) {
-            taskInstanceTimeoutCheckList.add(taskInstanceKey);
+            taskInstanceTimeoutCheckWheel.schedule(taskInstanceKey,
+                    getTaskTimeoutDeadline(taskInstance, System.currentTimeMillis()));
             log.info("Timeout flag is open, added task instance into timeout check list");
         }
     }
 
     public void removeTask4TimeoutCheck(@NonNull ProcessInstance processInstance, @NonNull TaskInstance taskInstance) {
         TaskInstanceKey taskInstanceKey = TaskInstanceKey.getTaskInstanceKey(processInstance, taskInstance);
-        taskInstanceTimeoutCheckList.remove(taskInstanceKey);
+        taskInstanceTimeoutCheckWheel.cancel(taskInstanceKey);
         log.info("remove task instance from timeout check list");
     }
 
     public void addTask4RetryCheck(@NonNull ProcessInstance processInstance, @NonNull TaskInstance taskInstance) {
         log.info("Adding task instance into retry check list");
         TaskInstanceKey taskInstanceKey = TaskInstanceKey.getTaskInstanceKey(processInstance, taskInstance);
-        if (taskInstanceRetryCheckList.contains(taskInstanceKey)) {
+        if (taskInstanceRetryCheckWheel.contains(taskInstanceKey)) {
             log.warn("Task instance is already in retry check list");
             return;
         }
@@ -198,28 +212,25 @@ public class StateWheelExecuteThread extends BaseDaemonThread {
             log.error("Add task instance into retry check list error, taskDefinition is null");
             return;
         }
-        taskInstanceRetryCheckList.add(taskInstanceKey);
+        taskInstanceRetryCheckWheel.schedule(taskInstanceKey, getTaskRetryDeadline(taskInstance));
         log.info("[WorkflowInstance-{}][TaskInstanceKey-{}:{}] Added task instance into retry check list",
                 processInstance.getId(), taskInstance.getTaskCode(), taskInstance.getTaskDefinitionVersion());
     }
 
     public void removeTask4RetryCheck(@NonNull ProcessInstance processInstance, @NonNull TaskInstance taskInstance) {
         TaskInstanceKey taskInstanceKey = TaskInstanceKey.getTaskInstanceKey(processInstance, taskInstance);
-        taskInstanceRetryCheckList.remove(taskInstanceKey);
+        taskInstanceRetryCheckWheel.cancel(taskInstanceKey);
         log.info("remove task instance from retry check list");
     }
 
     public void clearAllTasks() {
-        processInstanceTimeoutCheckList.clear();
-        taskInstanceTimeoutCheckList.clear();
-        taskInstanceRetryCheckList.clear();
+        processInstanceTimeoutCheckWheel.clear();
+        taskInstanceTimeoutCheckWheel.clear();
+        taskInstanceRetryCheckWheel.clear();
     }
 
-    private void checkTask4Timeout() {
-        if (taskInstanceTimeoutCheckList.isEmpty()) {
-            return;
-        }
-        for (TaskInstanceKey taskInstanceKey : taskInstanceTimeoutCheckList) {
+    private void checkTask4Timeout(long now) {
+        for (TaskInstanceKey taskInstanceKey : taskInstanceTimeoutCheckWheel.advance(now)) {
             try {
                 LogUtils.setWorkflowInstanceIdMDC(taskInstanceKey.getProcessInstanceId());
                 int processInstanceId = taskInstanceKey.getProcessInstanceId();
@@ -230,7 +241,6 @@ public class StateWheelExecuteThread extends BaseDaemonThread {
                 if (workflowExecuteThread == null) {
                     log.warn(
                             "Check task instance timeout failed, can not find workflowExecuteThread from cache manager, will remove this check task");
-                    taskInstanceTimeoutCheckList.remove(taskInstanceKey);
                     continue;
                 }
                 Optional<TaskInstance> taskInstanceOptional =
@@ -240,33 +250,30 @@ public class StateWheelExecuteThread extends BaseDaemonThread {
                             "Check task instance timeout failed, can not get taskInstance from workflowExecuteThread, taskCode: {}"
                                     + "will remove this check task",
                             taskCode);
-                    taskInstanceTimeoutCheckList.remove(taskInstanceKey);
                     continue;
                 }
                 TaskInstance taskInstance = taskInstanceOptional.get();
                 if (TimeoutFlag.OPEN == taskInstance.getTaskDefine().getTimeoutFlag()) {
-                    long timeRemain = DateUtils.getRemainTime(taskInstance.getStartTime(),
-                            TimeUnit.MINUTES.toSeconds(taskInstance.getTaskDefine().getTimeout()));
-                    if (timeRemain < 0) {
+                    long deadline = getTaskTimeoutDeadline(taskInstance, now);
+                    if (taskInstance.getStartTime() != null && deadline <= now) {
                         log.info("Task instance is timeout, adding task timeout event and remove the check");
                         addTaskTimeoutEvent(taskInstance);
-                        taskInstanceTimeoutCheckList.remove(taskInstanceKey);
+                    } else {
+                        taskInstanceTimeoutCheckWheel.schedule(taskInstanceKey, deadline);
                     }
                 }
             } catch (Exception ex) {
-                log.error("Check task timeout error, taskInstanceKey: {}", taskInstanceKey, ex);
+                log.error("Check task timeout error, will check it again, taskInstanceKey: {}", taskInstanceKey, ex);
+                taskInstanceTimeoutCheckWheel.schedule(taskInstanceKey, getNextCheckTime(now));
             } finally {
                 LogUtils.removeWorkflowInstanceIdMDC();
             }
         }
     }
 
-    private void checkTask4Retry() {
-        if (taskInstanceRetryCheckList.isEmpty()) {
-            return;
-        }
-
-        for (TaskInstanceKey taskInstanceKey : taskInstanceRetryCheckList) {
+    private void checkTask4Retry(long now) {
+        Set<Integer> stoppedProcessInstanceIds = new HashSet<>();
+        for (TaskInstanceKey taskInstanceKey : taskInstanceRetryCheckWheel.advance(now)) {
             int processInstanceId = taskInstanceKey.getProcessInstanceId();
             long taskCode = taskInstanceKey.getTaskCode();
             try {
@@ -279,7 +286,6 @@ public class StateWheelExecuteThread extends BaseDaemonThread {
                     log.warn(
                             "Task instance retry check failed, can not find workflowExecuteThread from cache manager, "
                                     + "will remove this check task");
-                    taskInstanceRetryCheckList.remove(taskInstanceKey);
                     continue;
                 }
 
@@ -291,15 +297,15 @@ public class StateWheelExecuteThread extends BaseDaemonThread {
                 if (processInstance.getState().isReadyStop()) {
                     log.warn(
                             "The process instance is ready to stop, will send process stop event and remove the check task");
-                    addProcessStopEvent(processInstance);
-                    taskInstanceRetryCheckList.remove(taskInstanceKey);
-                    break;
+                    if (stoppedProcessInstanceIds.add(processInstanceId)) {
+                        addProcessStopEvent(processInstance);
+                    }
+                    continue;
                 }
 
                 if (!taskInstanceOptional.isPresent()) {
                     log.warn(
                             "Task instance retry check failed, can not find taskInstance from workflowExecuteThread, will remove this check");
-                    taskInstanceRetryCheckList.remove(taskInstanceKey);
                     continue;
                 }
 
@@ -318,16 +324,57 @@ public class StateWheelExecuteThread extends BaseDaemonThread {
                     taskInstance.setState(TaskExecutionStatus.SUBMITTED_SUCCESS);
 
                     addTaskRetryEvent(taskInstance);
-                    taskInstanceRetryCheckList.remove(taskInstanceKey);
+                } else {
+                    taskInstanceRetryCheckWheel.schedule(taskInstanceKey, getTaskRetryDeadline(taskInstance));
                 }
             } catch (Exception ex) {
-                log.error("Check task retry error, taskInstanceKey: {}", taskInstanceKey, ex);
+                log.error("Check task retry error, will check it again, taskInstanceKey: {}", taskInstanceKey, ex);
+                taskInstanceRetryCheckWheel.schedule(taskInstanceKey, getNextCheckTime(now));
             } finally {
                 LogUtils.removeWorkflowInstanceIdMDC();
             }
         }
     }
 
+    private long getNextCheckTime(long now) {
+        return now + masterConfig.getStateWheelInterval().toMillis();
+    }
+
+    /**
+     * The workflow instance will be timeout at startTime + timeout, if the startTime is not set, check it at next tick.
+     */
+    private long getProcessTimeoutDeadline(ProcessInstance processInstance) {
+        if (processInstance.getStartTime() == null) {
+            return System.currentTimeMillis();
+        }
+        return processInstance.getStartTime().getTime() + TimeUnit.MINUTES.toMillis(processInstance.getTimeout());
+    }
+
+    /**
+     * The task instance will be timeout at startTime + timeout, if the task instance is not started, it will not be
+     * timeout before now + timeout.
+     */
+    private long getTaskTimeoutDeadline(TaskInstance taskInstance, long now) {
+        long timeout = TimeUnit.MINUTES.toMillis(taskInstance.getTaskDefine().getTimeout());
+        if (taskInstance.getStartTime() == null) {
+            return now + timeout;
+        }
+        return taskInstance.getStartTime().getTime() + timeout;
+    }
+
+    /**
+     * The failed task instance can retry after endTime + retryInterval, see
+     * {@link TaskInstance#retryTaskIntervalOverTime()}, other task instances should be checked at next tick.
+     */
+    private long getTaskRetryDeadline(TaskInstance taskInstance) {
+        if (taskInstance.getState() != TaskExecutionStatus.FAILURE || taskInstance.getEndTime() == null) {
+            return System.currentTimeMillis();
+        }
+        // retryTaskIntervalOverTime compares the interval in seconds exclusively
+        return taskInstance.getEndTime().getTime() + TimeUnit.MINUTES.toMillis(taskInstance.getRetryInterval())
+                + TimeUnit.SECONDS.toMillis(1);
+    }
+
     private void addProcessStopEvent(ProcessInstance processInstance) {
         WorkflowStateEvent stateEvent = WorkflowStateEvent.builder()
                 .processInstanceId(processInstance.getId())
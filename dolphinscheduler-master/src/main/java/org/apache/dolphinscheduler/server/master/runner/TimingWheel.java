@@ -0,0 +1,179 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.dolphinscheduler.server.master.runner;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+
+import com.google.common.base.Preconditions;
+
+/**
+ * A hashed timing wheel, each key is scheduled by its deadline, and only the keys in the current tick's bucket will be
+ * touched when the wheel advances.
+ * <p>
+ * {@link #schedule(Object, long)}, {@link #cancel(Object)} and {@link #contains(Object)} are O(1) and can be called by
+ * any thread, {@link #advance(long)} should only be called by a single thread.
+ *
+ * @param <K> the key of the timeout, a key can only be scheduled once, schedule an existing key will replace it.
+ */
+public class TimingWheel<K> {
+
+    private final long tickDurationMillis;
+
+    private final long startTimeMillis;
+
+    private final List<Timeout<K>>[] buckets;
+
+    /**
+     * The timeouts which are scheduled but not transferred into the buckets.
+     */
+    private final ConcurrentLinkedQueue<Timeout<K>> pendingTimeouts = new ConcurrentLinkedQueue<>();
+
+    private final Map<K, Timeout<K>> timeouts = new ConcurrentHashMap<>();
+
+    /**
+     * The last processed tick, only accessed by the advance thread.
+     */
+    private long currentTick;
+
+    @SuppressWarnings("unchecked")
+    public TimingWheel(long tickDurationMillis, int wheelSize, long startTimeMillis) {
+        Preconditions.checkArgument(tickDurationMillis > 0, "tickDurationMillis should be positive");
+        Preconditions.checkArgument(wheelSize > 0, "wheelSize should be positive");
+        this.tickDurationMillis = tickDurationMillis;
+        this.startTimeMillis = startTimeMillis;
+        this.buckets = new List[wheelSize];
+        for (int i = 0; i < wheelSize; i++) {
+            buckets[i] = new ArrayList<>();
+        }
+        this.currentTick = 0;
+    }
+
+    /**
+     * Schedule the key to be expired at the given deadline, if the key is already scheduled, the old deadline will be
+     * replaced.
+     */
+    public void schedule(K key, long deadlineMillis) {
+        Timeout<K> timeout = new Timeout<>(key, deadlineMillis);
+        Timeout<K> oldTimeout = timeouts.put(key, timeout);
+        if (oldTimeout != null) {
+            oldTimeout.cancelled = true;
+        }
+        pendingTimeouts.add(timeout);
+    }
+
+    /**
+     * Cancel the scheduled key, the cancelled timeout will be dropped lazily when its bucket is processed.
+     *
+     * @return true if the key is scheduled before.
+     */
+    public boolean cancel(K key) {
+        Timeout<K> timeout = timeouts.remove(key);
+        if (timeout == null) {
+            return false;
+        }
+        timeout.cancelled = true;
+        return true;
+    }
+
+    public boolean contains(K key) {
+        return timeouts.containsKey(key);
+    }
+
+    public int size() {
+        return timeouts.size();
+    }
+
+    public void clear() {
+        timeouts.values().forEach(timeout -> timeout.cancelled = true);
+        timeouts.clear();
+    }
+
+    /**
+     * Advance the wheel to the given time, the expired keys will be removed from the wheel and returned.
+     */
+    public List<K> advance(long nowMillis) {
+        transferPendingTimeouts();
+        List<K> expiredKeys = new ArrayList<>();
+        long targetTick = (nowMillis - startTimeMillis) / tickDurationMillis;
+        while (currentTick < targetTick) {
+            currentTick++;
+            expireBucket(currentTick, expiredKeys);
+        }
+        return expiredKeys;
+    }
+
+    private void transferPendingTimeouts() {
+        Timeout<K> timeout;
+        while ((timeout = pendingTimeouts.poll()) != null) {
+            if (timeout.cancelled) {
+                continue;
+            }
+            // Round up to the tick, the timeout should never expire before its deadline, and the expired timeout will
+            // be handled in the next tick.
+            long deadlineTick = Math.max(
+                    (timeout.deadlineMillis - startTimeMillis + tickDurationMillis - 1) / tickDurationMillis,
+                    currentTick + 1);
+            timeout.remainingRounds = (deadlineTick - currentTick - 1) / buckets.length;
+            buckets[(int) (deadlineTick % buckets.length)].add(timeout);
+        }
+    }
+
+    private void expireBucket(long tick, List<K> expiredKeys) {
+        List<Timeout<K>> bucket = buckets[(int) (tick % buckets.length)];
+        if (bucket.isEmpty()) {
+            return;
+        }
+        List<Timeout<K>> remainingTimeouts = new ArrayList<>();
+        for (Timeout<K> timeout : bucket) {
+            if (timeout.cancelled) {
+                continue;
+            }
+            if (timeout.remainingRounds > 0) {
+                timeout.remainingRounds--;
+                remainingTimeouts.add(timeout);
+                continue;
+            }
+            if (timeouts.remove(timeout.key, timeout)) {
+                expiredKeys.add(timeout.key);
+            }
+        }
+        bucket.clear();
+        bucket.addAll(remainingTimeouts);
+    }
+
+    private static class Timeout<K> {
+
+        private final K key;
+
+        private final long deadlineMillis;
+
+        private long remainingRounds;
+
+        private volatile boolean cancelled;
+
+        private Timeout(K key, long deadlineMillis) {
+            this.key = key;
+            this.deadlineMillis = deadlineMillis;
+        }
+    }
+
+}
@@ -0,0 +1,87 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.dolphinscheduler.server.master.runner;
+
+import org.apache.dolphinscheduler.server.master.metrics.ProcessInstanceMetrics;
+
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+import javax.annotation.PostConstruct;
+
+import lombok.extern.slf4j.Slf4j;
+
+import org.springframework.stereotype.Component;
+
+/**
+ * The ready set of the workflow instances which have pending state events.
+ * <p>
+ * A workflow instance is marked ready when a state event is added to its {@link WorkflowExecuteRunnable}, so the
+ * {@link EventExecuteService} only needs to schedule the workflows in this queue rather than scanning all the
+ * running workflows. Each workflow instance is contained at most once, until it is polled out.
+ */
+@Slf4j
+@Component
+public class WorkflowEventReadyQueue {
+
+    private final LinkedBlockingQueue<Integer> readyWorkflowInstanceIds = new LinkedBlockingQueue<>();
+
+    private final Set<Integer> readyWorkflowInstanceIdSet = ConcurrentHashMap.newKeySet();
+
+    @PostConstruct
+    public void init() {
+        ProcessInstanceMetrics.registerWorkflowEventReadyQueueSizeGauge(this::size);
+    }
+
+    /**
+     * Mark the given workflow instance has pending state events, if the workflow instance is already in the ready
+     * queue, this method will do nothing.
+     */
+    public void markReady(int workflowInstanceId) {
+        if (readyWorkflowInstanceIdSet.add(workflowInstanceId)) {
+            readyWorkflowInstanceIds.offer(workflowInstanceId);
+        }
+    }
+
+    /**
+     * Poll the next ready workflow instance id, waiting up to the given timeout.
+     *
+     * @return the workflow instance id, or null if there is no ready workflow instance before the timeout
+     */
+    public Integer poll(long timeout, TimeUnit unit) throws InterruptedException {
+        Integer workflowInstanceId = readyWorkflowInstanceIds.poll(timeout, unit);
+        if (workflowInstanceId != null) {
+            // Remove from the set before the events are handled, so the events added during handling will mark the
+            // workflow ready again.
+            readyWorkflowInstanceIdSet.remove(workflowInstanceId);
+        }
+        return workflowInstanceId;
+    }
+
+    public int size() {
+        return readyWorkflowInstanceIds.size();
+    }
+
+    public void clear() {
+        readyWorkflowInstanceIds.clear();
+        readyWorkflowInstanceIdSet.clear();
+    }
+
+}
@@ -37,6 +37,7 @@ import org.apache.dolphinscheduler.common.enums.Priority;
 import org.apache.dolphinscheduler.common.enums.StateEventType;
 import org.apache.dolphinscheduler.common.enums.WorkflowExecutionStatus;
 import org.apache.dolphinscheduler.common.graph.DAG;
+import org.apache.dolphinscheduler.common.graph.DAGDependencyTracker;
 import org.apache.dolphinscheduler.common.log.remote.RemoteLogUtils;
 import org.apache.dolphinscheduler.common.model.TaskNodeRelation;
 import org.apache.dolphinscheduler.common.thread.ThreadUtils;
@@ -60,6 +61,7 @@ import org.apache.dolphinscheduler.plugin.task.api.enums.DependResult;
 import org.apache.dolphinscheduler.plugin.task.api.enums.Direct;
 import org.apache.dolphinscheduler.plugin.task.api.enums.TaskExecutionStatus;
 import org.apache.dolphinscheduler.plugin.task.api.model.Property;
+import org.apache.dolphinscheduler.plugin.task.api.model.VarPool;
 import org.apache.dolphinscheduler.plugin.task.api.parameters.SwitchParameters;
 import org.apache.dolphinscheduler.plugin.task.api.utils.LogUtils;
 import org.apache.dolphinscheduler.server.master.config.MasterConfig;
@@ -74,6 +76,7 @@ import org.apache.dolphinscheduler.server.master.event.WorkflowStateEvent;
 import org.apache.dolphinscheduler.server.master.graph.IWorkflowGraph;
 import org.apache.dolphinscheduler.server.master.metrics.TaskMetrics;
 import org.apache.dolphinscheduler.server.master.runner.execute.DefaultTaskExecuteRunnableFactory;
+import org.apache.dolphinscheduler.server.master.runner.task.dependent.DependentTaskWaitingIndex;
 import org.apache.dolphinscheduler.server.master.runner.taskgroup.TaskGroupCoordinator;
 import org.apache.dolphinscheduler.server.master.utils.TaskUtils;
 import org.apache.dolphinscheduler.server.master.utils.WorkflowInstanceUtils;
@@ -117,6 +120,7 @@ import org.springframework.beans.BeanUtils;
 
 import com.google.common.annotations.VisibleForTesting;
 import com.google.common.collect.Lists;
+import com.google.common.collect.Maps;
 import com.google.common.collect.Sets;
 
 /**
@@ -186,7 +190,24 @@ public class WorkflowExecuteRunnable implements IWorkflowExecuteRunnable {
      * todo: remove this field
      * skip task map, code as key
      */
-    private final Map<Long, TaskNode> skipTaskNodeMap = new ConcurrentHashMap<>();
+    private final Map<Long, TaskNode> skipTaskNodeMap = new SkipTaskNodeMap();
+
+    /**
+     * the unsatisfied previous node count of each task node, updated with completeTaskSet and skipTaskNodeMap, so the
+     * post nodes can be checked without scanning their depend list.
+     */
+    private final DAGDependencyTracker<Long> taskDependencyTracker;
+
+    /**
+     * the parsed varPool of the task instances, taskCode as key, the varPool is parsed again only when the varPool
+     * string of the task instance is changed
+     */
+    private final Map<Long, VarPool> taskVarPoolMap = new ConcurrentHashMap<>();
+
+    /**
+     * the parsed varPool of the workflow instance
+     */
+    private volatile VarPool workflowVarPool = VarPool.EMPTY;
 
     /**
      * complement date list
@@ -222,6 +243,10 @@ public class WorkflowExecuteRunnable implements IWorkflowExecuteRunnable {
 
     private final TaskGroupCoordinator taskGroupCoordinator;
 
+    private final WorkflowEventReadyQueue workflowEventReadyQueue;
+
+    private final DependentTaskWaitingIndex dependentTaskWaitingIndex;
+
     public WorkflowExecuteRunnable(
                                    @NonNull IWorkflowExecuteContext workflowExecuteContext,
                                    @NonNull CommandService commandService,
@@ -234,7 +259,9 @@ public class WorkflowExecuteRunnable implements IWorkflowExecuteRunnable {
                                    @NonNull TaskInstanceDao taskInstanceDao,
                                    @NonNull DefaultTaskExecuteRunnableFactory defaultTaskExecuteRunnableFactory,
                                    @NonNull ListenerEventAlertManager listenerEventAlertManager,
-                                   @NonNull TaskGroupCoordinator taskGroupCoordinator) {
+                                   @NonNull TaskGroupCoordinator taskGroupCoordinator,
+                                   @NonNull WorkflowEventReadyQueue workflowEventReadyQueue,
+                                   @NonNull DependentTaskWaitingIndex dependentTaskWaitingIndex) {
         this.processService = processService;
         this.commandService = commandService;
         this.processInstanceDao = processInstanceDao;
@@ -247,6 +274,13 @@ public class WorkflowExecuteRunnable implements IWorkflowExecuteRunnable {
         this.defaultTaskExecuteRunnableFactory = defaultTaskExecuteRunnableFactory;
         this.listenerEventAlertManager = listenerEventAlertManager;
         this.taskGroupCoordinator = taskGroupCoordinator;
+        this.workflowEventReadyQueue = workflowEventReadyQueue;
+        this.dependentTaskWaitingIndex = dependentTaskWaitingIndex;
+        DAG<Long, TaskNode, TaskNodeRelation> dag = workflowExecuteContext.getWorkflowGraph().getDag();
+        this.taskDependencyTracker = new DAGDependencyTracker<>(dag, taskCode -> {
+            TaskNode taskNode = dag.getNode(taskCode);
+            return taskNode == null || taskNode.isForbidden();
+        });
         TaskMetrics.registerTaskPrepared(standByTaskInstancePriorityQueue::size);
     }
 
@@ -328,7 +362,7 @@ public class WorkflowExecuteRunnable implements IWorkflowExecuteRunnable {
             log.info("state event would be abounded :{}", stateEvent);
             return false;
         }
-        this.stateEvents.add(stateEvent);
+        offerStateEvent(stateEvent);
         return true;
     }
 
@@ -336,6 +370,20 @@ public class WorkflowExecuteRunnable implements IWorkflowExecuteRunnable {
         return this.stateEvents.size();
     }
 
+    /**
+     * Mark this workflow ready in {@link WorkflowEventReadyQueue} if it has pending state events.
+     */
+    public void signalIfHasPendingEvents() {
+        if (!this.stateEvents.isEmpty()) {
+            workflowEventReadyQueue.markReady(workflowExecuteContext.getWorkflowInstance().getId());
+        }
+    }
+
+    private void offerStateEvent(StateEvent stateEvent) {
+        this.stateEvents.add(stateEvent);
+        workflowEventReadyQueue.markReady(workflowExecuteContext.getWorkflowInstance().getId());
+    }
+
     public void processStart() {
         ProcessInstance workflowInstance = workflowExecuteContext.getWorkflowInstance();
         ProjectUser projectUser = processService.queryProjectWithUserByProcessInstanceId(workflowInstance.getId());
@@ -375,7 +423,7 @@ public class WorkflowExecuteRunnable implements IWorkflowExecuteRunnable {
             }
 
             if (taskInstance.getState().isSuccess()) {
-                completeTaskSet.add(taskInstance.getTaskCode());
+                addCompleteTask(taskInstance.getTaskCode());
                 mergeTaskInstanceVarPool(taskInstance);
                 processInstanceDao.upsertProcessInstance(workflowInstance);
                 ProjectUser projectUser =
@@ -393,7 +441,7 @@ public class WorkflowExecuteRunnable implements IWorkflowExecuteRunnable {
                 log.info("Retry taskInstance taskInstance state: {}", taskInstance.getState());
                 retryTaskInstance(taskInstance);
             } else if (taskInstance.getState().isFailure()) {
-                completeTaskSet.add(taskInstance.getTaskCode());
+                addCompleteTask(taskInstance.getTaskCode());
                 ProjectUser projectUser =
                         processService.queryProjectWithUserByProcessInstanceId(workflowInstance.getId());
                 listenerEventAlertManager.publishTaskFailListenerEvent(workflowInstance, taskInstance, projectUser);
@@ -410,7 +458,10 @@ public class WorkflowExecuteRunnable implements IWorkflowExecuteRunnable {
                 }
             } else if (taskInstance.getState().isFinished()) {
                 // todo: when the task instance type is pause, then it should not in completeTaskSet
-                completeTaskSet.add(taskInstance.getTaskCode());
+                addCompleteTask(taskInstance.getTaskCode());
+            }
+            if (taskInstance.getState().isFinished()) {
+                dependentTaskWaitingIndex.onTaskInstanceFinished(workflowInstance, taskInstance);
             }
             log.info("TaskInstance finished will try to update the workflow instance state, task code:{} state:{}",
                     taskInstance.getTaskCode(),
@@ -422,7 +473,7 @@ public class WorkflowExecuteRunnable implements IWorkflowExecuteRunnable {
         } catch (Exception ex) {
             log.error("Task finish failed, get a exception, will remove this taskInstance from completeTaskSet", ex);
             // remove the task from complete map, so that we can finish in the next time.
-            completeTaskSet.remove(taskInstance.getTaskCode());
+            removeCompleteTask(taskInstance.getTaskCode());
             throw ex;
         }
     }
@@ -687,10 +738,13 @@ public class WorkflowExecuteRunnable implements IWorkflowExecuteRunnable {
                 log.info("workflowStatue changed to :{}", workflowRunnableStatus);
             }
             if (workflowRunnableStatus == WorkflowRunnableStatus.INITIALIZE_QUEUE) {
+                dependentTaskWaitingIndex.onWorkflowInstanceStarted(workflowInstance);
                 processStart();
                 submitPostNode(null);
                 workflowRunnableStatus = WorkflowRunnableStatus.STARTED;
                 log.info("workflowStatue changed to :{}", workflowRunnableStatus);
+                // the events added before started are not handled, need to schedule them now
+                signalIfHasPendingEvents();
             }
             return WorkflowStartStatus.SUCCESS;
         } catch (Exception e) {
@@ -725,6 +779,7 @@ public class WorkflowExecuteRunnable implements IWorkflowExecuteRunnable {
                 releaseTaskGroupIfNeeded(taskInstance);
             }
         });
+        dependentTaskWaitingIndex.onWorkflowInstanceFinished(workflowInstance);
         // Log the workflowInstance in detail
         log.info(WorkflowInstanceUtils.logWorkflowInstanceInDetails(workflowInstance));
     }
@@ -780,6 +835,7 @@ public class WorkflowExecuteRunnable implements IWorkflowExecuteRunnable {
         taskExecuteRunnableMap.clear();
         dependFailedTaskSet.clear();
         completeTaskSet.clear();
+        taskDependencyTracker.clearComplete();
         errorTaskMap.clear();
 
         ProcessInstance workflowInstance = workflowExecuteContext.getWorkflowInstance();
@@ -819,7 +875,7 @@ public class WorkflowExecuteRunnable implements IWorkflowExecuteRunnable {
 
                     if (task.isTaskComplete()) {
                         log.info("TaskInstance is already complete.");
-                        completeTaskSet.add(task.getTaskCode());
+                        addCompleteTask(task.getTaskCode());
                         continue;
                     }
                     if (task.isConditionsTask() || DagHelper.haveConditionsAfterNode(task.getTaskCode(),
@@ -973,7 +1029,7 @@ public class WorkflowExecuteRunnable implements IWorkflowExecuteRunnable {
                         .status(taskInstance.getState())
                         .type(StateEventType.PROCESS_BLOCKED)
                         .build();
-                this.stateEvents.add(processBlockEvent);
+                offerStateEvent(processBlockEvent);
             }
 
             TaskStateEvent taskStateChangeEvent = TaskStateEvent.builder()
@@ -982,7 +1038,7 @@ public class WorkflowExecuteRunnable implements IWorkflowExecuteRunnable {
                     .status(taskInstance.getState())
                     .type(StateEventType.TASK_STATE_CHANGE)
                     .build();
-            this.stateEvents.add(taskStateChangeEvent);
+            offerStateEvent(taskStateChangeEvent);
         }
     }
 
@@ -1166,6 +1222,8 @@ public class WorkflowExecuteRunnable implements IWorkflowExecuteRunnable {
         Map<String, Property> allProperty = new HashMap<>();
         Map<String, TaskInstance> allTaskInstance = new HashMap<>();
         if (CollectionUtils.isNotEmpty(preTask)) {
+            VarPool lastPreVarPool = null;
+            int nonEmptyPreVarPoolCount = 0;
             for (Long preTaskCode : preTask) {
                 Optional<TaskInstance> existTaskInstanceOptional = getTaskInstance(preTaskCode);
                 if (!existTaskInstanceOptional.isPresent()) {
@@ -1180,15 +1238,19 @@ public class WorkflowExecuteRunnable implements IWorkflowExecuteRunnable {
                 if (preTaskInstance == null) {
                     continue;
                 }
-                String preVarPool = preTaskInstance.getVarPool();
-                if (StringUtils.isNotEmpty(preVarPool)) {
-                    List<Property> properties = JSONUtils.toList(preVarPool, Property.class);
-                    for (Property info : properties) {
+                VarPool preVarPool = getTaskVarPool(preTaskInstance).asInput();
+                if (!preVarPool.isEmpty()) {
+                    lastPreVarPool = preVarPool;
+                    nonEmptyPreVarPoolCount++;
+                    for (Property info : preVarPool.getProperties()) {
                         setVarPoolValue(allProperty, allTaskInstance, preTaskInstance, info);
                     }
                 }
             }
-            if (allProperty.size() > 0) {
+            if (nonEmptyPreVarPoolCount == 1 && lastPreVarPool.size() == allProperty.size()) {
+                // share the varPool of the only previous task, its serialized string is cached
+                taskInstance.setVarPool(lastPreVarPool.toJson());
+            } else if (allProperty.size() > 0) {
                 taskInstance.setVarPool(JSONUtils.toJsonString(allProperty.values()));
             }
         } else {
@@ -1205,8 +1267,7 @@ public class WorkflowExecuteRunnable implements IWorkflowExecuteRunnable {
     private void setVarPoolValue(Map<String, Property> allProperty,
                                  Map<String, TaskInstance> allTaskInstance,
                                  TaskInstance preTaskInstance, Property thisProperty) {
-        // for this taskInstance all the param in this part is IN.
-        thisProperty.setDirect(Direct.IN);
+        // for this taskInstance all the param in this part is IN, this is done by VarPool#asInput.
         // get the pre taskInstance Property's name
         String proName = thisProperty.getProp();
         // if the Previous nodes have the Property of same name
@@ -1236,24 +1297,23 @@ public class WorkflowExecuteRunnable implements IWorkflowExecuteRunnable {
     }
 
     /**
-     * get complete task instance map, taskCode as key
+     * get complete task instance map, taskCode as key, this is a live view of completeTaskSet rather than a copy,
+     * the task which cannot be found from taskCodeInstanceMap is filtered out, e.g. submit to db failed.
      */
     private Map<Long, TaskInstance> getCompleteTaskInstanceMap() {
-        Map<Long, TaskInstance> completeTaskInstanceMap = new HashMap<>();
+        return Maps.filterValues(Maps.asMap(completeTaskSet, taskCodeInstanceMap::get), Objects::nonNull);
+    }
 
-        completeTaskSet.forEach(taskCode -> {
-            Optional<TaskInstance> existTaskInstanceOptional = getTaskInstance(taskCode);
-            if (existTaskInstanceOptional.isPresent()) {
-                TaskInstance taskInstance = existTaskInstanceOptional.get();
-                completeTaskInstanceMap.put(taskCode, taskInstance);
-            } else {
-                // This case will happen when we submit to db failed, then the taskInstanceId is 0
-                log.warn("Cannot find the taskInstance from taskInstanceMap, taskConde: {}",
-                        taskCode);
-            }
-        });
+    private void addCompleteTask(Long taskCode) {
+        if (completeTaskSet.add(taskCode)) {
+            taskDependencyTracker.markComplete(taskCode);
+        }
+    }
 
-        return completeTaskInstanceMap;
+    private void removeCompleteTask(Long taskCode) {
+        if (completeTaskSet.remove(taskCode)) {
+            taskDependencyTracker.unmarkComplete(taskCode);
+        }
     }
 
     /**
@@ -1272,7 +1332,8 @@ public class WorkflowExecuteRunnable implements IWorkflowExecuteRunnable {
         DAG<Long, TaskNode, TaskNodeRelation> dag = workflowExecuteContext.getWorkflowGraph().getDag();
 
         Set<Long> submitTaskNodeList =
-                DagHelper.parsePostNodes(parentNodeCode, skipTaskNodeMap, dag, getCompleteTaskInstanceMap());
+                DagHelper.parsePostNodes(parentNodeCode, skipTaskNodeMap, dag, getCompleteTaskInstanceMap(),
+                        taskNode -> taskDependencyTracker.isAllPreviousNodesSatisfied(taskNode.getCode()));
         List<TaskInstance> taskInstances = new ArrayList<>();
         for (Long taskNode : submitTaskNodeList) {
             TaskNode taskNodeObject = dag.getNode(taskNode);
@@ -1314,10 +1375,10 @@ public class WorkflowExecuteRunnable implements IWorkflowExecuteRunnable {
             Optional<TaskInstance> existTaskInstanceOptional = getTaskInstance(parentNodeCode);
             if (existTaskInstanceOptional.isPresent()) {
                 TaskInstance endTaskInstance = taskInstanceMap.get(existTaskInstanceOptional.get().getId());
-                String taskInstanceVarPool = endTaskInstance.getVarPool();
-                if (StringUtils.isNotEmpty(taskInstanceVarPool)) {
-                    Set<Property> taskProperties = new HashSet<>(JSONUtils.toList(taskInstanceVarPool, Property.class));
-                    String processInstanceVarPool = workflowInstance.getVarPool();
+                VarPool taskInstanceVarPool = getTaskVarPool(endTaskInstance);
+                if (!taskInstanceVarPool.isEmpty()) {
+                    Set<Property> taskProperties = new HashSet<>(taskInstanceVarPool.getProperties());
+                    VarPool processInstanceVarPool = getWorkflowVarPool();
                     List<Property> processGlobalParams =
                             new ArrayList<>(JSONUtils.toList(workflowInstance.getGlobalParams(), Property.class));
                     Map<String, Direct> oldProcessGlobalParamsMap = processGlobalParams.stream()
@@ -1330,9 +1391,8 @@ public class WorkflowExecuteRunnable implements IWorkflowExecuteRunnable {
                     Set<Property> taskVarPoolIn =
                             taskProperties.stream().filter(property -> property.getDirect().equals(Direct.IN))
                                     .collect(Collectors.toSet());
-                    if (StringUtils.isNotEmpty(processInstanceVarPool)) {
-                        Set<Property> properties =
-                                new HashSet<>(JSONUtils.toList(processInstanceVarPool, Property.class));
+                    if (!processInstanceVarPool.isEmpty()) {
+                        Set<Property> properties = new HashSet<>(processInstanceVarPool.getProperties());
                         Set<String> newProcessVarPoolKeys =
                                 taskProperties.stream().map(Property::getProp).collect(Collectors.toSet());
                         properties = properties.stream()
@@ -1341,12 +1401,12 @@ public class WorkflowExecuteRunnable implements IWorkflowExecuteRunnable {
                         properties.addAll(processVarPoolOut);
                         properties.addAll(taskVarPoolIn);
 
-                        workflowInstance.setVarPool(JSONUtils.toJsonString(properties));
+                        setWorkflowVarPool(VarPool.of(properties));
                     } else {
                         Set<Property> varPool = new HashSet<>();
                         varPool.addAll(taskVarPoolIn);
                         varPool.addAll(processVarPoolOut);
-                        workflowInstance.setVarPool(JSONUtils.toJsonString(varPool));
+                        setWorkflowVarPool(VarPool.of(varPool));
                     }
                 }
             }
@@ -1418,9 +1478,8 @@ public class WorkflowExecuteRunnable implements IWorkflowExecuteRunnable {
     private DependResult isTaskDepsComplete(Long taskCode) {
         DAG<Long, TaskNode, TaskNodeRelation> dag = workflowExecuteContext.getWorkflowGraph().getDag();
 
-        Collection<Long> startNodes = dag.getBeginNode();
         // if vertex,returns true directly
-        if (startNodes.contains(taskCode)) {
+        if (dag.containsNode(taskCode) && dag.getIndegree(taskCode) == 0) {
             return DependResult.SUCCESS;
         }
         TaskNode taskNode = dag.getNode(taskCode);
@@ -1459,7 +1518,7 @@ public class WorkflowExecuteRunnable implements IWorkflowExecuteRunnable {
             }
         }
         log.info("The dependTasks of task all success, currentTaskCode: {}, dependTaskCodes: {}",
-                taskCode, Arrays.toString(completeTaskSet.toArray()));
+                taskCode, indirectDepCodeList);
         return DependResult.SUCCESS;
     }
 
@@ -1697,11 +1756,10 @@ public class WorkflowExecuteRunnable implements IWorkflowExecuteRunnable {
 
         // success
         if (state == WorkflowExecutionStatus.RUNNING_EXECUTION) {
-            List<TaskInstance> killTasks = getCompleteTaskByState(TaskExecutionStatus.KILL);
             if (standByTaskInstancePriorityQueue.size() > 0 || waitToRetryTaskInstanceMap.size() > 0) {
                 // tasks currently pending submission, no retries, indicating that depend is waiting to complete
                 return WorkflowExecutionStatus.RUNNING_EXECUTION;
-            } else if (CollectionUtils.isNotEmpty(killTasks)) {
+            } else if (CollectionUtils.isNotEmpty(getCompleteTaskByState(TaskExecutionStatus.KILL))) {
                 // tasks maybe killed manually
                 return WorkflowExecutionStatus.FAILURE;
             } else {
@@ -1748,7 +1806,7 @@ public class WorkflowExecuteRunnable implements IWorkflowExecuteRunnable {
                     .type(StateEventType.PROCESS_STATE_CHANGE)
                     .build();
             // replace with `stateEvents`, make sure `WorkflowExecuteThread` can be deleted to avoid memory leaks
-            this.stateEvents.add(stateEvent);
+            offerStateEvent(stateEvent);
         } else {
             log.info("There is no need to update the workflow instance state, origin state: {}, target state: {}",
                     workflowInstance.getState(),
@@ -1900,7 +1958,7 @@ public class WorkflowExecuteRunnable implements IWorkflowExecuteRunnable {
                             "Task {} has been forced success, put it into complete task list and stop retrying, taskInstanceId: {}",
                             task.getName(), task.getId());
                     removeTaskFromStandbyList(task);
-                    completeTaskSet.add(task.getTaskCode());
+                    addCompleteTask(task.getTaskCode());
                     taskInstanceMap.put(task.getId(), task);
                     taskCodeInstanceMap.put(task.getTaskCode(), task);
                     submitPostNode(task.getTaskCode());
@@ -1928,7 +1986,7 @@ public class WorkflowExecuteRunnable implements IWorkflowExecuteRunnable {
                                 workflowInstance.getId(),
                                 task.getTaskCode());
                     }
-                    completeTaskSet.add(task.getTaskCode());
+                    addCompleteTask(task.getTaskCode());
                     taskInstanceMap.put(task.getId(), task);
                     taskCodeInstanceMap.put(task.getTaskCode(), task);
                     errorTaskMap.put(task.getTaskCode(), task.getId());
@@ -2097,10 +2155,9 @@ public class WorkflowExecuteRunnable implements IWorkflowExecuteRunnable {
 
         Set<String> removeSet = new HashSet<>();
         for (TaskInstance taskInstance : removeTaskInstances) {
-            String taskVarPool = taskInstance.getVarPool();
-            if (StringUtils.isNotEmpty(taskVarPool)) {
-                List<Property> properties = JSONUtils.toList(taskVarPool, Property.class);
-                List<String> keys = properties.stream()
+            VarPool taskVarPool = getTaskVarPool(taskInstance);
+            if (!taskVarPool.isEmpty()) {
+                List<String> keys = taskVarPool.getProperties().stream()
                         .filter(property -> property.getDirect().equals(Direct.OUT))
                         .map(property -> String.format("%s_%s", property.getProp(), property.getType()))
                         .collect(Collectors.toList());
@@ -2111,17 +2168,20 @@ public class WorkflowExecuteRunnable implements IWorkflowExecuteRunnable {
         // remove varPool data and update process instance
         // TODO: we can remove this snippet if : we get varPool from pre taskInstance instead of process instance when
         // task can not get pre task from incomplete dag
-        List<Property> processProperties = JSONUtils.toList(workflowInstance.getVarPool(), Property.class);
-        processProperties = processProperties.stream()
+        List<Property> processProperties = getWorkflowVarPool().getProperties().stream()
                 .filter(property -> !(property.getDirect().equals(Direct.IN)
                         && removeSet.contains(String.format("%s_%s", property.getProp(), property.getType()))))
                 .collect(Collectors.toList());
 
-        workflowInstance.setVarPool(JSONUtils.toJsonString(processProperties));
+        setWorkflowVarPool(VarPool.of(processProperties));
         processInstanceDao.updateById(workflowInstance);
 
         // remove task instance from taskInstanceMap,taskCodeInstanceMap , completeTaskSet, validTaskMap, errorTaskMap
-        completeTaskSet.removeIf(dag::containsNode);
+        for (Long taskCode : new ArrayList<>(completeTaskSet)) {
+            if (dag.containsNode(taskCode)) {
+                removeCompleteTask(taskCode);
+            }
+        }
         taskCodeInstanceMap.entrySet().removeIf(entity -> dag.containsNode(entity.getValue().getTaskCode()));
         taskInstanceMap.entrySet().removeIf(entry -> dag.containsNode(entry.getValue().getTaskCode()));
         validTaskMap.entrySet().removeIf(entry -> dag.containsNode(entry.getKey()));
@@ -2155,24 +2215,66 @@ public class WorkflowExecuteRunnable implements IWorkflowExecuteRunnable {
     }
 
     private void mergeTaskInstanceVarPool(TaskInstance taskInstance) {
-        String taskVarPoolJson = taskInstance.getVarPool();
-        if (StringUtils.isEmpty(taskVarPoolJson)) {
+        VarPool taskVarPool = getTaskVarPool(taskInstance);
+        if (taskVarPool.isEmpty()) {
             return;
         }
-        ProcessInstance workflowInstance = workflowExecuteContext.getWorkflowInstance();
-        String processVarPoolJson = workflowInstance.getVarPool();
-        if (StringUtils.isEmpty(processVarPoolJson)) {
-            workflowInstance.setVarPool(taskVarPoolJson);
-            return;
+        setWorkflowVarPool(getWorkflowVarPool().merge(taskVarPool));
+    }
+
+    /**
+     * get the parsed varPool of the task instance, the cached varPool is reused if the varPool string is not changed
+     */
+    private VarPool getTaskVarPool(TaskInstance taskInstance) {
+        String varPoolJson = taskInstance.getVarPool();
+        VarPool varPool = taskVarPoolMap.get(taskInstance.getTaskCode());
+        if (varPool == null || !varPool.isSerializedAs(varPoolJson)) {
+            varPool = VarPool.of(varPoolJson);
+            taskVarPoolMap.put(taskInstance.getTaskCode(), varPool);
         }
-        List<Property> processVarPool = new ArrayList<>(JSONUtils.toList(processVarPoolJson, Property.class));
-        List<Property> taskVarPool = JSONUtils.toList(taskVarPoolJson, Property.class);
-        Set<String> newProcessVarPoolKeys = taskVarPool.stream().map(Property::getProp).collect(Collectors.toSet());
-        processVarPool = processVarPool.stream().filter(property -> !newProcessVarPoolKeys.contains(property.getProp()))
-                .collect(Collectors.toList());
+        return varPool;
+    }
 
-        processVarPool.addAll(taskVarPool);
+    /**
+     * get the parsed varPool of the workflow instance, the varPool string may be changed outside, e.g. recovered
+     */
+    private VarPool getWorkflowVarPool() {
+        String varPoolJson = workflowExecuteContext.getWorkflowInstance().getVarPool();
+        VarPool varPool = workflowVarPool;
+        if (!varPool.isSerializedAs(varPoolJson)) {
+            varPool = VarPool.of(varPoolJson);
+            workflowVarPool = varPool;
+        }
+        return varPool;
+    }
+
+    private void setWorkflowVarPool(VarPool varPool) {
+        workflowVarPool = varPool;
+        workflowExecuteContext.getWorkflowInstance().setVarPool(varPool.toJson());
+    }
+
+    /**
+     * The skip task map which marks the skipped task in taskDependencyTracker, the skipped task is only put by
+     * {@link DagHelper} and never removed.
+     */
+    private class SkipTaskNodeMap extends ConcurrentHashMap<Long, TaskNode> {
 
-        workflowInstance.setVarPool(JSONUtils.toJsonString(processVarPool));
+        private static final long serialVersionUID = 1L;
+
+        @Override
+        public TaskNode put(Long taskCode, TaskNode taskNode) {
+            TaskNode previous = super.put(taskCode, taskNode);
+            taskDependencyTracker.markSkipped(taskCode);
+            return previous;
+        }
+
+        @Override
+        public TaskNode putIfAbsent(Long taskCode, TaskNode taskNode) {
+            TaskNode previous = super.putIfAbsent(taskCode, taskNode);
+            if (previous == null) {
+                taskDependencyTracker.markSkipped(taskCode);
+            }
+            return previous;
+        }
     }
 }
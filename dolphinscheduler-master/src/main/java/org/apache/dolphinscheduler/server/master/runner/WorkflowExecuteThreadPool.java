@@ -21,6 +21,7 @@ import org.apache.dolphinscheduler.plugin.task.api.utils.LogUtils;
 import org.apache.dolphinscheduler.server.master.cache.ProcessInstanceExecCacheManager;
 import org.apache.dolphinscheduler.server.master.config.MasterConfig;
 import org.apache.dolphinscheduler.server.master.event.StateEvent;
+import org.apache.dolphinscheduler.server.master.metrics.ProcessInstanceMetrics;
 
 import java.util.concurrent.ConcurrentHashMap;
 
@@ -94,7 +95,14 @@ public class WorkflowExecuteThreadPool extends ThreadPoolTaskExecutor {
             return;
         }
         multiThreadFilterMap.put(workflowInstanceId, workflowExecuteThread);
-        ListenableFuture<?> future = this.submitListenable(workflowExecuteThread::handleEvents);
+        ListenableFuture<?> future = this.submitListenable(() -> {
+            long handleStartTime = System.currentTimeMillis();
+            try {
+                workflowExecuteThread.handleEvents();
+            } finally {
+                ProcessInstanceMetrics.recordWorkflowEventHandleTime(System.currentTimeMillis() - handleStartTime);
+            }
+        });
         future.addCallback(new ListenableFutureCallback() {
 
             @Override
@@ -103,6 +111,8 @@ public class WorkflowExecuteThreadPool extends ThreadPoolTaskExecutor {
                 try {
                     log.error("Workflow instance events handle failed", ex);
                     multiThreadFilterMap.remove(workflowInstanceId);
+                    // the events which are left or added during handling need to be scheduled again
+                    workflowExecuteThread.signalIfHasPendingEvents();
                 } finally {
                     LogUtils.removeWorkflowInstanceIdMDC();
                 }
@@ -125,6 +135,8 @@ public class WorkflowExecuteThreadPool extends ThreadPoolTaskExecutor {
                 } finally {
                     // make sure the process has been removed from multiThreadFilterMap
                     multiThreadFilterMap.remove(workflowInstanceId);
+                    // the events which are left or added during handling need to be scheduled again
+                    workflowExecuteThread.signalIfHasPendingEvents();
                     LogUtils.removeWorkflowInstanceIdMDC();
                 }
             }
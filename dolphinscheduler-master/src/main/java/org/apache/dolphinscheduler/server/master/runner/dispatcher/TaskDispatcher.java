@@ -17,10 +17,15 @@
 
 package org.apache.dolphinscheduler.server.master.runner.dispatcher;
 
+import org.apache.dolphinscheduler.extract.base.utils.Host;
 import org.apache.dolphinscheduler.server.master.dispatch.exceptions.WorkerGroupNotFoundException;
 import org.apache.dolphinscheduler.server.master.exception.TaskDispatchException;
 import org.apache.dolphinscheduler.server.master.runner.TaskExecuteRunnable;
 
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+
 /**
  * Used to do task dispatcher.
  */
@@ -28,4 +33,22 @@ public interface TaskDispatcher {
 
     void dispatchTask(TaskExecuteRunnable taskExecuteRunnable) throws TaskDispatchException, WorkerGroupNotFoundException;
 
+    /**
+     * Select the host to dispatch the task.
+     *
+     * @return the selected host, or empty if the task cannot be dispatched anymore, e.g. the worker group is not found,
+     * in this case the task has already been marked as failed.
+     * @throws TaskDispatchException if there is no available host now, the task should be dispatched later.
+     */
+    Optional<Host> selectDispatchHost(TaskExecuteRunnable taskExecuteRunnable) throws TaskDispatchException;
+
+    /**
+     * Dispatch the tasks to the given host in one request, the caller will not be blocked by the request.
+     *
+     * @return the future of the tasks which are rejected by the host, it will be completed exceptionally by
+     * {@link TaskDispatchException} if the request failed, then none of the tasks is dispatched.
+     */
+    CompletableFuture<List<TaskExecuteRunnable>> dispatchTasks(Host host,
+                                                               List<TaskExecuteRunnable> taskExecuteRunnables);
+
 }
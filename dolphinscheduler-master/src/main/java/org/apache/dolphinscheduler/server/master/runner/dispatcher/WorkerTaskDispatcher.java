@@ -22,6 +22,8 @@ import static com.google.common.base.Preconditions.checkNotNull;
 import org.apache.dolphinscheduler.extract.base.client.SingletonJdkDynamicRpcClientProxyFactory;
 import org.apache.dolphinscheduler.extract.base.utils.Host;
 import org.apache.dolphinscheduler.extract.worker.ITaskInstanceOperator;
+import org.apache.dolphinscheduler.extract.worker.transportor.TaskInstanceBatchDispatchRequest;
+import org.apache.dolphinscheduler.extract.worker.transportor.TaskInstanceBatchDispatchResponse;
 import org.apache.dolphinscheduler.extract.worker.transportor.TaskInstanceDispatchRequest;
 import org.apache.dolphinscheduler.extract.worker.transportor.TaskInstanceDispatchResponse;
 import org.apache.dolphinscheduler.plugin.task.api.TaskExecutionContext;
@@ -33,7 +35,16 @@ import org.apache.dolphinscheduler.server.master.processor.queue.TaskEventServic
 import org.apache.dolphinscheduler.server.master.runner.BaseTaskDispatcher;
 import org.apache.dolphinscheduler.server.master.runner.TaskExecuteRunnable;
 
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
 
 import lombok.extern.slf4j.Slf4j;
 
@@ -43,6 +54,12 @@ import org.springframework.stereotype.Component;
 @Component
 public class WorkerTaskDispatcher extends BaseTaskDispatcher {
 
+    /**
+     * The rpc future is completed by the rpc timeout, this timeout only bounds the wait in case the future is never
+     * completed.
+     */
+    private static final long DISPATCH_TIMEOUT_MILLIS = 10000L;
+
     private final HostManager hostManager;
 
     public WorkerTaskDispatcher(TaskEventService taskEventService,
@@ -59,7 +76,8 @@ public class WorkerTaskDispatcher extends BaseTaskDispatcher {
             ITaskInstanceOperator taskInstanceOperator = SingletonJdkDynamicRpcClientProxyFactory
                     .getProxyClient(taskExecutionContext.getHost(), ITaskInstanceOperator.class);
             TaskInstanceDispatchResponse taskInstanceDispatchResponse = taskInstanceOperator
-                    .dispatchTask(new TaskInstanceDispatchRequest(taskExecuteRunnable.getTaskExecutionContext()));
+                    .dispatchTask(new TaskInstanceDispatchRequest(taskExecuteRunnable.getTaskExecutionContext()))
+                    .get(DISPATCH_TIMEOUT_MILLIS, TimeUnit.MILLISECONDS);
             if (!taskInstanceDispatchResponse.isDispatchSuccess()) {
                 throw new TaskDispatchException(String.format("Dispatch task to %s failed, response is: %s",
                         taskExecutionContext.getHost(), taskInstanceDispatchResponse));
@@ -72,6 +90,62 @@ public class WorkerTaskDispatcher extends BaseTaskDispatcher {
         }
     }
 
+    @Override
+    protected CompletableFuture<List<TaskExecuteRunnable>> doDispatch(Host host,
+                                                                      List<TaskExecuteRunnable> taskExecuteRunnables) {
+        CompletableFuture<List<TaskInstanceDispatchResponse>> taskInstanceDispatchResponsesFuture;
+        try {
+            ITaskInstanceOperator taskInstanceOperator = SingletonJdkDynamicRpcClientProxyFactory
+                    .getProxyClient(host.getAddress(), ITaskInstanceOperator.class);
+            if (taskExecuteRunnables.size() == 1) {
+                taskInstanceDispatchResponsesFuture = taskInstanceOperator
+                        .dispatchTask(new TaskInstanceDispatchRequest(
+                                taskExecuteRunnables.get(0).getTaskExecutionContext()))
+                        .thenApply(Collections::singletonList);
+            } else {
+                List<TaskExecutionContext> taskExecutionContexts = taskExecuteRunnables.stream()
+                        .map(TaskExecuteRunnable::getTaskExecutionContext)
+                        .collect(Collectors.toList());
+                taskInstanceDispatchResponsesFuture = taskInstanceOperator
+                        .batchDispatchTask(new TaskInstanceBatchDispatchRequest(taskExecutionContexts))
+                        .thenApply(TaskInstanceBatchDispatchResponse::getTaskInstanceDispatchResponses);
+            }
+        } catch (Exception e) {
+            taskInstanceDispatchResponsesFuture = new CompletableFuture<>();
+            taskInstanceDispatchResponsesFuture.completeExceptionally(e);
+        }
+        // The response is handled in the rpc callback thread, so the dispatch thread can move on to the other hosts.
+        return taskInstanceDispatchResponsesFuture.handle((taskInstanceDispatchResponseList, ex) -> {
+            if (ex != null) {
+                throw new CompletionException(new TaskDispatchException(String.format(
+                        "Dispatch %s tasks to %s failed", taskExecuteRunnables.size(), host), ex));
+            }
+            return getRejectedTaskExecuteRunnables(host, taskExecuteRunnables, taskInstanceDispatchResponseList);
+        });
+    }
+
+    private List<TaskExecuteRunnable> getRejectedTaskExecuteRunnables(Host host,
+                                                                      List<TaskExecuteRunnable> taskExecuteRunnables,
+                                                                      List<TaskInstanceDispatchResponse> taskInstanceDispatchResponseList) {
+        Map<Integer, TaskInstanceDispatchResponse> taskInstanceDispatchResponses = new HashMap<>();
+        for (TaskInstanceDispatchResponse taskInstanceDispatchResponse : taskInstanceDispatchResponseList) {
+            taskInstanceDispatchResponses.put(taskInstanceDispatchResponse.getTaskInstanceId(),
+                    taskInstanceDispatchResponse);
+        }
+        List<TaskExecuteRunnable> rejectedTaskExecuteRunnables = new ArrayList<>();
+        for (TaskExecuteRunnable taskExecuteRunnable : taskExecuteRunnables) {
+            TaskInstanceDispatchResponse taskInstanceDispatchResponse = taskInstanceDispatchResponses
+                    .get(taskExecuteRunnable.getTaskExecutionContext().getTaskInstanceId());
+            if (taskInstanceDispatchResponse == null || !taskInstanceDispatchResponse.isDispatchSuccess()) {
+                log.warn("Dispatch task: {} to {} failed, response is: {}",
+                        taskExecuteRunnable.getTaskExecutionContext().getTaskName(), host,
+                        taskInstanceDispatchResponse);
+                rejectedTaskExecuteRunnables.add(taskExecuteRunnable);
+            }
+        }
+        return rejectedTaskExecuteRunnables;
+    }
+
     @Override
     protected Optional<Host> getTaskInstanceDispatchHost(TaskExecuteRunnable taskExecuteRunnable) throws WorkerGroupNotFoundException {
         String workerGroup = taskExecuteRunnable.getTaskExecutionContext().getWorkerGroup();
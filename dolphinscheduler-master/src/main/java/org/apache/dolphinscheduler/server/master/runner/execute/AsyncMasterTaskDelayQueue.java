@@ -17,6 +17,8 @@
 
 package org.apache.dolphinscheduler.server.master.runner.execute;
 
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.DelayQueue;
 
 import javax.annotation.Nullable;
@@ -30,11 +32,44 @@ public class AsyncMasterTaskDelayQueue {
 
     private final DelayQueue<AsyncTaskExecutionContext> asyncTaskCheckDelayQueue = new DelayQueue<>();
 
+    /**
+     * task instance id -> the async task which is waiting in the delay queue or being checked
+     */
+    private final Map<Integer, AsyncTaskExecutionContext> asyncTasks = new ConcurrentHashMap<>();
+
     public void addAsyncTask(@NonNull AsyncTaskExecutionContext asyncTaskExecutionContext) {
         asyncTaskExecutionContext.refreshStartTime();
+        asyncTasks.put(asyncTaskExecutionContext.getTaskExecutionContext().getTaskInstanceId(),
+                asyncTaskExecutionContext);
         asyncTaskCheckDelayQueue.add(asyncTaskExecutionContext);
     }
 
+    /**
+     * Remove the async task which is finished, the task should already be polled out from the delay queue.
+     */
+    public void removeAsyncTask(@NonNull AsyncTaskExecutionContext asyncTaskExecutionContext) {
+        asyncTasks.remove(asyncTaskExecutionContext.getTaskExecutionContext().getTaskInstanceId(),
+                asyncTaskExecutionContext);
+    }
+
+    /**
+     * Check the async task as soon as possible rather than waiting for its execute interval. If the task is being
+     * checked now, it will be checked again immediately after it is added back.
+     *
+     * @return false if the async task is not exist
+     */
+    public boolean wakeUpAsyncTask(int taskInstanceId) {
+        AsyncTaskExecutionContext asyncTaskExecutionContext = asyncTasks.get(taskInstanceId);
+        if (asyncTaskExecutionContext == null) {
+            return false;
+        }
+        asyncTaskExecutionContext.requestWakeUp();
+        if (asyncTaskCheckDelayQueue.remove(asyncTaskExecutionContext)) {
+            addAsyncTask(asyncTaskExecutionContext);
+        }
+        return true;
+    }
+
     public @Nullable AsyncTaskExecutionContext pollAsyncTask() throws InterruptedException {
         return asyncTaskCheckDelayQueue.take();
     }
@@ -76,6 +76,7 @@ public class AsyncMasterTaskDelayQueueLooper extends BaseDaemonThread implements
                         .getTaskExecutionContext(taskExecutionContext.getTaskInstanceId()) == null) {
                     log.warn(
                             "Cannot find the taskInstance from TaskExecutionContextCacheManager, the task may already been killed, will stop the async master task");
+                    asyncMasterTaskDelayQueue.removeAsyncTask(asyncTaskExecutionContext);
                     continue;
                 }
                 masterAsyncTaskExecutorThreadPool.getThreadPool().execute(() -> {
@@ -96,13 +97,16 @@ public class AsyncMasterTaskDelayQueueLooper extends BaseDaemonThread implements
                                 asyncMasterTaskDelayQueue.addAsyncTask(asyncTaskExecutionContext);
                                 break;
                             case SUCCESS:
+                                asyncMasterTaskDelayQueue.removeAsyncTask(asyncTaskExecutionContext);
                                 asyncTaskCallbackFunction.executeSuccess();
                                 break;
                             case FAILED:
+                                asyncMasterTaskDelayQueue.removeAsyncTask(asyncTaskExecutionContext);
                                 asyncTaskCallbackFunction.executeFailed();
                                 break;
                         }
                     } catch (Exception ex) {
+                        asyncMasterTaskDelayQueue.removeAsyncTask(asyncTaskExecutionContext);
                         asyncTaskCallbackFunction.executeThrowing(ex);
                     } finally {
                         LogUtils.removeTaskInstanceLogFullPathMDC();
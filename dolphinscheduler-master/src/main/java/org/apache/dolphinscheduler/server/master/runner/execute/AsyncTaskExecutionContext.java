@@ -22,6 +22,7 @@ import org.apache.dolphinscheduler.plugin.task.api.enums.TaskTimeoutStrategy;
 
 import java.util.concurrent.Delayed;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
 
 import lombok.Data;
 import lombok.NonNull;
@@ -40,6 +41,12 @@ public class AsyncTaskExecutionContext implements Delayed {
     private final long executeInterval;
     private long timeout;
 
+    /**
+     * Set when the task should be checked without waiting for the execute interval, e.g. the upstream of a dependent
+     * task is finished.
+     */
+    private final AtomicBoolean wakeUpRequested = new AtomicBoolean(false);
+
     public AsyncTaskExecutionContext(@NonNull TaskExecutionContext taskExecutionContext,
                                      @NonNull AsyncTaskExecuteFunction asyncTaskExecuteFunction,
                                      @NonNull AsyncTaskCallbackFunction asyncTaskCallbackFunction) {
@@ -63,11 +70,17 @@ public class AsyncTaskExecutionContext implements Delayed {
         if (executeTimes == 0) {
             // The first time doesn't have delay
             executeTimes++;
+        } else if (wakeUpRequested.compareAndSet(true, false)) {
+            currentStartTime = System.currentTimeMillis() - executeInterval;
         } else {
             currentStartTime = System.currentTimeMillis();
         }
     }
 
+    public void requestWakeUp() {
+        wakeUpRequested.set(true);
+    }
+
     @Override
     public long getDelay(TimeUnit unit) {
         long nextExecuteTimeDelay = Math.min(currentStartTime + executeInterval, timeout) - System.currentTimeMillis();
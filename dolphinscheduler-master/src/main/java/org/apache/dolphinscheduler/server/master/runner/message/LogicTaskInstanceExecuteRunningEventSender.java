@@ -37,7 +37,7 @@ public class LogicTaskInstanceExecuteRunningEventSender
                 SingletonJdkDynamicRpcClientProxyFactory
                         .getProxyClient(taskInstanceExecutionRunningEvent.getWorkflowInstanceHost(),
                                 ITaskInstanceExecutionEventListener.class);
-        iTaskInstanceExecutionEventListener.onTaskInstanceExecutionRunning(taskInstanceExecutionRunningEvent);
+        iTaskInstanceExecutionEventListener.onTaskInstanceExecutionRunning(taskInstanceExecutionRunningEvent).join();
     }
 
     @Override
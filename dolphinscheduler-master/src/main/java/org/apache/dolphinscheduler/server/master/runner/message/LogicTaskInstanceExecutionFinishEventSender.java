@@ -34,7 +34,8 @@ public class LogicTaskInstanceExecutionFinishEventSender
         ITaskInstanceExecutionEventListener iTaskInstanceExecutionEventListener =
                 SingletonJdkDynamicRpcClientProxyFactory
                         .getProxyClient(message.getWorkflowInstanceHost(), ITaskInstanceExecutionEventListener.class);
-        iTaskInstanceExecutionEventListener.onTaskInstanceExecutionFinish(message);
+        // The logic task events are not retried, so wait for the response to surface the failure to the caller.
+        iTaskInstanceExecutionEventListener.onTaskInstanceExecutionFinish(message).join();
     }
 
     @Override
@@ -38,6 +38,7 @@ import org.apache.dolphinscheduler.plugin.task.api.model.DependentTaskModel;
 import org.apache.dolphinscheduler.plugin.task.api.model.Property;
 import org.apache.dolphinscheduler.plugin.task.api.parameters.DependentParameters;
 import org.apache.dolphinscheduler.plugin.task.api.utils.DependentUtils;
+import org.apache.dolphinscheduler.server.master.config.DependentTaskCheckConfig;
 import org.apache.dolphinscheduler.server.master.runner.execute.AsyncTaskExecuteFunction;
 import org.apache.dolphinscheduler.server.master.utils.DependentExecute;
 
@@ -66,12 +67,15 @@ public class DependentAsyncTaskExecuteFunction implements AsyncTaskExecuteFuncti
     private final ProcessDefinitionDao processDefinitionDao;
     private final TaskDefinitionDao taskDefinitionDao;
     private final TaskInstanceDao taskInstanceDao;
+    private final DependentTaskCheckConfig dependentTaskCheckConfig;
+    private final DependentTaskWaitingIndex dependentTaskWaitingIndex;
 
     private final ProcessInstance processInstance;
     private final Date dependentDate;
     private final List<DependentExecute> dependentTaskList;
     private final Map<String, DependResult> dependResultMap;
     private final Map<String, Property> dependVarPoolPropertyMap;
+    private boolean waitingRegistered;
 
     public DependentAsyncTaskExecuteFunction(TaskExecutionContext taskExecutionContext,
                                              DependentParameters dependentParameters,
@@ -79,13 +83,17 @@ public class DependentAsyncTaskExecuteFunction implements AsyncTaskExecuteFuncti
                                              ProcessDefinitionDao processDefinitionDao,
                                              TaskDefinitionDao taskDefinitionDao,
                                              TaskInstanceDao taskInstanceDao,
-                                             ProcessInstanceDao processInstanceDao) {
+                                             ProcessInstanceDao processInstanceDao,
+                                             DependentTaskCheckConfig dependentTaskCheckConfig,
+                                             DependentTaskWaitingIndex dependentTaskWaitingIndex) {
         this.taskExecutionContext = taskExecutionContext;
         this.dependentParameters = dependentParameters;
         this.projectDao = projectDao;
         this.processDefinitionDao = processDefinitionDao;
         this.taskDefinitionDao = taskDefinitionDao;
         this.taskInstanceDao = taskInstanceDao;
+        this.dependentTaskCheckConfig = dependentTaskCheckConfig;
+        this.dependentTaskWaitingIndex = dependentTaskWaitingIndex;
         this.processInstance =
                 processInstanceDao.queryById(taskExecutionContext.getProcessInstanceId());
         this.dependentDate = calculateDependentDate();
@@ -97,8 +105,21 @@ public class DependentAsyncTaskExecuteFunction implements AsyncTaskExecuteFuncti
 
     @Override
     public @NonNull AsyncTaskExecutionStatus getAsyncTaskExecutionStatus() {
-        if (isAllDependentTaskFinished()) {
+        if (dependentTaskCheckConfig.isEventDrivenEnabled() && !waitingRegistered) {
+            // Register before the first check, so the upstream finished during the check will wake up this task again
+            registerWaitingItems();
+        }
+        boolean allDependentTaskFinished;
+        try {
+            allDependentTaskFinished = isAllDependentTaskFinished();
+        } catch (RuntimeException ex) {
+            // The task will not be checked again once the check failed
+            unregisterWaitingItems();
+            throw ex;
+        }
+        if (allDependentTaskFinished) {
             log.info("All dependent task finished, will calculate the dependent result");
+            unregisterWaitingItems();
             DependResult dependResult = calculateDependResult();
             log.info("The Dependent result is: {}", dependResult);
             if (dependResult == DependResult.SUCCESS) {
@@ -112,6 +133,21 @@ public class DependentAsyncTaskExecuteFunction implements AsyncTaskExecuteFuncti
         return AsyncTaskExecutionStatus.RUNNING;
     }
 
+    private void registerWaitingItems() {
+        List<DependentItem> dependentItems = dependentParameters.getDependTaskList().stream()
+                .flatMap(dependentTaskModel -> dependentTaskModel.getDependItemList().stream())
+                .collect(Collectors.toList());
+        dependentTaskWaitingIndex.register(taskExecutionContext.getTaskInstanceId(), dependentItems, dependentDate);
+        waitingRegistered = true;
+    }
+
+    private void unregisterWaitingItems() {
+        if (waitingRegistered) {
+            dependentTaskWaitingIndex.unregister(taskExecutionContext.getTaskInstanceId());
+            waitingRegistered = false;
+        }
+    }
+
     private Date calculateDependentDate() {
         if (processInstance.getScheduleTime() != null) {
             return processInstance.getScheduleTime();
@@ -238,7 +274,13 @@ public class DependentAsyncTaskExecuteFunction implements AsyncTaskExecuteFuncti
 
     @Override
     public @NonNull Duration getAsyncTaskStateCheckInterval() {
-        return dependentParameters.getCheckInterval() == null ? DEFAULT_STATE_CHECK_INTERVAL
+        Duration checkInterval = dependentParameters.getCheckInterval() == null ? DEFAULT_STATE_CHECK_INTERVAL
                 : Duration.ofSeconds(dependentParameters.getCheckInterval());
+        if (dependentTaskCheckConfig.isEventDrivenEnabled()
+                && checkInterval.compareTo(dependentTaskCheckConfig.getFallbackCheckInterval()) < 0) {
+            // The task is woken up by the upstream finished events, the periodic check is only a fallback
+            return dependentTaskCheckConfig.getFallbackCheckInterval();
+        }
+        return checkInterval;
     }
 }
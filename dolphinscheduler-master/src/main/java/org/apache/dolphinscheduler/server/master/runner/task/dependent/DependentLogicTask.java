@@ -27,6 +27,7 @@ import org.apache.dolphinscheduler.plugin.task.api.TaskExecutionContext;
 import org.apache.dolphinscheduler.plugin.task.api.enums.TaskExecutionStatus;
 import org.apache.dolphinscheduler.plugin.task.api.parameters.DependentParameters;
 import org.apache.dolphinscheduler.server.master.cache.ProcessInstanceExecCacheManager;
+import org.apache.dolphinscheduler.server.master.config.DependentTaskCheckConfig;
 import org.apache.dolphinscheduler.server.master.exception.LogicTaskInitializeException;
 import org.apache.dolphinscheduler.server.master.exception.MasterTaskExecuteException;
 import org.apache.dolphinscheduler.server.master.runner.WorkflowExecuteRunnable;
@@ -50,13 +51,19 @@ public class DependentLogicTask extends BaseAsyncLogicTask<DependentParameters>
 
     private final ProcessInstanceExecCacheManager processInstanceExecCacheManager;
 
+    private final DependentTaskCheckConfig dependentTaskCheckConfig;
+
+    private final DependentTaskWaitingIndex dependentTaskWaitingIndex;
+
     public DependentLogicTask(TaskExecutionContext taskExecutionContext,
                               ProjectDao projectDao,
                               ProcessDefinitionDao processDefinitionDao,
                               TaskDefinitionDao taskDefinitionDao,
                               TaskInstanceDao taskInstanceDao,
                               ProcessInstanceDao processInstanceDao,
-                              ProcessInstanceExecCacheManager processInstanceExecCacheManager) throws LogicTaskInitializeException {
+                              ProcessInstanceExecCacheManager processInstanceExecCacheManager,
+                              DependentTaskCheckConfig dependentTaskCheckConfig,
+                              DependentTaskWaitingIndex dependentTaskWaitingIndex) throws LogicTaskInitializeException {
         super(taskExecutionContext,
                 processInstanceExecCacheManager.getByProcessInstanceId(taskExecutionContext.getProcessInstanceId())
                         .getTaskInstance(taskExecutionContext.getTaskInstanceId())
@@ -69,7 +76,8 @@ public class DependentLogicTask extends BaseAsyncLogicTask<DependentParameters>
         this.taskInstanceDao = taskInstanceDao;
         this.processInstanceDao = processInstanceDao;
         this.processInstanceExecCacheManager = processInstanceExecCacheManager;
-
+        this.dependentTaskCheckConfig = dependentTaskCheckConfig;
+        this.dependentTaskWaitingIndex = dependentTaskWaitingIndex;
     }
 
     @Override
@@ -80,11 +88,20 @@ public class DependentLogicTask extends BaseAsyncLogicTask<DependentParameters>
                 processDefinitionDao,
                 taskDefinitionDao,
                 taskInstanceDao,
-                processInstanceDao);
+                processInstanceDao,
+                dependentTaskCheckConfig,
+                dependentTaskWaitingIndex);
+    }
+
+    @Override
+    public void kill() {
+        dependentTaskWaitingIndex.unregister(taskExecutionContext.getTaskInstanceId());
+        super.kill();
     }
 
     @Override
     public void pause() throws MasterTaskExecuteException {
+        dependentTaskWaitingIndex.unregister(taskExecutionContext.getTaskInstanceId());
         WorkflowExecuteRunnable workflowExecuteRunnable =
                 processInstanceExecCacheManager.getByProcessInstanceId(taskExecutionContext.getProcessInstanceId());
         if (workflowExecuteRunnable == null) {
@@ -0,0 +1,282 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.dolphinscheduler.server.master.runner.task.dependent;
+
+import org.apache.dolphinscheduler.common.constants.Constants;
+import org.apache.dolphinscheduler.dao.entity.ProcessInstance;
+import org.apache.dolphinscheduler.dao.entity.TaskInstance;
+import org.apache.dolphinscheduler.dao.repository.ProcessInstanceDao;
+import org.apache.dolphinscheduler.dao.repository.TaskInstanceDao;
+import org.apache.dolphinscheduler.plugin.task.api.model.DateInterval;
+import org.apache.dolphinscheduler.server.master.config.DependentLookupCacheConfig;
+import org.apache.dolphinscheduler.server.master.config.MasterConfig;
+import org.apache.dolphinscheduler.server.master.metrics.TaskMetrics;
+
+import java.util.Date;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
+
+import javax.annotation.PostConstruct;
+
+import lombok.Value;
+import lombok.extern.slf4j.Slf4j;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+
+/**
+ * The master-wide cache of the upstream workflow/task instances queried by the dependent tasks.
+ * <p>
+ * The concurrent lookups of the same upstream are coalesced into one query. The unfinished or not found results are
+ * cached for a short time. The finished results are cached longer, but they are revalidated by querying the instance
+ * by id after the short time, so the upstream instance rerun or recovered in other masters is found. All the cached
+ * results of a workflow definition are invalidated once its workflow instance is started or its workflow/task instance
+ * is finished in this master.
+ */
+@Slf4j
+@Component
+public class DependentLookupCache {
+
+    @Autowired
+    private ProcessInstanceDao processInstanceDao;
+
+    @Autowired
+    private TaskInstanceDao taskInstanceDao;
+
+    @Autowired
+    private MasterConfig masterConfig;
+
+    private Cache<Object, CachedLookup<?>> lookupCache;
+
+    private final Map<Object, CompletableFuture<CachedLookup<?>>> loadingLookups = new ConcurrentHashMap<>();
+
+    /**
+     * workflow definition code -> generation, the generation is a part of the lookup key, so the cached results are
+     * invalidated by increasing the generation.
+     */
+    private final Map<Long, Long> definitionGenerations = new ConcurrentHashMap<>();
+
+    /**
+     * The generations are increasing and not less than the time they are created, so a pruned generation is never
+     * reused.
+     */
+    private final AtomicLong lastGeneration = new AtomicLong();
+
+    private volatile long lastPruneTimeMillis;
+
+    private long expireAfterWriteMillis;
+
+    private long finishedExpireAfterWriteMillis;
+
+    @PostConstruct
+    public void init() {
+        DependentLookupCacheConfig dependentLookupCacheConfig = masterConfig.getDependentLookupCache();
+        if (!dependentLookupCacheConfig.isEnabled()) {
+            return;
+        }
+        expireAfterWriteMillis = dependentLookupCacheConfig.getExpireAfterWrite().toMillis();
+        finishedExpireAfterWriteMillis = dependentLookupCacheConfig.getFinishedExpireAfterWrite().toMillis();
+        lookupCache = CacheBuilder.newBuilder()
+                .maximumSize(dependentLookupCacheConfig.getMaxSize())
+                .expireAfterWrite(finishedExpireAfterWriteMillis, TimeUnit.MILLISECONDS)
+                .build();
+        TaskMetrics.registerDependentLookupCacheSizeGauge(lookupCache::size);
+    }
+
+    public ProcessInstance queryLastSchedulerProcessInterval(long definitionCode, long taskCode,
+                                                             DateInterval dateInterval, int testFlag) {
+        ProcessInstanceLookupKey key = new ProcessInstanceLookupKey(getGeneration(definitionCode), true,
+                definitionCode, normalizeTaskCode(taskCode), dateInterval.getStartTime(), dateInterval.getEndTime(),
+                testFlag);
+        return lookup(key,
+                () -> processInstanceDao.queryLastSchedulerProcessInterval(definitionCode, taskCode, dateInterval,
+                        testFlag),
+                processInstance -> processInstance.getState().isFinished(),
+                this::isProcessInstanceUnchanged);
+    }
+
+    public ProcessInstance queryLastManualProcessInterval(long definitionCode, long taskCode,
+                                                          DateInterval dateInterval, int testFlag) {
+        ProcessInstanceLookupKey key = new ProcessInstanceLookupKey(getGeneration(definitionCode), false,
+                definitionCode, normalizeTaskCode(taskCode), dateInterval.getStartTime(), dateInterval.getEndTime(),
+                testFlag);
+        return lookup(key,
+                () -> processInstanceDao.queryLastManualProcessInterval(definitionCode, taskCode, dateInterval,
+                        testFlag),
+                processInstance -> processInstance.getState().isFinished(),
+                this::isProcessInstanceUnchanged);
+    }
+
+    public TaskInstance queryLastTaskInstanceIntervalInProcessInstance(ProcessInstance processInstance,
+                                                                       long taskCode,
+                                                                       int testFlag) {
+        // The restart time is changed when the workflow instance is rerun, so the task instances of the last run
+        // will not be used.
+        TaskInstanceLookupKey key = new TaskInstanceLookupKey(
+                getGeneration(processInstance.getProcessDefinitionCode()), processInstance.getId(),
+                processInstance.getRestartTime(), taskCode, testFlag);
+        return lookup(key,
+                () -> taskInstanceDao.queryLastTaskInstanceIntervalInProcessInstance(processInstance.getId(),
+                        taskCode, testFlag),
+                taskInstance -> taskInstance.getState().isFinished(),
+                this::isTaskInstanceUnchanged);
+    }
+
+    /**
+     * Invalidate all the cached lookups of the workflow definition.
+     */
+    public void invalidate(long definitionCode) {
+        if (lookupCache == null) {
+            return;
+        }
+        long now = System.currentTimeMillis();
+        definitionGenerations.put(definitionCode,
+                lastGeneration.updateAndGet(generation -> Math.max(generation + 1, now)));
+        pruneGenerations(now);
+    }
+
+    /**
+     * Remove the generations which are older than the finished-expire-after-write, the lookups cached before them are
+     * all expired, so the workflow definitions use the default generation again.
+     */
+    void pruneGenerations(long now) {
+        if (now - lastPruneTimeMillis < finishedExpireAfterWriteMillis) {
+            return;
+        }
+        lastPruneTimeMillis = now;
+        definitionGenerations.values().removeIf(generation -> now - generation > finishedExpireAfterWriteMillis);
+    }
+
+    int getGenerationSize() {
+        return definitionGenerations.size();
+    }
+
+    private long getGeneration(long definitionCode) {
+        return definitionGenerations.getOrDefault(definitionCode, 0L);
+    }
+
+    /**
+     * The finished workflow instance is rerun or recovered if its state or restart time is changed.
+     */
+    private boolean isProcessInstanceUnchanged(ProcessInstance cachedProcessInstance) {
+        ProcessInstance processInstance = processInstanceDao.queryById(cachedProcessInstance.getId());
+        return processInstance != null
+                && processInstance.getState() == cachedProcessInstance.getState()
+                && Objects.equals(processInstance.getRestartTime(), cachedProcessInstance.getRestartTime());
+    }
+
+    private boolean isTaskInstanceUnchanged(TaskInstance cachedTaskInstance) {
+        TaskInstance taskInstance = taskInstanceDao.queryById(cachedTaskInstance.getId());
+        return taskInstance != null
+                && taskInstance.getState() == cachedTaskInstance.getState()
+                && Objects.equals(taskInstance.getEndTime(), cachedTaskInstance.getEndTime());
+    }
+
+    /**
+     * The workflow instance lookups of the workflow dependent and all tasks dependent are the same.
+     */
+    private long normalizeTaskCode(long taskCode) {
+        return taskCode == Constants.DEPENDENT_ALL_TASK_CODE ? Constants.DEPENDENT_WORKFLOW_CODE : taskCode;
+    }
+
+    @SuppressWarnings("unchecked")
+    private <T> T lookup(Object key, Supplier<T> loader, Predicate<T> finishedPredicate,
+                         Predicate<T> unchangedPredicate) {
+        if (lookupCache == null) {
+            return loader.get();
+        }
+        long now = System.currentTimeMillis();
+        CachedLookup<T> cachedLookup = (CachedLookup<T>) lookupCache.getIfPresent(key);
+        if (cachedLookup != null && now - cachedLookup.getCheckTimeMillis() < expireAfterWriteMillis) {
+            TaskMetrics.incDependentLookupCacheHit();
+            return cachedLookup.getValue();
+        }
+        CompletableFuture<CachedLookup<?>> loadingFuture = new CompletableFuture<>();
+        CompletableFuture<CachedLookup<?>> existLoadingFuture = loadingLookups.putIfAbsent(key, loadingFuture);
+        if (existLoadingFuture != null) {
+            TaskMetrics.incDependentLookupCoalesced();
+            return (T) existLoadingFuture.join().getValue();
+        }
+        TaskMetrics.incDependentLookupCacheMiss();
+        try {
+            CachedLookup<T> loadedLookup;
+            if (cachedLookup != null && cachedLookup.isFinished()
+                    && now - cachedLookup.getLoadTimeMillis() < finishedExpireAfterWriteMillis
+                    && unchangedPredicate.test(cachedLookup.getValue())) {
+                // Only the check time is refreshed, the upstream instances created after the load time are found
+                // once the finished-expire-after-write passed.
+                loadedLookup = new CachedLookup<>(cachedLookup.getValue(), cachedLookup.getLoadTimeMillis(), now, true);
+            } else {
+                T value = loader.get();
+                loadedLookup = new CachedLookup<>(value, now, now, value != null && finishedPredicate.test(value));
+            }
+            lookupCache.put(key, loadedLookup);
+            loadingFuture.complete(loadedLookup);
+            return loadedLookup.getValue();
+        } catch (RuntimeException ex) {
+            loadingFuture.completeExceptionally(ex);
+            throw ex;
+        } finally {
+            loadingLookups.remove(key, loadingFuture);
+        }
+    }
+
+    @Value
+    private static class ProcessInstanceLookupKey {
+
+        long generation;
+        boolean scheduled;
+        long definitionCode;
+        long taskCode;
+        Date startTime;
+        Date endTime;
+        int testFlag;
+    }
+
+    @Value
+    private static class TaskInstanceLookupKey {
+
+        long generation;
+        int processInstanceId;
+        Date restartTime;
+        long taskCode;
+        int testFlag;
+    }
+
+    @Value
+    private static class CachedLookup<T> {
+
+        T value;
+        long loadTimeMillis;
+        /**
+         * The time the value is loaded or revalidated.
+         */
+        long checkTimeMillis;
+        boolean finished;
+    }
+
+}
@@ -0,0 +1,194 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.dolphinscheduler.server.master.runner.task.dependent;
+
+import org.apache.dolphinscheduler.dao.entity.ProcessInstance;
+import org.apache.dolphinscheduler.dao.entity.TaskInstance;
+import org.apache.dolphinscheduler.plugin.task.api.model.DateInterval;
+import org.apache.dolphinscheduler.plugin.task.api.model.DependentItem;
+import org.apache.dolphinscheduler.plugin.task.api.utils.DependentUtils;
+import org.apache.dolphinscheduler.server.master.runner.execute.AsyncMasterTaskDelayQueue;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Date;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+import lombok.AllArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+/**
+ * The index of the dependent items which the running dependent tasks are waiting for.
+ * <p>
+ * Each waiting dependent task registers the (definitionCode, depTaskCode, date intervals) of its dependent items, once
+ * an upstream workflow/task instance finished in this master or in another master, only the dependent tasks waiting for
+ * it will be woken up to check their dependent result, rather than polling the database periodically.
+ */
+@Slf4j
+@Component
+public class DependentTaskWaitingIndex {
+
+    @Autowired
+    private AsyncMasterTaskDelayQueue asyncMasterTaskDelayQueue;
+
+    @Autowired
+    private DependentLookupCache dependentLookupCache;
+
+    @Autowired
+    private DependentUpstreamFinishedNotifier dependentUpstreamFinishedNotifier;
+
+    /**
+     * upstream workflow definition code -> dependent task instance id -> the waiting items
+     */
+    private final Map<Long, Map<Integer, List<WaitingItem>>> waitingItems = new ConcurrentHashMap<>();
+
+    /**
+     * dependent task instance id -> the registered upstream workflow definition codes
+     */
+    private final Map<Integer, Set<Long>> waitingDefinitionCodes = new ConcurrentHashMap<>();
+
+    public void register(int taskInstanceId, Collection<DependentItem> dependentItems, Date dependentDate) {
+        Set<Long> definitionCodes = ConcurrentHashMap.newKeySet();
+        for (DependentItem dependentItem : dependentItems) {
+            List<DateInterval> dateIntervals =
+                    DependentUtils.getDateIntervalList(dependentDate, dependentItem.getDateValue());
+            waitingItems.computeIfAbsent(dependentItem.getDefinitionCode(), k -> new ConcurrentHashMap<>())
+                    .computeIfAbsent(taskInstanceId, k -> Collections.synchronizedList(new ArrayList<>()))
+                    .add(new WaitingItem(dependentItem.getDepTaskCode(), dateIntervals));
+            definitionCodes.add(dependentItem.getDefinitionCode());
+        }
+        waitingDefinitionCodes.put(taskInstanceId, definitionCodes);
+    }
+
+    public void unregister(int taskInstanceId) {
+        Set<Long> definitionCodes = waitingDefinitionCodes.remove(taskInstanceId);
+        if (definitionCodes == null) {
+            return;
+        }
+        for (Long definitionCode : definitionCodes) {
+            waitingItems.computeIfPresent(definitionCode, (k, waitingTasks) -> {
+                waitingTasks.remove(taskInstanceId);
+                return waitingTasks.isEmpty() ? null : waitingTasks;
+            });
+        }
+    }
+
+    /**
+     * The workflow instance is started, rerun or recovered, the cached upstream lookups of it are stale.
+     */
+    public void onWorkflowInstanceStarted(ProcessInstance workflowInstance) {
+        dependentLookupCache.invalidate(workflowInstance.getProcessDefinitionCode());
+    }
+
+    /**
+     * Wake up the dependent tasks which are waiting for the workflow instance, in this master and the other masters.
+     */
+    public void onWorkflowInstanceFinished(ProcessInstance workflowInstance) {
+        onUpstreamInstanceFinished(workflowInstance, null);
+    }
+
+    /**
+     * Wake up the dependent tasks which are waiting for the task instance, the dependent tasks waiting for the whole
+     * workflow instance will be woken up when the workflow instance is finished.
+     */
+    public void onTaskInstanceFinished(ProcessInstance workflowInstance, TaskInstance taskInstance) {
+        onUpstreamInstanceFinished(workflowInstance, taskInstance.getTaskCode());
+    }
+
+    /**
+     * The upstream instance is finished in another master, wake up the dependent tasks in this master which are waiting
+     * for it.
+     *
+     * @param taskCode     the finished task code, null if the workflow instance is finished
+     * @param instanceTime the schedule time of the workflow instance, or its start time if it is not scheduled
+     */
+    public void onRemoteUpstreamInstanceFinished(long workflowDefinitionCode, Long taskCode, Date instanceTime) {
+        wakeUpWaitingTasks(workflowDefinitionCode, taskCode, instanceTime);
+    }
+
+    public int size() {
+        return waitingDefinitionCodes.size();
+    }
+
+    private void onUpstreamInstanceFinished(ProcessInstance workflowInstance, Long taskCode) {
+        // Same as the DependentExecute, the scheduled workflow instance is matched by its schedule time, and the
+        // manual workflow instance is matched by its start time.
+        Date instanceTime = workflowInstance.getScheduleTime() != null ? workflowInstance.getScheduleTime()
+                : workflowInstance.getStartTime();
+        wakeUpWaitingTasks(workflowInstance.getProcessDefinitionCode(), taskCode, instanceTime);
+        dependentUpstreamFinishedNotifier.notifyUpstreamInstanceFinished(workflowInstance.getProcessDefinitionCode(),
+                taskCode, instanceTime);
+    }
+
+    private void wakeUpWaitingTasks(long workflowDefinitionCode, Long taskCode, Date instanceTime) {
+        // The cached upstream lookups are stale, the woken up dependent tasks should query the finished upstream
+        dependentLookupCache.invalidate(workflowDefinitionCode);
+        Map<Integer, List<WaitingItem>> waitingTasks = waitingItems.get(workflowDefinitionCode);
+        if (waitingTasks == null) {
+            return;
+        }
+        List<Integer> wakeUpTaskInstanceIds = new ArrayList<>();
+        waitingTasks.forEach((taskInstanceId, items) -> {
+            synchronized (items) {
+                if (items.stream().anyMatch(item -> item.matches(taskCode, instanceTime))) {
+                    wakeUpTaskInstanceIds.add(taskInstanceId);
+                }
+            }
+        });
+        for (Integer taskInstanceId : wakeUpTaskInstanceIds) {
+            if (!asyncMasterTaskDelayQueue.wakeUpAsyncTask(taskInstanceId)) {
+                // The dependent task is killed or failed with exception
+                unregister(taskInstanceId);
+            }
+        }
+        if (!wakeUpTaskInstanceIds.isEmpty()) {
+            log.info("Woke up the dependent tasks: {} waiting for the workflow: {}, task: {}",
+                    wakeUpTaskInstanceIds, workflowDefinitionCode, taskCode);
+        }
+    }
+
+    @AllArgsConstructor
+    private static class WaitingItem {
+
+        private final long depTaskCode;
+
+        private final List<DateInterval> dateIntervals;
+
+        /**
+         * @param taskCode the finished task code, null if the workflow instance is finished
+         */
+        private boolean matches(Long taskCode, Date instanceTime) {
+            if (taskCode != null && depTaskCode != taskCode) {
+                return false;
+            }
+            if (instanceTime == null) {
+                return true;
+            }
+            return dateIntervals.stream().anyMatch(dateInterval -> !instanceTime.before(dateInterval.getStartTime())
+                    && !instanceTime.after(dateInterval.getEndTime()));
+        }
+    }
+
+}
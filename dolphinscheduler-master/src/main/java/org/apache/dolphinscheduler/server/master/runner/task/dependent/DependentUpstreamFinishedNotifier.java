@@ -0,0 +1,127 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.dolphinscheduler.server.master.runner.task.dependent;
+
+import org.apache.dolphinscheduler.common.model.Server;
+import org.apache.dolphinscheduler.common.thread.ThreadUtils;
+import org.apache.dolphinscheduler.extract.base.client.SingletonJdkDynamicRpcClientProxyFactory;
+import org.apache.dolphinscheduler.extract.master.IDependentUpstreamEventListener;
+import org.apache.dolphinscheduler.extract.master.transportor.UpstreamInstanceFinishedEvent;
+import org.apache.dolphinscheduler.extract.master.transportor.UpstreamInstanceFinishedEvent.FinishedUpstreamInstance;
+import org.apache.dolphinscheduler.registry.api.RegistryClient;
+import org.apache.dolphinscheduler.registry.api.enums.RegistryNodeType;
+import org.apache.dolphinscheduler.server.master.config.MasterConfig;
+
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import lombok.extern.slf4j.Slf4j;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+/**
+ * Notify the other masters that upstream workflow/task instances have finished in this master, so the dependent tasks
+ * waiting in the other masters are woken up at once, and their periodic check is only a fallback.
+ * <p>
+ * The notification is sent asynchronously, the instances finished in a burst will be merged into one event. If the
+ * notification is lost, the dependent task will still find the finished upstream by the fallback check.
+ */
+@Slf4j
+@Component
+public class DependentUpstreamFinishedNotifier {
+
+    @Autowired
+    private RegistryClient registryClient;
+
+    @Autowired
+    private MasterConfig masterConfig;
+
+    private final ExecutorService notifyExecutor =
+            ThreadUtils.newDaemonFixedThreadExecutor("DependentUpstreamFinishedNotifier", 1);
+
+    private final AtomicBoolean notifyScheduled = new AtomicBoolean(false);
+
+    private final Queue<FinishedUpstreamInstance> finishedUpstreamInstances = new ConcurrentLinkedQueue<>();
+
+    /**
+     * @param taskCode     the finished task code, null if the workflow instance is finished
+     * @param instanceTime the schedule time of the workflow instance, or its start time if it is not scheduled
+     */
+    public void notifyUpstreamInstanceFinished(long workflowDefinitionCode, Long taskCode, Date instanceTime) {
+        if (!masterConfig.getDependentTaskCheck().isEventDrivenEnabled()) {
+            return;
+        }
+        finishedUpstreamInstances.add(new FinishedUpstreamInstance(workflowDefinitionCode, taskCode,
+                instanceTime == null ? null : instanceTime.getTime()));
+        if (!notifyScheduled.compareAndSet(false, true)) {
+            // there is already a pending notification, which will carry this instance
+            return;
+        }
+        try {
+            notifyExecutor.execute(this::doNotify);
+        } catch (RejectedExecutionException ex) {
+            notifyScheduled.set(false);
+            log.warn("Submit upstream finished notification failed, the dependent tasks will find it by polling", ex);
+        }
+    }
+
+    private void doNotify() {
+        // reset the flag before draining, the instance finished during sending will trigger a new notification
+        notifyScheduled.set(false);
+        List<FinishedUpstreamInstance> instances = new ArrayList<>();
+        FinishedUpstreamInstance instance;
+        while ((instance = finishedUpstreamInstances.poll()) != null) {
+            instances.add(instance);
+        }
+        if (instances.isEmpty()) {
+            return;
+        }
+        UpstreamInstanceFinishedEvent upstreamInstanceFinishedEvent = new UpstreamInstanceFinishedEvent(instances);
+        List<Server> masters;
+        try {
+            masters = registryClient.getServerList(RegistryNodeType.MASTER);
+        } catch (Exception ex) {
+            log.warn("Query master servers from registry failed, skip notifying {} finished upstream instances",
+                    instances.size(), ex);
+            return;
+        }
+        for (Server master : masters) {
+            String masterAddress = String.format("%s:%s", master.getHost(), master.getPort());
+            if (masterAddress.equals(masterConfig.getMasterAddress())) {
+                // the dependent tasks in this master have been woken up
+                continue;
+            }
+            try {
+                SingletonJdkDynamicRpcClientProxyFactory
+                        .getProxyClient(masterAddress, IDependentUpstreamEventListener.class)
+                        .onUpstreamInstanceFinished(upstreamInstanceFinishedEvent);
+            } catch (Exception ex) {
+                log.warn("Notify {} finished upstream instances to master: {} failed, will be found by polling: {}",
+                        instances.size(), masterAddress, ex.getMessage());
+            }
+        }
+    }
+
+}
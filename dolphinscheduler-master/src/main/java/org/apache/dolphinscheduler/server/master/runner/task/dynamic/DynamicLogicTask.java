@@ -28,6 +28,7 @@ import org.apache.dolphinscheduler.dao.entity.RelationSubWorkflow;
 import org.apache.dolphinscheduler.dao.entity.TaskInstance;
 import org.apache.dolphinscheduler.dao.mapper.CommandMapper;
 import org.apache.dolphinscheduler.dao.mapper.ProcessDefinitionMapper;
+import org.apache.dolphinscheduler.dao.repository.CommandDao;
 import org.apache.dolphinscheduler.dao.repository.ProcessInstanceDao;
 import org.apache.dolphinscheduler.dao.repository.TaskInstanceDao;
 import org.apache.dolphinscheduler.extract.base.client.SingletonJdkDynamicRpcClientProxyFactory;
@@ -71,6 +72,8 @@ public class DynamicLogicTask extends BaseAsyncLogicTask<DynamicParameters> {
 
     private final CommandMapper commandMapper;
 
+    private final CommandDao commandDao;
+
     private final ProcessService processService;
 
     private ProcessInstance processInstance;
@@ -85,7 +88,8 @@ public class DynamicLogicTask extends BaseAsyncLogicTask<DynamicParameters> {
                             SubWorkflowService subWorkflowService,
                             ProcessService processService,
                             ProcessDefinitionMapper processDefineMapper,
-                            CommandMapper commandMapper) {
+                            CommandMapper commandMapper,
+                            CommandDao commandDao) {
         super(taskExecutionContext,
                 JSONUtils.parseObject(taskExecutionContext.getTaskParams(), new TypeReference<DynamicParameters>() {
                 }));
@@ -94,6 +98,7 @@ public class DynamicLogicTask extends BaseAsyncLogicTask<DynamicParameters> {
         this.processService = processService;
         this.processDefineMapper = processDefineMapper;
         this.commandMapper = commandMapper;
+        this.commandDao = commandDao;
 
         this.processInstance = processInstanceDao.queryById(taskExecutionContext.getProcessInstanceId());
         this.taskInstance = taskInstanceDao.queryById(taskExecutionContext.getTaskInstanceId());
@@ -118,7 +123,7 @@ public class DynamicLogicTask extends BaseAsyncLogicTask<DynamicParameters> {
             resetProcessInstanceStatus(existsSubProcessInstanceList);
         }
         return new DynamicAsyncTaskExecuteFunction(taskExecutionContext, processInstance, taskInstance, this,
-                commandMapper,
+                commandDao,
                 subWorkflowService, taskParameters.getDegreeOfParallelism());
     }
 
@@ -19,6 +19,7 @@ package org.apache.dolphinscheduler.server.master.runner.task.dynamic;
 
 import org.apache.dolphinscheduler.dao.mapper.CommandMapper;
 import org.apache.dolphinscheduler.dao.mapper.ProcessDefinitionMapper;
+import org.apache.dolphinscheduler.dao.repository.CommandDao;
 import org.apache.dolphinscheduler.dao.repository.ProcessInstanceDao;
 import org.apache.dolphinscheduler.dao.repository.TaskInstanceDao;
 import org.apache.dolphinscheduler.plugin.task.api.TaskExecutionContext;
@@ -47,6 +48,9 @@ public class DynamicLogicTaskPluginFactory implements ILogicTaskPluginFactory<Dy
     @Autowired
     private CommandMapper commandMapper;
 
+    @Autowired
+    private CommandDao commandDao;
+
     @Autowired
     private ProcessService processService;
 
@@ -57,7 +61,7 @@ public class DynamicLogicTaskPluginFactory implements ILogicTaskPluginFactory<Dy
     public DynamicLogicTask createLogicTask(TaskExecutionContext taskExecutionContext) {
         return new DynamicLogicTask(taskExecutionContext, processInstanceDao, taskInstanceDao, subWorkflowService,
                 processService,
-                processDefineMapper, commandMapper);
+                processDefineMapper, commandMapper, commandDao);
 
     }
 
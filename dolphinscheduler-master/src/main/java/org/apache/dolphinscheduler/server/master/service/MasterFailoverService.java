@@ -19,12 +19,14 @@ package org.apache.dolphinscheduler.server.master.service;
 
 import org.apache.dolphinscheduler.common.constants.Constants;
 import org.apache.dolphinscheduler.common.model.Server;
+import org.apache.dolphinscheduler.common.thread.ThreadUtils;
 import org.apache.dolphinscheduler.dao.entity.ProcessInstance;
 import org.apache.dolphinscheduler.plugin.task.api.utils.LogUtils;
 import org.apache.dolphinscheduler.registry.api.RegistryClient;
 import org.apache.dolphinscheduler.registry.api.enums.RegistryNodeType;
 import org.apache.dolphinscheduler.server.master.cache.ProcessInstanceExecCacheManager;
 import org.apache.dolphinscheduler.server.master.config.MasterConfig;
+import org.apache.dolphinscheduler.server.master.config.WorkflowFailoverConfig;
 import org.apache.dolphinscheduler.server.master.metrics.ProcessInstanceMetrics;
 import org.apache.dolphinscheduler.service.process.ProcessService;
 
@@ -34,7 +36,10 @@ import org.apache.commons.lang3.time.StopWatch;
 import java.util.Date;
 import java.util.List;
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.stream.Collectors;
 
 import lombok.NonNull;
@@ -42,6 +47,9 @@ import lombok.extern.slf4j.Slf4j;
 
 import org.springframework.stereotype.Service;
 
+import com.google.common.collect.Lists;
+import com.google.common.util.concurrent.RateLimiter;
+
 import io.micrometer.core.annotation.Counted;
 import io.micrometer.core.annotation.Timed;
 
@@ -56,6 +64,21 @@ public class MasterFailoverService {
 
     private final ProcessInstanceExecCacheManager processInstanceExecCacheManager;
 
+    private final WorkflowFailoverConfig workflowFailoverConfig;
+
+    /**
+     * The failover batches of all the dead masters are executed in this pool, so the concurrent transactions are
+     * bounded by the parallelism.
+     */
+    private final ExecutorService failoverExecutor;
+
+    /**
+     * Limit the workflow instances failover per second, null means unlimited.
+     */
+    private final RateLimiter failoverRateLimiter;
+
+    private final AtomicInteger remainingFailoverWorkflowInstanceCount = new AtomicInteger(0);
+
     public MasterFailoverService(@NonNull RegistryClient registryClient,
                                  @NonNull MasterConfig masterConfig,
                                  @NonNull ProcessService processService,
@@ -65,6 +88,13 @@ public class MasterFailoverService {
         this.processService = processService;
         this.localAddress = masterConfig.getMasterAddress();
         this.processInstanceExecCacheManager = processInstanceExecCacheManager;
+        this.workflowFailoverConfig = masterConfig.getWorkflowFailover();
+        this.failoverExecutor = ThreadUtils.newDaemonFixedThreadExecutor("MasterFailoverExecutor",
+                workflowFailoverConfig.getParallelism());
+        this.failoverRateLimiter = workflowFailoverConfig.getMaxInstancesPerSecond() > 0
+                ? RateLimiter.create(workflowFailoverConfig.getMaxInstancesPerSecond())
+                : null;
+        ProcessInstanceMetrics.registerWorkflowFailoverRemainingGauge(remainingFailoverWorkflowInstanceCount::get);
     }
 
     /**
@@ -106,6 +136,8 @@ public class MasterFailoverService {
      * Failover master, will failover process instance and associated task instance.
      * <p>When the process instance belongs to the given masterHost and the restartTime is before the current server start up time,
      * then the process instance will be failovered.
+     * <p>The process instances are split into batches, each batch is failover in one transaction by the failover
+     * executor, this method will wait until all the batches are finished.
      *
      * @param masterHost master host
      */
@@ -127,27 +159,80 @@ public class MasterFailoverService {
                 needFailoverProcessInstanceList.size(),
                 needFailoverProcessInstanceList.stream().map(ProcessInstance::getId).collect(Collectors.toList()));
 
-        for (ProcessInstance processInstance : needFailoverProcessInstanceList) {
-            try {
-                LogUtils.setWorkflowInstanceIdMDC(processInstance.getId());
-                log.info("WorkflowInstance failover starting");
-                if (!checkProcessInstanceNeedFailover(masterStartupTimeOptional, processInstance)) {
-                    continue;
-                }
+        List<ProcessInstance> failoverProcessInstanceList = needFailoverProcessInstanceList.stream()
+                .filter(processInstance -> checkProcessInstanceNeedFailover(masterStartupTimeOptional, processInstance))
+                .collect(Collectors.toList());
+        if (CollectionUtils.isEmpty(failoverProcessInstanceList)) {
+            return;
+        }
+
+        FailoverProgress failoverProgress =
+                new FailoverProgress(masterHost, failoverProcessInstanceList.size(), failoverTimeCost);
+        remainingFailoverWorkflowInstanceCount.addAndGet(failoverProcessInstanceList.size());
+        List<CompletableFuture<Void>> failoverFutures =
+                Lists.partition(failoverProcessInstanceList, workflowFailoverConfig.getBatchSize())
+                        .stream()
+                        .map(batch -> CompletableFuture.runAsync(
+                                () -> failoverProcessInstances(batch, failoverProgress), failoverExecutor))
+                        .collect(Collectors.toList());
+        CompletableFuture.allOf(failoverFutures.toArray(new CompletableFuture[0])).join();
 
+        failoverTimeCost.stop();
+        log.info("Master[{}] failover finished, failover {} workflowInstance, failed {}, useTime:{}ms",
+                masterHost,
+                failoverProcessInstanceList.size(),
+                failoverProgress.getFailedCount(),
+                failoverTimeCost.getTime(TimeUnit.MILLISECONDS));
+    }
+
+    private void failoverProcessInstances(List<ProcessInstance> processInstances, FailoverProgress failoverProgress) {
+        if (failoverRateLimiter != null) {
+            failoverRateLimiter.acquire(processInstances.size());
+        }
+        StopWatch batchTimeCost = StopWatch.createStarted();
+        int failedCount = 0;
+        try {
+            processService.processNeedFailoverProcessInstances(processInstances);
+            for (ProcessInstance processInstance : processInstances) {
                 ProcessInstanceMetrics.incProcessInstanceByStateAndProcessDefinitionCode("failover",
                         processInstance.getProcessDefinitionCode().toString());
-                processService.processNeedFailoverProcessInstances(processInstance);
-                log.info("WorkflowInstance failover finished");
-            } finally {
-                LogUtils.removeWorkflowInstanceIdMDC();
             }
+            ProcessInstanceMetrics.incWorkflowFailoverSuccess(processInstances.size());
+        } catch (Exception ex) {
+            // The batch is rolled back, failover the process instances one by one so that one broken process instance
+            // will not block the others.
+            log.warn("Failover workflowInstances in batch failed, will failover them one by one, ids: {}",
+                    processInstances.stream().map(ProcessInstance::getId).collect(Collectors.toList()), ex);
+            for (ProcessInstance processInstance : processInstances) {
+                if (!failoverProcessInstance(processInstance)) {
+                    failedCount++;
+                }
+            }
+        } finally {
+            remainingFailoverWorkflowInstanceCount.addAndGet(-processInstances.size());
+            ProcessInstanceMetrics.recordWorkflowFailoverBatchTime(batchTimeCost.getTime(TimeUnit.MILLISECONDS));
+            failoverProgress.onBatchFinished(processInstances.size(), failedCount);
         }
+    }
 
-        failoverTimeCost.stop();
-        log.info("Master[{}] failover finished, useTime:{}ms",
-                masterHost,
-                failoverTimeCost.getTime(TimeUnit.MILLISECONDS));
+    private boolean failoverProcessInstance(ProcessInstance processInstance) {
+        try {
+            LogUtils.setWorkflowInstanceIdMDC(processInstance.getId());
+            log.info("WorkflowInstance failover starting");
+            processService.processNeedFailoverProcessInstances(processInstance);
+            ProcessInstanceMetrics.incProcessInstanceByStateAndProcessDefinitionCode("failover",
+                    processInstance.getProcessDefinitionCode().toString());
+            ProcessInstanceMetrics.incWorkflowFailoverSuccess(1);
+            log.info("WorkflowInstance failover finished");
+            return true;
+        } catch (Exception ex) {
+            // The host of the process instance is not changed, it will be failover again in the next failover check.
+            ProcessInstanceMetrics.incWorkflowFailoverFailure(1);
+            log.error("WorkflowInstance failover failed", ex);
+            return false;
+        } finally {
+            LogUtils.removeWorkflowInstanceIdMDC();
+        }
     }
 
     private Optional<Date> getServerStartupTime(List<Server> servers, String host) {
@@ -166,6 +251,16 @@ public class MasterFailoverService {
 
     private boolean checkProcessInstanceNeedFailover(Optional<Date> beFailoveredMasterStartupTimeOptional,
                                                      @NonNull ProcessInstance processInstance) {
+        try {
+            LogUtils.setWorkflowInstanceIdMDC(processInstance.getId());
+            return doCheckProcessInstanceNeedFailover(beFailoveredMasterStartupTimeOptional, processInstance);
+        } finally {
+            LogUtils.removeWorkflowInstanceIdMDC();
+        }
+    }
+
+    private boolean doCheckProcessInstanceNeedFailover(Optional<Date> beFailoveredMasterStartupTimeOptional,
+                                                       @NonNull ProcessInstance processInstance) {
         // The process has already been failover, since when we do master failover we will hold a lock, so we can
         // guarantee
         // the host will not be set concurrent.
@@ -201,4 +296,42 @@ public class MasterFailoverService {
         return true;
     }
 
+    /**
+     * The progress of the failover of a master, updated by the failover executor threads.
+     */
+    private static class FailoverProgress {
+
+        private final String masterHost;
+
+        private final int totalCount;
+
+        private final StopWatch failoverTimeCost;
+
+        private final AtomicInteger finishedCount = new AtomicInteger(0);
+
+        private final AtomicInteger failedCount = new AtomicInteger(0);
+
+        private FailoverProgress(String masterHost, int totalCount, StopWatch failoverTimeCost) {
+            this.masterHost = masterHost;
+            this.totalCount = totalCount;
+            this.failoverTimeCost = failoverTimeCost;
+        }
+
+        private void onBatchFinished(int batchCount, int batchFailedCount) {
+            int currentFinishedCount = finishedCount.addAndGet(batchCount);
+            failedCount.addAndGet(batchFailedCount);
+            long useTime = Math.max(failoverTimeCost.getTime(TimeUnit.MILLISECONDS), 1);
+            log.info("Master[{}] failover progress: {}/{} workflowInstance finished, {} failed, rate: {}/s",
+                    masterHost,
+                    currentFinishedCount,
+                    totalCount,
+                    failedCount.get(),
+                    currentFinishedCount * 1000L / useTime);
+        }
+
+        private int getFailedCount() {
+            return failedCount.get();
+        }
+    }
+
 }
@@ -41,6 +41,7 @@ import org.apache.dolphinscheduler.plugin.task.api.model.DependentItem;
 import org.apache.dolphinscheduler.plugin.task.api.model.Property;
 import org.apache.dolphinscheduler.plugin.task.api.parameters.DependentParameters;
 import org.apache.dolphinscheduler.plugin.task.api.utils.DependentUtils;
+import org.apache.dolphinscheduler.server.master.runner.task.dependent.DependentLookupCache;
 import org.apache.dolphinscheduler.service.bean.SpringApplicationContext;
 import org.apache.dolphinscheduler.service.process.ProcessService;
 
@@ -66,6 +67,12 @@ public class DependentExecute {
 
     private final TaskInstanceDao taskInstanceDao = SpringApplicationContext.getBean(TaskInstanceDao.class);
 
+    /**
+     * the upstream lookups shared by all the dependent tasks
+     */
+    private final DependentLookupCache dependentLookupCache =
+            SpringApplicationContext.getBean(DependentLookupCache.class);
+
     /**
      * depend item list
      */
@@ -250,8 +257,8 @@ public class DependentExecute {
     private DependResult dependResultBySingleTaskInstance(ProcessInstance processInstance, long depTaskCode,
                                                           int testFlag) {
         TaskInstance taskInstance =
-                taskInstanceDao.queryLastTaskInstanceIntervalInProcessInstance(processInstance.getId(),
-                        depTaskCode, testFlag);
+                dependentLookupCache.queryLastTaskInstanceIntervalInProcessInstance(processInstance, depTaskCode,
+                        testFlag);
 
         if (taskInstance == null) {
             TaskDefinition taskDefinition = taskDefinitionDao.queryByCode(depTaskCode);
@@ -320,10 +327,11 @@ public class DependentExecute {
                                                     int testFlag) {
 
         ProcessInstance lastSchedulerProcess =
-                processInstanceDao.queryLastSchedulerProcessInterval(definitionCode, taskCode, dateInterval, testFlag);
+                dependentLookupCache.queryLastSchedulerProcessInterval(definitionCode, taskCode, dateInterval,
+                        testFlag);
 
         ProcessInstance lastManualProcess =
-                processInstanceDao.queryLastManualProcessInterval(definitionCode, taskCode, dateInterval, testFlag);
+                dependentLookupCache.queryLastManualProcessInterval(definitionCode, taskCode, dateInterval, testFlag);
 
         if (lastManualProcess == null) {
             return lastSchedulerProcess;
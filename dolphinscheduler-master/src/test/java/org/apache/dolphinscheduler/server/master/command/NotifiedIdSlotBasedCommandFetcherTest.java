@@ -0,0 +1,88 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.dolphinscheduler.server.master.command;
+
+import org.apache.dolphinscheduler.dao.repository.CommandDao;
+import org.apache.dolphinscheduler.server.master.config.CommandFetchStrategy;
+import org.apache.dolphinscheduler.server.master.registry.MasterSlotManager;
+
+import java.time.Duration;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.Timeout;
+import org.mockito.Mockito;
+
+class NotifiedIdSlotBasedCommandFetcherTest {
+
+    @Test
+    @Timeout(10)
+    void testWaitForNewCommandsWithoutNotify() throws InterruptedException {
+        NotifiedIdSlotBasedCommandFetcher commandFetcher = createCommandFetcher(Duration.ofMillis(10));
+        // returns after the max idle interval even if there is no notification
+        commandFetcher.waitForNewCommands();
+        Assertions.assertEquals(0, commandFetcher.getPendingNotifications());
+    }
+
+    @Test
+    @Timeout(10)
+    void testWaitForNewCommandsWithNotify() throws InterruptedException {
+        // the max idle interval is longer than the timeout, so the wait can only return by the notification
+        NotifiedIdSlotBasedCommandFetcher commandFetcher = createCommandFetcher(Duration.ofHours(1));
+        commandFetcher.onCommandCreated();
+        commandFetcher.onCommandCreated();
+        // the notifications have been merged
+        Assertions.assertEquals(1, commandFetcher.getPendingNotifications());
+
+        commandFetcher.waitForNewCommands();
+        Assertions.assertEquals(0, commandFetcher.getPendingNotifications());
+    }
+
+    @Test
+    @Timeout(10)
+    void testNotifyWakeUpWaitingFetcher() throws InterruptedException {
+        NotifiedIdSlotBasedCommandFetcher commandFetcher = createCommandFetcher(Duration.ofHours(1));
+        CountDownLatch waitStarted = new CountDownLatch(1);
+        CountDownLatch waitFinished = new CountDownLatch(1);
+        Thread fetchThread = new Thread(() -> {
+            try {
+                waitStarted.countDown();
+                commandFetcher.waitForNewCommands();
+                waitFinished.countDown();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        });
+        fetchThread.start();
+        waitStarted.await();
+
+        commandFetcher.onCommandCreated();
+        Assertions.assertTrue(waitFinished.await(5, TimeUnit.SECONDS));
+    }
+
+    private NotifiedIdSlotBasedCommandFetcher createCommandFetcher(Duration maxIdleInterval) {
+        CommandFetchStrategy.IdSlotBasedFetchConfig fetchConfig = new CommandFetchStrategy.IdSlotBasedFetchConfig();
+        fetchConfig.setMaxIdleInterval(maxIdleInterval);
+        return new NotifiedIdSlotBasedCommandFetcher(fetchConfig,
+                Mockito.mock(MasterSlotManager.class),
+                Mockito.mock(CommandDao.class));
+    }
+
+}
@@ -0,0 +1,125 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.dolphinscheduler.server.master.graph;
+
+import org.apache.dolphinscheduler.common.enums.TaskDependType;
+import org.apache.dolphinscheduler.dao.entity.ProcessInstance;
+import org.apache.dolphinscheduler.dao.repository.TaskDefinitionLogDao;
+import org.apache.dolphinscheduler.dao.repository.TaskInstanceDao;
+import org.apache.dolphinscheduler.server.master.config.MasterConfig;
+import org.apache.dolphinscheduler.service.model.TaskNode;
+import org.apache.dolphinscheduler.service.process.ProcessService;
+
+import java.util.Arrays;
+import java.util.Collections;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentMatchers;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Mockito;
+import org.mockito.Spy;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+class WorkflowGraphFactoryTest {
+
+    @InjectMocks
+    private WorkflowGraphFactory workflowGraphFactory;
+
+    @Mock
+    private ProcessService processService;
+
+    @Mock
+    private TaskInstanceDao taskInstanceDao;
+
+    @Mock
+    private TaskDefinitionLogDao taskDefinitionLogDao;
+
+    @Spy
+    private MasterConfig masterConfig = new MasterConfig();
+
+    @BeforeEach
+    void setUp() {
+        Mockito.when(processService.findRelationByCode(1L, 1)).thenReturn(Collections.emptyList());
+        Mockito.when(taskDefinitionLogDao.queryTaskDefineLogList(ArgumentMatchers.anyList()))
+                .thenReturn(Collections.emptyList());
+        Mockito.when(processService.transformTask(ArgumentMatchers.anyList(), ArgumentMatchers.anyList()))
+                .thenReturn(Arrays.asList(taskNode(1L, "[]"), taskNode(2L, "[1]")));
+    }
+
+    @Test
+    void testShareWorkflowGraphOfTheSameVersion() throws Exception {
+        workflowGraphFactory.init();
+
+        IWorkflowGraph workflowGraph = workflowGraphFactory.createWorkflowGraph(workflowInstance(null));
+        Assertions.assertEquals(2, workflowGraph.getDag().getNodesCount());
+        Assertions.assertEquals(1, workflowGraph.getDag().getEdgesCount());
+
+        Assertions.assertSame(workflowGraph, workflowGraphFactory.createWorkflowGraph(workflowInstance(null)));
+        Mockito.verify(processService, Mockito.times(1)).transformTask(ArgumentMatchers.anyList(),
+                ArgumentMatchers.anyList());
+    }
+
+    @Test
+    void testDeriveWorkflowGraphFromStartNodes() throws Exception {
+        workflowGraphFactory.init();
+
+        IWorkflowGraph workflowGraph = workflowGraphFactory.createWorkflowGraph(workflowInstance(null));
+        IWorkflowGraph startNodeWorkflowGraph =
+                workflowGraphFactory.createWorkflowGraph(workflowInstance("{\"StartNodeList\":\"2\"}"));
+
+        Assertions.assertNotSame(workflowGraph, startNodeWorkflowGraph);
+        Assertions.assertEquals(1, startNodeWorkflowGraph.getDag().getNodesCount());
+        Assertions.assertTrue(startNodeWorkflowGraph.getDag().containsNode(2L));
+        Assertions.assertEquals(2, workflowGraph.getDag().getNodesCount());
+        Mockito.verify(processService, Mockito.times(1)).transformTask(ArgumentMatchers.anyList(),
+                ArgumentMatchers.anyList());
+    }
+
+    @Test
+    void testCreateWorkflowGraphWhenCacheDisabled() throws Exception {
+        masterConfig.getWorkflowGraphCache().setEnabled(false);
+        workflowGraphFactory.init();
+
+        IWorkflowGraph workflowGraph = workflowGraphFactory.createWorkflowGraph(workflowInstance(null));
+        Assertions.assertNotSame(workflowGraph, workflowGraphFactory.createWorkflowGraph(workflowInstance(null)));
+        Mockito.verify(processService, Mockito.times(2)).transformTask(ArgumentMatchers.anyList(),
+                ArgumentMatchers.anyList());
+    }
+
+    private ProcessInstance workflowInstance(String commandParam) {
+        ProcessInstance workflowInstance = new ProcessInstance();
+        workflowInstance.setProcessDefinitionCode(1L);
+        workflowInstance.setProcessDefinitionVersion(1);
+        workflowInstance.setTaskDependType(TaskDependType.TASK_POST);
+        workflowInstance.setCommandParam(commandParam);
+        return workflowInstance;
+    }
+
+    private TaskNode taskNode(long code, String preTasks) {
+        TaskNode taskNode = new TaskNode();
+        taskNode.setCode(code);
+        taskNode.setName("task-" + code);
+        taskNode.setPreTasks(preTasks);
+        return taskNode;
+    }
+}
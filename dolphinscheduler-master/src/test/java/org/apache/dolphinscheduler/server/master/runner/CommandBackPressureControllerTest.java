@@ -0,0 +1,99 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.dolphinscheduler.server.master.runner;
+
+import org.apache.dolphinscheduler.server.master.cache.ProcessInstanceExecCacheManager;
+import org.apache.dolphinscheduler.server.master.config.MasterConfig;
+import org.apache.dolphinscheduler.server.master.event.WorkflowEventQueue;
+
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Mockito;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+
+@ExtendWith(MockitoExtension.class)
+@MockitoSettings(strictness = Strictness.LENIENT)
+class CommandBackPressureControllerTest {
+
+    @InjectMocks
+    private CommandBackPressureController commandBackPressureController;
+
+    @Mock
+    private WorkflowEventQueue workflowEventQueue;
+
+    @Mock
+    private GlobalTaskDispatchWaitingQueue globalTaskDispatchWaitingQueue;
+
+    @Mock
+    private ProcessInstanceExecCacheManager processInstanceExecCacheManager;
+
+    @Mock
+    private WorkflowExecuteThreadPool workflowExecuteThreadPool;
+
+    @Mock
+    private MasterConfig masterConfig;
+
+    private final MasterConfig realMasterConfig = new MasterConfig();
+
+    @BeforeEach
+    void setUp() {
+        Mockito.when(masterConfig.getCommandBackPressure()).thenReturn(realMasterConfig.getCommandBackPressure());
+        Mockito.when(masterConfig.getCommandFetchStrategy()).thenReturn(realMasterConfig.getCommandFetchStrategy());
+        ThreadPoolExecutor threadPoolExecutor = Mockito.mock(ThreadPoolExecutor.class);
+        Mockito.when(threadPoolExecutor.getQueue()).thenReturn(new LinkedBlockingQueue<>());
+        Mockito.when(workflowExecuteThreadPool.getThreadPoolExecutor()).thenReturn(threadPoolExecutor);
+        commandBackPressureController.init();
+    }
+
+    @Test
+    void testAcquireFetchSizeWithoutPressure() {
+        Assertions.assertEquals(10, commandBackPressureController.acquireFetchSize());
+        Assertions.assertEquals(10, commandBackPressureController.acquireFetchSize());
+    }
+
+    @Test
+    void testAcquireFetchSizeUnderPressure() {
+        Mockito.when(workflowEventQueue.getWorkflowEventSize()).thenReturn(1000);
+        Assertions.assertEquals(5, commandBackPressureController.acquireFetchSize());
+        Assertions.assertEquals(2, commandBackPressureController.acquireFetchSize());
+        Assertions.assertEquals(1, commandBackPressureController.acquireFetchSize());
+        // pause consuming commands when the fetch size has reached the min fetch size
+        Assertions.assertEquals(0, commandBackPressureController.acquireFetchSize());
+
+        Mockito.when(workflowEventQueue.getWorkflowEventSize()).thenReturn(0);
+        Assertions.assertEquals(2, commandBackPressureController.acquireFetchSize());
+        Assertions.assertEquals(3, commandBackPressureController.acquireFetchSize());
+    }
+
+    @Test
+    void testAcquireFetchSizeWhenDisabled() {
+        realMasterConfig.getCommandBackPressure().setEnabled(false);
+        Mockito.when(globalTaskDispatchWaitingQueue.getWaitingDispatchTaskNumber()).thenReturn(Integer.MAX_VALUE);
+        Assertions.assertEquals(10, commandBackPressureController.acquireFetchSize());
+    }
+
+}
@@ -19,7 +19,11 @@ package org.apache.dolphinscheduler.server.master.runner;
 
 import static java.time.Duration.ofSeconds;
 import static org.awaitility.Awaitility.await;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.atLeastOnce;
 import static org.mockito.Mockito.doNothing;
 import static org.mockito.Mockito.mock;
@@ -30,18 +34,29 @@ import static org.mockito.Mockito.when;
 import org.apache.dolphinscheduler.common.utils.JSONUtils;
 import org.apache.dolphinscheduler.dao.entity.ProcessInstance;
 import org.apache.dolphinscheduler.dao.entity.TaskInstance;
+import org.apache.dolphinscheduler.extract.base.utils.Host;
 import org.apache.dolphinscheduler.plugin.task.api.TaskExecutionContext;
 import org.apache.dolphinscheduler.plugin.task.api.enums.TaskExecutionStatus;
+import org.apache.dolphinscheduler.server.master.config.MasterConfig;
+import org.apache.dolphinscheduler.server.master.exception.TaskDispatchException;
+import org.apache.dolphinscheduler.server.master.registry.ServerNodeManager;
 import org.apache.dolphinscheduler.server.master.runner.dispatcher.TaskDispatchFactory;
 import org.apache.dolphinscheduler.server.master.runner.dispatcher.TaskDispatcher;
 import org.apache.dolphinscheduler.server.master.runner.operator.TaskExecuteRunnableOperatorManager;
 
+import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
 
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.mockito.junit.jupiter.MockitoSettings;
 import org.mockito.quality.Strictness;
@@ -59,6 +74,12 @@ class GlobalTaskDispatchWaitingQueueLooperTest {
     @Mock
     private TaskDispatchFactory taskDispatchFactory;
 
+    @Spy
+    private MasterConfig masterConfig = new MasterConfig();
+
+    @Mock
+    private ServerNodeManager serverNodeManager;
+
     @Test
     void testTaskExecutionRunnableStatusIsNotSubmitted() throws Exception {
         ProcessInstance processInstance = new ProcessInstance();
@@ -94,17 +115,55 @@ class GlobalTaskDispatchWaitingQueueLooperTest {
         DefaultTaskExecuteRunnable defaultTaskExecuteRunnable = new DefaultTaskExecuteRunnable(processInstance,
                 taskInstance, taskExecutionContext, taskExecuteRunnableOperatorManager);
 
+        Host host = Host.of("127.0.0.1:1234");
         TaskDispatcher taskDispatcher = mock(TaskDispatcher.class);
         when(taskDispatchFactory.getTaskDispatcher(taskInstance)).thenReturn(taskDispatcher);
-        doNothing().when(taskDispatcher).dispatchTask(any());
+        when(taskDispatcher.selectDispatchHost(any())).thenReturn(Optional.of(host));
+        when(taskDispatcher.dispatchTasks(eq(host), anyList()))
+                .thenReturn(CompletableFuture.completedFuture(new ArrayList<>()));
 
-        when(globalTaskDispatchWaitingQueue.takeTaskExecuteRunnable()).thenReturn(defaultTaskExecuteRunnable);
+        LinkedBlockingQueue<DefaultTaskExecuteRunnable> queue = new LinkedBlockingQueue<>();
+        queue.add(defaultTaskExecuteRunnable);
+        when(globalTaskDispatchWaitingQueue.takeTaskExecuteRunnable()).thenAnswer(invocation -> queue.take());
         globalTaskDispatchWaitingQueueLooper.start();
         await().atMost(ofSeconds(1)).untilAsserted(() -> {
             verify(taskDispatchFactory, atLeastOnce()).getTaskDispatcher(any(TaskInstance.class));
-            verify(taskDispatcher, atLeastOnce()).dispatchTask(any(TaskExecuteRunnable.class));
+            verify(taskDispatcher, atLeastOnce()).dispatchTasks(eq(host), anyList());
         });
         globalTaskDispatchWaitingQueueLooper.close();
 
     }
+
+    @Test
+    void testTaskExecutionRunnableDispatchFailed() throws Exception {
+        ProcessInstance processInstance = new ProcessInstance();
+        TaskInstance taskInstance = new TaskInstance();
+        taskInstance.setState(TaskExecutionStatus.SUBMITTED_SUCCESS);
+        taskInstance.setTaskParams(JSONUtils.toJsonString(new HashMap<>()));
+        TaskExecutionContext taskExecutionContext = new TaskExecutionContext();
+        TaskExecuteRunnableOperatorManager taskExecuteRunnableOperatorManager =
+                new TaskExecuteRunnableOperatorManager();
+        DefaultTaskExecuteRunnable defaultTaskExecuteRunnable = new DefaultTaskExecuteRunnable(processInstance,
+                taskInstance, taskExecutionContext, taskExecuteRunnableOperatorManager);
+
+        Host host = Host.of("127.0.0.1:1234");
+        TaskDispatcher taskDispatcher = mock(TaskDispatcher.class);
+        when(taskDispatchFactory.getTaskDispatcher(taskInstance)).thenReturn(taskDispatcher);
+        when(taskDispatcher.selectDispatchHost(any())).thenReturn(Optional.of(host));
+        CompletableFuture<List<TaskExecuteRunnable>> dispatchFuture = new CompletableFuture<>();
+        dispatchFuture.completeExceptionally(new TaskDispatchException("failed"));
+        when(taskDispatcher.dispatchTasks(eq(host), anyList())).thenReturn(dispatchFuture);
+
+        LinkedBlockingQueue<DefaultTaskExecuteRunnable> queue = new LinkedBlockingQueue<>();
+        queue.add(defaultTaskExecuteRunnable);
+        when(globalTaskDispatchWaitingQueue.takeTaskExecuteRunnable()).thenAnswer(invocation -> queue.take());
+        globalTaskDispatchWaitingQueueLooper.start();
+        // The failed task should be added back to the waiting queue, and delayed by its dispatch failure times.
+        await().atMost(ofSeconds(1)).untilAsserted(() -> {
+            verify(globalTaskDispatchWaitingQueue).submitTaskExecuteRunnable(defaultTaskExecuteRunnable);
+            assertEquals(1, taskExecutionContext.getDispatchFailTimes());
+            assertTrue(defaultTaskExecuteRunnable.getDelay(TimeUnit.MILLISECONDS) > 0);
+        });
+        globalTaskDispatchWaitingQueueLooper.close();
+    }
 }
@@ -0,0 +1,91 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.dolphinscheduler.server.master.runner;
+
+import java.util.Arrays;
+import java.util.Collections;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+class TimingWheelTest {
+
+    private static final long START_TIME = 1_000_000L;
+
+    @Test
+    void testAdvanceOnlyReturnExpiredKeys() {
+        TimingWheel<String> timingWheel = new TimingWheel<>(1000, 8, START_TIME);
+        timingWheel.schedule("a", START_TIME + 1500);
+        timingWheel.schedule("b", START_TIME + 3000);
+
+        Assertions.assertEquals(Collections.emptyList(), timingWheel.advance(START_TIME + 1000));
+        Assertions.assertEquals(Collections.singletonList("a"), timingWheel.advance(START_TIME + 2000));
+        Assertions.assertEquals(Collections.singletonList("b"), timingWheel.advance(START_TIME + 3000));
+        Assertions.assertEquals(0, timingWheel.size());
+    }
+
+    @Test
+    void testAdvanceWithRounds() {
+        TimingWheel<String> timingWheel = new TimingWheel<>(1000, 4, START_TIME);
+        timingWheel.schedule("a", START_TIME + 10_000);
+
+        Assertions.assertEquals(Collections.emptyList(), timingWheel.advance(START_TIME + 9000));
+        Assertions.assertTrue(timingWheel.contains("a"));
+        Assertions.assertEquals(Collections.singletonList("a"), timingWheel.advance(START_TIME + 10_000));
+    }
+
+    @Test
+    void testExpiredDeadlineWillBeReturnedAtNextTick() {
+        TimingWheel<String> timingWheel = new TimingWheel<>(1000, 4, START_TIME);
+        timingWheel.advance(START_TIME + 5000);
+        timingWheel.schedule("a", START_TIME);
+        timingWheel.schedule("b", START_TIME + 5500);
+
+        Assertions.assertEquals(Arrays.asList("a", "b"), timingWheel.advance(START_TIME + 6000));
+    }
+
+    @Test
+    void testCancel() {
+        TimingWheel<String> timingWheel = new TimingWheel<>(1000, 8, START_TIME);
+        timingWheel.schedule("a", START_TIME + 1000);
+        Assertions.assertTrue(timingWheel.cancel("a"));
+        Assertions.assertFalse(timingWheel.cancel("a"));
+        Assertions.assertFalse(timingWheel.contains("a"));
+        Assertions.assertEquals(Collections.emptyList(), timingWheel.advance(START_TIME + 2000));
+    }
+
+    @Test
+    void testRescheduleReplaceTheDeadline() {
+        TimingWheel<String> timingWheel = new TimingWheel<>(1000, 8, START_TIME);
+        timingWheel.schedule("a", START_TIME + 1000);
+        timingWheel.schedule("a", START_TIME + 3000);
+
+        Assertions.assertEquals(1, timingWheel.size());
+        Assertions.assertEquals(Collections.emptyList(), timingWheel.advance(START_TIME + 2000));
+        Assertions.assertEquals(Collections.singletonList("a"), timingWheel.advance(START_TIME + 3000));
+    }
+
+    @Test
+    void testClear() {
+        TimingWheel<String> timingWheel = new TimingWheel<>(1000, 8, START_TIME);
+        timingWheel.schedule("a", START_TIME + 1000);
+        timingWheel.clear();
+        Assertions.assertEquals(0, timingWheel.size());
+        Assertions.assertEquals(Collections.emptyList(), timingWheel.advance(START_TIME + 2000));
+    }
+
+}
@@ -0,0 +1,67 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.dolphinscheduler.server.master.runner;
+
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class WorkflowEventReadyQueueTest {
+
+    private WorkflowEventReadyQueue workflowEventReadyQueue;
+
+    @BeforeEach
+    public void before() {
+        workflowEventReadyQueue = new WorkflowEventReadyQueue();
+    }
+
+    @Test
+    void testMarkReadyDeduplicate() throws InterruptedException {
+        workflowEventReadyQueue.markReady(1);
+        workflowEventReadyQueue.markReady(2);
+        workflowEventReadyQueue.markReady(1);
+        Assertions.assertEquals(2, workflowEventReadyQueue.size());
+
+        Assertions.assertEquals(1, workflowEventReadyQueue.poll(0, TimeUnit.MILLISECONDS));
+        Assertions.assertEquals(2, workflowEventReadyQueue.poll(0, TimeUnit.MILLISECONDS));
+        Assertions.assertNull(workflowEventReadyQueue.poll(0, TimeUnit.MILLISECONDS));
+    }
+
+    @Test
+    void testMarkReadyAgainAfterPolled() throws InterruptedException {
+        workflowEventReadyQueue.markReady(1);
+        Assertions.assertEquals(1, workflowEventReadyQueue.poll(0, TimeUnit.MILLISECONDS));
+
+        // the events added during handling should schedule the workflow again
+        workflowEventReadyQueue.markReady(1);
+        Assertions.assertEquals(1, workflowEventReadyQueue.size());
+        Assertions.assertEquals(1, workflowEventReadyQueue.poll(0, TimeUnit.MILLISECONDS));
+    }
+
+    @Test
+    void testClear() {
+        workflowEventReadyQueue.markReady(1);
+        workflowEventReadyQueue.clear();
+        Assertions.assertEquals(0, workflowEventReadyQueue.size());
+
+        workflowEventReadyQueue.markReady(1);
+        Assertions.assertEquals(1, workflowEventReadyQueue.size());
+    }
+
+}
@@ -39,6 +39,7 @@ import org.apache.dolphinscheduler.plugin.task.api.enums.TaskExecutionStatus;
 import org.apache.dolphinscheduler.server.master.config.MasterConfig;
 import org.apache.dolphinscheduler.server.master.graph.IWorkflowGraph;
 import org.apache.dolphinscheduler.server.master.runner.execute.DefaultTaskExecuteRunnableFactory;
+import org.apache.dolphinscheduler.server.master.runner.task.dependent.DependentTaskWaitingIndex;
 import org.apache.dolphinscheduler.server.master.runner.taskgroup.TaskGroupCoordinator;
 import org.apache.dolphinscheduler.service.alert.ListenerEventAlertManager;
 import org.apache.dolphinscheduler.service.alert.ProcessAlertManager;
@@ -106,6 +107,10 @@ public class WorkflowExecuteRunnableTest {
 
     private TaskGroupCoordinator taskGroupCoordinator;
 
+    private WorkflowEventReadyQueue workflowEventReadyQueue;
+
+    private DependentTaskWaitingIndex dependentTaskWaitingIndex;
+
     @BeforeEach
     public void init() throws Exception {
         applicationContext = Mockito.mock(ApplicationContext.class);
@@ -141,6 +146,8 @@ public class WorkflowExecuteRunnableTest {
         Mockito.when(workflowGraph.getDag()).thenReturn(new DAG<>());
 
         taskGroupCoordinator = Mockito.mock(TaskGroupCoordinator.class);
+        workflowEventReadyQueue = Mockito.mock(WorkflowEventReadyQueue.class);
+        dependentTaskWaitingIndex = Mockito.mock(DependentTaskWaitingIndex.class);
 
         workflowExecuteThread = Mockito.spy(
                 new WorkflowExecuteRunnable(
@@ -155,7 +162,9 @@ public class WorkflowExecuteRunnableTest {
                         taskInstanceDao,
                         defaultTaskExecuteRunnableFactory,
                         listenerEventAlertManager,
-                        taskGroupCoordinator));
+                        taskGroupCoordinator,
+                        workflowEventReadyQueue,
+                        dependentTaskWaitingIndex));
     }
 
     @Test
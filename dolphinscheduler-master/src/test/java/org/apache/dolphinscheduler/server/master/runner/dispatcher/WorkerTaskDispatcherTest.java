@@ -50,4 +50,19 @@ public class WorkerTaskDispatcherTest {
         Optional<Host> taskInstanceDispatchHost = workerTaskDispatcher.getTaskInstanceDispatchHost(taskExecuteRunnable);
         Assertions.assertEquals("localhost:1234", taskInstanceDispatchHost.get().getAddress());
     }
+
+    @Test
+    public void selectDispatchHostWhenWorkerGroupNotFound() throws Exception {
+        TaskEventService taskEventService = Mockito.mock(TaskEventService.class);
+        MasterConfig masterConfig = Mockito.mock(MasterConfig.class);
+        HostManager hostManager = Mockito.mock(HostManager.class);
+        Mockito.when(hostManager.select(Mockito.any())).thenThrow(new WorkerGroupNotFoundException("default"));
+        WorkerTaskDispatcher workerTaskDispatcher =
+                new WorkerTaskDispatcher(taskEventService, masterConfig, hostManager);
+
+        TaskExecuteRunnable taskExecuteRunnable = Mockito.mock(TaskExecuteRunnable.class);
+        Mockito.when(taskExecuteRunnable.getTaskExecutionContext()).thenReturn(new TaskExecutionContext());
+        Assertions.assertFalse(workerTaskDispatcher.selectDispatchHost(taskExecuteRunnable).isPresent());
+        Mockito.verify(taskEventService).addEvent(Mockito.any());
+    }
 }
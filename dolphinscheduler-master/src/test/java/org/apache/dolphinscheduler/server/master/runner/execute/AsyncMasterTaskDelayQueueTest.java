@@ -0,0 +1,84 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.dolphinscheduler.server.master.runner.execute;
+
+import org.apache.dolphinscheduler.plugin.task.api.TaskExecutionContext;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+
+public class AsyncMasterTaskDelayQueueTest {
+
+    private final AsyncMasterTaskDelayQueue asyncMasterTaskDelayQueue = new AsyncMasterTaskDelayQueue();
+
+    @Test
+    public void testWakeUpWaitingAsyncTask() throws InterruptedException {
+        AsyncTaskExecutionContext asyncTaskExecutionContext = createAsyncTaskExecutionContext(100);
+        // The first check doesn't have delay
+        asyncMasterTaskDelayQueue.addAsyncTask(asyncTaskExecutionContext);
+        Assertions.assertSame(asyncTaskExecutionContext, asyncMasterTaskDelayQueue.pollAsyncTask());
+
+        asyncMasterTaskDelayQueue.addAsyncTask(asyncTaskExecutionContext);
+        Assertions.assertTrue(asyncTaskExecutionContext.getDelay(TimeUnit.MILLISECONDS) > 0);
+
+        Assertions.assertTrue(asyncMasterTaskDelayQueue.wakeUpAsyncTask(100));
+        Assertions.assertEquals(1, asyncMasterTaskDelayQueue.getAsyncTaskRunningNum());
+        Assertions.assertTrue(asyncTaskExecutionContext.getDelay(TimeUnit.MILLISECONDS) <= 0);
+        Assertions.assertSame(asyncTaskExecutionContext,
+                Assertions.assertTimeoutPreemptively(Duration.ofSeconds(10), asyncMasterTaskDelayQueue::pollAsyncTask));
+    }
+
+    @Test
+    public void testWakeUpCheckingAsyncTask() throws InterruptedException {
+        AsyncTaskExecutionContext asyncTaskExecutionContext = createAsyncTaskExecutionContext(100);
+        asyncMasterTaskDelayQueue.addAsyncTask(asyncTaskExecutionContext);
+        Assertions.assertSame(asyncTaskExecutionContext, asyncMasterTaskDelayQueue.pollAsyncTask());
+
+        // The task is being checked, it is checked again immediately once it is added back
+        Assertions.assertTrue(asyncMasterTaskDelayQueue.wakeUpAsyncTask(100));
+        Assertions.assertEquals(0, asyncMasterTaskDelayQueue.getAsyncTaskRunningNum());
+        asyncMasterTaskDelayQueue.addAsyncTask(asyncTaskExecutionContext);
+        Assertions.assertTrue(asyncTaskExecutionContext.getDelay(TimeUnit.MILLISECONDS) <= 0);
+    }
+
+    @Test
+    public void testWakeUpNotExistAsyncTask() throws InterruptedException {
+        Assertions.assertFalse(asyncMasterTaskDelayQueue.wakeUpAsyncTask(100));
+
+        AsyncTaskExecutionContext asyncTaskExecutionContext = createAsyncTaskExecutionContext(100);
+        asyncMasterTaskDelayQueue.addAsyncTask(asyncTaskExecutionContext);
+        asyncMasterTaskDelayQueue.pollAsyncTask();
+        asyncMasterTaskDelayQueue.removeAsyncTask(asyncTaskExecutionContext);
+        Assertions.assertFalse(asyncMasterTaskDelayQueue.wakeUpAsyncTask(100));
+    }
+
+    private AsyncTaskExecutionContext createAsyncTaskExecutionContext(int taskInstanceId) {
+        TaskExecutionContext taskExecutionContext = TaskExecutionContext.builder()
+                .taskInstanceId(taskInstanceId)
+                .startTime(System.currentTimeMillis())
+                .build();
+        AsyncTaskExecuteFunction asyncTaskExecuteFunction = Mockito.mock(AsyncTaskExecuteFunction.class);
+        Mockito.when(asyncTaskExecuteFunction.getAsyncTaskStateCheckInterval()).thenReturn(Duration.ofMinutes(10));
+        return new AsyncTaskExecutionContext(taskExecutionContext, asyncTaskExecuteFunction,
+                Mockito.mock(AsyncTaskCallbackFunction.class));
+    }
+}
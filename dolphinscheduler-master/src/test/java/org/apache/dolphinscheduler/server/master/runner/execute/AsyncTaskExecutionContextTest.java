@@ -0,0 +1,55 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.dolphinscheduler.server.master.runner.execute;
+
+import org.apache.dolphinscheduler.plugin.task.api.TaskExecutionContext;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+
+public class AsyncTaskExecutionContextTest {
+
+    @Test
+    public void testRequestWakeUp() {
+        AsyncTaskExecuteFunction asyncTaskExecuteFunction = Mockito.mock(AsyncTaskExecuteFunction.class);
+        Mockito.when(asyncTaskExecuteFunction.getAsyncTaskStateCheckInterval()).thenReturn(Duration.ofMinutes(10));
+        AsyncTaskExecutionContext asyncTaskExecutionContext = new AsyncTaskExecutionContext(
+                TaskExecutionContext.builder().taskInstanceId(100).startTime(System.currentTimeMillis()).build(),
+                asyncTaskExecuteFunction,
+                Mockito.mock(AsyncTaskCallbackFunction.class));
+
+        // The first time doesn't have delay
+        asyncTaskExecutionContext.refreshStartTime();
+        Assertions.assertTrue(asyncTaskExecutionContext.getDelay(TimeUnit.MILLISECONDS) <= 0);
+
+        asyncTaskExecutionContext.refreshStartTime();
+        Assertions.assertTrue(asyncTaskExecutionContext.getDelay(TimeUnit.MINUTES) >= 9);
+
+        asyncTaskExecutionContext.requestWakeUp();
+        asyncTaskExecutionContext.refreshStartTime();
+        Assertions.assertTrue(asyncTaskExecutionContext.getDelay(TimeUnit.MILLISECONDS) <= 0);
+
+        // The wake up request is consumed by the refresh
+        asyncTaskExecutionContext.refreshStartTime();
+        Assertions.assertTrue(asyncTaskExecutionContext.getDelay(TimeUnit.MINUTES) >= 9);
+    }
+}
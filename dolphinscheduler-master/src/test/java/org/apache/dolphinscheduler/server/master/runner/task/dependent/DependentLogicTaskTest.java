@@ -0,0 +1,92 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.dolphinscheduler.server.master.runner.task.dependent;
+
+import org.apache.dolphinscheduler.dao.entity.TaskInstance;
+import org.apache.dolphinscheduler.dao.repository.ProcessDefinitionDao;
+import org.apache.dolphinscheduler.dao.repository.ProcessInstanceDao;
+import org.apache.dolphinscheduler.dao.repository.ProjectDao;
+import org.apache.dolphinscheduler.dao.repository.TaskDefinitionDao;
+import org.apache.dolphinscheduler.dao.repository.TaskInstanceDao;
+import org.apache.dolphinscheduler.plugin.task.api.TaskExecutionContext;
+import org.apache.dolphinscheduler.plugin.task.api.parameters.DependentParameters;
+import org.apache.dolphinscheduler.server.master.cache.ProcessInstanceExecCacheManager;
+import org.apache.dolphinscheduler.server.master.config.DependentTaskCheckConfig;
+import org.apache.dolphinscheduler.server.master.runner.WorkflowExecuteRunnable;
+
+import java.util.Optional;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.Mockito;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+public class DependentLogicTaskTest {
+
+    @Mock
+    private ProcessInstanceExecCacheManager processInstanceExecCacheManager;
+
+    @Mock
+    private WorkflowExecuteRunnable workflowExecuteRunnable;
+
+    @Mock
+    private TaskInstanceDao taskInstanceDao;
+
+    @Mock
+    private DependentTaskWaitingIndex dependentTaskWaitingIndex;
+
+    private DependentLogicTask dependentLogicTask;
+
+    @BeforeEach
+    public void before() throws Exception {
+        TaskInstance taskInstance = new TaskInstance();
+        taskInstance.setId(100);
+        taskInstance.setDependency(new DependentParameters());
+        Mockito.when(processInstanceExecCacheManager.getByProcessInstanceId(10)).thenReturn(workflowExecuteRunnable);
+        Mockito.when(workflowExecuteRunnable.getTaskInstance(100)).thenReturn(Optional.of(taskInstance));
+        TaskExecutionContext taskExecutionContext = TaskExecutionContext.builder()
+                .processInstanceId(10)
+                .taskInstanceId(100)
+                .build();
+        dependentLogicTask = new DependentLogicTask(taskExecutionContext,
+                Mockito.mock(ProjectDao.class),
+                Mockito.mock(ProcessDefinitionDao.class),
+                Mockito.mock(TaskDefinitionDao.class),
+                taskInstanceDao,
+                Mockito.mock(ProcessInstanceDao.class),
+                processInstanceExecCacheManager,
+                new DependentTaskCheckConfig(),
+                dependentTaskWaitingIndex);
+    }
+
+    @Test
+    public void testUnregisterWaitingItemsWhenKill() {
+        dependentLogicTask.kill();
+        Mockito.verify(dependentTaskWaitingIndex).unregister(100);
+    }
+
+    @Test
+    public void testUnregisterWaitingItemsWhenPause() throws Exception {
+        dependentLogicTask.pause();
+        Mockito.verify(dependentTaskWaitingIndex).unregister(100);
+        Mockito.verify(taskInstanceDao).upsertTaskInstance(Mockito.any(TaskInstance.class));
+    }
+}
@@ -0,0 +1,185 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.dolphinscheduler.server.master.runner.task.dependent;
+
+import static org.awaitility.Awaitility.await;
+
+import org.apache.dolphinscheduler.common.enums.WorkflowExecutionStatus;
+import org.apache.dolphinscheduler.common.utils.DateUtils;
+import org.apache.dolphinscheduler.dao.entity.ProcessInstance;
+import org.apache.dolphinscheduler.dao.repository.ProcessInstanceDao;
+import org.apache.dolphinscheduler.dao.repository.TaskInstanceDao;
+import org.apache.dolphinscheduler.plugin.task.api.model.DateInterval;
+import org.apache.dolphinscheduler.server.master.config.DependentLookupCacheConfig;
+import org.apache.dolphinscheduler.server.master.config.MasterConfig;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Mockito;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import io.micrometer.core.instrument.Metrics;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+@ExtendWith(MockitoExtension.class)
+public class DependentLookupCacheTest {
+
+    @InjectMocks
+    private DependentLookupCache dependentLookupCache;
+
+    @Mock
+    private ProcessInstanceDao processInstanceDao;
+
+    @Mock
+    private TaskInstanceDao taskInstanceDao;
+
+    @Mock
+    private MasterConfig masterConfig;
+
+    private final DateInterval dateInterval = new DateInterval(
+            DateUtils.stringToDate("2024-01-02 00:00:00"), DateUtils.stringToDate("2024-01-02 23:59:59"));
+
+    @BeforeEach
+    public void before() {
+        Mockito.when(masterConfig.getDependentLookupCache())
+                .thenReturn(new DependentLookupCacheConfig());
+        dependentLookupCache.init();
+    }
+
+    @Test
+    public void testCacheFinishedLookup() {
+        ProcessInstance processInstance = getProcessInstance(WorkflowExecutionStatus.SUCCESS);
+        Mockito.when(processInstanceDao.queryLastSchedulerProcessInterval(1L, 0L, dateInterval, 0))
+                .thenReturn(processInstance);
+
+        Assertions.assertSame(processInstance,
+                dependentLookupCache.queryLastSchedulerProcessInterval(1L, 0L, dateInterval, 0));
+        // The workflow dependent and all tasks dependent share the lookup
+        Assertions.assertSame(processInstance,
+                dependentLookupCache.queryLastSchedulerProcessInterval(1L, -1L, dateInterval, 0));
+        Mockito.verify(processInstanceDao, Mockito.times(1))
+                .queryLastSchedulerProcessInterval(Mockito.anyLong(), Mockito.anyLong(), Mockito.any(),
+                        Mockito.anyInt());
+
+        dependentLookupCache.invalidate(1L);
+        dependentLookupCache.queryLastSchedulerProcessInterval(1L, 0L, dateInterval, 0);
+        Mockito.verify(processInstanceDao, Mockito.times(2))
+                .queryLastSchedulerProcessInterval(Mockito.anyLong(), Mockito.anyLong(), Mockito.any(),
+                        Mockito.anyInt());
+    }
+
+    @Test
+    public void testRevalidateFinishedLookup() {
+        DependentLookupCacheConfig dependentLookupCacheConfig = new DependentLookupCacheConfig();
+        // Revalidate the finished lookup every time
+        dependentLookupCacheConfig.setExpireAfterWrite(Duration.ZERO);
+        Mockito.when(masterConfig.getDependentLookupCache()).thenReturn(dependentLookupCacheConfig);
+        dependentLookupCache.init();
+        ProcessInstance processInstance = getProcessInstance(WorkflowExecutionStatus.SUCCESS);
+        Mockito.when(processInstanceDao.queryLastSchedulerProcessInterval(1L, 0L, dateInterval, 0))
+                .thenReturn(processInstance);
+        Mockito.when(processInstanceDao.queryById(100)).thenReturn(getProcessInstance(WorkflowExecutionStatus.SUCCESS));
+
+        dependentLookupCache.queryLastSchedulerProcessInterval(1L, 0L, dateInterval, 0);
+        Assertions.assertSame(processInstance,
+                dependentLookupCache.queryLastSchedulerProcessInterval(1L, 0L, dateInterval, 0));
+        Mockito.verify(processInstanceDao, Mockito.times(1)).queryById(100);
+        Mockito.verify(processInstanceDao, Mockito.times(1))
+                .queryLastSchedulerProcessInterval(1L, 0L, dateInterval, 0);
+
+        // The upstream is rerun in another master
+        Mockito.when(processInstanceDao.queryById(100))
+                .thenReturn(getProcessInstance(WorkflowExecutionStatus.RUNNING_EXECUTION));
+        dependentLookupCache.queryLastSchedulerProcessInterval(1L, 0L, dateInterval, 0);
+        Mockito.verify(processInstanceDao, Mockito.times(2))
+                .queryLastSchedulerProcessInterval(1L, 0L, dateInterval, 0);
+    }
+
+    @Test
+    public void testPruneGenerations() {
+        ProcessInstance processInstance = getProcessInstance(WorkflowExecutionStatus.SUCCESS);
+        Mockito.when(processInstanceDao.queryLastSchedulerProcessInterval(1L, 0L, dateInterval, 0))
+                .thenReturn(processInstance);
+        dependentLookupCache.invalidate(1L);
+        dependentLookupCache.invalidate(2L);
+        Assertions.assertEquals(2, dependentLookupCache.getGenerationSize());
+
+        dependentLookupCache.pruneGenerations(System.currentTimeMillis() + TimeUnit.MINUTES.toMillis(11));
+        Assertions.assertEquals(0, dependentLookupCache.getGenerationSize());
+
+        // The invalidation still works after the generations are pruned
+        dependentLookupCache.queryLastSchedulerProcessInterval(1L, 0L, dateInterval, 0);
+        dependentLookupCache.invalidate(1L);
+        dependentLookupCache.queryLastSchedulerProcessInterval(1L, 0L, dateInterval, 0);
+        Mockito.verify(processInstanceDao, Mockito.times(2))
+                .queryLastSchedulerProcessInterval(1L, 0L, dateInterval, 0);
+    }
+
+    @Test
+    public void testCoalesceConcurrentLookups() throws Exception {
+        SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+        Metrics.addRegistry(meterRegistry);
+        try {
+            CountDownLatch loadingLatch = new CountDownLatch(1);
+            CountDownLatch releaseLatch = new CountDownLatch(1);
+            ProcessInstance processInstance = getProcessInstance(WorkflowExecutionStatus.RUNNING_EXECUTION);
+            Mockito.when(processInstanceDao.queryLastManualProcessInterval(1L, 0L, dateInterval, 0)).thenAnswer(i -> {
+                loadingLatch.countDown();
+                releaseLatch.await(10, TimeUnit.SECONDS);
+                return processInstance;
+            });
+
+            CompletableFuture<ProcessInstance> firstLookup = CompletableFuture.supplyAsync(
+                    () -> dependentLookupCache.queryLastManualProcessInterval(1L, 0L, dateInterval, 0));
+            Assertions.assertTrue(loadingLatch.await(10, TimeUnit.SECONDS));
+            CompletableFuture<ProcessInstance> secondLookup = CompletableFuture.supplyAsync(
+                    () -> dependentLookupCache.queryLastManualProcessInterval(1L, 0L, dateInterval, 0));
+            // The first lookup is blocked in the loader, so the second lookup can only wait for it
+            await().atMost(Duration.ofSeconds(10)).until(() -> getCoalescedCount(meterRegistry) == 1);
+            releaseLatch.countDown();
+
+            Assertions.assertSame(processInstance, firstLookup.get(10, TimeUnit.SECONDS));
+            Assertions.assertSame(processInstance, secondLookup.get(10, TimeUnit.SECONDS));
+            Mockito.verify(processInstanceDao, Mockito.times(1))
+                    .queryLastManualProcessInterval(1L, 0L, dateInterval, 0);
+        } finally {
+            Metrics.removeRegistry(meterRegistry);
+        }
+    }
+
+    private double getCoalescedCount(SimpleMeterRegistry meterRegistry) {
+        return meterRegistry.get("ds.task.dependent.lookup.cache.count").tag("result", "coalesced").counter().count();
+    }
+
+    private ProcessInstance getProcessInstance(WorkflowExecutionStatus state) {
+        ProcessInstance processInstance = new ProcessInstance();
+        processInstance.setId(100);
+        processInstance.setProcessDefinitionCode(1L);
+        processInstance.setState(state);
+        return processInstance;
+    }
+}
@@ -0,0 +1,154 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.dolphinscheduler.server.master.runner.task.dependent;
+
+import org.apache.dolphinscheduler.common.utils.DateUtils;
+import org.apache.dolphinscheduler.dao.entity.ProcessInstance;
+import org.apache.dolphinscheduler.dao.entity.TaskInstance;
+import org.apache.dolphinscheduler.plugin.task.api.model.DependentItem;
+import org.apache.dolphinscheduler.server.master.runner.execute.AsyncMasterTaskDelayQueue;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Date;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Mockito;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+public class DependentTaskWaitingIndexTest {
+
+    @InjectMocks
+    private DependentTaskWaitingIndex dependentTaskWaitingIndex;
+
+    @Mock
+    private AsyncMasterTaskDelayQueue asyncMasterTaskDelayQueue;
+
+    @Mock
+    private DependentLookupCache dependentLookupCache;
+
+    @Mock
+    private DependentUpstreamFinishedNotifier dependentUpstreamFinishedNotifier;
+
+    private final Date dependentDate = DateUtils.stringToDate("2024-01-02 00:00:00");
+
+    @Test
+    public void testWakeUpByWorkflowInstance() {
+        dependentTaskWaitingIndex.register(100, Collections.singletonList(getDependentItem(1L, 0L)), dependentDate);
+        Mockito.when(asyncMasterTaskDelayQueue.wakeUpAsyncTask(100)).thenReturn(true);
+
+        // not in the date interval
+        dependentTaskWaitingIndex.onWorkflowInstanceFinished(getWorkflowInstance(1L, "2024-01-01 10:00:00"));
+        // not the upstream workflow
+        dependentTaskWaitingIndex.onWorkflowInstanceFinished(getWorkflowInstance(2L, "2024-01-02 10:00:00"));
+        Mockito.verify(asyncMasterTaskDelayQueue, Mockito.never()).wakeUpAsyncTask(100);
+
+        dependentTaskWaitingIndex.onWorkflowInstanceFinished(getWorkflowInstance(1L, "2024-01-02 10:00:00"));
+        Mockito.verify(asyncMasterTaskDelayQueue, Mockito.times(1)).wakeUpAsyncTask(100);
+
+        dependentTaskWaitingIndex.unregister(100);
+        Assertions.assertEquals(0, dependentTaskWaitingIndex.size());
+        dependentTaskWaitingIndex.onWorkflowInstanceFinished(getWorkflowInstance(1L, "2024-01-02 10:00:00"));
+        Mockito.verify(asyncMasterTaskDelayQueue, Mockito.times(1)).wakeUpAsyncTask(100);
+    }
+
+    @Test
+    public void testWakeUpByTaskInstance() {
+        dependentTaskWaitingIndex.register(100,
+                Arrays.asList(getDependentItem(1L, 10L), getDependentItem(2L, 0L)), dependentDate);
+        dependentTaskWaitingIndex.register(200, Collections.singletonList(getDependentItem(1L, -1L)), dependentDate);
+        Mockito.when(asyncMasterTaskDelayQueue.wakeUpAsyncTask(100)).thenReturn(true);
+
+        ProcessInstance workflowInstance = getWorkflowInstance(1L, "2024-01-02 10:00:00");
+        dependentTaskWaitingIndex.onTaskInstanceFinished(workflowInstance, getTaskInstance(20L));
+        dependentTaskWaitingIndex.onTaskInstanceFinished(workflowInstance, getTaskInstance(10L));
+        Mockito.verify(asyncMasterTaskDelayQueue, Mockito.times(1)).wakeUpAsyncTask(100);
+        Mockito.verify(asyncMasterTaskDelayQueue, Mockito.never()).wakeUpAsyncTask(200);
+    }
+
+    @Test
+    public void testUnregisterNotExistTask() {
+        dependentTaskWaitingIndex.register(100, Collections.singletonList(getDependentItem(1L, 0L)), dependentDate);
+        Mockito.when(asyncMasterTaskDelayQueue.wakeUpAsyncTask(100)).thenReturn(false);
+
+        dependentTaskWaitingIndex.onWorkflowInstanceFinished(getWorkflowInstance(1L, "2024-01-02 10:00:00"));
+        Assertions.assertEquals(0, dependentTaskWaitingIndex.size());
+    }
+
+    @Test
+    public void testNotifyOtherMasters() {
+        ProcessInstance workflowInstance = getWorkflowInstance(1L, "2024-01-02 10:00:00");
+        dependentTaskWaitingIndex.onWorkflowInstanceFinished(workflowInstance);
+        Mockito.verify(dependentUpstreamFinishedNotifier)
+                .notifyUpstreamInstanceFinished(1L, null, workflowInstance.getScheduleTime());
+
+        dependentTaskWaitingIndex.onTaskInstanceFinished(workflowInstance, getTaskInstance(10L));
+        Mockito.verify(dependentUpstreamFinishedNotifier)
+                .notifyUpstreamInstanceFinished(1L, 10L, workflowInstance.getScheduleTime());
+    }
+
+    @Test
+    public void testWakeUpByRemoteUpstreamInstance() {
+        dependentTaskWaitingIndex.register(100, Collections.singletonList(getDependentItem(1L, 10L)), dependentDate);
+        Mockito.when(asyncMasterTaskDelayQueue.wakeUpAsyncTask(100)).thenReturn(true);
+
+        dependentTaskWaitingIndex.onRemoteUpstreamInstanceFinished(1L, 20L,
+                DateUtils.stringToDate("2024-01-02 10:00:00"));
+        Mockito.verify(asyncMasterTaskDelayQueue, Mockito.never()).wakeUpAsyncTask(100);
+
+        dependentTaskWaitingIndex.onRemoteUpstreamInstanceFinished(1L, 10L,
+                DateUtils.stringToDate("2024-01-02 10:00:00"));
+        Mockito.verify(asyncMasterTaskDelayQueue, Mockito.times(1)).wakeUpAsyncTask(100);
+        Mockito.verify(dependentLookupCache, Mockito.times(2)).invalidate(1L);
+        // the remote upstream instance is not notified again
+        Mockito.verifyNoInteractions(dependentUpstreamFinishedNotifier);
+    }
+
+    @Test
+    public void testInvalidateLookupsWhenWorkflowInstanceStarted() {
+        dependentTaskWaitingIndex.onWorkflowInstanceStarted(getWorkflowInstance(1L, "2024-01-02 10:00:00"));
+        Mockito.verify(dependentLookupCache).invalidate(1L);
+    }
+
+    private DependentItem getDependentItem(long definitionCode, long depTaskCode) {
+        DependentItem dependentItem = new DependentItem();
+        dependentItem.setDefinitionCode(definitionCode);
+        dependentItem.setDepTaskCode(depTaskCode);
+        dependentItem.setCycle("day");
+        dependentItem.setDateValue("today");
+        return dependentItem;
+    }
+
+    private ProcessInstance getWorkflowInstance(long definitionCode, String scheduleTime) {
+        ProcessInstance workflowInstance = new ProcessInstance();
+        workflowInstance.setProcessDefinitionCode(definitionCode);
+        workflowInstance.setScheduleTime(DateUtils.stringToDate(scheduleTime));
+        return workflowInstance;
+    }
+
+    private TaskInstance getTaskInstance(long taskCode) {
+        TaskInstance taskInstance = new TaskInstance();
+        taskInstance.setTaskCode(taskCode);
+        return taskInstance;
+    }
+}
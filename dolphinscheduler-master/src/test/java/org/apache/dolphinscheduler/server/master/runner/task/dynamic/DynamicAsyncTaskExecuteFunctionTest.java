@@ -21,7 +21,7 @@ import static org.apache.dolphinscheduler.server.master.runner.execute.AsyncTask
 
 import org.apache.dolphinscheduler.dao.entity.ProcessInstance;
 import org.apache.dolphinscheduler.dao.entity.TaskInstance;
-import org.apache.dolphinscheduler.dao.mapper.CommandMapper;
+import org.apache.dolphinscheduler.dao.repository.CommandDao;
 import org.apache.dolphinscheduler.plugin.task.api.parameters.DynamicParameters;
 import org.apache.dolphinscheduler.service.subworkflow.SubWorkflowService;
 
@@ -49,7 +49,7 @@ class DynamicAsyncTaskExecuteFunctionTest {
     private SubWorkflowService subWorkflowService;
 
     @Mock
-    private CommandMapper commandMapper;
+    private CommandDao commandDao;
 
     @Mock
     private DynamicLogicTask dynamicLogicTask;
@@ -69,7 +69,7 @@ class DynamicAsyncTaskExecuteFunctionTest {
                 processInstance,
                 taskInstance,
                 dynamicLogicTask,
-                commandMapper,
+                commandDao,
                 subWorkflowService,
                 0);
     }
@@ -22,6 +22,7 @@ import org.apache.dolphinscheduler.common.enums.WorkflowExecutionStatus;
 import org.apache.dolphinscheduler.dao.entity.ProcessInstance;
 import org.apache.dolphinscheduler.dao.mapper.CommandMapper;
 import org.apache.dolphinscheduler.dao.mapper.ProcessDefinitionMapper;
+import org.apache.dolphinscheduler.dao.repository.CommandDao;
 import org.apache.dolphinscheduler.dao.repository.ProcessInstanceDao;
 import org.apache.dolphinscheduler.dao.repository.TaskInstanceDao;
 import org.apache.dolphinscheduler.plugin.task.api.TaskExecutionContext;
@@ -66,6 +67,9 @@ class DynamicLogicTaskTest {
     @Mock
     private CommandMapper commandMapper;
 
+    @Mock
+    private CommandDao commandDao;
+
     private DynamicParameters dynamicParameters;
 
     private ProcessInstance processInstance;
@@ -91,7 +95,8 @@ class DynamicLogicTaskTest {
                 subWorkflowService,
                 processService,
                 processDefineMapper,
-                commandMapper);
+                commandMapper,
+                commandDao);
     }
 
     @Test
@@ -122,7 +127,8 @@ class DynamicLogicTaskTest {
                 subWorkflowService,
                 processService,
                 processDefineMapper,
-                commandMapper);
+                commandMapper,
+                commandDao);
 
         List<Map<String, String>> parameterGroup = dynamicLogicTask.generateParameterGroup();
 
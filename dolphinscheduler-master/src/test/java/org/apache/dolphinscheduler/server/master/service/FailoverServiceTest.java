@@ -19,8 +19,13 @@ package org.apache.dolphinscheduler.server.master.service;
 
 import static org.apache.dolphinscheduler.common.constants.Constants.COMMON_TASK_TYPE;
 import static org.apache.dolphinscheduler.plugin.task.api.TaskConstants.TASK_TYPE_SWITCH;
+import static org.mockito.ArgumentMatchers.anyList;
 import static org.mockito.BDDMockito.given;
 import static org.mockito.Mockito.doNothing;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 
 import org.apache.dolphinscheduler.common.constants.Constants;
 import org.apache.dolphinscheduler.common.enums.CommandType;
@@ -35,6 +40,7 @@ import org.apache.dolphinscheduler.registry.api.RegistryClient;
 import org.apache.dolphinscheduler.registry.api.enums.RegistryNodeType;
 import org.apache.dolphinscheduler.server.master.cache.ProcessInstanceExecCacheManager;
 import org.apache.dolphinscheduler.server.master.config.MasterConfig;
+import org.apache.dolphinscheduler.server.master.config.WorkflowFailoverConfig;
 import org.apache.dolphinscheduler.server.master.event.StateEvent;
 import org.apache.dolphinscheduler.server.master.runner.IWorkflowExecuteContext;
 import org.apache.dolphinscheduler.server.master.runner.WorkflowExecuteRunnable;
@@ -104,6 +110,7 @@ public class FailoverServiceTest {
         given(masterConfig.getListenPort()).willReturn(masterPort);
         testMasterHost = NetUtils.getAddr(masterConfig.getListenPort());
         given(masterConfig.getMasterAddress()).willReturn(testMasterHost);
+        given(masterConfig.getWorkflowFailover()).willReturn(new WorkflowFailoverConfig());
         MasterFailoverService masterFailoverService =
                 new MasterFailoverService(registryClient, masterConfig, processService,
                         processInstanceExecCacheManager);
@@ -190,6 +197,33 @@ public class FailoverServiceTest {
         Assertions.assertEquals(masterTaskInstance.getState(), TaskExecutionStatus.RUNNING_EXECUTION);
     }
 
+    @Test
+    public void failoverMasterInBatchTest() {
+        processInstance.setHost(testMasterHost);
+        processInstance.setStartTime(new Date(System.currentTimeMillis() - 60_000));
+        processInstance.setRestartTime(null);
+        given(registryClient.getServerList(RegistryNodeType.MASTER)).willReturn(new ArrayList<>());
+
+        failoverService.failoverServerWhenDown(testMasterHost, RegistryNodeType.MASTER);
+
+        verify(processService).processNeedFailoverProcessInstances(Lists.newArrayList(processInstance));
+        verify(processService, never()).processNeedFailoverProcessInstances(Mockito.any(ProcessInstance.class));
+    }
+
+    @Test
+    public void failoverMasterFallbackToSingleWhenBatchFailedTest() {
+        processInstance.setHost(testMasterHost);
+        processInstance.setStartTime(new Date(System.currentTimeMillis() - 60_000));
+        processInstance.setRestartTime(null);
+        given(registryClient.getServerList(RegistryNodeType.MASTER)).willReturn(new ArrayList<>());
+        doThrow(new IllegalStateException("batch failed")).when(processService)
+                .processNeedFailoverProcessInstances(anyList());
+
+        failoverService.failoverServerWhenDown(testMasterHost, RegistryNodeType.MASTER);
+
+        verify(processService, times(1)).processNeedFailoverProcessInstances(processInstance);
+    }
+
     @Test
     public void failoverWorkTest() {
         workerTaskInstance.setState(TaskExecutionStatus.RUNNING_EXECUTION);
@@ -0,0 +1,111 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.dolphinscheduler.microbench.common;
+
+import org.apache.dolphinscheduler.common.utils.JSONUtils;
+import org.apache.dolphinscheduler.microbench.base.AbstractBaseBenchmark;
+import org.apache.dolphinscheduler.plugin.task.api.enums.DataType;
+import org.apache.dolphinscheduler.plugin.task.api.enums.Direct;
+import org.apache.dolphinscheduler.plugin.task.api.model.Property;
+import org.apache.dolphinscheduler.plugin.task.api.model.VarPool;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Merge the varPool of the finished tasks into the workflow varPool one by one, as the master does when the tasks
+ * finish. Compare parsing and serializing the JSON strings on each merge with the {@link VarPool}, which keeps the
+ * workflow varPool parsed and only parses the varPool of the finished task.
+ */
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 10, time = 1)
+@State(Scope.Benchmark)
+public class VarPoolBenchMark extends AbstractBaseBenchmark {
+
+    @Param({"100", "500"})
+    private int taskCount;
+
+    @Param({"5", "20"})
+    private int propertyCountPerTask;
+
+    private List<String> taskVarPools;
+
+    @Setup
+    public void before() {
+        taskVarPools = new ArrayList<>(taskCount);
+        for (int i = 0; i < taskCount; i++) {
+            List<Property> properties = new ArrayList<>(propertyCountPerTask);
+            for (int j = 0; j < propertyCountPerTask; j++) {
+                properties.add(new Property("task_" + i + "_param_" + j, Direct.OUT, DataType.VARCHAR, "value" + j));
+            }
+            taskVarPools.add(JSONUtils.toJsonString(properties));
+        }
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.AverageTime)
+    @OutputTimeUnit(TimeUnit.MILLISECONDS)
+    public String mergeJson() {
+        String processVarPoolJson = null;
+        for (String taskVarPoolJson : taskVarPools) {
+            if (processVarPoolJson == null) {
+                processVarPoolJson = taskVarPoolJson;
+                continue;
+            }
+            List<Property> processVarPool = new ArrayList<>(JSONUtils.toList(processVarPoolJson, Property.class));
+            List<Property> taskVarPool = JSONUtils.toList(taskVarPoolJson, Property.class);
+            Set<String> newProcessVarPoolKeys =
+                    taskVarPool.stream().map(Property::getProp).collect(Collectors.toSet());
+            processVarPool = processVarPool.stream()
+                    .filter(property -> !newProcessVarPoolKeys.contains(property.getProp()))
+                    .collect(Collectors.toList());
+            processVarPool.addAll(taskVarPool);
+            processVarPoolJson = JSONUtils.toJsonString(processVarPool);
+        }
+        return processVarPoolJson;
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.AverageTime)
+    @OutputTimeUnit(TimeUnit.MILLISECONDS)
+    public String mergeVarPool() {
+        VarPool processVarPool = VarPool.EMPTY;
+        String processVarPoolJson = null;
+        for (String taskVarPoolJson : taskVarPools) {
+            processVarPool = processVarPool.merge(VarPool.of(taskVarPoolJson));
+            // the workflow varPool is persisted after each merge
+            processVarPoolJson = processVarPool.toJson();
+        }
+        return processVarPoolJson;
+    }
+
+}
@@ -0,0 +1,110 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.dolphinscheduler.microbench.graph;
+
+import org.apache.dolphinscheduler.common.graph.DAG;
+import org.apache.dolphinscheduler.common.graph.FrozenDAG;
+import org.apache.dolphinscheduler.microbench.base.AbstractBaseBenchmark;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.HashSet;
+import java.util.Random;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Compare the {@link DAG} with the {@link FrozenDAG} on the read paths used by the master when the tasks finish: get
+ * the task node, and traverse the subsequent and previous nodes.
+ */
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 10, time = 1)
+@State(Scope.Benchmark)
+public class DAGBenchMark extends AbstractBaseBenchmark {
+
+    @Param({"dag", "frozen"})
+    private String dagType;
+
+    @Param({"200", "2000"})
+    private int nodeCount;
+
+    private DAG<Long, String, String> dag;
+
+    private long[] nodeCodes;
+
+    @Setup
+    public void before() {
+        Random random = new Random(0);
+        DAG<Long, String, String> mutableDag = new DAG<>();
+        nodeCodes = new long[nodeCount];
+        for (int i = 0; i < nodeCount; i++) {
+            nodeCodes[i] = 1_000_000_000L + random.nextInt(1_000_000) * 1000L + i;
+            mutableDag.addNode(nodeCodes[i], "task-" + i);
+        }
+        // Each node depends on at most 3 of the previous nodes, so the graph is acyclic
+        for (int i = 1; i < nodeCount; i++) {
+            for (int j = 0; j < 3; j++) {
+                mutableDag.addEdge(nodeCodes[random.nextInt(i)], nodeCodes[i]);
+            }
+        }
+        dag = "frozen".equals(dagType) ? FrozenDAG.copyOf(mutableDag) : mutableDag;
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.AverageTime)
+    @OutputTimeUnit(TimeUnit.MICROSECONDS)
+    public int getNodeAndNeighbors() {
+        int result = 0;
+        for (long nodeCode : nodeCodes) {
+            result += dag.getNode(nodeCode).length();
+            for (Long subsequentNode : dag.getSubsequentNodes(nodeCode)) {
+                result += dag.getIndegree(subsequentNode);
+            }
+            result += dag.getPreviousNodes(nodeCode).size();
+        }
+        return result;
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.AverageTime)
+    @OutputTimeUnit(TimeUnit.MICROSECONDS)
+    public int traverseFromBeginNodes() {
+        Deque<Long> queue = new ArrayDeque<>(dag.getBeginNode());
+        Set<Long> visited = new HashSet<>(queue);
+        while (!queue.isEmpty()) {
+            for (Long subsequentNode : dag.getSubsequentNodes(queue.poll())) {
+                if (visited.add(subsequentNode)) {
+                    queue.add(subsequentNode);
+                }
+            }
+        }
+        return visited.size();
+    }
+
+}
@@ -0,0 +1,103 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.dolphinscheduler.microbench.graph;
+
+import org.apache.dolphinscheduler.common.graph.DAG;
+import org.apache.dolphinscheduler.common.graph.DAGDependencyTracker;
+import org.apache.dolphinscheduler.microbench.base.AbstractBaseBenchmark;
+
+import java.util.HashSet;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * A wide fan-in workflow: N parallel tasks join into one task. Every time a parallel task finishes, the master checks
+ * whether all the previous nodes of the join task are complete, compare the {@link DAGDependencyTracker} with
+ * scanning the previous nodes.
+ */
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 10, time = 1)
+@State(Scope.Benchmark)
+public class DAGDependencyTrackerBenchMark extends AbstractBaseBenchmark {
+
+    private static final long JOIN_NODE = 0L;
+
+    @Param({"100", "1000", "10000"})
+    private int parallelism;
+
+    private DAG<Long, String, String> dag;
+
+    @Setup
+    public void before() {
+        dag = new DAG<>();
+        dag.addNode(JOIN_NODE, "join");
+        for (long i = 1; i <= parallelism; i++) {
+            dag.addNode(i, "task-" + i);
+            dag.addEdge(i, JOIN_NODE);
+        }
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.AverageTime)
+    @OutputTimeUnit(TimeUnit.MILLISECONDS)
+    public int scanPreviousNodes() {
+        Set<Long> completeNodes = new HashSet<>();
+        int readyTimes = 0;
+        for (long i = 1; i <= parallelism; i++) {
+            completeNodes.add(i);
+            boolean ready = true;
+            for (Long previousNode : dag.getPreviousNodes(JOIN_NODE)) {
+                if (!completeNodes.contains(previousNode)) {
+                    ready = false;
+                    break;
+                }
+            }
+            if (ready) {
+                readyTimes++;
+            }
+        }
+        return readyTimes;
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.AverageTime)
+    @OutputTimeUnit(TimeUnit.MILLISECONDS)
+    public int trackPreviousNodes() {
+        DAGDependencyTracker<Long> tracker = new DAGDependencyTracker<>(dag, node -> false);
+        int readyTimes = 0;
+        for (long i = 1; i <= parallelism; i++) {
+            tracker.markComplete(i);
+            if (tracker.isAllPreviousNodesSatisfied(JOIN_NODE)) {
+                readyTimes++;
+            }
+        }
+        return readyTimes;
+    }
+
+}
@@ -0,0 +1,194 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.dolphinscheduler.microbench.rpc;
+
+import org.apache.dolphinscheduler.extract.base.StandardRpcRequest;
+import org.apache.dolphinscheduler.extract.base.protocal.TransporterHeader;
+import org.apache.dolphinscheduler.extract.base.serialize.RpcSerializer;
+import org.apache.dolphinscheduler.extract.base.serialize.RpcSerializerManager;
+import org.apache.dolphinscheduler.microbench.base.AbstractBaseBenchmark;
+
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import lombok.Data;
+import lombok.extern.slf4j.Slf4j;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Compare the rpc serializers, the payload is similar to the task dispatch request which carries a whole
+ * TaskExecutionContext. The serialized payload size of each serializer is printed in the setup.
+ */
+@Slf4j
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 10, time = 1)
+@State(Scope.Benchmark)
+public class RpcSerializerBenchMark extends AbstractBaseBenchmark {
+
+    @Param({"json", "protostuff"})
+    private String serializer;
+
+    private RpcSerializer rpcSerializer;
+
+    private Object[] args;
+
+    private byte[] requestBytes;
+
+    private TransporterHeader header;
+
+    private byte[] headerBytes;
+
+    @Setup
+    public void before() {
+        rpcSerializer = RpcSerializerManager.getSerializer(serializer);
+        args = new Object[]{mockTaskExecutionContext()};
+        requestBytes = rpcSerializer.serialize(StandardRpcRequest.of(args, rpcSerializer));
+        header = TransporterHeader.of(1L,
+                "org.apache.dolphinscheduler.extract.worker.ITaskInstanceOperator"
+                        + ".dispatchTask(TaskInstanceDispatchRequest)");
+        headerBytes = header.toBytes(rpcSerializer.getProtocolVersion());
+        log.info("Serializer: {}, request payload size: {} bytes, header size: {} bytes",
+                serializer, requestBytes.length, headerBytes.length);
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.AverageTime)
+    @OutputTimeUnit(TimeUnit.NANOSECONDS)
+    public byte[] serializeRequest() {
+        return rpcSerializer.serialize(StandardRpcRequest.of(args, rpcSerializer));
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.AverageTime)
+    @OutputTimeUnit(TimeUnit.NANOSECONDS)
+    public Object deserializeRequest() {
+        StandardRpcRequest standardRpcRequest = rpcSerializer.deserialize(requestBytes, StandardRpcRequest.class);
+        return rpcSerializer.deserialize(standardRpcRequest.getArgs()[0], standardRpcRequest.getArgsTypes()[0]);
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.AverageTime)
+    @OutputTimeUnit(TimeUnit.NANOSECONDS)
+    public byte[] serializeHeader() {
+        return header.toBytes(rpcSerializer.getProtocolVersion());
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.AverageTime)
+    @OutputTimeUnit(TimeUnit.NANOSECONDS)
+    public TransporterHeader deserializeHeader() {
+        return TransporterHeader.fromBytes(rpcSerializer.getProtocolVersion(), headerBytes);
+    }
+
+    private MockTaskExecutionContext mockTaskExecutionContext() {
+        MockTaskExecutionContext taskExecutionContext = new MockTaskExecutionContext();
+        taskExecutionContext.setTaskInstanceId(100001);
+        taskExecutionContext.setTaskName("shell-task");
+        taskExecutionContext.setFirstSubmitTime(new Date());
+        taskExecutionContext.setStartTime(new Date());
+        taskExecutionContext.setTaskType("SHELL");
+        taskExecutionContext.setWorkflowInstanceHost("192.168.1.1:5678");
+        taskExecutionContext.setHost("192.168.1.2:1234");
+        taskExecutionContext.setExecutePath("/tmp/dolphinscheduler/exec/process/default/1/1/100001");
+        taskExecutionContext.setLogPath("/opt/dolphinscheduler/logs/20240101/1/1/100001.log");
+        taskExecutionContext.setAppInfoPath("/opt/dolphinscheduler/logs/20240101/1/1/100001.log.appInfo");
+        taskExecutionContext.setTaskJson("{}");
+        taskExecutionContext.setProcessId(0);
+        taskExecutionContext.setProcessDefineCode(123456789L);
+        taskExecutionContext.setProcessDefineVersion(1);
+        taskExecutionContext.setProcessInstanceId(10001);
+        taskExecutionContext.setScheduleTime(new Date());
+        taskExecutionContext.setGlobalParams(
+                "[{\"prop\":\"dt\",\"direct\":\"IN\",\"type\":\"VARCHAR\",\"value\":\"\"}]");
+        taskExecutionContext.setExecutorId(1);
+        taskExecutionContext.setCmdTypeIfComplement(0);
+        taskExecutionContext.setTenantCode("default");
+        taskExecutionContext.setProjectCode(987654321L);
+        taskExecutionContext.setTaskParams(
+                "{\"localParams\":[],\"rawScript\":\"echo hello world\",\"resourceList\":[]}");
+        taskExecutionContext.setEnvironmentConfig("export JAVA_HOME=/opt/java/openjdk");
+        taskExecutionContext.setWorkerGroup("default");
+        taskExecutionContext.setDelayTime(0);
+        taskExecutionContext.setCurrentExecutionStatus("SUBMITTED_SUCCESS");
+        taskExecutionContext.setVarPool("[]");
+        taskExecutionContext.setDryRun(0);
+        taskExecutionContext.setTestFlag(0);
+        Map<String, String> paramsMap = new HashMap<>();
+        for (int i = 0; i < 20; i++) {
+            paramsMap.put("param_" + i, "value_" + i);
+        }
+        taskExecutionContext.setParamsMap(paramsMap);
+        List<String> resources = new ArrayList<>();
+        for (int i = 0; i < 10; i++) {
+            resources.add("/dolphinscheduler/default/resources/script_" + i + ".sh");
+        }
+        taskExecutionContext.setResources(resources);
+        return taskExecutionContext;
+    }
+
+    @Data
+    public static class MockTaskExecutionContext {
+
+        private int taskInstanceId;
+        private String taskName;
+        private Date firstSubmitTime;
+        private Date startTime;
+        private String taskType;
+        private String workflowInstanceHost;
+        private String host;
+        private String executePath;
+        private String logPath;
+        private String appInfoPath;
+        private String taskJson;
+        private int processId;
+        private Long processDefineCode;
+        private int processDefineVersion;
+        private int processInstanceId;
+        private Date scheduleTime;
+        private String globalParams;
+        private int executorId;
+        private int cmdTypeIfComplement;
+        private String tenantCode;
+        private long projectCode;
+        private String taskParams;
+        private String environmentConfig;
+        private String workerGroup;
+        private int delayTime;
+        private String currentExecutionStatus;
+        private String varPool;
+        private int dryRun;
+        private int testFlag;
+        private Map<String, String> paramsMap;
+        private List<String> resources;
+    }
+
+}
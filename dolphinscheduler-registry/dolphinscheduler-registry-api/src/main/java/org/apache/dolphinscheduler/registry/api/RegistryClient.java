@@ -174,6 +174,10 @@ public class RegistryClient {
         registry.put(key, value, true);
     }
 
+    public void persist(String key, String value) {
+        registry.put(key, value, false);
+    }
+
     public void remove(String key) {
         registry.delete(key);
     }
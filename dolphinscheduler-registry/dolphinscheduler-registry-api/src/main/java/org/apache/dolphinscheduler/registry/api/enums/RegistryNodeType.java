@@ -29,6 +29,8 @@ public enum RegistryNodeType {
     MASTER_NODE_LOCK("MasterNodeLock", "/lock/master-node"),
     MASTER_FAILOVER_LOCK("MasterFailoverLock", "/lock/master-failover"),
     MASTER_TASK_GROUP_COORDINATOR_LOCK("TaskGroupCoordinatorLock", "/lock/master-task-group-coordinator"),
+    MASTER_STATE_COUNT_ROLLUP_LOCK("StateCountRollupLock", "/lock/master-state-count-rollup"),
+    MASTER_STATE_COUNT_ROLLUP_TIME("StateCountRollupTime", "/state-count-rollup/last-rollup-time"),
     WORKER("Worker", "/nodes/worker"),
     ALERT_SERVER("AlertServer", "/nodes/alert-server"),
     ALERT_LOCK("AlertNodeLock", "/lock/alert"),
@@ -17,24 +17,35 @@
 
 package org.apache.dolphinscheduler.plugin.registry.jdbc;
 
+import org.apache.dolphinscheduler.plugin.registry.jdbc.mapper.JdbcRegistryDataChangeEventMapper;
 import org.apache.dolphinscheduler.plugin.registry.jdbc.mapper.JdbcRegistryDataMapper;
 import org.apache.dolphinscheduler.plugin.registry.jdbc.mapper.JdbcRegistryLockMapper;
 import org.apache.dolphinscheduler.plugin.registry.jdbc.model.DataType;
 import org.apache.dolphinscheduler.plugin.registry.jdbc.model.JdbcRegistryData;
+import org.apache.dolphinscheduler.plugin.registry.jdbc.model.JdbcRegistryDataChangeEvent;
 import org.apache.dolphinscheduler.plugin.registry.jdbc.model.JdbcRegistryLock;
+import org.apache.dolphinscheduler.registry.api.Event;
 
 import org.apache.commons.collections4.CollectionUtils;
 import org.apache.commons.lang3.StringUtils;
+import org.apache.ibatis.session.SqlSessionFactory;
 
 import java.sql.SQLException;
 import java.sql.SQLIntegrityConstraintViolationException;
 import java.util.Collection;
+import java.util.Date;
 import java.util.List;
+import java.util.Objects;
 import java.util.stream.Collectors;
 
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
 import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.TransactionStatus;
+import org.springframework.transaction.support.TransactionTemplate;
 
 @Component
 @ConditionalOnProperty(prefix = "registry", name = "type", havingValue = "jdbc")
@@ -44,11 +55,23 @@ public class JdbcOperator {
     private JdbcRegistryDataMapper jdbcRegistryDataMapper;
     @Autowired
     private JdbcRegistryLockMapper jdbcRegistryLockMapper;
+    @Autowired
+    private JdbcRegistryDataChangeEventMapper jdbcRegistryDataChangeEventMapper;
     private final long expireTimeWindow;
+    private final boolean changeEventEnabled;
+    private final long changeEventRetentionMillis;
+    private final PlatformTransactionManager transactionManager;
+    private final TransactionTemplate transactionTemplate;
 
-    public JdbcOperator(JdbcRegistryProperties registryProperties) {
+    public JdbcOperator(JdbcRegistryProperties registryProperties, SqlSessionFactory sqlSessionFactory) {
         this.expireTimeWindow =
                 registryProperties.getTermExpireTimes() * registryProperties.getTermRefreshInterval().toMillis();
+        this.changeEventEnabled = registryProperties.isChangeEventEnabled();
+        this.changeEventRetentionMillis = registryProperties.getChangeEventRetention().toMillis();
+        // The mappers join the transaction by the spring managed transaction of the same datasource.
+        this.transactionManager =
+                new DataSourceTransactionManager(sqlSessionFactory.getConfiguration().getEnvironment().getDataSource());
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
     }
 
     public void healthCheck() {
@@ -60,49 +83,83 @@ public class JdbcOperator {
     }
 
     public Long insertOrUpdateEphemeralData(String key, String value) throws SQLException {
-        JdbcRegistryData jdbcRegistryData = jdbcRegistryDataMapper.selectByKey(key);
-        if (jdbcRegistryData != null) {
-            long id = jdbcRegistryData.getId();
-            if (jdbcRegistryDataMapper.updateDataAndTermById(id, value, System.currentTimeMillis()) <= 0) {
-                throw new SQLException(String.format("update registry value failed, key: %s, value: %s", key, value));
-            }
-            return id;
-        }
-        jdbcRegistryData = JdbcRegistryData.builder()
-                .dataKey(key)
-                .dataValue(value)
-                .dataType(DataType.EPHEMERAL.getTypeValue())
-                .lastTerm(System.currentTimeMillis())
-                .build();
-        jdbcRegistryDataMapper.insert(jdbcRegistryData);
-        return jdbcRegistryData.getId();
+        return executeInTransaction(() -> insertOrUpdateData(key, value, DataType.EPHEMERAL));
     }
 
     public long insertOrUpdatePersistentData(String key, String value) throws SQLException {
+        return executeInTransaction(() -> insertOrUpdateData(key, value, DataType.PERSISTENT));
+    }
+
+    private long insertOrUpdateData(String key, String value, DataType dataType) throws SQLException {
         JdbcRegistryData jdbcRegistryData = jdbcRegistryDataMapper.selectByKey(key);
         if (jdbcRegistryData != null) {
             long id = jdbcRegistryData.getId();
             if (jdbcRegistryDataMapper.updateDataAndTermById(id, value, System.currentTimeMillis()) <= 0) {
                 throw new SQLException(String.format("update registry value failed, key: %s, value: %s", key, value));
             }
+            if (!Objects.equals(jdbcRegistryData.getDataValue(), value)) {
+                insertChangeEvent(Event.Type.UPDATE, key, value);
+            }
             return id;
         }
         jdbcRegistryData = JdbcRegistryData.builder()
                 .dataKey(key)
                 .dataValue(value)
-                .dataType(DataType.PERSISTENT.getTypeValue())
+                .dataType(dataType.getTypeValue())
                 .lastTerm(System.currentTimeMillis())
                 .build();
         jdbcRegistryDataMapper.insert(jdbcRegistryData);
+        insertChangeEvent(Event.Type.ADD, key, value);
         return jdbcRegistryData.getId();
     }
 
     public void deleteDataByKey(String key) {
-        jdbcRegistryDataMapper.deleteByKey(key);
+        if (!changeEventEnabled) {
+            jdbcRegistryDataMapper.deleteByKey(key);
+            return;
+        }
+        deleteData(jdbcRegistryDataMapper.selectByKey(key));
     }
 
     public void deleteDataById(long id) {
-        jdbcRegistryDataMapper.deleteById(id);
+        if (!changeEventEnabled) {
+            jdbcRegistryDataMapper.deleteById(id);
+            return;
+        }
+        deleteData(jdbcRegistryDataMapper.selectById(id));
+    }
+
+    private void deleteData(JdbcRegistryData jdbcRegistryData) {
+        if (jdbcRegistryData == null) {
+            return;
+        }
+        // Only the node which actually deletes the data records the change event, since the expired data may be
+        // deleted by several nodes at the same time.
+        transactionTemplate.executeWithoutResult(status -> {
+            if (jdbcRegistryDataMapper.deleteById(jdbcRegistryData.getId()) > 0) {
+                insertChangeEvent(Event.Type.REMOVE, jdbcRegistryData.getDataKey(), jdbcRegistryData.getDataValue());
+            }
+        });
+    }
+
+    /**
+     * Execute the registry data write and its change event in one transaction, so the subscribers never see a change
+     * event without the data change or miss the change event of a data change.
+     */
+    private <T> T executeInTransaction(SqlCallable<T> callable) throws SQLException {
+        if (!changeEventEnabled) {
+            return callable.call();
+        }
+        TransactionStatus transactionStatus = transactionManager.getTransaction(TransactionDefinition.withDefaults());
+        T result;
+        try {
+            result = callable.call();
+        } catch (Throwable ex) {
+            transactionManager.rollback(transactionStatus);
+            throw ex;
+        }
+        transactionManager.commit(transactionStatus);
+        return result;
     }
 
     public void clearExpireLock() {
@@ -110,8 +167,42 @@ public class JdbcOperator {
     }
 
     public void clearExpireEphemeralDate() {
-        jdbcRegistryDataMapper.clearExpireEphemeralDate(System.currentTimeMillis() - expireTimeWindow,
-                DataType.EPHEMERAL.getTypeValue());
+        if (!changeEventEnabled) {
+            jdbcRegistryDataMapper.clearExpireEphemeralDate(System.currentTimeMillis() - expireTimeWindow,
+                    DataType.EPHEMERAL.getTypeValue());
+            return;
+        }
+        jdbcRegistryDataMapper.selectExpireEphemeralDate(System.currentTimeMillis() - expireTimeWindow,
+                DataType.EPHEMERAL.getTypeValue()).forEach(this::deleteData);
+    }
+
+    public long getMaxChangeEventId() {
+        return jdbcRegistryDataChangeEventMapper.selectMaxId();
+    }
+
+    /**
+     * Query the change events whose id is greater than the given id, order by id asc.
+     */
+    public List<JdbcRegistryDataChangeEvent> queryChangeEvents(long afterId, int limit) {
+        return jdbcRegistryDataChangeEventMapper.selectByIdAfter(afterId, limit);
+    }
+
+    public void clearExpireChangeEvent() {
+        jdbcRegistryDataChangeEventMapper
+                .deleteByCreateTimeBefore(new Date(System.currentTimeMillis() - changeEventRetentionMillis));
+    }
+
+    private void insertChangeEvent(Event.Type eventType, String key, String value) {
+        if (!changeEventEnabled) {
+            return;
+        }
+        JdbcRegistryDataChangeEvent changeEvent = JdbcRegistryDataChangeEvent.builder()
+                .eventType(eventType.name())
+                .dataKey(key)
+                .dataValue(value)
+                .createTime(new Date())
+                .build();
+        jdbcRegistryDataChangeEventMapper.insert(changeEvent);
     }
 
     public JdbcRegistryData getData(String key) throws SQLException {
@@ -175,4 +266,10 @@ public class JdbcOperator {
         return jdbcRegistryLockMapper.updateTermByIds(lockIds, System.currentTimeMillis()) > 0;
     }
 
+    @FunctionalInterface
+    private interface SqlCallable<T> {
+
+        T call() throws SQLException;
+    }
+
 }
@@ -135,6 +135,7 @@ public class JdbcRegistry implements Registry {
             } else {
                 jdbcOperator.insertOrUpdatePersistentData(key, value);
             }
+            subscribeDataManager.notifyLocalChange();
         } catch (Exception ex) {
             throw new RegistryException(String.format("put key:%s, value:%s error", key, value), ex);
         }
@@ -144,6 +145,7 @@ public class JdbcRegistry implements Registry {
     public void delete(String key) {
         try {
             jdbcOperator.deleteDataByKey(key);
+            subscribeDataManager.notifyLocalChange();
         } catch (Exception e) {
             throw new RegistryException(String.format("Delete key: %s error", key), e);
         }
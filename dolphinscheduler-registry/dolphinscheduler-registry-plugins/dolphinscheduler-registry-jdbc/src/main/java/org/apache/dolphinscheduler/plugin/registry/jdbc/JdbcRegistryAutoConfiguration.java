@@ -17,6 +17,7 @@
 
 package org.apache.dolphinscheduler.plugin.registry.jdbc;
 
+import org.apache.dolphinscheduler.plugin.registry.jdbc.mapper.JdbcRegistryDataChangeEventMapper;
 import org.apache.dolphinscheduler.plugin.registry.jdbc.mapper.JdbcRegistryDataMapper;
 import org.apache.dolphinscheduler.plugin.registry.jdbc.mapper.JdbcRegistryLockMapper;
 
@@ -71,6 +72,12 @@ public class JdbcRegistryAutoConfiguration {
         return jdbcRegistrySqlSessionTemplate.getMapper(JdbcRegistryDataMapper.class);
     }
 
+    @Bean
+    public JdbcRegistryDataChangeEventMapper jdbcRegistryDataChangeEventMapper(SqlSessionTemplate sqlSessionTemplate) {
+        sqlSessionTemplate.getConfiguration().addMapper(JdbcRegistryDataChangeEventMapper.class);
+        return sqlSessionTemplate.getMapper(JdbcRegistryDataChangeEventMapper.class);
+    }
+
     @Bean
     public JdbcRegistryLockMapper jdbcRegistryLockMapper(SqlSessionTemplate jdbcRegistrySqlSessionTemplate) {
         jdbcRegistrySqlSessionTemplate.getConfiguration().addMapper(JdbcRegistryLockMapper.class);
@@ -42,6 +42,23 @@ public class JdbcRegistryProperties {
      * e.g. if you set 2, and latest two refresh error, then the ephemeral data/lock will be expire.
      */
     private int termExpireTimes = 3;
+    /**
+     * Used to subscribe the registry data by the change events rather than querying the full table every term, the
+     * changes are recorded in t_ds_jdbc_registry_data_change_event, all the nodes should use the same value.
+     */
+    private boolean changeEventEnabled = false;
+    /**
+     * Used to poll the change events, the poll is waked up at once when the registry data is changed by this node.
+     */
+    private Duration changeEventPollInterval = Duration.ofMillis(500);
+    /**
+     * Used to clear the expired change events, the node which falls behind it will resync the full data.
+     */
+    private Duration changeEventRetention = Duration.ofMinutes(10);
+    /**
+     * Used to resync the full data periodically when the change event is enabled, to correct the missed change events.
+     */
+    private Duration fullSyncInterval = Duration.ofMinutes(1);
     private HikariConfig hikariConfig;
 
 }
@@ -46,6 +46,9 @@ public interface JdbcRegistryDataMapper extends BaseMapper<JdbcRegistryData> {
     @Delete("delete from t_ds_jdbc_registry_data where data_key = #{key}")
     void deleteByKey(@Param("key") String key);
 
+    @Select("select * from t_ds_jdbc_registry_data where last_term < #{term} and data_type = #{type}")
+    List<JdbcRegistryData> selectExpireEphemeralDate(@Param("term") long term, @Param("type") int type);
+
     @Delete("delete from t_ds_jdbc_registry_data where last_term < #{term} and data_type = #{type}")
     void clearExpireEphemeralDate(@Param("term") long term, @Param("type") int type);
 
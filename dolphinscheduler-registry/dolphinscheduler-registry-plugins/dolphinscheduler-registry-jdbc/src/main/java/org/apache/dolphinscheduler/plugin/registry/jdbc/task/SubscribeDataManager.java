@@ -20,15 +20,18 @@ package org.apache.dolphinscheduler.plugin.registry.jdbc.task;
 import org.apache.dolphinscheduler.plugin.registry.jdbc.JdbcOperator;
 import org.apache.dolphinscheduler.plugin.registry.jdbc.JdbcRegistryProperties;
 import org.apache.dolphinscheduler.plugin.registry.jdbc.model.JdbcRegistryData;
+import org.apache.dolphinscheduler.plugin.registry.jdbc.model.JdbcRegistryDataChangeEvent;
 import org.apache.dolphinscheduler.registry.api.Event;
 import org.apache.dolphinscheduler.registry.api.SubscribeListener;
 
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.Executors;
 import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.Semaphore;
 import java.util.concurrent.TimeUnit;
 import java.util.function.Function;
 import java.util.stream.Collectors;
@@ -40,15 +43,24 @@ import com.google.common.util.concurrent.ThreadFactoryBuilder;
 
 /**
  * Used to refresh if the subscribe path has been changed.
+ * <p>
+ * By default, the full table is queried and diffed every term. When the change event is enabled, only the change
+ * events since the last revision are fetched, and the full table is only resynced periodically.
  */
 @Slf4j
 public class SubscribeDataManager implements AutoCloseable {
 
+    private static final int CHANGE_EVENT_FETCH_SIZE = 1000;
+
     private final JdbcOperator jdbcOperator;
     private final JdbcRegistryProperties registryProperties;
     private final Map<String, List<SubscribeListener>> dataSubScribeMap = new ConcurrentHashMap<>();
     private final ScheduledExecutorService dataSubscribeCheckThreadPool;
     private final Map<String, JdbcRegistryData> jdbcRegistryDataMap = new ConcurrentHashMap<>();
+    /**
+     * Released when the registry data is changed by this node, to wake up the change event poll.
+     */
+    private final Semaphore localChangeSignal = new Semaphore(0);
 
     public SubscribeDataManager(JdbcRegistryProperties registryProperties, JdbcOperator jdbcOperator) {
         this.registryProperties = registryProperties;
@@ -60,6 +72,10 @@ public class SubscribeDataManager implements AutoCloseable {
     }
 
     public void start() {
+        if (registryProperties.isChangeEventEnabled()) {
+            dataSubscribeCheckThreadPool.execute(createChangeEventSubscribeTask());
+            return;
+        }
         dataSubscribeCheckThreadPool.scheduleWithFixedDelay(
                 new RegistrySubscribeDataCheckTask(dataSubScribeMap, jdbcOperator, jdbcRegistryDataMap),
                 registryProperties.getTermRefreshInterval().toMillis(),
@@ -67,6 +83,16 @@ public class SubscribeDataManager implements AutoCloseable {
                 TimeUnit.MILLISECONDS);
     }
 
+    /**
+     * Notify the registry data is changed by this node, so the change events can be fetched without waiting for the
+     * next poll.
+     */
+    public void notifyLocalChange() {
+        if (registryProperties.isChangeEventEnabled()) {
+            localChangeSignal.release();
+        }
+    }
+
     public void addListener(String path, SubscribeListener subscribeListener) {
         dataSubScribeMap.computeIfAbsent(path, k -> new ArrayList<>()).add(subscribeListener);
     }
@@ -83,6 +109,11 @@ public class SubscribeDataManager implements AutoCloseable {
         return jdbcRegistryData.getDataValue();
     }
 
+    RegistryChangeEventSubscribeTask createChangeEventSubscribeTask() {
+        return new RegistryChangeEventSubscribeTask(
+                new RegistrySubscribeDataCheckTask(dataSubScribeMap, jdbcOperator, jdbcRegistryDataMap));
+    }
+
     @Override
     public void close() {
         dataSubscribeCheckThreadPool.shutdownNow();
@@ -98,43 +129,50 @@ public class SubscribeDataManager implements AutoCloseable {
 
         @Override
         public void run() {
-            // query the full data from database, and update the jdbcRegistryDataMap
             try {
-                Map<String, JdbcRegistryData> currentJdbcDataMap = jdbcOperator.queryAllJdbcRegistryData()
-                        .stream()
-                        .collect(Collectors.toMap(JdbcRegistryData::getDataKey, Function.identity()));
-                // find the different
-                List<JdbcRegistryData> addedData = new ArrayList<>();
-                List<JdbcRegistryData> deletedData = new ArrayList<>();
-                List<JdbcRegistryData> updatedData = new ArrayList<>();
-                for (Map.Entry<String, JdbcRegistryData> entry : currentJdbcDataMap.entrySet()) {
-                    JdbcRegistryData newData = entry.getValue();
-                    JdbcRegistryData oldData = jdbcRegistryDataMap.get(entry.getKey());
-                    if (oldData == null) {
-                        addedData.add(newData);
-                    } else {
-                        if (!entry.getValue().getLastUpdateTime().equals(oldData.getLastUpdateTime())) {
-                            updatedData.add(newData);
-                        }
-                    }
-                }
-                for (Map.Entry<String, JdbcRegistryData> entry : jdbcRegistryDataMap.entrySet()) {
-                    if (!currentJdbcDataMap.containsKey(entry.getKey())) {
-                        deletedData.add(entry.getValue());
+                checkFullData();
+            } catch (Exception e) {
+                log.error("Query data from jdbc registry error", e);
+            }
+        }
+
+        /**
+         * Query the full data from database, update the jdbcRegistryDataMap and trigger the listeners of the changed
+         * data.
+         */
+        void checkFullData() {
+            Map<String, JdbcRegistryData> currentJdbcDataMap = jdbcOperator.queryAllJdbcRegistryData()
+                    .stream()
+                    .collect(Collectors.toMap(JdbcRegistryData::getDataKey, Function.identity()));
+            // find the different
+            List<JdbcRegistryData> addedData = new ArrayList<>();
+            List<JdbcRegistryData> deletedData = new ArrayList<>();
+            List<JdbcRegistryData> updatedData = new ArrayList<>();
+            for (Map.Entry<String, JdbcRegistryData> entry : currentJdbcDataMap.entrySet()) {
+                JdbcRegistryData newData = entry.getValue();
+                JdbcRegistryData oldData = jdbcRegistryDataMap.get(entry.getKey());
+                if (oldData == null) {
+                    addedData.add(newData);
+                } else {
+                    if (!Objects.equals(newData.getDataValue(), oldData.getDataValue())) {
+                        updatedData.add(newData);
                     }
                 }
-                jdbcRegistryDataMap.clear();
-                jdbcRegistryDataMap.putAll(currentJdbcDataMap);
-                // trigger listener
-                for (Map.Entry<String, List<SubscribeListener>> entry : dataSubScribeMap.entrySet()) {
-                    String subscribeKey = entry.getKey();
-                    List<SubscribeListener> subscribeListeners = entry.getValue();
-                    triggerListener(addedData, subscribeKey, subscribeListeners, Event.Type.ADD);
-                    triggerListener(deletedData, subscribeKey, subscribeListeners, Event.Type.REMOVE);
-                    triggerListener(updatedData, subscribeKey, subscribeListeners, Event.Type.UPDATE);
+            }
+            for (Map.Entry<String, JdbcRegistryData> entry : jdbcRegistryDataMap.entrySet()) {
+                if (!currentJdbcDataMap.containsKey(entry.getKey())) {
+                    deletedData.add(entry.getValue());
                 }
-            } catch (Exception e) {
-                log.error("Query data from jdbc registry error");
+            }
+            jdbcRegistryDataMap.clear();
+            jdbcRegistryDataMap.putAll(currentJdbcDataMap);
+            // trigger listener
+            for (Map.Entry<String, List<SubscribeListener>> entry : dataSubScribeMap.entrySet()) {
+                String subscribeKey = entry.getKey();
+                List<SubscribeListener> subscribeListeners = entry.getValue();
+                triggerListener(addedData, subscribeKey, subscribeListeners, Event.Type.ADD);
+                triggerListener(deletedData, subscribeKey, subscribeListeners, Event.Type.REMOVE);
+                triggerListener(updatedData, subscribeKey, subscribeListeners, Event.Type.UPDATE);
             }
         }
 
@@ -151,4 +189,139 @@ public class SubscribeDataManager implements AutoCloseable {
         }
 
     }
+
+    /**
+     * Subscribe the registry data by the change events, only the change events after the current revision are fetched.
+     * The full data is resynced at start, after errors and every fullSyncInterval, to correct the missed change events.
+     */
+    class RegistryChangeEventSubscribeTask implements Runnable {
+
+        private final RegistrySubscribeDataCheckTask registrySubscribeDataCheckTask;
+
+        /**
+         * The id of the last applied change event, -1 means the full data should be resynced.
+         */
+        private long revision = -1;
+
+        private long lastFullSyncTime;
+
+        /**
+         * The time when a gap of the change event id is found, 0 means there is no gap.
+         */
+        private long gapFoundTime;
+
+        RegistryChangeEventSubscribeTask(RegistrySubscribeDataCheckTask registrySubscribeDataCheckTask) {
+            this.registrySubscribeDataCheckTask = registrySubscribeDataCheckTask;
+        }
+
+        @Override
+        public void run() {
+            long pollInterval = registryProperties.getChangeEventPollInterval().toMillis();
+            while (!Thread.currentThread().isInterrupted()) {
+                if (poll()) {
+                    continue;
+                }
+                try {
+                    // Wait for the next poll, or the registry data is changed by this node.
+                    localChangeSignal.tryAcquire(pollInterval, TimeUnit.MILLISECONDS);
+                    localChangeSignal.drainPermits();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            }
+        }
+
+        /**
+         * Resync the full data or apply the change events since the current revision.
+         *
+         * @return true if there may be more change events to fetch.
+         */
+        boolean poll() {
+            try {
+                if (revision < 0 || System.currentTimeMillis() - lastFullSyncTime >= registryProperties
+                        .getFullSyncInterval().toMillis()) {
+                    fullSync();
+                    return false;
+                }
+                return applyChangeEvents();
+            } catch (Exception e) {
+                log.error("Query change events from jdbc registry error, will resync the full data", e);
+                revision = -1;
+                return false;
+            }
+        }
+
+        long getRevision() {
+            return revision;
+        }
+
+        private void fullSync() {
+            // Get the revision before querying the full data, the change events after it may be applied again, which
+            // is idempotent.
+            long maxChangeEventId = jdbcOperator.getMaxChangeEventId();
+            registrySubscribeDataCheckTask.checkFullData();
+            jdbcOperator.clearExpireChangeEvent();
+            revision = maxChangeEventId;
+            lastFullSyncTime = System.currentTimeMillis();
+            gapFoundTime = 0;
+        }
+
+        /**
+         * @return true if there may be more change events to fetch.
+         */
+        private boolean applyChangeEvents() {
+            List<JdbcRegistryDataChangeEvent> changeEvents =
+                    jdbcOperator.queryChangeEvents(revision, CHANGE_EVENT_FETCH_SIZE);
+            for (JdbcRegistryDataChangeEvent changeEvent : changeEvents) {
+                if (changeEvent.getId() > revision + 1 && !skipGap()) {
+                    // The change event with a smaller id may not be committed yet, wait for it in the next poll.
+                    return false;
+                }
+                gapFoundTime = 0;
+                applyChangeEvent(changeEvent);
+                revision = changeEvent.getId();
+            }
+            return changeEvents.size() >= CHANGE_EVENT_FETCH_SIZE;
+        }
+
+        /**
+         * The id gap is caused by the uncommitted or rollback insertion, the gap is skipped if it still exists after a
+         * term, the change missed in this case will be corrected by the next full sync.
+         */
+        private boolean skipGap() {
+            long now = System.currentTimeMillis();
+            if (gapFoundTime == 0) {
+                gapFoundTime = now;
+            }
+            return now - gapFoundTime >= registryProperties.getTermRefreshInterval().toMillis();
+        }
+
+        private void applyChangeEvent(JdbcRegistryDataChangeEvent changeEvent) {
+            String dataKey = changeEvent.getDataKey();
+            Event.Type eventType = Event.Type.valueOf(changeEvent.getEventType());
+            if (eventType == Event.Type.REMOVE) {
+                if (jdbcRegistryDataMap.remove(dataKey) == null) {
+                    return;
+                }
+            } else {
+                JdbcRegistryData newData = JdbcRegistryData.builder()
+                        .dataKey(dataKey)
+                        .dataValue(changeEvent.getDataValue())
+                        .lastUpdateTime(changeEvent.getCreateTime())
+                        .build();
+                JdbcRegistryData oldData = jdbcRegistryDataMap.put(dataKey, newData);
+                if (oldData != null && Objects.equals(oldData.getDataValue(), newData.getDataValue())) {
+                    return;
+                }
+                eventType = oldData == null ? Event.Type.ADD : Event.Type.UPDATE;
+            }
+            for (Map.Entry<String, List<SubscribeListener>> entry : dataSubScribeMap.entrySet()) {
+                if (dataKey.startsWith(entry.getKey())) {
+                    Event event = new Event(dataKey, dataKey, changeEvent.getDataValue(), eventType);
+                    entry.getValue().forEach(subscribeListener -> subscribeListener.notify(event));
+                }
+            }
+        }
+
+    }
 }
@@ -45,3 +45,17 @@ CREATE TABLE `t_ds_jdbc_registry_lock`
     unique (`lock_key`)
 ) ENGINE = InnoDB
   DEFAULT CHARSET = utf8;
+
+
+DROP TABLE IF EXISTS `t_ds_jdbc_registry_data_change_event`;
+CREATE TABLE `t_ds_jdbc_registry_data_change_event`
+(
+    `id`          bigint(11)   NOT NULL AUTO_INCREMENT COMMENT 'primary key, the revision of the registry data',
+    `event_type`  varchar(64)  NOT NULL COMMENT 'ADD, UPDATE, REMOVE',
+    `data_key`    varchar(256) NOT NULL COMMENT 'key, like zookeeper node path',
+    `data_value`  text COMMENT 'data, like zookeeper node value',
+    `create_time` timestamp    NOT NULL DEFAULT CURRENT_TIMESTAMP COMMENT 'create time',
+    PRIMARY KEY (`id`),
+    KEY `idx_create_time` (`create_time`)
+) ENGINE = InnoDB
+  DEFAULT CHARSET = utf8;
@@ -0,0 +1,192 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.dolphinscheduler.plugin.registry.jdbc.task;
+
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import org.apache.dolphinscheduler.plugin.registry.jdbc.JdbcOperator;
+import org.apache.dolphinscheduler.plugin.registry.jdbc.JdbcRegistryProperties;
+import org.apache.dolphinscheduler.plugin.registry.jdbc.model.JdbcRegistryData;
+import org.apache.dolphinscheduler.plugin.registry.jdbc.model.JdbcRegistryDataChangeEvent;
+import org.apache.dolphinscheduler.registry.api.Event;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Date;
+import java.util.List;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+class SubscribeDataManagerTest {
+
+    @Mock
+    private JdbcOperator jdbcOperator;
+
+    private final JdbcRegistryProperties registryProperties = new JdbcRegistryProperties();
+
+    private final List<Event> events = new ArrayList<>();
+
+    private SubscribeDataManager subscribeDataManager;
+
+    @BeforeEach
+    void setUp() {
+        registryProperties.setChangeEventEnabled(true);
+        subscribeDataManager = new SubscribeDataManager(registryProperties, jdbcOperator);
+        subscribeDataManager.addListener("/nodes", events::add);
+    }
+
+    @Test
+    void testFullSyncAtStart() {
+        when(jdbcOperator.getMaxChangeEventId()).thenReturn(5L);
+        when(jdbcOperator.queryAllJdbcRegistryData())
+                .thenReturn(Collections.singletonList(createData("/nodes/a", "1")));
+        SubscribeDataManager.RegistryChangeEventSubscribeTask subscribeTask =
+                subscribeDataManager.createChangeEventSubscribeTask();
+
+        Assertions.assertFalse(subscribeTask.poll());
+
+        Assertions.assertEquals(5L, subscribeTask.getRevision());
+        Assertions.assertEquals("1", subscribeDataManager.getData("/nodes/a"));
+        assertEvents(new Event("/nodes/a", "/nodes/a", "1", Event.Type.ADD));
+        verify(jdbcOperator).clearExpireChangeEvent();
+    }
+
+    @Test
+    void testApplyChangeEvents() {
+        SubscribeDataManager.RegistryChangeEventSubscribeTask subscribeTask = fullSync();
+        when(jdbcOperator.queryChangeEvents(5L, 1000)).thenReturn(Arrays.asList(
+                createChangeEvent(6L, Event.Type.UPDATE, "/nodes/a", "2"),
+                createChangeEvent(7L, Event.Type.ADD, "/nodes/b", "1"),
+                createChangeEvent(8L, Event.Type.REMOVE, "/nodes/a", "2"),
+                // The value is not changed, so it is not notified.
+                createChangeEvent(9L, Event.Type.UPDATE, "/nodes/b", "1"),
+                // The data is already removed, so it is not notified.
+                createChangeEvent(10L, Event.Type.REMOVE, "/nodes/c", "1"),
+                // The data is not subscribed.
+                createChangeEvent(11L, Event.Type.ADD, "/lock/a", "1")));
+
+        Assertions.assertFalse(subscribeTask.poll());
+
+        Assertions.assertEquals(11L, subscribeTask.getRevision());
+        Assertions.assertNull(subscribeDataManager.getData("/nodes/a"));
+        Assertions.assertEquals("1", subscribeDataManager.getData("/nodes/b"));
+        Assertions.assertEquals("1", subscribeDataManager.getData("/lock/a"));
+        assertEvents(
+                new Event("/nodes/a", "/nodes/a", "2", Event.Type.UPDATE),
+                new Event("/nodes/b", "/nodes/b", "1", Event.Type.ADD),
+                new Event("/nodes/a", "/nodes/a", "2", Event.Type.REMOVE));
+    }
+
+    @Test
+    void testWaitForGapWithinTerm() {
+        registryProperties.setTermRefreshInterval(Duration.ofMinutes(1));
+        SubscribeDataManager.RegistryChangeEventSubscribeTask subscribeTask = fullSync();
+        when(jdbcOperator.queryChangeEvents(5L, 1000))
+                .thenReturn(Collections.singletonList(createChangeEvent(7L, Event.Type.ADD, "/nodes/b", "1")));
+
+        Assertions.assertFalse(subscribeTask.poll());
+
+        // The change event 6 may not be committed yet, so the change event 7 is not applied.
+        Assertions.assertEquals(5L, subscribeTask.getRevision());
+        Assertions.assertNull(subscribeDataManager.getData("/nodes/b"));
+        Assertions.assertTrue(events.isEmpty());
+    }
+
+    @Test
+    void testSkipGapAfterTerm() {
+        registryProperties.setTermRefreshInterval(Duration.ZERO);
+        SubscribeDataManager.RegistryChangeEventSubscribeTask subscribeTask = fullSync();
+        when(jdbcOperator.queryChangeEvents(5L, 1000))
+                .thenReturn(Collections.singletonList(createChangeEvent(7L, Event.Type.ADD, "/nodes/b", "1")));
+
+        Assertions.assertFalse(subscribeTask.poll());
+
+        Assertions.assertEquals(7L, subscribeTask.getRevision());
+        Assertions.assertEquals("1", subscribeDataManager.getData("/nodes/b"));
+        assertEvents(new Event("/nodes/b", "/nodes/b", "1", Event.Type.ADD));
+    }
+
+    @Test
+    void testFullSyncAfterError() {
+        SubscribeDataManager.RegistryChangeEventSubscribeTask subscribeTask = fullSync();
+        when(jdbcOperator.queryChangeEvents(anyLong(), anyInt())).thenThrow(new RuntimeException("Mock error"));
+
+        Assertions.assertFalse(subscribeTask.poll());
+        Assertions.assertEquals(-1L, subscribeTask.getRevision());
+
+        when(jdbcOperator.getMaxChangeEventId()).thenReturn(8L);
+        when(jdbcOperator.queryAllJdbcRegistryData())
+                .thenReturn(Collections.singletonList(createData("/nodes/a", "2")));
+        Assertions.assertFalse(subscribeTask.poll());
+
+        Assertions.assertEquals(8L, subscribeTask.getRevision());
+        Assertions.assertEquals("2", subscribeDataManager.getData("/nodes/a"));
+        assertEvents(new Event("/nodes/a", "/nodes/a", "2", Event.Type.UPDATE));
+        verify(jdbcOperator, times(2)).queryAllJdbcRegistryData();
+    }
+
+    /**
+     * Resync the full data with the data /nodes/a=1 at the revision 5, and clear the events of it.
+     */
+    private SubscribeDataManager.RegistryChangeEventSubscribeTask fullSync() {
+        when(jdbcOperator.getMaxChangeEventId()).thenReturn(5L);
+        when(jdbcOperator.queryAllJdbcRegistryData())
+                .thenReturn(Collections.singletonList(createData("/nodes/a", "1")));
+        SubscribeDataManager.RegistryChangeEventSubscribeTask subscribeTask =
+                subscribeDataManager.createChangeEventSubscribeTask();
+        subscribeTask.poll();
+        events.clear();
+        return subscribeTask;
+    }
+
+    private void assertEvents(Event... expectedEvents) {
+        Assertions.assertEquals(expectedEvents.length, events.size());
+        for (int i = 0; i < expectedEvents.length; i++) {
+            Assertions.assertEquals(expectedEvents[i].toString(), events.get(i).toString());
+        }
+    }
+
+    private JdbcRegistryData createData(String key, String value) {
+        return JdbcRegistryData.builder()
+                .dataKey(key)
+                .dataValue(value)
+                .build();
+    }
+
+    private JdbcRegistryDataChangeEvent createChangeEvent(long id, Event.Type eventType, String key, String value) {
+        return JdbcRegistryDataChangeEvent.builder()
+                .id(id)
+                .eventType(eventType.name())
+                .dataKey(key)
+                .dataValue(value)
+                .createTime(new Date())
+                .build();
+    }
+}
@@ -22,6 +22,8 @@ import org.apache.dolphinscheduler.dao.entity.ProcessInstance;
 import org.apache.dolphinscheduler.dao.entity.ProcessInstanceMap;
 import org.apache.dolphinscheduler.dao.entity.TaskInstance;
 
+import java.util.List;
+
 /**
  * Command Service
  */
@@ -42,6 +44,13 @@ public interface CommandService {
      */
     int createCommand(Command command);
 
+    /**
+     * Create new commands in one batch insert, the masters will be notified once after all the commands are created.
+     * @param commands commands
+     * @return the count of the created commands
+     */
+    int createCommands(List<Command> commands);
+
     /**
      * check the input command exists in queue list
      *
@@ -37,6 +37,7 @@ import org.apache.dolphinscheduler.dao.mapper.CommandMapper;
 import org.apache.dolphinscheduler.dao.mapper.ErrorCommandMapper;
 import org.apache.dolphinscheduler.dao.mapper.ProcessDefinitionMapper;
 import org.apache.dolphinscheduler.dao.mapper.ScheduleMapper;
+import org.apache.dolphinscheduler.dao.repository.CommandDao;
 import org.apache.dolphinscheduler.plugin.task.api.enums.Direct;
 import org.apache.dolphinscheduler.plugin.task.api.model.Property;
 import org.apache.dolphinscheduler.service.utils.ParamUtils;
@@ -49,6 +50,8 @@ import java.util.EnumMap;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 import lombok.extern.slf4j.Slf4j;
 
@@ -58,6 +61,8 @@ import org.springframework.stereotype.Component;
 
 import com.fasterxml.jackson.databind.node.ObjectNode;
 import io.micrometer.core.annotation.Counted;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Metrics;
 
 /**
  * Command Service implementation
@@ -72,6 +77,9 @@ public class CommandServiceImpl implements CommandService {
     @Autowired
     private CommandMapper commandMapper;
 
+    @Autowired
+    private CommandDao commandDao;
+
     @Autowired
     private ScheduleMapper scheduleMapper;
 
@@ -102,10 +110,44 @@ public class CommandServiceImpl implements CommandService {
             command.setCommandParam(JSONUtils.toJsonString(commandParams));
         }
         command.setId(null);
-        result = commandMapper.insert(command);
+        result = commandDao.insert(command);
         return result;
     }
 
+    @Override
+    public int createCommands(List<Command> commands) {
+        if (CollectionUtils.isEmpty(commands)) {
+            return 0;
+        }
+        // add command timezone, query the schedules of all the commands at once
+        List<Long> processDefinitionCodes = commands.stream()
+                .map(Command::getProcessDefinitionCode)
+                .distinct()
+                .collect(Collectors.toList());
+        Map<Long, Schedule> scheduleMap = scheduleMapper.querySchedulesByProcessDefinitionCodes(processDefinitionCodes)
+                .stream()
+                .collect(Collectors.toMap(Schedule::getProcessDefinitionCode, Function.identity(), (s1, s2) -> s1));
+        for (Command command : commands) {
+            Schedule schedule = scheduleMap.get(command.getProcessDefinitionCode());
+            if (schedule != null) {
+                Map<String, String> commandParams =
+                        StringUtils.isNotBlank(command.getCommandParam()) ? JSONUtils.toMap(command.getCommandParam())
+                                : new HashMap<>();
+                commandParams.put(Constants.SCHEDULE_TIMEZONE, schedule.getTimezoneId());
+                command.setCommandParam(JSONUtils.toJsonString(commandParams));
+            }
+            command.setId(null);
+        }
+        commandDao.insertBatch(commands);
+        // Count the commands to the same metric of the createCommand, with the same tag keys as the @Counted
+        Counter.builder("ds.workflow.create.command.count")
+                .tags("class", CommandServiceImpl.class.getName(), "method", "createCommands",
+                        "result", "success", "exception", "none")
+                .register(Metrics.globalRegistry)
+                .increment(commands.size());
+        return commands.size();
+    }
+
     @Override
     public boolean verifyIsNeedCreateCommand(Command command) {
         boolean isNeedCreate = true;
@@ -192,7 +234,7 @@ public class CommandServiceImpl implements CommandService {
         if (command.getId() != null) {
             return commandMapper.updateById(command);
         } else {
-            return commandMapper.insert(command);
+            return commandDao.insert(command);
         }
     }
 
@@ -0,0 +1,122 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.dolphinscheduler.service.command;
+
+import org.apache.dolphinscheduler.common.model.Server;
+import org.apache.dolphinscheduler.common.thread.ThreadUtils;
+import org.apache.dolphinscheduler.dao.entity.Command;
+import org.apache.dolphinscheduler.dao.repository.CommandCreatedNotifier;
+import org.apache.dolphinscheduler.extract.base.client.SingletonJdkDynamicRpcClientProxyFactory;
+import org.apache.dolphinscheduler.extract.master.ICommandEventListener;
+import org.apache.dolphinscheduler.extract.master.transportor.CommandCreatedEvent;
+import org.apache.dolphinscheduler.registry.api.RegistryClient;
+import org.apache.dolphinscheduler.registry.api.enums.RegistryNodeType;
+
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import lombok.extern.slf4j.Slf4j;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * Notify the masters that new commands have been created, so that the masters can consume the commands immediately
+ * rather than waiting for the next polling round.
+ * <p>
+ * The notification is sent asynchronously after the current transaction is committed, the notifications created in a
+ * burst will be merged into one. If the notification is lost, the master will still fetch the command by polling.
+ */
+@Slf4j
+@Component
+public class MasterCommandNotifier implements CommandCreatedNotifier {
+
+    @Autowired(required = false)
+    private RegistryClient registryClient;
+
+    private final ExecutorService notifyExecutor = ThreadUtils.newDaemonFixedThreadExecutor("MasterCommandNotifier", 1);
+
+    private final AtomicBoolean notifyScheduled = new AtomicBoolean(false);
+
+    private final AtomicInteger latestCommandId = new AtomicInteger(0);
+
+    @Override
+    public void notifyCommandCreated(Command command) {
+        if (registryClient == null || command == null || command.getId() == null) {
+            return;
+        }
+        latestCommandId.accumulateAndGet(command.getId(), Math::max);
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            // the master cannot see the command before the transaction committed
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+
+                @Override
+                public void afterCommit() {
+                    scheduleNotify();
+                }
+            });
+            return;
+        }
+        scheduleNotify();
+    }
+
+    private void scheduleNotify() {
+        if (!notifyScheduled.compareAndSet(false, true)) {
+            // there is already a pending notification, which will cover this command
+            return;
+        }
+        try {
+            notifyExecutor.execute(this::doNotify);
+        } catch (RejectedExecutionException ex) {
+            notifyScheduled.set(false);
+            log.warn("Submit command created notification failed, the master will fetch the command by polling", ex);
+        }
+    }
+
+    private void doNotify() {
+        // reset the flag before sending, the command created during sending will trigger a new notification
+        notifyScheduled.set(false);
+        CommandCreatedEvent commandCreatedEvent =
+                new CommandCreatedEvent(latestCommandId.get(), System.currentTimeMillis());
+        List<Server> masters;
+        try {
+            masters = registryClient.getServerList(RegistryNodeType.MASTER);
+        } catch (Exception ex) {
+            log.warn("Query master servers from registry failed, skip notifying command: {}",
+                    commandCreatedEvent.getCommandId(), ex);
+            return;
+        }
+        for (Server master : masters) {
+            String masterAddress = String.format("%s:%s", master.getHost(), master.getPort());
+            try {
+                SingletonJdkDynamicRpcClientProxyFactory
+                        .getProxyClient(masterAddress, ICommandEventListener.class)
+                        .onCommandCreated(commandCreatedEvent);
+            } catch (Exception ex) {
+                log.warn("Notify command: {} created to master: {} failed, the master will fetch it by polling: {}",
+                        commandCreatedEvent.getCommandId(), masterAddress, ex.getMessage());
+            }
+        }
+    }
+
+}
@@ -118,6 +118,9 @@ public interface ProcessService {
     @Transactional
     void processNeedFailoverProcessInstances(ProcessInstance processInstance);
 
+    @Transactional
+    void processNeedFailoverProcessInstances(List<ProcessInstance> processInstances);
+
     DataSource findDataSourceById(int id);
 
     List<UdfFunc> queryUdfFunListByIds(Integer[] ids);
@@ -1477,6 +1477,34 @@ public class ProcessServiceImpl implements ProcessService {
         processInstanceMapper.updateById(processInstance);
 
         // 2 insert into recover command
+        commandService.createCommand(createFailoverCommand(processInstance));
+    }
+
+    /**
+     * process need failover process instances in one transaction, the hosts are updated by one statement and the
+     * failover commands are inserted in one batch
+     *
+     * @param processInstances processInstances
+     */
+    @Override
+    @Transactional
+    public void processNeedFailoverProcessInstances(List<ProcessInstance> processInstances) {
+        if (CollectionUtils.isEmpty(processInstances)) {
+            return;
+        }
+        List<Integer> processInstanceIds = processInstances.stream()
+                .map(ProcessInstance::getId)
+                .collect(Collectors.toList());
+        processInstanceMapper.updateHostByIds(processInstanceIds, Constants.NULL);
+
+        List<Command> commands = processInstances.stream()
+                .map(this::createFailoverCommand)
+                .collect(Collectors.toList());
+        commandService.createCommands(commands);
+        processInstances.forEach(processInstance -> processInstance.setHost(Constants.NULL));
+    }
+
+    private Command createFailoverCommand(ProcessInstance processInstance) {
         Command cmd = new Command();
         cmd.setProcessDefinitionCode(processInstance.getProcessDefinitionCode());
         cmd.setProcessDefinitionVersion(processInstance.getProcessDefinitionVersion());
@@ -1486,7 +1514,7 @@ public class ProcessServiceImpl implements ProcessService {
         cmd.setCommandType(CommandType.RECOVER_TOLERANCE_FAULT_PROCESS);
         cmd.setProcessInstancePriority(processInstance.getProcessInstancePriority());
         cmd.setTestFlag(processInstance.getTestFlag());
-        commandService.createCommand(cmd);
+        return cmd;
     }
 
     /**
@@ -41,6 +41,7 @@ import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
+import java.util.function.Predicate;
 
 import lombok.extern.slf4j.Slf4j;
 
@@ -300,6 +301,22 @@ public class DagHelper {
                                            Map<Long, TaskNode> skipTaskNodeList,
                                            DAG<Long, TaskNode, TaskNodeRelation> dag,
                                            Map<Long, TaskInstance> completeTaskList) {
+        return parsePostNodes(preNodeCode, skipTaskNodeList, dag, completeTaskList,
+                taskNode -> allDependsForbiddenOrEnd(taskNode, dag, skipTaskNodeList, completeTaskList));
+    }
+
+    /**
+     * parse the successor nodes of previous node.
+     * the allDependsForbiddenOrEnd is used to check whether all the depends of the successor node are forbidden or
+     * complete, so the caller can check it by the incrementally tracked dependencies
+     *
+     * @return successor nodes
+     */
+    public static Set<Long> parsePostNodes(Long preNodeCode,
+                                           Map<Long, TaskNode> skipTaskNodeList,
+                                           DAG<Long, TaskNode, TaskNodeRelation> dag,
+                                           Map<Long, TaskInstance> completeTaskList,
+                                           Predicate<TaskNode> allDependsForbiddenOrEnd) {
         Set<Long> postNodeList = new HashSet<>();
         Collection<Long> startVertexes = new ArrayList<>();
 
@@ -324,11 +341,12 @@ public class DagHelper {
                 setTaskNodeSkip(subsequent, dag, completeTaskList, skipTaskNodeList);
                 continue;
             }
-            if (!DagHelper.allDependsForbiddenOrEnd(taskNode, dag, skipTaskNodeList, completeTaskList)) {
+            if (!allDependsForbiddenOrEnd.test(taskNode)) {
                 continue;
             }
             if (taskNode.isForbidden() || completeTaskList.containsKey(subsequent)) {
-                postNodeList.addAll(parsePostNodes(subsequent, skipTaskNodeList, dag, completeTaskList));
+                postNodeList.addAll(parsePostNodes(subsequent, skipTaskNodeList, dag, completeTaskList,
+                        allDependsForbiddenOrEnd));
                 continue;
             }
             postNodeList.add(subsequent);
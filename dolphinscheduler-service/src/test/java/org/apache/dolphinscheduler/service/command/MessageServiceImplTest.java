@@ -35,6 +35,7 @@ import org.apache.dolphinscheduler.dao.entity.TaskInstance;
 import org.apache.dolphinscheduler.dao.mapper.CommandMapper;
 import org.apache.dolphinscheduler.dao.mapper.ProcessDefinitionMapper;
 import org.apache.dolphinscheduler.dao.mapper.ScheduleMapper;
+import org.apache.dolphinscheduler.dao.repository.CommandDao;
 
 import java.util.ArrayList;
 import java.util.Date;
@@ -70,6 +71,9 @@ class MessageServiceImplTest {
     @Mock
     private ScheduleMapper scheduleMapper;
 
+    @Mock
+    private CommandDao commandDao;
+
     @Test
     public void testCreateSubCommand() {
         ProcessInstance parentInstance = new ProcessInstance();
@@ -208,10 +212,10 @@ class MessageServiceImplTest {
         command.setCommandParam("{\"ProcessInstanceId\":222}");
         command.setCommandType(CommandType.START_PROCESS);
         int mockResult = 1;
-        Mockito.when(commandMapper.insert(command)).thenReturn(mockResult);
+        Mockito.when(commandDao.insert(command)).thenReturn(mockResult);
         int exeMethodResult = commandService.createCommand(command);
         Assertions.assertEquals(mockResult, exeMethodResult);
-        Mockito.verify(commandMapper, Mockito.times(1)).insert(command);
+        Mockito.verify(commandDao, Mockito.times(1)).insert(command);
     }
 
 }
@@ -0,0 +1,110 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.dolphinscheduler.plugin.storage.api;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.SortedMap;
+
+/**
+ * The storage which supports the ranged download and the multipart upload natively, the large files will be
+ * transferred in parallel parts by the {@link StorageTransferManager}.
+ * <p>
+ * Only the object storages S3, OSS and OBS implement this interface. The other storages, i.e. HDFS (including the
+ * local file system), GCS and ABS, don't implement it on purpose and keep transferring the whole file in
+ * {@link StorageOperate#upload} and {@link StorageOperate#download}: HDFS streams the blocks from the datanodes and has
+ * no multipart upload to resume, and the SDKs of GCS and ABS already transfer the large files in chunks by themselves,
+ * so there is no default fallback here which would only download the whole file again in ranges.
+ */
+public interface MultipartStorageOperate extends StorageOperate {
+
+    /**
+     * The user metadata key of the md5 hex of the whole object.
+     */
+    String CHECKSUM_METADATA_KEY = "ds-content-md5";
+
+    /**
+     * get the metadata of the object
+     * @param path the full path of the object
+     * @return the size and the checksum of the object
+     * @throws IOException if the object doesn't exist or the request failed
+     */
+    StorageObjectMetadata getObjectMetadata(String path) throws IOException;
+
+    /**
+     * read the given range of the object, the caller should close the returned stream
+     * @param path the full path of the object
+     * @param offset the start offset of the range
+     * @param length the length of the range, should be positive
+     * @return the content of the range
+     * @throws IOException if the request failed
+     */
+    InputStream getObjectRange(String path, long offset, long length) throws IOException;
+
+    /**
+     * upload the whole file as the object in one request
+     * @param path the full path of the object
+     * @param file the local file
+     * @param checksum the md5 hex of the file, will be recorded in the metadata if not null
+     * @throws IOException if the request failed
+     */
+    void putObject(String path, File file, String checksum) throws IOException;
+
+    /**
+     * start a multipart upload
+     * @param path the full path of the object
+     * @param checksum the md5 hex of the whole file, will be recorded in the metadata if not null
+     * @return the upload id
+     * @throws IOException if the request failed
+     */
+    String createMultipartUpload(String path, String checksum) throws IOException;
+
+    /**
+     * upload the given range of the file as a part
+     * @param path the full path of the object
+     * @param uploadId the upload id
+     * @param partNumber the part number, start from 1
+     * @param file the local file
+     * @param offset the start offset of the part in the file
+     * @param length the length of the part
+     * @return the etag of the part
+     * @throws IOException if the request failed
+     */
+    String uploadPart(String path, String uploadId, int partNumber, File file, long offset,
+                      long length) throws IOException;
+
+    /**
+     * complete the multipart upload, the object will be visible after completed
+     * @param path the full path of the object
+     * @param uploadId the upload id
+     * @param partETags the etags of all the parts, order by the part number
+     * @throws IOException if the request failed
+     */
+    void completeMultipartUpload(String path, String uploadId,
+                                 SortedMap<Integer, String> partETags) throws IOException;
+
+    /**
+     * abort the multipart upload, the uploaded parts will be discarded
+     * @param path the full path of the object
+     * @param uploadId the upload id
+     * @throws IOException if the request failed
+     */
+    void abortMultipartUpload(String path, String uploadId) throws IOException;
+
+}
@@ -0,0 +1,50 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.dolphinscheduler.plugin.storage.api;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * The metadata of an object in the {@link MultipartStorageOperate}.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class StorageObjectMetadata {
+
+    private long size;
+
+    /**
+     * The md5 hex of the whole object, recorded by the {@link StorageTransferManager} when uploading, might be null if
+     * the object is not uploaded by DolphinScheduler or the checksum is disabled.
+     */
+    private String checksum;
+
+    /**
+     * The etag of the object in the storage, might be null if the storage doesn't return it.
+     */
+    private String eTag;
+
+    /**
+     * The last modified time in millis of the object in the storage, 0 if unknown.
+     */
+    private long lastModified;
+
+}
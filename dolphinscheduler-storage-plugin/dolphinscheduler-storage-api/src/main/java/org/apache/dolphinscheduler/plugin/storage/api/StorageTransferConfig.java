@@ -0,0 +1,134 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.dolphinscheduler.plugin.storage.api;
+
+import static org.apache.dolphinscheduler.common.constants.Constants.RESOURCE_TRANSFER_CHECKPOINT_EXPIRE_HOURS;
+import static org.apache.dolphinscheduler.common.constants.Constants.RESOURCE_TRANSFER_CHECKPOINT_PATH;
+import static org.apache.dolphinscheduler.common.constants.Constants.RESOURCE_TRANSFER_CHECKSUM_ENABLED;
+import static org.apache.dolphinscheduler.common.constants.Constants.RESOURCE_TRANSFER_CONCURRENCY;
+import static org.apache.dolphinscheduler.common.constants.Constants.RESOURCE_TRANSFER_MULTIPART_THRESHOLD;
+import static org.apache.dolphinscheduler.common.constants.Constants.RESOURCE_TRANSFER_PART_RETRY_TIMES;
+import static org.apache.dolphinscheduler.common.constants.Constants.RESOURCE_TRANSFER_PART_SIZE;
+import static org.apache.dolphinscheduler.common.constants.Constants.RESOURCE_TRANSFER_RESUMABLE_ENABLED;
+
+import org.apache.dolphinscheduler.common.utils.FileUtils;
+import org.apache.dolphinscheduler.common.utils.PropertyUtils;
+
+import java.time.Duration;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * The config of the {@link StorageTransferManager}, read from the common.properties.
+ */
+@Slf4j
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class StorageTransferConfig {
+
+    private static final long MB = 1024L * 1024L;
+
+    /**
+     * Most of the object storages require the part except the last one to be at least 5MB.
+     */
+    public static final long MIN_PART_SIZE = 5 * MB;
+
+    /**
+     * The files smaller than this threshold are transferred in one request.
+     */
+    @Builder.Default
+    private long multipartThreshold = 64 * MB;
+
+    @Builder.Default
+    private long partSize = 16 * MB;
+
+    /**
+     * The max parts transferred at the same time, shared by all the transfers of the storage.
+     */
+    @Builder.Default
+    private int concurrency = 4;
+
+    @Builder.Default
+    private int partRetryTimes = 3;
+
+    /**
+     * Record the md5 of the file when uploading, and verify it when downloading.
+     */
+    @Builder.Default
+    private boolean checksumEnabled = true;
+
+    /**
+     * Keep the transferred parts of the failed transfer, so the next transfer of the same file can resume from them.
+     */
+    @Builder.Default
+    private boolean resumableEnabled = true;
+
+    @Builder.Default
+    private String checkpointPath = FileUtils.DATA_BASEDIR + "/transfer-checkpoint";
+
+    /**
+     * The checkpoint not updated for this time is abandoned, it is deleted with the partially downloaded file or the
+     * uploaded parts it records.
+     */
+    @Builder.Default
+    private Duration checkpointExpireTime = Duration.ofHours(24);
+
+    public static StorageTransferConfig fromProperties() {
+        StorageTransferConfig config = StorageTransferConfig.builder()
+                .multipartThreshold(PropertyUtils.getLong(RESOURCE_TRANSFER_MULTIPART_THRESHOLD, 64L) * MB)
+                .partSize(PropertyUtils.getLong(RESOURCE_TRANSFER_PART_SIZE, 16L) * MB)
+                .concurrency(PropertyUtils.getInt(RESOURCE_TRANSFER_CONCURRENCY, 4))
+                .partRetryTimes(PropertyUtils.getInt(RESOURCE_TRANSFER_PART_RETRY_TIMES, 3))
+                .checksumEnabled(PropertyUtils.getBoolean(RESOURCE_TRANSFER_CHECKSUM_ENABLED, true))
+                .resumableEnabled(PropertyUtils.getBoolean(RESOURCE_TRANSFER_RESUMABLE_ENABLED, true))
+                .checkpointPath(PropertyUtils.getString(RESOURCE_TRANSFER_CHECKPOINT_PATH,
+                        FileUtils.DATA_BASEDIR + "/transfer-checkpoint"))
+                .checkpointExpireTime(
+                        Duration.ofHours(PropertyUtils.getLong(RESOURCE_TRANSFER_CHECKPOINT_EXPIRE_HOURS, 24L)))
+                .build();
+        if (config.getPartSize() < MIN_PART_SIZE) {
+            log.warn("The {} should be at least 5, will use 5", RESOURCE_TRANSFER_PART_SIZE);
+            config.setPartSize(MIN_PART_SIZE);
+        }
+        if (config.getMultipartThreshold() < config.getPartSize()) {
+            log.warn("The {} should not be less than the part size, will use the part size",
+                    RESOURCE_TRANSFER_MULTIPART_THRESHOLD);
+            config.setMultipartThreshold(config.getPartSize());
+        }
+        if (config.getConcurrency() <= 0) {
+            log.warn("The {} should be positive, will use 1", RESOURCE_TRANSFER_CONCURRENCY);
+            config.setConcurrency(1);
+        }
+        if (config.getCheckpointExpireTime().toHours() <= 0) {
+            log.warn("The {} should be positive, will use 1", RESOURCE_TRANSFER_CHECKPOINT_EXPIRE_HOURS);
+            config.setCheckpointExpireTime(Duration.ofHours(1));
+        }
+        if (config.getPartRetryTimes() < 0) {
+            log.warn("The {} should not be negative, will use 0", RESOURCE_TRANSFER_PART_RETRY_TIMES);
+            config.setPartRetryTimes(0);
+        }
+        return config;
+    }
+
+}
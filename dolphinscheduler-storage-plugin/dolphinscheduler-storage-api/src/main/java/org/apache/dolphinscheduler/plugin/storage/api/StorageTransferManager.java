@@ -0,0 +1,541 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.dolphinscheduler.plugin.storage.api;
+
+import org.apache.dolphinscheduler.common.thread.ThreadUtils;
+import org.apache.dolphinscheduler.common.utils.FileUtils;
+
+import java.io.Closeable;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.RandomAccessFile;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Properties;
+import java.util.SortedMap;
+import java.util.TreeMap;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.TimeUnit;
+
+import lombok.extern.slf4j.Slf4j;
+
+import com.google.common.collect.ImmutableMap;
+import com.google.common.hash.Hashing;
+import com.google.common.io.BaseEncoding;
+
+/**
+ * Transfer the files of the {@link MultipartStorageOperate} in parallel parts.
+ * <p>
+ * The files smaller than the multipart threshold are transferred in one request, the larger ones are split into parts
+ * which are transferred by a pool shared by all the transfers of the storage. The downloaded parts are written into a
+ * temp file by their positions, and the temp file is renamed to the destination after all the parts are downloaded
+ * and the checksum is verified, so the destination file is either absent or complete.
+ * <p>
+ * If resumable is enabled, the finished parts of a transfer are recorded in a checkpoint file, and a failed transfer
+ * keeps the checkpoint, then the next transfer of the same file will skip the finished parts if the file is not
+ * changed. The checkpoint which is not updated for the expire time is abandoned, it is deleted with the partially
+ * downloaded file or the multipart upload it records.
+ */
+@Slf4j
+public class StorageTransferManager implements Closeable {
+
+    static final String DOWNLOADING_SUFFIX = ".downloading";
+
+    /**
+     * Most of the object storages allow at most 10000 parts in a multipart upload.
+     */
+    private static final int MAX_PART_COUNT = 10000;
+
+    private static final int BUFFER_SIZE = 64 * 1024;
+
+    private static final long RETRY_INTERVAL_MILLIS = 1000L;
+
+    private static final String DOWNLOAD = "download";
+
+    private static final String UPLOAD = "upload";
+
+    private static final String CHECKPOINT_SUFFIX = ".checkpoint";
+
+    private static final long CHECKPOINT_CLEAN_INTERVAL_MILLIS = TimeUnit.HOURS.toMillis(1);
+
+    private final MultipartStorageOperate storageOperate;
+
+    private final StorageTransferConfig config;
+
+    private final ExecutorService transferExecutor;
+
+    private volatile long lastCheckpointCleanTime;
+
+    public StorageTransferManager(MultipartStorageOperate storageOperate, StorageTransferConfig config) {
+        this.storageOperate = storageOperate;
+        this.config = config;
+        this.transferExecutor =
+                ThreadUtils.newDaemonFixedThreadExecutor("StorageTransferThread-%d", config.getConcurrency());
+    }
+
+    /**
+     * Download the object to the local file, the parent directory of the local file should exist.
+     */
+    public void download(String srcPath, String dstPath) throws IOException {
+        StorageObjectMetadata metadata = storageOperate.getObjectMetadata(srcPath);
+        Path dstFile = new File(dstPath).toPath();
+        Path tmpFile = new File(dstPath + DOWNLOADING_SUFFIX).toPath();
+        long startTime = System.currentTimeMillis();
+        if (metadata.getSize() < config.getMultipartThreshold()) {
+            downloadInOneRequest(srcPath, tmpFile, metadata.getSize());
+        } else {
+            downloadInParts(srcPath, tmpFile, metadata);
+        }
+        try {
+            verifyChecksum(srcPath, tmpFile, metadata.getChecksum());
+        } catch (IOException ex) {
+            Files.deleteIfExists(tmpFile);
+            throw ex;
+        }
+        Files.move(tmpFile, dstFile, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        log.info("Download {} to {} success, size: {}, cost: {} ms", srcPath, dstPath, metadata.getSize(),
+                System.currentTimeMillis() - startTime);
+    }
+
+    /**
+     * Upload the local file as the object, the object will be visible after all the parts are uploaded.
+     */
+    public void upload(String srcFile, String dstPath) throws IOException {
+        File file = new File(srcFile);
+        if (!file.isFile()) {
+            throw new IOException(String.format("The upload file %s is not a file", srcFile));
+        }
+        long startTime = System.currentTimeMillis();
+        String checksum = config.isChecksumEnabled() ? md5Hex(file.toPath()) : null;
+        if (file.length() < config.getMultipartThreshold()) {
+            storageOperate.putObject(dstPath, file, checksum);
+        } else {
+            uploadInParts(file, dstPath, checksum);
+        }
+        log.info("Upload {} to {} success, size: {}, cost: {} ms", srcFile, dstPath, file.length(),
+                System.currentTimeMillis() - startTime);
+    }
+
+    private void downloadInOneRequest(String srcPath, Path tmpFile, long size) throws IOException {
+        if (size == 0) {
+            Files.deleteIfExists(tmpFile);
+            Files.createFile(tmpFile);
+            return;
+        }
+        try (InputStream inputStream = storageOperate.getObjectRange(srcPath, 0, size)) {
+            Files.copy(inputStream, tmpFile, StandardCopyOption.REPLACE_EXISTING);
+        }
+    }
+
+    private void downloadInParts(String srcPath, Path tmpFile, StorageObjectMetadata metadata) throws IOException {
+        long size = metadata.getSize();
+        long partSize = getPartSize(size);
+        int partCount = (int) ((size + partSize - 1) / partSize);
+        // The checksum might be absent, so the version of the object in the storage is also checked.
+        Map<String, String> identity = ImmutableMap.of(
+                "size", String.valueOf(size),
+                "partSize", String.valueOf(partSize),
+                "checksum", Objects.toString(metadata.getChecksum(), ""),
+                "eTag", Objects.toString(metadata.getETag(), ""),
+                "lastModified", String.valueOf(metadata.getLastModified()));
+        TransferCheckpoint checkpoint = loadCheckpoint(DOWNLOAD, srcPath, tmpFile.toString(), identity);
+        if (!checkpoint.isResumed() || !Files.exists(tmpFile) || Files.size(tmpFile) != size) {
+            checkpoint.reset();
+            try (RandomAccessFile randomAccessFile = new RandomAccessFile(tmpFile.toFile(), "rw")) {
+                randomAccessFile.setLength(size);
+            }
+        } else {
+            log.info("Resume the download of {} from {} finished parts", srcPath, checkpoint.getFinishedParts().size());
+        }
+
+        try (FileChannel fileChannel = FileChannel.open(tmpFile, StandardOpenOption.WRITE)) {
+            List<CompletableFuture<Void>> futures = new ArrayList<>();
+            for (int partNumber = 1; partNumber <= partCount; partNumber++) {
+                if (checkpoint.isFinished(partNumber)) {
+                    continue;
+                }
+                int currentPartNumber = partNumber;
+                long offset = (partNumber - 1) * partSize;
+                long length = Math.min(partSize, size - offset);
+                futures.add(runPart(srcPath, partNumber, () -> {
+                    downloadPart(srcPath, fileChannel, offset, length);
+                    if (config.isResumableEnabled()) {
+                        fileChannel.force(false);
+                    }
+                    checkpoint.finish(currentPartNumber, "");
+                }));
+            }
+            awaitParts(futures);
+        } catch (IOException ex) {
+            if (!config.isResumableEnabled()) {
+                Files.deleteIfExists(tmpFile);
+            }
+            throw ex;
+        }
+        checkpoint.delete();
+    }
+
+    private void downloadPart(String srcPath, FileChannel fileChannel, long offset, long length) throws IOException {
+        try (InputStream inputStream = storageOperate.getObjectRange(srcPath, offset, length)) {
+            byte[] buffer = new byte[BUFFER_SIZE];
+            long position = offset;
+            int readLength;
+            while ((readLength = inputStream.read(buffer)) > 0) {
+                ByteBuffer byteBuffer = ByteBuffer.wrap(buffer, 0, readLength);
+                while (byteBuffer.hasRemaining()) {
+                    position += fileChannel.write(byteBuffer, position);
+                }
+            }
+            if (position != offset + length) {
+                throw new IOException(String.format("The part of %s at offset %d is incomplete, expected %d bytes "
+                        + "but got %d bytes", srcPath, offset, length, position - offset));
+            }
+        }
+    }
+
+    private void uploadInParts(File file, String dstPath, String checksum) throws IOException {
+        long size = file.length();
+        long partSize = getPartSize(size);
+        int partCount = (int) ((size + partSize - 1) / partSize);
+        Map<String, String> identity = ImmutableMap.of(
+                "size", String.valueOf(size),
+                "lastModified", String.valueOf(file.lastModified()),
+                "partSize", String.valueOf(partSize),
+                "checksum", Objects.toString(checksum, ""));
+        TransferCheckpoint checkpoint = loadCheckpoint(UPLOAD, file.getAbsolutePath(), dstPath, identity);
+        String uploadId = checkpoint.isResumed() ? checkpoint.getUploadId() : null;
+        if (uploadId == null) {
+            String staleUploadId = checkpoint.getUploadId();
+            if (staleUploadId != null) {
+                // The file is changed since the last failed upload, the uploaded parts are useless.
+                abortQuietly(dstPath, staleUploadId);
+            }
+            checkpoint.reset();
+            uploadId = storageOperate.createMultipartUpload(dstPath, checksum);
+            checkpoint.setUploadId(uploadId);
+        } else {
+            log.info("Resume the upload of {} from {} finished parts", dstPath, checkpoint.getFinishedParts().size());
+        }
+
+        String currentUploadId = uploadId;
+        try {
+            List<CompletableFuture<Void>> futures = new ArrayList<>();
+            for (int partNumber = 1; partNumber <= partCount; partNumber++) {
+                if (checkpoint.isFinished(partNumber)) {
+                    continue;
+                }
+                int currentPartNumber = partNumber;
+                long offset = (partNumber - 1) * partSize;
+                long length = Math.min(partSize, size - offset);
+                futures.add(runPart(dstPath, partNumber, () -> {
+                    String eTag = storageOperate.uploadPart(
+                            dstPath, currentUploadId, currentPartNumber, file, offset, length);
+                    checkpoint.finish(currentPartNumber, eTag);
+                }));
+            }
+            awaitParts(futures);
+            storageOperate.completeMultipartUpload(dstPath, currentUploadId, checkpoint.getFinishedParts());
+        } catch (IOException ex) {
+            // The resumed upload id might be expired or aborted, so only the new upload can be resumed next time.
+            if (!config.isResumableEnabled() || checkpoint.isResumed()) {
+                abortQuietly(dstPath, currentUploadId);
+                checkpoint.delete();
+            }
+            throw ex;
+        }
+        checkpoint.delete();
+    }
+
+    private void abortQuietly(String dstPath, String uploadId) {
+        try {
+            storageOperate.abortMultipartUpload(dstPath, uploadId);
+        } catch (Exception ex) {
+            log.warn("Abort the multipart upload {} of {} failed", uploadId, dstPath, ex);
+        }
+    }
+
+    private long getPartSize(long size) {
+        return Math.max(config.getPartSize(), (size + MAX_PART_COUNT - 1) / MAX_PART_COUNT);
+    }
+
+    private CompletableFuture<Void> runPart(String path, int partNumber, PartTask partTask) {
+        return CompletableFuture.runAsync(() -> {
+            for (int retryTimes = 0;; retryTimes++) {
+                try {
+                    partTask.run();
+                    return;
+                } catch (IOException ex) {
+                    if (retryTimes >= config.getPartRetryTimes()) {
+                        throw new CompletionException(ex);
+                    }
+                    log.warn("Transfer the part {} of {} failed, will retry, retryTimes: {}", partNumber, path,
+                            retryTimes + 1, ex);
+                    ThreadUtils.sleep(RETRY_INTERVAL_MILLIS * (retryTimes + 1));
+                }
+            }
+        }, transferExecutor);
+    }
+
+    private void awaitParts(List<CompletableFuture<Void>> futures) throws IOException {
+        try {
+            CompletableFuture.allOf(futures.toArray(new CompletableFuture[0])).join();
+        } catch (CompletionException ex) {
+            if (ex.getCause() instanceof IOException) {
+                throw (IOException) ex.getCause();
+            }
+            throw new IOException(ex.getCause());
+        }
+    }
+
+    private void verifyChecksum(String srcPath, Path file, String expectedChecksum) throws IOException {
+        if (!config.isChecksumEnabled() || expectedChecksum == null) {
+            return;
+        }
+        String actualChecksum = md5Hex(file);
+        if (!expectedChecksum.equalsIgnoreCase(actualChecksum)) {
+            throw new IOException(String.format("The checksum of %s mismatch, expected: %s, actual: %s", srcPath,
+                    expectedChecksum, actualChecksum));
+        }
+    }
+
+    static String md5Hex(Path file) throws IOException {
+        MessageDigest messageDigest;
+        try {
+            messageDigest = MessageDigest.getInstance("MD5");
+        } catch (NoSuchAlgorithmException ex) {
+            throw new IOException(ex);
+        }
+        try (InputStream inputStream = new FileInputStream(file.toFile())) {
+            byte[] buffer = new byte[BUFFER_SIZE];
+            int readLength;
+            while ((readLength = inputStream.read(buffer)) > 0) {
+                messageDigest.update(buffer, 0, readLength);
+            }
+        }
+        return BaseEncoding.base16().lowerCase().encode(messageDigest.digest());
+    }
+
+    private TransferCheckpoint loadCheckpoint(String type, String srcPath, String dstPath,
+                                              Map<String, String> identity) throws IOException {
+        if (!config.isResumableEnabled()) {
+            return new TransferCheckpoint(null, type, dstPath, identity, new Properties());
+        }
+        String checkpointName = Hashing.sha256()
+                .hashString(type + ":" + srcPath + "->" + dstPath, StandardCharsets.UTF_8)
+                .toString();
+        Path checkpointDir = new File(config.getCheckpointPath()).toPath();
+        FileUtils.createDirectoryWith755(checkpointDir);
+        cleanExpiredCheckpoints(checkpointDir);
+        Path checkpointFile = checkpointDir.resolve(checkpointName + CHECKPOINT_SUFFIX);
+        return new TransferCheckpoint(checkpointFile, type, dstPath, identity, readCheckpoint(checkpointFile));
+    }
+
+    private Properties readCheckpoint(Path checkpointFile) {
+        Properties properties = new Properties();
+        if (Files.exists(checkpointFile)) {
+            try (InputStream inputStream = Files.newInputStream(checkpointFile)) {
+                properties.load(inputStream);
+            } catch (IOException | IllegalArgumentException ex) {
+                log.warn("Load the transfer checkpoint {} failed, will transfer from the beginning", checkpointFile,
+                        ex);
+                properties.clear();
+            }
+        }
+        return properties;
+    }
+
+    /**
+     * Delete the checkpoints of the transfers which are failed and never retried, with the partially downloaded files
+     * and the multipart uploads they record, so the abandoned transfers don't occupy the disk and the storage forever.
+     */
+    private void cleanExpiredCheckpoints(Path checkpointDir) {
+        long now = System.currentTimeMillis();
+        if (now - lastCheckpointCleanTime < CHECKPOINT_CLEAN_INTERVAL_MILLIS) {
+            return;
+        }
+        lastCheckpointCleanTime = now;
+        long expireTime = now - config.getCheckpointExpireTime().toMillis();
+        List<Path> expiredFiles = new ArrayList<>();
+        try (
+                DirectoryStream<Path> directoryStream =
+                        Files.newDirectoryStream(checkpointDir, "*" + CHECKPOINT_SUFFIX + "*")) {
+            for (Path file : directoryStream) {
+                if (Files.getLastModifiedTime(file).toMillis() < expireTime) {
+                    expiredFiles.add(file);
+                }
+            }
+        } catch (IOException ex) {
+            log.warn("List the transfer checkpoints under {} failed", checkpointDir, ex);
+            return;
+        }
+        for (Path expiredFile : expiredFiles) {
+            try {
+                if (expiredFile.getFileName().toString().endsWith(CHECKPOINT_SUFFIX)) {
+                    discardTransfer(readCheckpoint(expiredFile));
+                }
+                Files.deleteIfExists(expiredFile);
+                log.info("Deleted the expired transfer checkpoint {}", expiredFile);
+            } catch (IOException ex) {
+                log.warn("Delete the expired transfer checkpoint {} failed", expiredFile, ex);
+            }
+        }
+    }
+
+    private void discardTransfer(Properties properties) throws IOException {
+        String type = properties.getProperty(TransferCheckpoint.TYPE);
+        String dstPath = properties.getProperty(TransferCheckpoint.DESTINATION);
+        String uploadId = properties.getProperty(TransferCheckpoint.UPLOAD_ID);
+        if (dstPath == null) {
+            return;
+        }
+        if (DOWNLOAD.equals(type)) {
+            // The destination of the download checkpoint is the temp file.
+            Files.deleteIfExists(new File(dstPath).toPath());
+        } else if (UPLOAD.equals(type) && uploadId != null) {
+            abortQuietly(dstPath, uploadId);
+        }
+    }
+
+    @Override
+    public void close() {
+        transferExecutor.shutdownNow();
+    }
+
+    @FunctionalInterface
+    private interface PartTask {
+
+        void run() throws IOException;
+    }
+
+    /**
+     * The finished parts of a transfer, persisted after each part is finished if the checkpoint file is not null.
+     */
+    private static class TransferCheckpoint {
+
+        private static final String PART_PREFIX = "part.";
+
+        private static final String TYPE = "type";
+
+        private static final String DESTINATION = "destination";
+
+        private static final String UPLOAD_ID = "uploadId";
+
+        private final Path checkpointFile;
+
+        private final String type;
+
+        private final String dstPath;
+
+        private final Map<String, String> identity;
+
+        private final Properties properties;
+
+        private final boolean resumed;
+
+        private TransferCheckpoint(Path checkpointFile, String type, String dstPath, Map<String, String> identity,
+                                   Properties properties) {
+            this.checkpointFile = checkpointFile;
+            this.type = type;
+            this.dstPath = dstPath;
+            this.identity = identity;
+            this.properties = properties;
+            // The checkpoint can only be resumed if the file is not changed since the checkpoint is recorded.
+            this.resumed = !properties.isEmpty()
+                    && identity.entrySet().stream()
+                            .allMatch(entry -> entry.getValue().equals(properties.getProperty(entry.getKey())));
+        }
+
+        boolean isResumed() {
+            return resumed;
+        }
+
+        synchronized void reset() throws IOException {
+            properties.clear();
+            properties.putAll(identity);
+            // Recorded to discard the transfer if the checkpoint is expired.
+            properties.setProperty(TYPE, type);
+            properties.setProperty(DESTINATION, dstPath);
+            save();
+        }
+
+        synchronized String getUploadId() {
+            return properties.getProperty(UPLOAD_ID);
+        }
+
+        synchronized void setUploadId(String uploadId) throws IOException {
+            properties.setProperty(UPLOAD_ID, uploadId);
+            save();
+        }
+
+        synchronized boolean isFinished(int partNumber) {
+            return properties.containsKey(PART_PREFIX + partNumber);
+        }
+
+        synchronized void finish(int partNumber, String eTag) throws IOException {
+            properties.setProperty(PART_PREFIX + partNumber, eTag);
+            save();
+        }
+
+        synchronized SortedMap<Integer, String> getFinishedParts() {
+            SortedMap<Integer, String> finishedParts = new TreeMap<>();
+            for (String key : properties.stringPropertyNames()) {
+                if (key.startsWith(PART_PREFIX)) {
+                    finishedParts.put(Integer.parseInt(key.substring(PART_PREFIX.length())),
+                            properties.getProperty(key));
+                }
+            }
+            return finishedParts;
+        }
+
+        synchronized void delete() throws IOException {
+            if (checkpointFile != null) {
+                Files.deleteIfExists(checkpointFile);
+            }
+        }
+
+        private void save() throws IOException {
+            if (checkpointFile == null) {
+                return;
+            }
+            // Write to a temp file then rename, so a crash during writing will not corrupt the checkpoint.
+            Path tmpFile = checkpointFile.resolveSibling(checkpointFile.getFileName() + ".tmp");
+            try (OutputStream outputStream = Files.newOutputStream(tmpFile)) {
+                properties.store(outputStream, null);
+            }
+            Files.move(tmpFile, checkpointFile, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        }
+    }
+
+}
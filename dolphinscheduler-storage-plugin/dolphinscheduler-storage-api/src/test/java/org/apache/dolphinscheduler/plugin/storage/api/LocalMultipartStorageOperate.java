@@ -0,0 +1,294 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.dolphinscheduler.plugin.storage.api;
+
+import org.apache.dolphinscheduler.common.enums.ResUploadType;
+import org.apache.dolphinscheduler.spi.enums.ResourceType;
+
+import org.apache.commons.io.FileUtils;
+
+import java.io.ByteArrayInputStream;
+import java.io.Closeable;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.RandomAccessFile;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.SortedMap;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import lombok.Getter;
+
+/**
+ * A {@link MultipartStorageOperate} backed by a local directory, used as the stand-in of the object storages in tests.
+ * <p>
+ * The failures can be injected by the range offset of {@link #getObjectRange} and the part number of
+ * {@link #uploadPart}, each injected failure only happens once.
+ */
+public class LocalMultipartStorageOperate implements MultipartStorageOperate, Closeable {
+
+    private final Path rootDir;
+
+    private final StorageTransferManager transferManager;
+
+    private final Map<String, String> checksums = new ConcurrentHashMap<>();
+
+    private final Map<String, String> eTags = new ConcurrentHashMap<>();
+
+    @Getter
+    private final Set<Long> failingRangeOffsets = ConcurrentHashMap.newKeySet();
+
+    @Getter
+    private final Set<Integer> failingPartNumbers = ConcurrentHashMap.newKeySet();
+
+    @Getter
+    private final AtomicInteger rangeRequestCount = new AtomicInteger();
+
+    @Getter
+    private final AtomicInteger putObjectCount = new AtomicInteger();
+
+    @Getter
+    private final AtomicInteger createMultipartUploadCount = new AtomicInteger();
+
+    @Getter
+    private final AtomicInteger uploadPartCount = new AtomicInteger();
+
+    public LocalMultipartStorageOperate(Path rootDir, StorageTransferConfig config) {
+        this.rootDir = rootDir;
+        this.transferManager = new StorageTransferManager(this, config);
+    }
+
+    public Path getObjectFile(String path) {
+        return rootDir.resolve("objects").resolve(path);
+    }
+
+    @Override
+    public StorageObjectMetadata getObjectMetadata(String path) throws IOException {
+        Path objectFile = getObjectFile(path);
+        if (!Files.exists(objectFile)) {
+            throw new IOException("The object " + path + " doesn't exist");
+        }
+        return new StorageObjectMetadata(Files.size(objectFile), checksums.get(path), eTags.get(path),
+                Files.getLastModifiedTime(objectFile).toMillis());
+    }
+
+    @Override
+    public InputStream getObjectRange(String path, long offset, long length) throws IOException {
+        rangeRequestCount.incrementAndGet();
+        if (failingRangeOffsets.remove(offset)) {
+            throw new IOException("Injected failure of the range at " + offset);
+        }
+        byte[] content = new byte[(int) length];
+        try (RandomAccessFile randomAccessFile = new RandomAccessFile(getObjectFile(path).toFile(), "r")) {
+            randomAccessFile.seek(offset);
+            randomAccessFile.readFully(content);
+        }
+        return new ByteArrayInputStream(content);
+    }
+
+    @Override
+    public void putObject(String path, File file, String checksum) throws IOException {
+        putObjectCount.incrementAndGet();
+        Path objectFile = getObjectFile(path);
+        Files.createDirectories(objectFile.getParent());
+        Files.copy(file.toPath(), objectFile, StandardCopyOption.REPLACE_EXISTING);
+        recordChecksum(path, checksum);
+        eTags.put(path, UUID.randomUUID().toString());
+    }
+
+    @Override
+    public String createMultipartUpload(String path, String checksum) throws IOException {
+        createMultipartUploadCount.incrementAndGet();
+        String uploadId = UUID.randomUUID().toString();
+        Files.createDirectories(getUploadDir(uploadId));
+        recordChecksum(path, checksum);
+        return uploadId;
+    }
+
+    @Override
+    public String uploadPart(String path, String uploadId, int partNumber, File file, long offset,
+                             long length) throws IOException {
+        uploadPartCount.incrementAndGet();
+        if (failingPartNumbers.remove(partNumber)) {
+            throw new IOException("Injected failure of the part " + partNumber);
+        }
+        byte[] content = new byte[(int) length];
+        try (RandomAccessFile randomAccessFile = new RandomAccessFile(file, "r")) {
+            randomAccessFile.seek(offset);
+            randomAccessFile.readFully(content);
+        }
+        Files.write(getUploadDir(uploadId).resolve(String.valueOf(partNumber)), content);
+        return uploadId + "-" + partNumber;
+    }
+
+    @Override
+    public void completeMultipartUpload(String path, String uploadId,
+                                        SortedMap<Integer, String> partETags) throws IOException {
+        Path objectFile = getObjectFile(path);
+        Files.createDirectories(objectFile.getParent());
+        try (OutputStream outputStream = Files.newOutputStream(objectFile)) {
+            for (Map.Entry<Integer, String> partETag : partETags.entrySet()) {
+                if (!partETag.getValue().equals(uploadId + "-" + partETag.getKey())) {
+                    throw new IOException("The etag of the part " + partETag.getKey() + " mismatch");
+                }
+                Files.copy(getUploadDir(uploadId).resolve(String.valueOf(partETag.getKey())), outputStream);
+            }
+        }
+        FileUtils.deleteDirectory(getUploadDir(uploadId).toFile());
+        eTags.put(path, UUID.randomUUID().toString());
+    }
+
+    @Override
+    public void abortMultipartUpload(String path, String uploadId) throws IOException {
+        FileUtils.deleteDirectory(getUploadDir(uploadId).toFile());
+    }
+
+    private Path getUploadDir(String uploadId) {
+        return rootDir.resolve("uploads").resolve(uploadId);
+    }
+
+    private void recordChecksum(String path, String checksum) {
+        if (checksum == null) {
+            checksums.remove(path);
+        } else {
+            checksums.put(path, checksum);
+        }
+    }
+
+    @Override
+    public boolean upload(String tenantCode, String srcFile, String dstPath, boolean deleteSource,
+                          boolean overwrite) throws IOException {
+        transferManager.upload(srcFile, dstPath);
+        if (deleteSource) {
+            Files.delete(new File(srcFile).toPath());
+        }
+        return true;
+    }
+
+    @Override
+    public void download(String srcFilePath, String dstFile, boolean overwrite) throws IOException {
+        Files.createDirectories(new File(dstFile).getParentFile().toPath());
+        transferManager.download(srcFilePath, dstFile);
+    }
+
+    @Override
+    public boolean exists(String fullName) {
+        return Files.exists(getObjectFile(fullName));
+    }
+
+    @Override
+    public boolean delete(String filePath, boolean recursive) throws IOException {
+        checksums.remove(filePath);
+        eTags.remove(filePath);
+        return Files.deleteIfExists(getObjectFile(filePath));
+    }
+
+    @Override
+    public boolean delete(String filePath, List<String> childrenPathArray, boolean recursive) throws IOException {
+        for (String childrenPath : childrenPathArray) {
+            delete(childrenPath, recursive);
+        }
+        return delete(filePath, recursive);
+    }
+
+    @Override
+    public void createTenantDirIfNotExists(String tenantCode) {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public String getResDir(String tenantCode) {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public String getUdfDir(String tenantCode) {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public boolean mkdir(String tenantCode, String path) {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public String getResourceFullName(String tenantCode, String fileName) {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public String getFileName(ResourceType resourceType, String tenantCode, String fileName) {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public boolean copy(String srcPath, String dstPath, boolean deleteSource, boolean overwrite) {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public String getDir(ResourceType resourceType, String tenantCode) {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public List<String> vimFile(String tenantCode, String filePath, int skipLineNums, int limit) {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public void deleteTenant(String tenantCode) {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public ResUploadType returnStorageType() {
+        return ResUploadType.LOCAL;
+    }
+
+    @Override
+    public void close() {
+        transferManager.close();
+    }
+
+    @Override
+    public List<StorageEntity> listFilesStatusRecursively(String path, String defaultPath, String tenantCode,
+                                                          ResourceType type) {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public List<StorageEntity> listFilesStatus(String path, String defaultPath, String tenantCode,
+                                               ResourceType type) {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public StorageEntity getFileStatus(String path, String defaultPath, String tenantCode, ResourceType type) {
+        throw new UnsupportedOperationException();
+    }
+
+}
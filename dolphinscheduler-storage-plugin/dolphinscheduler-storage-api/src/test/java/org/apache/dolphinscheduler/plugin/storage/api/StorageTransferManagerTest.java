@@ -0,0 +1,262 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.dolphinscheduler.plugin.storage.api;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+public class StorageTransferManagerTest {
+
+    private static final int PART_SIZE = 1024;
+
+    private static final int PART_COUNT = 10;
+
+    private static final String OBJECT_PATH = "dolphinscheduler/default/resources/test.jar";
+
+    @TempDir
+    private Path tempDir;
+
+    private LocalMultipartStorageOperate storageOperate;
+
+    @AfterEach
+    public void tearDown() {
+        if (storageOperate != null) {
+            storageOperate.close();
+        }
+    }
+
+    @Test
+    public void testTransferSmallFileInOneRequest() throws IOException {
+        storageOperate = createStorageOperate(0);
+        byte[] content = randomContent(PART_SIZE);
+        File srcFile = writeFile("small", content);
+
+        storageOperate.upload("default", srcFile.getAbsolutePath(), OBJECT_PATH, false, true);
+        Assertions.assertEquals(1, storageOperate.getPutObjectCount().get());
+        Assertions.assertEquals(0, storageOperate.getCreateMultipartUploadCount().get());
+
+        File dstFile = tempDir.resolve("download").resolve("small").toFile();
+        storageOperate.download(OBJECT_PATH, dstFile.getAbsolutePath(), true);
+        Assertions.assertEquals(1, storageOperate.getRangeRequestCount().get());
+        Assertions.assertArrayEquals(content, Files.readAllBytes(dstFile.toPath()));
+    }
+
+    @Test
+    public void testTransferLargeFileInParts() throws IOException {
+        storageOperate = createStorageOperate(0);
+        // The last part is smaller than the part size.
+        byte[] content = randomContent(PART_SIZE * PART_COUNT - 100);
+        File srcFile = writeFile("large", content);
+
+        storageOperate.upload("default", srcFile.getAbsolutePath(), OBJECT_PATH, false, true);
+        Assertions.assertEquals(0, storageOperate.getPutObjectCount().get());
+        Assertions.assertEquals(PART_COUNT, storageOperate.getUploadPartCount().get());
+        Assertions.assertNotNull(storageOperate.getObjectMetadata(OBJECT_PATH).getChecksum());
+
+        File dstFile = tempDir.resolve("download").resolve("large").toFile();
+        storageOperate.download(OBJECT_PATH, dstFile.getAbsolutePath(), true);
+        Assertions.assertEquals(PART_COUNT, storageOperate.getRangeRequestCount().get());
+        Assertions.assertArrayEquals(content, Files.readAllBytes(dstFile.toPath()));
+        Assertions.assertFalse(getDownloadingFile(dstFile).exists());
+        assertNoCheckpoint();
+    }
+
+    @Test
+    public void testDownloadWithChecksumMismatch() throws IOException {
+        storageOperate = createStorageOperate(0);
+        File srcFile = writeFile("large", randomContent(PART_SIZE * PART_COUNT));
+        storageOperate.upload("default", srcFile.getAbsolutePath(), OBJECT_PATH, false, true);
+        // Corrupt the object without changing its size.
+        Files.write(storageOperate.getObjectFile(OBJECT_PATH), randomContent(PART_SIZE * PART_COUNT));
+
+        File dstFile = tempDir.resolve("download").resolve("large").toFile();
+        Assertions.assertThrows(IOException.class,
+                () -> storageOperate.download(OBJECT_PATH, dstFile.getAbsolutePath(), true));
+        Assertions.assertFalse(dstFile.exists());
+        Assertions.assertFalse(getDownloadingFile(dstFile).exists());
+    }
+
+    @Test
+    public void testRetryFailedPart() throws IOException {
+        storageOperate = createStorageOperate(1);
+        byte[] content = randomContent(PART_SIZE * PART_COUNT);
+        File srcFile = writeFile("large", content);
+        storageOperate.getFailingPartNumbers().add(3);
+        storageOperate.upload("default", srcFile.getAbsolutePath(), OBJECT_PATH, false, true);
+        Assertions.assertEquals(PART_COUNT + 1, storageOperate.getUploadPartCount().get());
+
+        storageOperate.getFailingRangeOffsets().add(3L * PART_SIZE);
+        File dstFile = tempDir.resolve("download").resolve("large").toFile();
+        storageOperate.download(OBJECT_PATH, dstFile.getAbsolutePath(), true);
+        Assertions.assertEquals(PART_COUNT + 1, storageOperate.getRangeRequestCount().get());
+        Assertions.assertArrayEquals(content, Files.readAllBytes(dstFile.toPath()));
+    }
+
+    @Test
+    public void testResumeUpload() throws IOException {
+        storageOperate = createStorageOperate(0);
+        byte[] content = randomContent(PART_SIZE * PART_COUNT);
+        File srcFile = writeFile("large", content);
+        storageOperate.getFailingPartNumbers().add(3);
+        Assertions.assertThrows(IOException.class,
+                () -> storageOperate.upload("default", srcFile.getAbsolutePath(), OBJECT_PATH, false, true));
+        Assertions.assertFalse(storageOperate.exists(OBJECT_PATH));
+
+        storageOperate.upload("default", srcFile.getAbsolutePath(), OBJECT_PATH, false, true);
+        // Only the failed part is uploaded again in the same multipart upload.
+        Assertions.assertEquals(1, storageOperate.getCreateMultipartUploadCount().get());
+        Assertions.assertEquals(PART_COUNT + 1, storageOperate.getUploadPartCount().get());
+        Assertions.assertArrayEquals(content, Files.readAllBytes(storageOperate.getObjectFile(OBJECT_PATH)));
+        assertNoCheckpoint();
+    }
+
+    @Test
+    public void testResumeDownload() throws IOException {
+        storageOperate = createStorageOperate(0);
+        byte[] content = randomContent(PART_SIZE * PART_COUNT);
+        File srcFile = writeFile("large", content);
+        storageOperate.upload("default", srcFile.getAbsolutePath(), OBJECT_PATH, false, true);
+
+        storageOperate.getFailingRangeOffsets().add(3L * PART_SIZE);
+        File dstFile = tempDir.resolve("download").resolve("large").toFile();
+        Assertions.assertThrows(IOException.class,
+                () -> storageOperate.download(OBJECT_PATH, dstFile.getAbsolutePath(), true));
+        Assertions.assertFalse(dstFile.exists());
+        Assertions.assertEquals(PART_COUNT, storageOperate.getRangeRequestCount().get());
+
+        storageOperate.download(OBJECT_PATH, dstFile.getAbsolutePath(), true);
+        // Only the failed part is downloaded again.
+        Assertions.assertEquals(PART_COUNT + 1, storageOperate.getRangeRequestCount().get());
+        Assertions.assertArrayEquals(content, Files.readAllBytes(dstFile.toPath()));
+        assertNoCheckpoint();
+    }
+
+    @Test
+    public void testNotResumeDownloadIfObjectChanged() throws IOException {
+        storageOperate = createStorageOperate(0);
+        storageOperate.upload("default", writeFile("large", randomContent(PART_SIZE * PART_COUNT)).getAbsolutePath(),
+                OBJECT_PATH, false, true);
+        storageOperate.getFailingRangeOffsets().add(3L * PART_SIZE);
+        File dstFile = tempDir.resolve("download").resolve("large").toFile();
+        Assertions.assertThrows(IOException.class,
+                () -> storageOperate.download(OBJECT_PATH, dstFile.getAbsolutePath(), true));
+
+        byte[] content = randomContent(PART_SIZE * PART_COUNT);
+        storageOperate.upload("default", writeFile("changed", content).getAbsolutePath(), OBJECT_PATH, false, true);
+        storageOperate.download(OBJECT_PATH, dstFile.getAbsolutePath(), true);
+        Assertions.assertEquals(PART_COUNT * 2, storageOperate.getRangeRequestCount().get());
+        Assertions.assertArrayEquals(content, Files.readAllBytes(dstFile.toPath()));
+    }
+
+    @Test
+    public void testNotResumeDownloadIfObjectVersionChanged() throws IOException {
+        // Without the checksum, the changed object of the same size can only be found by its version.
+        storageOperate = createStorageOperate(0, false);
+        storageOperate.upload("default", writeFile("large", randomContent(PART_SIZE * PART_COUNT)).getAbsolutePath(),
+                OBJECT_PATH, false, true);
+        storageOperate.getFailingRangeOffsets().add(3L * PART_SIZE);
+        File dstFile = tempDir.resolve("download").resolve("large").toFile();
+        Assertions.assertThrows(IOException.class,
+                () -> storageOperate.download(OBJECT_PATH, dstFile.getAbsolutePath(), true));
+
+        byte[] content = randomContent(PART_SIZE * PART_COUNT);
+        storageOperate.upload("default", writeFile("changed", content).getAbsolutePath(), OBJECT_PATH, false, true);
+        storageOperate.download(OBJECT_PATH, dstFile.getAbsolutePath(), true);
+        Assertions.assertEquals(PART_COUNT * 2, storageOperate.getRangeRequestCount().get());
+        Assertions.assertArrayEquals(content, Files.readAllBytes(dstFile.toPath()));
+    }
+
+    @Test
+    public void testDeleteExpiredCheckpoint() throws IOException {
+        storageOperate = createStorageOperate(0);
+        storageOperate.upload("default", writeFile("large", randomContent(PART_SIZE * PART_COUNT)).getAbsolutePath(),
+                OBJECT_PATH, false, true);
+        storageOperate.getFailingRangeOffsets().add(3L * PART_SIZE);
+        File dstFile = tempDir.resolve("download").resolve("large").toFile();
+        Assertions.assertThrows(IOException.class,
+                () -> storageOperate.download(OBJECT_PATH, dstFile.getAbsolutePath(), true));
+        Assertions.assertTrue(getDownloadingFile(dstFile).exists());
+        // The failed download is never retried.
+        try (Stream<Path> checkpointFiles = Files.list(tempDir.resolve("checkpoint"))) {
+            for (Path checkpointFile : checkpointFiles.collect(Collectors.toList())) {
+                Files.setLastModifiedTime(checkpointFile,
+                        FileTime.fromMillis(System.currentTimeMillis() - TimeUnit.HOURS.toMillis(25)));
+            }
+        }
+
+        // The expired checkpoints are cleaned by the first transfer of the restarted process.
+        storageOperate.close();
+        storageOperate = createStorageOperate(0);
+        File otherDstFile = tempDir.resolve("download").resolve("other").toFile();
+        storageOperate.download(OBJECT_PATH, otherDstFile.getAbsolutePath(), true);
+        Assertions.assertFalse(getDownloadingFile(dstFile).exists());
+        assertNoCheckpoint();
+    }
+
+    private LocalMultipartStorageOperate createStorageOperate(int partRetryTimes) {
+        return createStorageOperate(partRetryTimes, true);
+    }
+
+    private LocalMultipartStorageOperate createStorageOperate(int partRetryTimes, boolean checksumEnabled) {
+        StorageTransferConfig config = StorageTransferConfig.builder()
+                .multipartThreshold(PART_SIZE * 2)
+                .partSize(PART_SIZE)
+                // Transfer the parts one by one, so the finished parts are deterministic when a part failed.
+                .concurrency(1)
+                .partRetryTimes(partRetryTimes)
+                .checksumEnabled(checksumEnabled)
+                .checkpointPath(tempDir.resolve("checkpoint").toString())
+                .build();
+        return new LocalMultipartStorageOperate(tempDir.resolve("storage"), config);
+    }
+
+    private File writeFile(String name, byte[] content) throws IOException {
+        Path file = tempDir.resolve("upload").resolve(name);
+        Files.createDirectories(file.getParent());
+        return Files.write(file, content).toFile();
+    }
+
+    private byte[] randomContent(int size) {
+        byte[] content = new byte[size];
+        new Random().nextBytes(content);
+        return content;
+    }
+
+    private File getDownloadingFile(File dstFile) {
+        return new File(dstFile.getAbsolutePath() + StorageTransferManager.DOWNLOADING_SUFFIX);
+    }
+
+    private void assertNoCheckpoint() throws IOException {
+        try (Stream<Path> checkpointFiles = Files.list(tempDir.resolve("checkpoint"))) {
+            Assertions.assertEquals(0L, checkpointFiles.count());
+        }
+    }
+
+}
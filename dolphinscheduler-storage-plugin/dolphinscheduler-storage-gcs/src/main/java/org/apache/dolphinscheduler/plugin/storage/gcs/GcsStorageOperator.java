@@ -209,7 +209,8 @@ public class GcsStorageOperator implements Closeable, StorageOperate {
                     BlobId.of(bucketName, dstPath)).build();
 
             Path srcPath = Paths.get(srcFile);
-            gcsStorage.create(blobInfo, Files.readAllBytes(srcPath));
+            // Stream the file in chunks rather than loading the whole file into memory.
+            gcsStorage.createFrom(blobInfo, srcPath);
 
             if (deleteSource) {
                 Files.delete(srcPath);
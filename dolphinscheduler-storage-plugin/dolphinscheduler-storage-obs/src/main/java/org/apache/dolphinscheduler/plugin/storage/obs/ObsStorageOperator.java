@@ -26,8 +26,11 @@ import org.apache.dolphinscheduler.common.constants.Constants;
 import org.apache.dolphinscheduler.common.enums.ResUploadType;
 import org.apache.dolphinscheduler.common.utils.FileUtils;
 import org.apache.dolphinscheduler.common.utils.PropertyUtils;
+import org.apache.dolphinscheduler.plugin.storage.api.MultipartStorageOperate;
 import org.apache.dolphinscheduler.plugin.storage.api.StorageEntity;
-import org.apache.dolphinscheduler.plugin.storage.api.StorageOperate;
+import org.apache.dolphinscheduler.plugin.storage.api.StorageObjectMetadata;
+import org.apache.dolphinscheduler.plugin.storage.api.StorageTransferConfig;
+import org.apache.dolphinscheduler.plugin.storage.api.StorageTransferManager;
 import org.apache.dolphinscheduler.plugin.task.api.TaskConstants;
 import org.apache.dolphinscheduler.spi.enums.ResourceType;
 
@@ -37,8 +40,6 @@ import java.io.BufferedReader;
 import java.io.ByteArrayInputStream;
 import java.io.Closeable;
 import java.io.File;
-import java.io.FileNotFoundException;
-import java.io.FileOutputStream;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.InputStreamReader;
@@ -49,6 +50,8 @@ import java.util.ArrayList;
 import java.util.Collections;
 import java.util.LinkedList;
 import java.util.List;
+import java.util.Objects;
+import java.util.SortedMap;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
@@ -58,17 +61,22 @@ import lombok.extern.slf4j.Slf4j;
 import com.obs.services.ObsClient;
 import com.obs.services.exception.ObsException;
 import com.obs.services.internal.ServiceException;
+import com.obs.services.model.AbortMultipartUploadRequest;
+import com.obs.services.model.CompleteMultipartUploadRequest;
 import com.obs.services.model.DeleteObjectsRequest;
 import com.obs.services.model.GetObjectRequest;
+import com.obs.services.model.InitiateMultipartUploadRequest;
 import com.obs.services.model.ListObjectsRequest;
 import com.obs.services.model.ObjectListing;
 import com.obs.services.model.ObjectMetadata;
 import com.obs.services.model.ObsObject;
+import com.obs.services.model.PartEtag;
 import com.obs.services.model.PutObjectRequest;
+import com.obs.services.model.UploadPartRequest;
 
 @Data
 @Slf4j
-public class ObsStorageOperator implements Closeable, StorageOperate {
+public class ObsStorageOperator implements Closeable, MultipartStorageOperate {
 
     private String accessKeyId;
 
@@ -80,6 +88,8 @@ public class ObsStorageOperator implements Closeable, StorageOperate {
 
     private ObsClient obsClient;
 
+    private StorageTransferManager transferManager;
+
     public ObsStorageOperator() {
     }
 
@@ -90,6 +100,7 @@ public class ObsStorageOperator implements Closeable, StorageOperate {
         this.bucketName = readObsBucketName();
         this.obsClient = buildObsClient();
         ensureBucketSuccessfullyCreated(bucketName);
+        this.transferManager = new StorageTransferManager(this, StorageTransferConfig.fromProperties());
     }
 
     protected String readObsAccessKeyID() {
@@ -110,6 +121,7 @@ public class ObsStorageOperator implements Closeable, StorageOperate {
 
     @Override
     public void close() throws IOException {
+        transferManager.close();
         obsClient.close();
     }
 
@@ -190,23 +202,109 @@ public class ObsStorageOperator implements Closeable, StorageOperate {
         } else {
             FileUtils.createDirectoryWith755(dstFile.getParentFile().toPath());
         }
-        ObsObject obsObject = obsClient.getObject(bucketName, srcFilePath);
-        try (
-                InputStream obsInputStream = obsObject.getObjectContent();
-                FileOutputStream fos = new FileOutputStream(dstFilePath)) {
-            byte[] readBuf = new byte[1024];
-            int readLen;
-            while ((readLen = obsInputStream.read(readBuf)) > 0) {
-                fos.write(readBuf, 0, readLen);
-            }
+        transferManager.download(srcFilePath, dstFilePath);
+    }
+
+    @Override
+    public StorageObjectMetadata getObjectMetadata(String path) throws IOException {
+        try {
+            ObjectMetadata objectMetadata = obsClient.getObjectMetadata(bucketName, path);
+            return new StorageObjectMetadata(objectMetadata.getContentLength(),
+                    Objects.toString(objectMetadata.getUserMetadata(CHECKSUM_METADATA_KEY), null),
+                    objectMetadata.getEtag(),
+                    objectMetadata.getLastModified() == null ? 0 : objectMetadata.getLastModified().getTime());
         } catch (ObsException e) {
             throw new IOException(e);
-        } catch (FileNotFoundException e) {
-            log.error("cannot find the destination file {}", dstFilePath);
-            throw e;
         }
     }
 
+    @Override
+    public InputStream getObjectRange(String path, long offset, long length) throws IOException {
+        GetObjectRequest getObjectRequest = new GetObjectRequest();
+        getObjectRequest.setBucketName(bucketName);
+        getObjectRequest.setObjectKey(path);
+        getObjectRequest.setRangeStart(offset);
+        getObjectRequest.setRangeEnd(offset + length - 1);
+        try {
+            return obsClient.getObject(getObjectRequest).getObjectContent();
+        } catch (ObsException e) {
+            throw new IOException(e);
+        }
+    }
+
+    @Override
+    public void putObject(String path, File file, String checksum) throws IOException {
+        PutObjectRequest putObjectRequest = new PutObjectRequest(bucketName, path, file);
+        putObjectRequest.setMetadata(buildMetadata(checksum));
+        try {
+            obsClient.putObject(putObjectRequest);
+        } catch (ObsException e) {
+            throw new IOException(e);
+        }
+    }
+
+    @Override
+    public String createMultipartUpload(String path, String checksum) throws IOException {
+        InitiateMultipartUploadRequest initiateMultipartUploadRequest =
+                new InitiateMultipartUploadRequest(bucketName, path);
+        initiateMultipartUploadRequest.setMetadata(buildMetadata(checksum));
+        try {
+            return obsClient.initiateMultipartUpload(initiateMultipartUploadRequest).getUploadId();
+        } catch (ObsException e) {
+            throw new IOException(e);
+        }
+    }
+
+    @Override
+    public String uploadPart(String path, String uploadId, int partNumber, File file, long offset,
+                             long length) throws IOException {
+        UploadPartRequest uploadPartRequest = new UploadPartRequest();
+        uploadPartRequest.setBucketName(bucketName);
+        uploadPartRequest.setObjectKey(path);
+        uploadPartRequest.setUploadId(uploadId);
+        uploadPartRequest.setPartNumber(partNumber);
+        uploadPartRequest.setFile(file);
+        uploadPartRequest.setOffset(offset);
+        uploadPartRequest.setPartSize(length);
+        try {
+            return obsClient.uploadPart(uploadPartRequest).getEtag();
+        } catch (ObsException e) {
+            throw new IOException(e);
+        }
+    }
+
+    @Override
+    public void completeMultipartUpload(String path, String uploadId,
+                                        SortedMap<Integer, String> partETags) throws IOException {
+        List<PartEtag> obsPartETags = partETags.entrySet()
+                .stream()
+                .map(partETag -> new PartEtag(partETag.getValue(), partETag.getKey()))
+                .collect(Collectors.toList());
+        try {
+            obsClient.completeMultipartUpload(
+                    new CompleteMultipartUploadRequest(bucketName, path, uploadId, obsPartETags));
+        } catch (ObsException e) {
+            throw new IOException(e);
+        }
+    }
+
+    @Override
+    public void abortMultipartUpload(String path, String uploadId) throws IOException {
+        try {
+            obsClient.abortMultipartUpload(new AbortMultipartUploadRequest(bucketName, path, uploadId));
+        } catch (ObsException e) {
+            throw new IOException(e);
+        }
+    }
+
+    private ObjectMetadata buildMetadata(String checksum) {
+        ObjectMetadata objectMetadata = new ObjectMetadata();
+        if (checksum != null) {
+            objectMetadata.addUserMetadata(CHECKSUM_METADATA_KEY, checksum);
+        }
+        return objectMetadata;
+    }
+
     @Override
     public boolean exists(String fileName) throws IOException {
         return obsClient.doesObjectExist(bucketName, fileName);
@@ -250,15 +348,15 @@ public class ObsStorageOperator implements Closeable, StorageOperate {
     public boolean upload(String tenantCode, String srcFile, String dstPath, boolean deleteSource,
                           boolean overwrite) throws IOException {
         try {
-            obsClient.putObject(bucketName, dstPath, new File(srcFile));
-            if (deleteSource) {
-                Files.delete(Paths.get(srcFile));
-            }
-            return true;
-        } catch (ObsException e) {
+            transferManager.upload(srcFile, dstPath);
+        } catch (IOException e) {
             log.error("upload failed, the bucketName is {}, the filePath is {}", bucketName, dstPath, e);
             return false;
         }
+        if (deleteSource) {
+            Files.delete(Paths.get(srcFile));
+        }
+        return true;
     }
 
     @Override
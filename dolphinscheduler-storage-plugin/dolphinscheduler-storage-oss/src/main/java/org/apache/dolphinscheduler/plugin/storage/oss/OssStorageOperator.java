@@ -28,8 +28,11 @@ import org.apache.dolphinscheduler.common.factory.OssClientFactory;
 import org.apache.dolphinscheduler.common.model.OssConnection;
 import org.apache.dolphinscheduler.common.utils.FileUtils;
 import org.apache.dolphinscheduler.common.utils.PropertyUtils;
+import org.apache.dolphinscheduler.plugin.storage.api.MultipartStorageOperate;
 import org.apache.dolphinscheduler.plugin.storage.api.StorageEntity;
-import org.apache.dolphinscheduler.plugin.storage.api.StorageOperate;
+import org.apache.dolphinscheduler.plugin.storage.api.StorageObjectMetadata;
+import org.apache.dolphinscheduler.plugin.storage.api.StorageTransferConfig;
+import org.apache.dolphinscheduler.plugin.storage.api.StorageTransferManager;
 import org.apache.dolphinscheduler.plugin.task.api.TaskConstants;
 import org.apache.dolphinscheduler.spi.enums.ResourceType;
 
@@ -39,8 +42,7 @@ import java.io.BufferedReader;
 import java.io.ByteArrayInputStream;
 import java.io.Closeable;
 import java.io.File;
-import java.io.FileNotFoundException;
-import java.io.FileOutputStream;
+import java.io.FileInputStream;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.InputStreamReader;
@@ -51,26 +53,34 @@ import java.util.ArrayList;
 import java.util.Collections;
 import java.util.LinkedList;
 import java.util.List;
+import java.util.SortedMap;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
 import lombok.Data;
 import lombok.extern.slf4j.Slf4j;
 
+import com.aliyun.oss.ClientException;
 import com.aliyun.oss.OSS;
 import com.aliyun.oss.OSSException;
 import com.aliyun.oss.ServiceException;
+import com.aliyun.oss.model.AbortMultipartUploadRequest;
+import com.aliyun.oss.model.CompleteMultipartUploadRequest;
 import com.aliyun.oss.model.DeleteObjectsRequest;
+import com.aliyun.oss.model.GetObjectRequest;
+import com.aliyun.oss.model.InitiateMultipartUploadRequest;
 import com.aliyun.oss.model.ListObjectsV2Request;
 import com.aliyun.oss.model.ListObjectsV2Result;
 import com.aliyun.oss.model.OSSObject;
 import com.aliyun.oss.model.OSSObjectSummary;
 import com.aliyun.oss.model.ObjectMetadata;
+import com.aliyun.oss.model.PartETag;
 import com.aliyun.oss.model.PutObjectRequest;
+import com.aliyun.oss.model.UploadPartRequest;
 
 @Data
 @Slf4j
-public class OssStorageOperator implements Closeable, StorageOperate {
+public class OssStorageOperator implements Closeable, MultipartStorageOperate {
 
     private String accessKeyId;
 
@@ -86,6 +96,8 @@ public class OssStorageOperator implements Closeable, StorageOperate {
 
     private OSS ossClient;
 
+    private StorageTransferManager transferManager;
+
     public OssStorageOperator() {
     }
 
@@ -98,6 +110,7 @@ public class OssStorageOperator implements Closeable, StorageOperate {
         this.ossConnection = buildOssConnection();
         this.ossClient = buildOssClient();
         ensureBucketSuccessfullyCreated(bucketName);
+        this.transferManager = new StorageTransferManager(this, StorageTransferConfig.fromProperties());
     }
 
     // TODO: change to use the following init method after DS supports Configuration / Connection Center
@@ -110,6 +123,7 @@ public class OssStorageOperator implements Closeable, StorageOperate {
         this.ossConnection = ossConnection;
         this.ossClient = getOssClient();
         ensureBucketSuccessfullyCreated(bucketName);
+        this.transferManager = new StorageTransferManager(this, StorageTransferConfig.fromProperties());
     }
 
     protected String readOssAccessKeyID() {
@@ -138,6 +152,7 @@ public class OssStorageOperator implements Closeable, StorageOperate {
 
     @Override
     public void close() throws IOException {
+        transferManager.close();
         ossClient.shutdown();
     }
 
@@ -216,23 +231,97 @@ public class OssStorageOperator implements Closeable, StorageOperate {
         } else {
             FileUtils.createDirectoryWith755(dstFile.getParentFile().toPath());
         }
-        OSSObject ossObject = ossClient.getObject(bucketName, srcFilePath);
-        try (
-                InputStream ossInputStream = ossObject.getObjectContent();
-                FileOutputStream fos = new FileOutputStream(dstFilePath)) {
-            byte[] readBuf = new byte[1024];
-            int readLen;
-            while ((readLen = ossInputStream.read(readBuf)) > 0) {
-                fos.write(readBuf, 0, readLen);
-            }
-        } catch (OSSException e) {
+        transferManager.download(srcFilePath, dstFilePath);
+    }
+
+    @Override
+    public StorageObjectMetadata getObjectMetadata(String path) throws IOException {
+        try {
+            ObjectMetadata objectMetadata = ossClient.getObjectMetadata(bucketName, path);
+            return new StorageObjectMetadata(objectMetadata.getContentLength(),
+                    objectMetadata.getUserMetadata().get(CHECKSUM_METADATA_KEY),
+                    objectMetadata.getETag(),
+                    objectMetadata.getLastModified() == null ? 0 : objectMetadata.getLastModified().getTime());
+        } catch (ServiceException | ClientException e) {
+            throw new IOException(e);
+        }
+    }
+
+    @Override
+    public InputStream getObjectRange(String path, long offset, long length) throws IOException {
+        try {
+            GetObjectRequest getObjectRequest = new GetObjectRequest(bucketName, path);
+            getObjectRequest.setRange(offset, offset + length - 1);
+            return ossClient.getObject(getObjectRequest).getObjectContent();
+        } catch (ServiceException | ClientException e) {
             throw new IOException(e);
-        } catch (FileNotFoundException e) {
-            log.error("cannot find the destination file {}", dstFilePath);
-            throw e;
         }
     }
 
+    @Override
+    public void putObject(String path, File file, String checksum) throws IOException {
+        try {
+            ossClient.putObject(new PutObjectRequest(bucketName, path, file, buildMetadata(checksum)));
+        } catch (ServiceException | ClientException e) {
+            throw new IOException(e);
+        }
+    }
+
+    @Override
+    public String createMultipartUpload(String path, String checksum) throws IOException {
+        try {
+            return ossClient.initiateMultipartUpload(
+                    new InitiateMultipartUploadRequest(bucketName, path, buildMetadata(checksum))).getUploadId();
+        } catch (ServiceException | ClientException e) {
+            throw new IOException(e);
+        }
+    }
+
+    @Override
+    public String uploadPart(String path, String uploadId, int partNumber, File file, long offset,
+                             long length) throws IOException {
+        try (FileInputStream partInputStream = new FileInputStream(file)) {
+            partInputStream.getChannel().position(offset);
+            UploadPartRequest uploadPartRequest =
+                    new UploadPartRequest(bucketName, path, uploadId, partNumber, partInputStream, length);
+            return ossClient.uploadPart(uploadPartRequest).getETag();
+        } catch (ServiceException | ClientException e) {
+            throw new IOException(e);
+        }
+    }
+
+    @Override
+    public void completeMultipartUpload(String path, String uploadId,
+                                        SortedMap<Integer, String> partETags) throws IOException {
+        List<PartETag> ossPartETags = partETags.entrySet()
+                .stream()
+                .map(partETag -> new PartETag(partETag.getKey(), partETag.getValue()))
+                .collect(Collectors.toList());
+        try {
+            ossClient.completeMultipartUpload(
+                    new CompleteMultipartUploadRequest(bucketName, path, uploadId, ossPartETags));
+        } catch (ServiceException | ClientException e) {
+            throw new IOException(e);
+        }
+    }
+
+    @Override
+    public void abortMultipartUpload(String path, String uploadId) throws IOException {
+        try {
+            ossClient.abortMultipartUpload(new AbortMultipartUploadRequest(bucketName, path, uploadId));
+        } catch (ServiceException | ClientException e) {
+            throw new IOException(e);
+        }
+    }
+
+    private ObjectMetadata buildMetadata(String checksum) {
+        ObjectMetadata objectMetadata = new ObjectMetadata();
+        if (checksum != null) {
+            objectMetadata.addUserMetadata(CHECKSUM_METADATA_KEY, checksum);
+        }
+        return objectMetadata;
+    }
+
     @Override
     public boolean exists(String fileName) throws IOException {
         return ossClient.doesObjectExist(bucketName, fileName);
@@ -276,15 +365,15 @@ public class OssStorageOperator implements Closeable, StorageOperate {
     public boolean upload(String tenantCode, String srcFile, String dstPath, boolean deleteSource,
                           boolean overwrite) throws IOException {
         try {
-            ossClient.putObject(bucketName, dstPath, new File(srcFile));
-            if (deleteSource) {
-                Files.delete(Paths.get(srcFile));
-            }
-            return true;
-        } catch (OSSException e) {
+            transferManager.upload(srcFile, dstPath);
+        } catch (IOException e) {
             log.error("upload failed, the bucketName is {}, the filePath is {}", bucketName, dstPath, e);
             return false;
         }
+        if (deleteSource) {
+            Files.delete(Paths.get(srcFile));
+        }
+        return true;
     }
 
     @Override
@@ -27,8 +27,11 @@ import org.apache.dolphinscheduler.common.constants.Constants;
 import org.apache.dolphinscheduler.common.enums.ResUploadType;
 import org.apache.dolphinscheduler.common.utils.FileUtils;
 import org.apache.dolphinscheduler.common.utils.PropertyUtils;
+import org.apache.dolphinscheduler.plugin.storage.api.MultipartStorageOperate;
 import org.apache.dolphinscheduler.plugin.storage.api.StorageEntity;
-import org.apache.dolphinscheduler.plugin.storage.api.StorageOperate;
+import org.apache.dolphinscheduler.plugin.storage.api.StorageObjectMetadata;
+import org.apache.dolphinscheduler.plugin.storage.api.StorageTransferConfig;
+import org.apache.dolphinscheduler.plugin.storage.api.StorageTransferManager;
 import org.apache.dolphinscheduler.plugin.task.api.TaskConstants;
 import org.apache.dolphinscheduler.spi.enums.ResourceType;
 
@@ -38,8 +41,6 @@ import java.io.BufferedReader;
 import java.io.ByteArrayInputStream;
 import java.io.Closeable;
 import java.io.File;
-import java.io.FileNotFoundException;
-import java.io.FileOutputStream;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.InputStreamReader;
@@ -50,34 +51,41 @@ import java.util.ArrayList;
 import java.util.Collections;
 import java.util.LinkedList;
 import java.util.List;
+import java.util.SortedMap;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
 import lombok.Data;
 import lombok.extern.slf4j.Slf4j;
 
+import com.amazonaws.AmazonClientException;
 import com.amazonaws.AmazonServiceException;
 import com.amazonaws.auth.AWSStaticCredentialsProvider;
 import com.amazonaws.auth.BasicAWSCredentials;
 import com.amazonaws.client.builder.AwsClientBuilder;
 import com.amazonaws.services.s3.AmazonS3;
 import com.amazonaws.services.s3.AmazonS3ClientBuilder;
+import com.amazonaws.services.s3.model.AbortMultipartUploadRequest;
 import com.amazonaws.services.s3.model.AmazonS3Exception;
+import com.amazonaws.services.s3.model.CompleteMultipartUploadRequest;
 import com.amazonaws.services.s3.model.DeleteObjectsRequest;
+import com.amazonaws.services.s3.model.GetObjectRequest;
+import com.amazonaws.services.s3.model.InitiateMultipartUploadRequest;
 import com.amazonaws.services.s3.model.ListObjectsV2Request;
 import com.amazonaws.services.s3.model.ListObjectsV2Result;
 import com.amazonaws.services.s3.model.ObjectMetadata;
+import com.amazonaws.services.s3.model.PartETag;
 import com.amazonaws.services.s3.model.PutObjectRequest;
 import com.amazonaws.services.s3.model.S3Object;
-import com.amazonaws.services.s3.model.S3ObjectInputStream;
 import com.amazonaws.services.s3.model.S3ObjectSummary;
+import com.amazonaws.services.s3.model.UploadPartRequest;
 import com.amazonaws.services.s3.transfer.MultipleFileDownload;
 import com.amazonaws.services.s3.transfer.TransferManager;
 import com.amazonaws.services.s3.transfer.TransferManagerBuilder;
 
 @Slf4j
 @Data
-public class S3StorageOperator implements Closeable, StorageOperate {
+public class S3StorageOperator implements Closeable, MultipartStorageOperate {
 
     private String accessKeyId;
 
@@ -91,6 +99,8 @@ public class S3StorageOperator implements Closeable, StorageOperate {
 
     private AmazonS3 s3Client;
 
+    private StorageTransferManager transferManager;
+
     public S3StorageOperator() {
     }
 
@@ -102,6 +112,7 @@ public class S3StorageOperator implements Closeable, StorageOperate {
         endPoint = readEndPoint();
         s3Client = buildS3Client();
         checkBucketNameExists(bucketName);
+        transferManager = new StorageTransferManager(this, StorageTransferConfig.fromProperties());
     }
 
     protected AmazonS3 buildS3Client() {
@@ -146,6 +157,7 @@ public class S3StorageOperator implements Closeable, StorageOperate {
 
     @Override
     public void close() throws IOException {
+        transferManager.close();
         s3Client.shutdown();
     }
 
@@ -203,23 +215,102 @@ public class S3StorageOperator implements Closeable, StorageOperate {
         } else {
             FileUtils.createDirectoryWith755(dstFile.getParentFile().toPath());
         }
-        S3Object o = s3Client.getObject(bucketName, srcFilePath);
-        try (
-                S3ObjectInputStream s3is = o.getObjectContent();
-                FileOutputStream fos = new FileOutputStream(dstFilePath)) {
-            byte[] readBuf = new byte[1024];
-            int readLen;
-            while ((readLen = s3is.read(readBuf)) > 0) {
-                fos.write(readBuf, 0, readLen);
-            }
-        } catch (AmazonServiceException e) {
-            throw new IOException(e.getMessage());
-        } catch (FileNotFoundException e) {
-            log.error("the destination file {} not found", dstFilePath);
-            throw e;
+        transferManager.download(srcFilePath, dstFilePath);
+    }
+
+    @Override
+    public StorageObjectMetadata getObjectMetadata(String path) throws IOException {
+        try {
+            ObjectMetadata objectMetadata = s3Client.getObjectMetadata(bucketName, path);
+            return new StorageObjectMetadata(objectMetadata.getContentLength(),
+                    objectMetadata.getUserMetaDataOf(CHECKSUM_METADATA_KEY),
+                    objectMetadata.getETag(),
+                    objectMetadata.getLastModified() == null ? 0 : objectMetadata.getLastModified().getTime());
+        } catch (AmazonClientException e) {
+            throw new IOException(e);
+        }
+    }
+
+    @Override
+    public InputStream getObjectRange(String path, long offset, long length) throws IOException {
+        try {
+            GetObjectRequest getObjectRequest =
+                    new GetObjectRequest(bucketName, path).withRange(offset, offset + length - 1);
+            return s3Client.getObject(getObjectRequest).getObjectContent();
+        } catch (AmazonClientException e) {
+            throw new IOException(e);
         }
     }
 
+    @Override
+    public void putObject(String path, File file, String checksum) throws IOException {
+        try {
+            s3Client.putObject(new PutObjectRequest(bucketName, path, file).withMetadata(buildMetadata(checksum)));
+        } catch (AmazonClientException e) {
+            throw new IOException(e);
+        }
+    }
+
+    @Override
+    public String createMultipartUpload(String path, String checksum) throws IOException {
+        try {
+            return s3Client.initiateMultipartUpload(
+                    new InitiateMultipartUploadRequest(bucketName, path, buildMetadata(checksum))).getUploadId();
+        } catch (AmazonClientException e) {
+            throw new IOException(e);
+        }
+    }
+
+    @Override
+    public String uploadPart(String path, String uploadId, int partNumber, File file, long offset,
+                             long length) throws IOException {
+        UploadPartRequest uploadPartRequest = new UploadPartRequest()
+                .withBucketName(bucketName)
+                .withKey(path)
+                .withUploadId(uploadId)
+                .withPartNumber(partNumber)
+                .withFile(file)
+                .withFileOffset(offset)
+                .withPartSize(length);
+        try {
+            return s3Client.uploadPart(uploadPartRequest).getPartETag().getETag();
+        } catch (AmazonClientException e) {
+            throw new IOException(e);
+        }
+    }
+
+    @Override
+    public void completeMultipartUpload(String path, String uploadId,
+                                        SortedMap<Integer, String> partETags) throws IOException {
+        List<PartETag> s3PartETags = partETags.entrySet()
+                .stream()
+                .map(partETag -> new PartETag(partETag.getKey(), partETag.getValue()))
+                .collect(Collectors.toList());
+        try {
+            s3Client.completeMultipartUpload(
+                    new CompleteMultipartUploadRequest(bucketName, path, uploadId, s3PartETags));
+        } catch (AmazonClientException e) {
+            throw new IOException(e);
+        }
+    }
+
+    @Override
+    public void abortMultipartUpload(String path, String uploadId) throws IOException {
+        try {
+            s3Client.abortMultipartUpload(new AbortMultipartUploadRequest(bucketName, path, uploadId));
+        } catch (AmazonClientException e) {
+            throw new IOException(e);
+        }
+    }
+
+    private ObjectMetadata buildMetadata(String checksum) {
+        ObjectMetadata objectMetadata = new ObjectMetadata();
+        if (checksum != null) {
+            objectMetadata.addUserMetadata(CHECKSUM_METADATA_KEY, checksum);
+        }
+        return objectMetadata;
+    }
+
     @Override
     public boolean exists(String fullName) throws IOException {
         return s3Client.doesObjectExist(bucketName, fullName);
@@ -281,16 +372,15 @@ public class S3StorageOperator implements Closeable, StorageOperate {
     public boolean upload(String tenantCode, String srcFile, String dstPath, boolean deleteSource,
                           boolean overwrite) throws IOException {
         try {
-            s3Client.putObject(bucketName, dstPath, new File(srcFile));
-
-            if (deleteSource) {
-                Files.delete(Paths.get(srcFile));
-            }
-            return true;
-        } catch (AmazonServiceException e) {
-            log.error("upload failed,the bucketName is {},the filePath is {}", bucketName, dstPath);
+            transferManager.upload(srcFile, dstPath);
+        } catch (IOException e) {
+            log.error("upload failed,the bucketName is {},the filePath is {}", bucketName, dstPath, e);
             return false;
         }
+        if (deleteSource) {
+            Files.delete(Paths.get(srcFile));
+        }
+        return true;
     }
 
     @Override
@@ -25,24 +25,36 @@ import static org.mockito.Mockito.doReturn;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 
+import org.apache.dolphinscheduler.plugin.storage.api.MultipartStorageOperate;
 import org.apache.dolphinscheduler.plugin.storage.api.StorageEntity;
+import org.apache.dolphinscheduler.plugin.storage.api.StorageObjectMetadata;
 import org.apache.dolphinscheduler.spi.enums.ResourceType;
 
+import java.io.File;
 import java.io.IOException;
 import java.util.Collections;
+import java.util.Date;
 import java.util.List;
+import java.util.TreeMap;
 
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.Mock;
 import org.mockito.Mockito;
 import org.mockito.junit.jupiter.MockitoExtension;
 
 import com.amazonaws.services.s3.AmazonS3;
+import com.amazonaws.services.s3.Headers;
+import com.amazonaws.services.s3.model.CompleteMultipartUploadRequest;
 import com.amazonaws.services.s3.model.ListObjectsV2Request;
 import com.amazonaws.services.s3.model.ListObjectsV2Result;
+import com.amazonaws.services.s3.model.ObjectMetadata;
+import com.amazonaws.services.s3.model.PartETag;
+import com.amazonaws.services.s3.model.UploadPartRequest;
+import com.amazonaws.services.s3.model.UploadPartResult;
 
 @ExtendWith(MockitoExtension.class)
 public class S3StorageOperatorTest {
@@ -241,6 +253,52 @@ public class S3StorageOperatorTest {
         verify(s3StorageOperator, times(1)).deleteTenantCode(anyString());
     }
 
+    @Test
+    public void testGetObjectMetadata() throws IOException {
+        ObjectMetadata objectMetadata = new ObjectMetadata();
+        objectMetadata.setContentLength(1024L);
+        objectMetadata.addUserMetadata(MultipartStorageOperate.CHECKSUM_METADATA_KEY, "checksum");
+        objectMetadata.setHeader(Headers.ETAG, "etag");
+        objectMetadata.setLastModified(new Date(1000L));
+        doReturn(objectMetadata).when(s3Client).getObjectMetadata(BUCKET_NAME_MOCK, FILE_PATH_MOCK);
+
+        StorageObjectMetadata storageObjectMetadata = s3StorageOperator.getObjectMetadata(FILE_PATH_MOCK);
+        Assertions.assertEquals(1024L, storageObjectMetadata.getSize());
+        Assertions.assertEquals("checksum", storageObjectMetadata.getChecksum());
+        Assertions.assertEquals("etag", storageObjectMetadata.getETag());
+        Assertions.assertEquals(1000L, storageObjectMetadata.getLastModified());
+    }
+
+    @Test
+    public void testUploadPartAndCompleteMultipartUpload() throws IOException {
+        UploadPartResult uploadPartResult = new UploadPartResult();
+        uploadPartResult.setPartNumber(2);
+        uploadPartResult.setETag("etag2");
+        doReturn(uploadPartResult).when(s3Client).uploadPart(Mockito.any(UploadPartRequest.class));
+
+        File file = new File(FILE_PATH_MOCK);
+        Assertions.assertEquals("etag2",
+                s3StorageOperator.uploadPart(FILE_NAME_MOCK, "uploadId", 2, file, 1024L, 512L));
+        ArgumentCaptor<UploadPartRequest> uploadPartRequestCaptor = ArgumentCaptor.forClass(UploadPartRequest.class);
+        verify(s3Client).uploadPart(uploadPartRequestCaptor.capture());
+        UploadPartRequest uploadPartRequest = uploadPartRequestCaptor.getValue();
+        Assertions.assertEquals(BUCKET_NAME_MOCK, uploadPartRequest.getBucketName());
+        Assertions.assertEquals(2, uploadPartRequest.getPartNumber());
+        Assertions.assertEquals(1024L, uploadPartRequest.getFileOffset());
+        Assertions.assertEquals(512L, uploadPartRequest.getPartSize());
+
+        TreeMap<Integer, String> partETags = new TreeMap<>();
+        partETags.put(2, "etag2");
+        partETags.put(1, "etag1");
+        s3StorageOperator.completeMultipartUpload(FILE_NAME_MOCK, "uploadId", partETags);
+        ArgumentCaptor<CompleteMultipartUploadRequest> completeRequestCaptor =
+                ArgumentCaptor.forClass(CompleteMultipartUploadRequest.class);
+        verify(s3Client).completeMultipartUpload(completeRequestCaptor.capture());
+        List<PartETag> s3PartETags = completeRequestCaptor.getValue().getPartETags();
+        Assertions.assertEquals(1, s3PartETags.get(0).getPartNumber());
+        Assertions.assertEquals("etag2", s3PartETags.get(1).getETag());
+    }
+
     @Test
     public void testGetS3ResDir() {
         final String expectedS3ResDir = String.format("dolphinscheduler/%s/resources", TENANT_CODE_MOCK);
@@ -288,6 +288,18 @@ public class TaskConstants {
      */
     public static final int DEFAULT_DISPLAY_ROWS = 10;
 
+    /**
+     * the max bytes of the sql task query result, the rows exceed it will be dropped
+     */
+    public static final String SQL_TASK_RESULT_MAX_BYTES = "task.sql.result.max.bytes";
+    public static final long DEFAULT_SQL_TASK_RESULT_MAX_BYTES = 10 * 1024 * 1024L;
+
+    /**
+     * the fetch size of the sql task query
+     */
+    public static final String SQL_TASK_FETCH_SIZE = "task.sql.fetch.size";
+    public static final int DEFAULT_SQL_TASK_FETCH_SIZE = 1000;
+
     /**
      * jar
      */
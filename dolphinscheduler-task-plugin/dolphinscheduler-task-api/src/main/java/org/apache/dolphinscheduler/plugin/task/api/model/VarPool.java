@@ -0,0 +1,166 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.dolphinscheduler.plugin.task.api.model;
+
+import org.apache.dolphinscheduler.common.utils.JSONUtils;
+import org.apache.dolphinscheduler.plugin.task.api.enums.Direct;
+
+import org.apache.commons.lang3.StringUtils;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * The typed varPool of a task instance or a workflow instance, the varPool is stored as a JSON string in the db.
+ * <p>
+ * The varPool is immutable, it is parsed from the JSON string once and serialized lazily, the serialized string is
+ * cached. A derived varPool, e.g. merged from another varPool, is a new instance which shares the unchanged
+ * {@link Property}, so the varPool can be shared between the previous and the post tasks without copy. The shared
+ * {@link Property} should never be modified.
+ */
+public final class VarPool {
+
+    public static final VarPool EMPTY = new VarPool(Collections.emptyList(), null);
+
+    private final List<Property> properties;
+
+    private volatile String json;
+
+    private volatile VarPool inputVarPool;
+
+    private VarPool(List<Property> properties, String json) {
+        this.properties = properties;
+        this.json = json;
+    }
+
+    /**
+     * Parse the varPool from the JSON string, the given string will be returned by {@link #toJson()}.
+     */
+    public static VarPool of(String json) {
+        if (StringUtils.isEmpty(json)) {
+            return EMPTY;
+        }
+        return new VarPool(Collections.unmodifiableList(JSONUtils.toList(json, Property.class)), json);
+    }
+
+    public static VarPool of(Collection<Property> properties) {
+        if (properties.isEmpty()) {
+            return EMPTY;
+        }
+        return new VarPool(Collections.unmodifiableList(new ArrayList<>(properties)), null);
+    }
+
+    public List<Property> getProperties() {
+        return properties;
+    }
+
+    public int size() {
+        return properties.size();
+    }
+
+    public boolean isEmpty() {
+        return properties.isEmpty();
+    }
+
+    /**
+     * Merge the given varPool into this varPool, the properties of this varPool which have the same prop with the
+     * given varPool will be replaced, the given properties are appended to the end.
+     */
+    public VarPool merge(VarPool other) {
+        if (other.isEmpty()) {
+            return this;
+        }
+        if (isEmpty()) {
+            return other;
+        }
+        Set<String> otherProps = new HashSet<>();
+        for (Property property : other.properties) {
+            otherProps.add(property.getProp());
+        }
+        List<Property> mergedProperties = new ArrayList<>(properties.size() + other.properties.size());
+        for (Property property : properties) {
+            if (!otherProps.contains(property.getProp())) {
+                mergedProperties.add(property);
+            }
+        }
+        mergedProperties.addAll(other.properties);
+        return new VarPool(Collections.unmodifiableList(mergedProperties), null);
+    }
+
+    /**
+     * Get the varPool which all the properties are {@link Direct#IN}, this is the varPool passed to the post tasks. The
+     * result is cached, so all the post tasks share the same instance.
+     */
+    public VarPool asInput() {
+        VarPool result = inputVarPool;
+        if (result != null) {
+            return result;
+        }
+        boolean allInput = true;
+        for (Property property : properties) {
+            if (property.getDirect() != Direct.IN) {
+                allInput = false;
+                break;
+            }
+        }
+        if (allInput) {
+            result = this;
+        } else {
+            List<Property> inputProperties = new ArrayList<>(properties.size());
+            for (Property property : properties) {
+                inputProperties.add(property.getDirect() == Direct.IN ? property
+                        : new Property(property.getProp(), Direct.IN, property.getType(), property.getValue()));
+            }
+            result = new VarPool(Collections.unmodifiableList(inputProperties), null);
+        }
+        inputVarPool = result;
+        return result;
+    }
+
+    /**
+     * Serialize the varPool to the JSON string, the result is cached.
+     */
+    public String toJson() {
+        String result = json;
+        if (result == null) {
+            result = JSONUtils.toJsonString(properties);
+            json = result;
+        }
+        return result;
+    }
+
+    /**
+     * Whether the given JSON string is the serialized string of this varPool, this is used to check whether a cached
+     * varPool is still up-to-date with the JSON string in the entity.
+     */
+    public boolean isSerializedAs(String json) {
+        if (StringUtils.isEmpty(json)) {
+            return this == EMPTY;
+        }
+        if (this == EMPTY) {
+            return false;
+        }
+        String serializedJson = toJson();
+        return serializedJson == json || serializedJson.equals(json);
+    }
+
+}
@@ -0,0 +1,93 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.dolphinscheduler.plugin.task.api.model;
+
+import org.apache.dolphinscheduler.common.utils.JSONUtils;
+import org.apache.dolphinscheduler.plugin.task.api.enums.DataType;
+import org.apache.dolphinscheduler.plugin.task.api.enums.Direct;
+
+import java.util.Arrays;
+import java.util.Collections;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+public class VarPoolTest {
+
+    @Test
+    public void testParseAndSerialize() {
+        Assertions.assertSame(VarPool.EMPTY, VarPool.of((String) null));
+        Assertions.assertSame(VarPool.EMPTY, VarPool.of(""));
+        Assertions.assertSame(VarPool.EMPTY, VarPool.of(Collections.emptyList()));
+        Assertions.assertTrue(VarPool.EMPTY.isSerializedAs(null));
+
+        String json = "[{\"prop\":\"a\",\"direct\":\"OUT\",\"type\":\"VARCHAR\",\"value\":\"1\"}]";
+        VarPool varPool = VarPool.of(json);
+        Assertions.assertEquals(1, varPool.size());
+        Assertions.assertEquals("a", varPool.getProperties().get(0).getProp());
+        // the parsed string is returned without serialization
+        Assertions.assertSame(json, varPool.toJson());
+        Assertions.assertTrue(varPool.isSerializedAs(json));
+        Assertions.assertTrue(varPool.isSerializedAs(new String(json)));
+        Assertions.assertFalse(varPool.isSerializedAs(""));
+        Assertions.assertFalse(VarPool.EMPTY.isSerializedAs(json));
+
+        VarPool copied = VarPool.of(varPool.getProperties());
+        Assertions.assertEquals(json, copied.toJson());
+        Assertions.assertSame(copied.toJson(), copied.toJson());
+    }
+
+    @Test
+    public void testMerge() {
+        VarPool processVarPool = VarPool.of(Arrays.asList(
+                new Property("a", Direct.IN, DataType.VARCHAR, "1"),
+                new Property("b", Direct.IN, DataType.VARCHAR, "2")));
+        VarPool taskVarPool = VarPool.of(Arrays.asList(
+                new Property("b", Direct.OUT, DataType.VARCHAR, "3"),
+                new Property("c", Direct.OUT, DataType.VARCHAR, "4")));
+
+        Assertions.assertSame(taskVarPool, VarPool.EMPTY.merge(taskVarPool));
+        Assertions.assertSame(processVarPool, processVarPool.merge(VarPool.EMPTY));
+
+        VarPool merged = processVarPool.merge(taskVarPool);
+        Assertions.assertEquals(3, merged.size());
+        Assertions.assertEquals("a", merged.getProperties().get(0).getProp());
+        Assertions.assertEquals("3", merged.getProperties().get(1).getValue());
+        Assertions.assertEquals("c", merged.getProperties().get(2).getProp());
+        // the unchanged properties are shared
+        Assertions.assertSame(processVarPool.getProperties().get(0), merged.getProperties().get(0));
+        // the merged varPool is the same as parsing the merged JSON string
+        Assertions.assertEquals(merged.getProperties(),
+                JSONUtils.toList(merged.toJson(), Property.class));
+    }
+
+    @Test
+    public void testAsInput() {
+        VarPool varPool = VarPool.of(Arrays.asList(
+                new Property("a", Direct.OUT, DataType.VARCHAR, "1"),
+                new Property("b", Direct.IN, DataType.VARCHAR, "2")));
+        VarPool inputVarPool = varPool.asInput();
+        Assertions.assertSame(inputVarPool, varPool.asInput());
+        Assertions.assertSame(inputVarPool, inputVarPool.asInput());
+        Assertions.assertEquals(Direct.IN, inputVarPool.getProperties().get(0).getDirect());
+        Assertions.assertSame(varPool.getProperties().get(1), inputVarPool.getProperties().get(1));
+        // the shared property should not be modified
+        Assertions.assertEquals(Direct.OUT, varPool.getProperties().get(0).getDirect());
+    }
+
+}
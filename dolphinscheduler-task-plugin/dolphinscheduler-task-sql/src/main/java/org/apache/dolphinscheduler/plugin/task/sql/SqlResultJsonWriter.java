@@ -0,0 +1,111 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.dolphinscheduler.plugin.task.sql;
+
+/**
+ * Write the rows of the sql query result to a JSON array incrementally.
+ * <p>
+ * Each row is serialized as soon as it is read, so only the serialized rows are kept in memory rather than the JSON
+ * nodes of the whole result, and the rows which exceed the max bytes are dropped, so the memory used by the result of
+ * a sql task is bounded.
+ */
+class SqlResultJsonWriter {
+
+    private final long maxBytes;
+
+    private final StringBuilder json = new StringBuilder("[");
+
+    // the UTF-8 bytes of the JSON array, including the brackets
+    private long bytes = 2;
+
+    private int rowCount;
+
+    private boolean truncated;
+
+    SqlResultJsonWriter(long maxBytes) {
+        this.maxBytes = maxBytes;
+    }
+
+    /**
+     * Append a serialized row to the JSON array. The first row is always kept even if it exceeds the max bytes, so a
+     * non-empty result will never be reported as an empty one.
+     *
+     * @return false if the row is dropped since the max bytes is exceeded, the following rows will be dropped too
+     */
+    boolean writeRow(String row) {
+        if (truncated) {
+            return false;
+        }
+        long rowBytes = utf8Length(row) + (rowCount == 0 ? 0 : 1);
+        if (rowCount > 0 && bytes + rowBytes > maxBytes) {
+            truncated = true;
+            return false;
+        }
+        if (rowCount > 0) {
+            json.append(',');
+        }
+        json.append(row);
+        bytes += rowBytes;
+        rowCount++;
+        return true;
+    }
+
+    long getMaxBytes() {
+        return maxBytes;
+    }
+
+    int getRowCount() {
+        return rowCount;
+    }
+
+    long getBytes() {
+        return bytes;
+    }
+
+    boolean isEmpty() {
+        return rowCount == 0;
+    }
+
+    boolean isTruncated() {
+        return truncated;
+    }
+
+    String toJson() {
+        return json.toString() + ']';
+    }
+
+    private static long utf8Length(String value) {
+        long length = 0;
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            if (c < 0x80) {
+                length += 1;
+            } else if (c < 0x800) {
+                length += 2;
+            } else if (Character.isHighSurrogate(c)) {
+                // a surrogate pair is 4 bytes in UTF-8, and the low surrogate is counted as 0
+                length += 4;
+                i++;
+            } else {
+                length += 3;
+            }
+        }
+        return length;
+    }
+
+}
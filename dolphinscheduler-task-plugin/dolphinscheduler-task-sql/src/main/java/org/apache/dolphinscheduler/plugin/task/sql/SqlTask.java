@@ -19,6 +19,7 @@ package org.apache.dolphinscheduler.plugin.task.sql;
 
 import org.apache.dolphinscheduler.common.utils.DateUtils;
 import org.apache.dolphinscheduler.common.utils.JSONUtils;
+import org.apache.dolphinscheduler.common.utils.PropertyUtils;
 import org.apache.dolphinscheduler.plugin.datasource.api.plugin.DataSourceClientProvider;
 import org.apache.dolphinscheduler.plugin.datasource.api.plugin.DataSourceProcessorProvider;
 import org.apache.dolphinscheduler.plugin.datasource.api.utils.DataSourceUtils;
@@ -235,37 +236,40 @@ public class SqlTask extends AbstractTask {
     }
 
     /**
-     * result process
+     * result process, the rows are serialized as soon as they are read, and the rows exceed the max result bytes will
+     * be dropped.
      *
      * @param resultSet resultSet
+     * @param resultWriter the writer which holds the serialized rows
      * @throws Exception Exception
      */
-    private String resultProcess(ResultSet resultSet) throws Exception {
-        ArrayNode resultJSONArray = JSONUtils.createArrayNode();
+    private String resultProcess(ResultSet resultSet, SqlResultJsonWriter resultWriter) throws Exception {
         if (resultSet != null) {
             ResultSetMetaData md = resultSet.getMetaData();
             int num = md.getColumnCount();
+            int displayRows = sqlParameters.getDisplayRows() > 0 ? sqlParameters.getDisplayRows()
+                    : TaskConstants.DEFAULT_DISPLAY_ROWS;
+            log.info("display sql result at most {} rows as follows:", displayRows);
 
             while (resultSet.next()) {
                 ObjectNode mapOfColValues = JSONUtils.createObjectNode();
                 for (int i = 1; i <= num; i++) {
                     mapOfColValues.set(md.getColumnLabel(i), JSONUtils.toJsonNode(resultSet.getObject(i)));
                 }
-                resultJSONArray.add(mapOfColValues);
-            }
-
-            int displayRows = sqlParameters.getDisplayRows() > 0 ? sqlParameters.getDisplayRows()
-                    : TaskConstants.DEFAULT_DISPLAY_ROWS;
-            displayRows = Math.min(displayRows, resultJSONArray.size());
-            log.info("display sql result {} rows as follows:", displayRows);
-            for (int i = 0; i < displayRows; i++) {
-                String row = JSONUtils.toJsonString(resultJSONArray.get(i));
-                log.info("row {} : {}", i + 1, row);
+                String row = JSONUtils.toJsonString(mapOfColValues);
+                if (resultWriter.getRowCount() < displayRows) {
+                    log.info("row {} : {}", resultWriter.getRowCount() + 1, row);
+                }
+                if (!resultWriter.writeRow(row)) {
+                    log.warn("The sql result exceeds the max bytes: {}, the rows after row {} are dropped",
+                            resultWriter.getMaxBytes(), resultWriter.getRowCount());
+                    break;
+                }
             }
         }
 
-        String result = resultJSONArray.isEmpty() ? JSONUtils.toJsonString(generateEmptyRow(resultSet))
-                : JSONUtils.toJsonString(resultJSONArray);
+        String result = resultWriter.isEmpty() ? JSONUtils.toJsonString(generateEmptyRow(resultSet))
+                : resultWriter.toJson();
 
         if (Boolean.TRUE.equals(sqlParameters.getSendEmail())) {
             sendAttachment(sqlParameters.getGroupId(), StringUtils.isNotEmpty(sqlParameters.getTitle())
@@ -313,9 +317,39 @@ public class SqlTask extends AbstractTask {
 
     private String executeQuery(Connection connection, SqlBinds sqlBinds, String handlerType) throws Exception {
         try (PreparedStatement statement = prepareStatementAndBind(connection, sqlBinds)) {
+            setFetchSize(statement);
             log.info("{} statement execute query, for sql: {}", handlerType, sqlBinds.getSql());
-            ResultSet resultSet = statement.executeQuery();
-            return resultProcess(resultSet);
+            long startTime = System.currentTimeMillis();
+            SqlResultJsonWriter resultWriter = new SqlResultJsonWriter(PropertyUtils.getLong(
+                    TaskConstants.SQL_TASK_RESULT_MAX_BYTES, TaskConstants.DEFAULT_SQL_TASK_RESULT_MAX_BYTES));
+            try (ResultSet resultSet = statement.executeQuery()) {
+                String result = resultProcess(resultSet, resultWriter);
+                long cost = System.currentTimeMillis() - startTime;
+                log.info("{} statement query finished, rows: {}, bytes: {}, truncated: {}, cost: {} ms", handlerType,
+                        resultWriter.getRowCount(), resultWriter.getBytes(), resultWriter.isTruncated(), cost);
+                SqlTaskMetrics.recordQueryResult(dbType.name(), resultWriter.getRowCount(),
+                        resultWriter.getBytes(), cost, resultWriter.isTruncated());
+                return result;
+            }
+        }
+    }
+
+    private int getQueryLimit() {
+        return sqlParameters.getLimit() <= 0 ? QUERY_LIMIT : sqlParameters.getLimit();
+    }
+
+    /**
+     * Fetch the rows in batches rather than all at once for the drivers which support it, the fetch size should not
+     * exceed the max rows.
+     */
+    private void setFetchSize(PreparedStatement statement) {
+        int fetchSize = Math.min(
+                PropertyUtils.getInt(TaskConstants.SQL_TASK_FETCH_SIZE, TaskConstants.DEFAULT_SQL_TASK_FETCH_SIZE),
+                getQueryLimit());
+        try {
+            statement.setFetchSize(fetchSize);
+        } catch (SQLException e) {
+            log.warn("Set the fetch size: {} failed, will use the default fetch size of the driver", fetchSize, e);
         }
     }
 
@@ -381,7 +415,7 @@ public class SqlTask extends AbstractTask {
             if (timeoutFlag) {
                 stmt.setQueryTimeout(taskExecutionContext.getTaskTimeout());
             }
-            stmt.setMaxRows(sqlParameters.getLimit() <= 0 ? QUERY_LIMIT : sqlParameters.getLimit());
+            stmt.setMaxRows(getQueryLimit());
             Map<Integer, Property> params = sqlBinds.getParamsMap();
             if (params != null) {
                 for (Map.Entry<Integer, Property> entry : params.entrySet()) {
@@ -0,0 +1,58 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.dolphinscheduler.plugin.task.sql;
+
+import java.time.Duration;
+
+import lombok.experimental.UtilityClass;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.Metrics;
+import io.micrometer.core.instrument.Timer;
+
+@UtilityClass
+public class SqlTaskMetrics {
+
+    public void recordQueryResult(String datasourceType, int rows, long bytes, long costMillis, boolean truncated) {
+        DistributionSummary.builder("ds.task.sql.result.rows")
+                .tag("datasource_type", datasourceType)
+                .description("The rows of the sql query result")
+                .register(Metrics.globalRegistry)
+                .record(rows);
+        DistributionSummary.builder("ds.task.sql.result.bytes")
+                .tag("datasource_type", datasourceType)
+                .baseUnit("bytes")
+                .description("The bytes of the sql query result")
+                .register(Metrics.globalRegistry)
+                .record(bytes);
+        Timer.builder("ds.task.sql.query.time")
+                .tag("datasource_type", datasourceType)
+                .description("The time cost of the sql query, including reading the result")
+                .register(Metrics.globalRegistry)
+                .record(Duration.ofMillis(costMillis));
+        if (truncated) {
+            Counter.builder("ds.task.sql.result.truncated.count")
+                    .tag("datasource_type", datasourceType)
+                    .description("The count of the sql query results which are truncated by the max bytes")
+                    .register(Metrics.globalRegistry)
+                    .increment();
+        }
+    }
+
+}
@@ -0,0 +1,73 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.dolphinscheduler.plugin.task.sql;
+
+import org.apache.dolphinscheduler.common.utils.JSONUtils;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+public class SqlResultJsonWriterTest {
+
+    @Test
+    public void testWriteRows() {
+        SqlResultJsonWriter writer = new SqlResultJsonWriter(1024);
+        Assertions.assertTrue(writer.isEmpty());
+        Assertions.assertTrue(writer.writeRow("{\"id\":1,\"name\":\"a\"}"));
+        Assertions.assertTrue(writer.writeRow("{\"id\":2,\"name\":\"测试\"}"));
+
+        String json = writer.toJson();
+        Assertions.assertEquals("[{\"id\":1,\"name\":\"a\"},{\"id\":2,\"name\":\"测试\"}]", json);
+        Assertions.assertEquals(2, writer.getRowCount());
+        Assertions.assertEquals(json.getBytes(StandardCharsets.UTF_8).length, writer.getBytes());
+        Assertions.assertFalse(writer.isTruncated());
+        Assertions.assertEquals(2, JSONUtils.toList(json, Map.class).size());
+    }
+
+    @Test
+    public void testTruncateRows() {
+        String row = "{\"id\":1}";
+        // two rows with the brackets and the comma
+        SqlResultJsonWriter writer = new SqlResultJsonWriter(row.length() * 2 + 3);
+        Assertions.assertTrue(writer.writeRow(row));
+        Assertions.assertTrue(writer.writeRow(row));
+        Assertions.assertFalse(writer.writeRow(row));
+        Assertions.assertFalse(writer.writeRow("{}"));
+
+        Assertions.assertTrue(writer.isTruncated());
+        Assertions.assertEquals(2, writer.getRowCount());
+        Assertions.assertEquals("[" + row + "," + row + "]", writer.toJson());
+    }
+
+    @Test
+    public void testKeepFirstRowExceedsMaxBytes() {
+        String row = "{\"id\":1}";
+        SqlResultJsonWriter writer = new SqlResultJsonWriter(row.length());
+        Assertions.assertTrue(writer.writeRow(row));
+        Assertions.assertFalse(writer.writeRow(row));
+
+        Assertions.assertFalse(writer.isEmpty());
+        Assertions.assertTrue(writer.isTruncated());
+        Assertions.assertEquals(1, writer.getRowCount());
+        Assertions.assertEquals("[" + row + "]", writer.toJson());
+    }
+
+}
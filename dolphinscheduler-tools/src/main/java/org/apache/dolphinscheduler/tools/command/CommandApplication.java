@@ -64,17 +64,25 @@ public class CommandApplication {
 
         @Override
         public void run(String... args) throws Exception {
+            if (dbType != DbType.MYSQL && dbType != DbType.POSTGRE_SQL) {
+                log.error("Unsupported database type: {}", dbType);
+                return;
+            }
             if (databaseDialect.tableExists("t_ds_jdbc_registry_data")
                     || databaseDialect.tableExists("t_ds_jdbc_registry_lock")) {
                 log.warn("t_ds_jdbc_registry_data/t_ds_jdbc_registry_lock already exists");
-                return;
-            }
-            if (dbType == DbType.MYSQL) {
+            } else if (dbType == DbType.MYSQL) {
                 jdbcRegistrySchemaInitializeInMysql();
-            } else if (dbType == DbType.POSTGRE_SQL) {
+            } else {
                 jdbcRegistrySchemaInitializeInPG();
+            }
+            // The change event table is added later, so it is created separately for the existing jdbc registry.
+            if (databaseDialect.tableExists("t_ds_jdbc_registry_data_change_event")) {
+                log.warn("t_ds_jdbc_registry_data_change_event already exists");
+            } else if (dbType == DbType.MYSQL) {
+                jdbcRegistryChangeEventSchemaInitializeInMysql();
             } else {
-                log.error("Unsupported database type: {}", dbType);
+                jdbcRegistryChangeEventSchemaInitializeInPG();
             }
         }
 
@@ -148,5 +156,42 @@ public class CommandApplication {
             }
         }
 
+        private void jdbcRegistryChangeEventSchemaInitializeInMysql() throws SQLException {
+            try (
+                    Connection connection = dataSource.getConnection();
+                    Statement statement = connection.createStatement()) {
+                statement.execute("CREATE TABLE `t_ds_jdbc_registry_data_change_event`\n" +
+                        "(\n" +
+                        "    `id`          bigint(11)   NOT NULL AUTO_INCREMENT COMMENT 'primary key, the revision of the registry data',\n"
+                        +
+                        "    `event_type`  varchar(64)  NOT NULL COMMENT 'ADD, UPDATE, REMOVE',\n" +
+                        "    `data_key`    varchar(256) NOT NULL COMMENT 'key, like zookeeper node path',\n" +
+                        "    `data_value`  text COMMENT 'data, like zookeeper node value',\n" +
+                        "    `create_time` timestamp    NOT NULL DEFAULT CURRENT_TIMESTAMP COMMENT 'create time',\n" +
+                        "    PRIMARY KEY (`id`),\n" +
+                        "    KEY `idx_create_time` (`create_time`)\n" +
+                        ") ENGINE = InnoDB\n" +
+                        "  DEFAULT CHARSET = utf8;");
+            }
+        }
+
+        private void jdbcRegistryChangeEventSchemaInitializeInPG() throws SQLException {
+            try (
+                    Connection connection = dataSource.getConnection();
+                    Statement statement = connection.createStatement()) {
+                statement.execute("create table t_ds_jdbc_registry_data_change_event\n" +
+                        "(\n" +
+                        "    id          bigserial\n" +
+                        "        constraint t_ds_jdbc_registry_data_change_event_pk primary key,\n" +
+                        "    event_type  varchar                             not null,\n" +
+                        "    data_key    varchar                             not null,\n" +
+                        "    data_value  text,\n" +
+                        "    create_time timestamp default current_timestamp not null\n" +
+                        ");");
+                statement.execute(
+                        "create index t_ds_jdbc_registry_data_change_event_create_time_index on t_ds_jdbc_registry_data_change_event (create_time);");
+            }
+        }
+
     }
 }
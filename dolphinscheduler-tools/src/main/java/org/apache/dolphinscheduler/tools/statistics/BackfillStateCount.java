@@ -0,0 +1,87 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.dolphinscheduler.tools.statistics;
+
+import org.apache.dolphinscheduler.common.utils.DateUtils;
+import org.apache.dolphinscheduler.dao.repository.ProcessInstanceStateCountDao;
+import org.apache.dolphinscheduler.dao.repository.TaskInstanceStateCountDao;
+
+import java.util.Calendar;
+import java.util.Date;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.CommandLineRunner;
+import org.springframework.boot.SpringApplication;
+import org.springframework.boot.autoconfigure.SpringBootApplication;
+import org.springframework.context.annotation.ComponentScan;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Component;
+
+/**
+ * Recompute the hourly rollup of the workflow/task instance state counts in the given time range, the master only
+ * maintains the recent hours, so the history instances need to be rolled up by this tool before the statistics of the
+ * api server are served from the rollup.
+ */
+@SpringBootApplication
+@ComponentScan("org.apache.dolphinscheduler")
+public class BackfillStateCount {
+
+    public static void main(String[] args) {
+        SpringApplication.run(BackfillStateCount.class, args);
+    }
+
+    @Component
+    @Profile("state-count")
+    static class BackfillStateCountRunner implements CommandLineRunner {
+
+        private static final Logger logger = LoggerFactory.getLogger(BackfillStateCountRunner.class);
+
+        @Autowired
+        private ProcessInstanceStateCountDao processInstanceStateCountDao;
+
+        @Autowired
+        private TaskInstanceStateCountDao taskInstanceStateCountDao;
+
+        @Override
+        public void run(String... args) {
+            Date startTime = args.length > 0 ? DateUtils.stringToDate(args[0]) : null;
+            Date endTime = args.length > 1 ? DateUtils.stringToDate(args[1]) : new Date();
+            if (startTime == null || endTime == null) {
+                logger.error("Usage: backfill-state-count.sh <start time> [end time], e.g. \"2024-01-01 00:00:00\"");
+                return;
+            }
+            startTime = DateUtils.getStartOfHour(startTime);
+            logger.info("Backfilling the state count rollup from {} to {}", DateUtils.dateToString(startTime),
+                    DateUtils.dateToString(endTime));
+
+            int bucketCount = 0;
+            for (Date statTime = startTime; !statTime.after(endTime); statTime =
+                    DateUtils.add(statTime, Calendar.HOUR_OF_DAY, 1)) {
+                int processRowCount = processInstanceStateCountDao.rollup(statTime);
+                int taskRowCount = taskInstanceStateCountDao.rollup(statTime);
+                bucketCount++;
+                logger.info("Rollup the hour bucket {}, workflow rows: {}, task rows: {}",
+                        DateUtils.dateToString(statTime), processRowCount, taskRowCount);
+            }
+            logger.info("Backfilled {} hour buckets of the state count rollup", bucketCount);
+        }
+    }
+
+}
@@ -0,0 +1,67 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.dolphinscheduler.server.worker.config;
+
+import java.time.Duration;
+
+import lombok.Data;
+
+import org.springframework.util.unit.DataSize;
+import org.springframework.validation.Errors;
+
+/**
+ * The config of the outbox which stores the task instance execution events that are not acknowledged by the master.
+ */
+@Data
+public class MessageOutboxConfig {
+
+    /**
+     * If set true, the unacknowledged events will be persisted in the local file, and replayed after worker restart.
+     */
+    private boolean persistenceEnabled = true;
+
+    /**
+     * The directory of the outbox files, default is ${data.basedir.path}/worker-message-outbox/${worker.listen-port}.
+     */
+    private String path;
+
+    /**
+     * The outbox file will be compacted when its size exceeds this value.
+     */
+    private DataSize maxSegmentSize = DataSize.ofMegabytes(64);
+
+    /**
+     * The interval of the first retry, the interval is doubled after each retry, until reaching the max interval.
+     */
+    private Duration retryInitialInterval = Duration.ofSeconds(10);
+
+    private Duration retryMaxInterval = Duration.ofMinutes(5);
+
+    public void validate(Errors errors) {
+        if (maxSegmentSize.toBytes() <= 0) {
+            errors.rejectValue("message-outbox.max-segment-size", null, "should be a positive value");
+        }
+        if (retryInitialInterval.toMillis() <= 0) {
+            errors.rejectValue("message-outbox.retry-initial-interval", null, "should be a valid duration");
+        }
+        if (retryMaxInterval.compareTo(retryInitialInterval) < 0) {
+            errors.rejectValue("message-outbox.retry-max-interval", null,
+                    "should not be smaller than retry-initial-interval");
+        }
+    }
+}
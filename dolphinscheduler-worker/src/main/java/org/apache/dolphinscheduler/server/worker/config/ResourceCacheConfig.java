@@ -0,0 +1,54 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.dolphinscheduler.server.worker.config;
+
+import lombok.Data;
+
+import org.springframework.util.unit.DataSize;
+import org.springframework.validation.Errors;
+
+/**
+ * The config of the worker local cache of the files downloaded from the storage, e.g. the resources and the upstream
+ * files of the tasks.
+ */
+@Data
+public class ResourceCacheConfig {
+
+    /**
+     * If set true, the downloaded files will be cached read-only by their storage path and version, and linked or
+     * copied into the task working directory, otherwise the files will be downloaded for each task.
+     */
+    private boolean enabled = true;
+
+    /**
+     * The directory of the cached files, default is ${data.basedir.path}/worker-resource-cache/${worker.listen-port}.
+     * It should be in the same file system with the task working directory, so the cached files can be hard linked.
+     */
+    private String path;
+
+    /**
+     * The least recently used files will be evicted when the total size of the cached files exceeds this value.
+     */
+    private DataSize maxSize = DataSize.ofGigabytes(10);
+
+    public void validate(Errors errors) {
+        if (maxSize.toBytes() <= 0) {
+            errors.rejectValue("resource-cache.max-size", null, "should be a positive value");
+        }
+    }
+}
@@ -17,6 +17,7 @@
 
 package org.apache.dolphinscheduler.server.worker.config;
 
+import org.apache.dolphinscheduler.common.utils.FileUtils;
 import org.apache.dolphinscheduler.common.utils.NetUtils;
 import org.apache.dolphinscheduler.registry.api.ConnectStrategyProperties;
 import org.apache.dolphinscheduler.registry.api.enums.RegistryNodeType;
@@ -58,6 +59,10 @@ public class WorkerConfig implements Validator {
 
     private TenantConfig tenantConfig = new TenantConfig();
 
+    private MessageOutboxConfig messageOutbox = new MessageOutboxConfig();
+
+    private ResourceCacheConfig resourceCache = new ResourceCacheConfig();
+
     @Override
     public boolean supports(Class<?> clazz) {
         return WorkerConfig.class.isAssignableFrom(clazz);
@@ -72,6 +77,16 @@ public class WorkerConfig implements Validator {
         if (workerConfig.getMaxHeartbeatInterval().getSeconds() <= 0) {
             errors.rejectValue("max-heartbeat-interval", null, "shoule be a valid duration");
         }
+        workerConfig.getMessageOutbox().validate(errors);
+        if (StringUtils.isEmpty(workerConfig.getMessageOutbox().getPath())) {
+            workerConfig.getMessageOutbox().setPath(
+                    FileUtils.DATA_BASEDIR + "/worker-message-outbox/" + workerConfig.getListenPort());
+        }
+        workerConfig.getResourceCache().validate(errors);
+        if (StringUtils.isEmpty(workerConfig.getResourceCache().getPath())) {
+            workerConfig.getResourceCache().setPath(
+                    FileUtils.DATA_BASEDIR + "/worker-resource-cache/" + workerConfig.getListenPort());
+        }
         if (StringUtils.isEmpty(workerConfig.getWorkerAddress())) {
             workerConfig.setWorkerAddress(NetUtils.getAddr(workerConfig.getListenPort()));
         }
@@ -92,6 +107,8 @@ public class WorkerConfig implements Validator {
                         "\n  server-load-protection -> " + serverLoadProtection +
                         "\n  registry-disconnect-strategy -> " + registryDisconnectStrategy +
                         "\n  task-execute-threads-full-policy: " + taskExecuteThreadsFullPolicy +
+                        "\n  message-outbox -> " + messageOutbox +
+                        "\n  resource-cache -> " + resourceCache +
                         "\n  address -> " + workerAddress +
                         "\n  registry-path: " + workerRegistryPath +
                         "\n****************************Worker Configuration**************************************";
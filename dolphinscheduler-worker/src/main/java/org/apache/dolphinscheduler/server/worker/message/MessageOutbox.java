@@ -0,0 +1,318 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.dolphinscheduler.server.worker.message;
+
+import org.apache.dolphinscheduler.common.utils.JSONUtils;
+import org.apache.dolphinscheduler.extract.master.transportor.ITaskInstanceExecutionEvent;
+import org.apache.dolphinscheduler.extract.master.transportor.ITaskInstanceExecutionEvent.TaskInstanceExecutionEventType;
+import org.apache.dolphinscheduler.extract.master.transportor.TaskInstanceExecutionFinishEvent;
+import org.apache.dolphinscheduler.extract.master.transportor.TaskInstanceExecutionInfoEvent;
+import org.apache.dolphinscheduler.extract.master.transportor.TaskInstanceExecutionRunningEvent;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import java.util.zip.CRC32;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * An append-only log of the task instance execution events which are not acknowledged by the master.
+ * <p>
+ * The log is split into segments, the events are appended to the latest segment, and the acknowledgements are appended
+ * as remove records. Once the latest segment exceeds the max size, the live events will be rewritten into a new
+ * segment and the old segments will be deleted.
+ * <p>
+ * Each record is stored as: [int length][int crc32][byte operation][int taskInstanceId][byte eventType][event json],
+ * the broken record at the tail of a segment, e.g. the worker crashed while writing, will be ignored when replaying.
+ */
+@Slf4j
+public class MessageOutbox implements AutoCloseable {
+
+    private static final String SEGMENT_FILE_PREFIX = "segment-";
+
+    private static final String SEGMENT_FILE_SUFFIX = ".log";
+
+    private static final byte NO_EVENT_TYPE = -1;
+
+    private final Path directory;
+
+    private final long maxSegmentSize;
+
+    private long currentSegmentId;
+
+    private long currentSegmentSize;
+
+    private DataOutputStream currentSegmentOutputStream;
+
+    public MessageOutbox(Path directory, long maxSegmentSize) {
+        this.directory = directory;
+        this.maxSegmentSize = maxSegmentSize;
+    }
+
+    /**
+     * Open the outbox and replay the records of the existing segments.
+     *
+     * @return the records in the order of appending.
+     */
+    public synchronized List<OutboxRecord> open() throws IOException {
+        Files.createDirectories(directory);
+        List<Long> segmentIds = listSegmentIds();
+        List<OutboxRecord> records = new ArrayList<>();
+        for (Long segmentId : segmentIds) {
+            readSegment(segmentId, records);
+        }
+        // Always append to a new segment, the tail of the last segment may be broken.
+        currentSegmentId = segmentIds.isEmpty() ? 0 : segmentIds.get(segmentIds.size() - 1) + 1;
+        openCurrentSegment();
+        log.info("Open the message outbox: {}, replay {} records from {} segments", directory, records.size(),
+                segmentIds.size());
+        return records;
+    }
+
+    public synchronized void put(ITaskInstanceExecutionEvent event) throws IOException {
+        append(new OutboxRecord(Operation.PUT, getTaskInstanceId(event), event.getEventType(), event));
+    }
+
+    public synchronized void remove(int taskInstanceId, TaskInstanceExecutionEventType eventType) throws IOException {
+        append(new OutboxRecord(Operation.REMOVE, taskInstanceId, eventType, null));
+    }
+
+    public synchronized void removeAll(int taskInstanceId) throws IOException {
+        append(new OutboxRecord(Operation.REMOVE_ALL, taskInstanceId, null, null));
+    }
+
+    public synchronized boolean needCompact() {
+        return currentSegmentSize > maxSegmentSize;
+    }
+
+    /**
+     * Rewrite the given live events into a new segment, and delete the old segments.
+     */
+    public synchronized void compact(Collection<ITaskInstanceExecutionEvent> liveEvents) throws IOException {
+        long newSegmentId = currentSegmentId + 1;
+        Path tmpSegmentPath = directory.resolve(getSegmentFileName(newSegmentId) + ".tmp");
+        try (FileOutputStream fileOutputStream = new FileOutputStream(tmpSegmentPath.toFile());
+                DataOutputStream outputStream = new DataOutputStream(new BufferedOutputStream(fileOutputStream))) {
+            for (ITaskInstanceExecutionEvent event : liveEvents) {
+                writeRecord(outputStream,
+                        new OutboxRecord(Operation.PUT, getTaskInstanceId(event), event.getEventType(), event));
+            }
+            outputStream.flush();
+            fileOutputStream.getChannel().force(true);
+        }
+        Files.move(tmpSegmentPath, getSegmentPath(newSegmentId), StandardCopyOption.ATOMIC_MOVE);
+
+        closeCurrentSegment();
+        for (Long segmentId : listSegmentIds()) {
+            if (segmentId < newSegmentId) {
+                Files.deleteIfExists(getSegmentPath(segmentId));
+            }
+        }
+        currentSegmentId = newSegmentId;
+        openCurrentSegment();
+        log.info("Compact the message outbox: {}, {} live events remain", directory, liveEvents.size());
+    }
+
+    /**
+     * Remove all the records.
+     */
+    public synchronized void clear() throws IOException {
+        compact(new ArrayList<>());
+    }
+
+    @Override
+    public synchronized void close() {
+        try {
+            closeCurrentSegment();
+        } catch (IOException ex) {
+            log.error("Close the message outbox: {} failed", directory, ex);
+        }
+    }
+
+    private void append(OutboxRecord record) throws IOException {
+        if (currentSegmentOutputStream == null) {
+            throw new IOException("The message outbox: " + directory + " is not opened");
+        }
+        currentSegmentSize += writeRecord(currentSegmentOutputStream, record);
+        // Flush each record to the OS, so the record will not be lost if the worker process crashed.
+        currentSegmentOutputStream.flush();
+    }
+
+    private int writeRecord(DataOutputStream outputStream, OutboxRecord record) throws IOException {
+        byte[] eventBytes = record.getEvent() == null ? new byte[0] : JSONUtils.toJsonByteArray(record.getEvent());
+        ByteBuffer payload = ByteBuffer.allocate(1 + 4 + 1 + eventBytes.length);
+        payload.put((byte) record.getOperation().ordinal());
+        payload.putInt(record.getTaskInstanceId());
+        payload.put(record.getEventType() == null ? NO_EVENT_TYPE : (byte) record.getEventType().ordinal());
+        payload.put(eventBytes);
+
+        CRC32 crc32 = new CRC32();
+        crc32.update(payload.array());
+        outputStream.writeInt(payload.capacity());
+        outputStream.writeInt((int) crc32.getValue());
+        outputStream.write(payload.array());
+        return 4 + 4 + payload.capacity();
+    }
+
+    private void readSegment(long segmentId, List<OutboxRecord> records) throws IOException {
+        Path segmentPath = getSegmentPath(segmentId);
+        try (InputStream inputStream = Files.newInputStream(segmentPath);
+                DataInputStream dataInputStream = new DataInputStream(new BufferedInputStream(inputStream))) {
+            while (true) {
+                int length;
+                try {
+                    length = dataInputStream.readInt();
+                } catch (EOFException ex) {
+                    return;
+                }
+                try {
+                    int crc = dataInputStream.readInt();
+                    if (length < 6) {
+                        log.warn("Found a broken record in {}, ignore the remaining records", segmentPath);
+                        return;
+                    }
+                    byte[] payload = new byte[length];
+                    dataInputStream.readFully(payload);
+                    CRC32 crc32 = new CRC32();
+                    crc32.update(payload);
+                    if ((int) crc32.getValue() != crc) {
+                        log.warn("Found a broken record in {}, ignore the remaining records", segmentPath);
+                        return;
+                    }
+                    records.add(parseRecord(payload));
+                } catch (EOFException ex) {
+                    log.warn("Found an incomplete record at the tail of {}, ignore it", segmentPath);
+                    return;
+                }
+            }
+        }
+    }
+
+    private OutboxRecord parseRecord(byte[] payload) {
+        ByteBuffer byteBuffer = ByteBuffer.wrap(payload);
+        Operation operation = Operation.values()[byteBuffer.get()];
+        int taskInstanceId = byteBuffer.getInt();
+        byte eventTypeOrdinal = byteBuffer.get();
+        TaskInstanceExecutionEventType eventType =
+                eventTypeOrdinal == NO_EVENT_TYPE ? null : TaskInstanceExecutionEventType.values()[eventTypeOrdinal];
+        ITaskInstanceExecutionEvent event = null;
+        if (byteBuffer.hasRemaining()) {
+            byte[] eventBytes = new byte[byteBuffer.remaining()];
+            byteBuffer.get(eventBytes);
+            event = JSONUtils.parseObject(eventBytes, getEventClass(eventType));
+        }
+        return new OutboxRecord(operation, taskInstanceId, eventType, event);
+    }
+
+    private void openCurrentSegment() throws IOException {
+        Path segmentPath = getSegmentPath(currentSegmentId);
+        currentSegmentSize = Files.exists(segmentPath) ? Files.size(segmentPath) : 0;
+        currentSegmentOutputStream = new DataOutputStream(
+                new BufferedOutputStream(new FileOutputStream(segmentPath.toFile(), true)));
+    }
+
+    private void closeCurrentSegment() throws IOException {
+        if (currentSegmentOutputStream != null) {
+            currentSegmentOutputStream.close();
+            currentSegmentOutputStream = null;
+        }
+    }
+
+    private List<Long> listSegmentIds() throws IOException {
+        try (Stream<Path> paths = Files.list(directory)) {
+            return paths.map(path -> path.getFileName().toString())
+                    .filter(fileName -> fileName.startsWith(SEGMENT_FILE_PREFIX)
+                            && fileName.endsWith(SEGMENT_FILE_SUFFIX))
+                    .map(fileName -> Long.parseLong(fileName.substring(SEGMENT_FILE_PREFIX.length(),
+                            fileName.length() - SEGMENT_FILE_SUFFIX.length())))
+                    .sorted()
+                    .collect(Collectors.toList());
+        }
+    }
+
+    private Path getSegmentPath(long segmentId) {
+        return directory.resolve(getSegmentFileName(segmentId));
+    }
+
+    private String getSegmentFileName(long segmentId) {
+        return String.format("%s%020d%s", SEGMENT_FILE_PREFIX, segmentId, SEGMENT_FILE_SUFFIX);
+    }
+
+    private static Class<? extends ITaskInstanceExecutionEvent> getEventClass(
+            TaskInstanceExecutionEventType eventType) {
+        switch (eventType) {
+            case RUNNING:
+                return TaskInstanceExecutionRunningEvent.class;
+            case FINISH:
+                return TaskInstanceExecutionFinishEvent.class;
+            case RUNNING_INFO:
+                return TaskInstanceExecutionInfoEvent.class;
+            default:
+                throw new IllegalArgumentException("Unsupported event type: " + eventType);
+        }
+    }
+
+    static int getTaskInstanceId(ITaskInstanceExecutionEvent event) {
+        if (event instanceof TaskInstanceExecutionRunningEvent) {
+            return ((TaskInstanceExecutionRunningEvent) event).getTaskInstanceId();
+        }
+        if (event instanceof TaskInstanceExecutionFinishEvent) {
+            return ((TaskInstanceExecutionFinishEvent) event).getTaskInstanceId();
+        }
+        if (event instanceof TaskInstanceExecutionInfoEvent) {
+            return ((TaskInstanceExecutionInfoEvent) event).getTaskInstanceId();
+        }
+        throw new IllegalArgumentException("Unsupported event: " + event);
+    }
+
+    public enum Operation {
+        PUT,
+        REMOVE,
+        REMOVE_ALL
+    }
+
+    @Data
+    @AllArgsConstructor
+    public static class OutboxRecord {
+
+        private Operation operation;
+
+        private int taskInstanceId;
+
+        private TaskInstanceExecutionEventType eventType;
+
+        private ITaskInstanceExecutionEvent event;
+    }
+}
@@ -21,19 +21,25 @@ import org.apache.dolphinscheduler.common.constants.Constants;
 import org.apache.dolphinscheduler.common.lifecycle.ServerLifeCycleManager;
 import org.apache.dolphinscheduler.common.thread.BaseDaemonThread;
 import org.apache.dolphinscheduler.extract.master.transportor.ITaskInstanceExecutionEvent;
+import org.apache.dolphinscheduler.extract.master.transportor.ITaskInstanceExecutionEvent.TaskInstanceExecutionEventType;
 import org.apache.dolphinscheduler.plugin.task.api.utils.LogUtils;
+import org.apache.dolphinscheduler.server.worker.config.MessageOutboxConfig;
+import org.apache.dolphinscheduler.server.worker.config.WorkerConfig;
 
-import org.apache.commons.collections4.CollectionUtils;
 import org.apache.commons.collections4.MapUtils;
 
-import java.time.Duration;
+import java.io.IOException;
+import java.nio.file.Paths;
 import java.util.ArrayList;
-import java.util.Collections;
+import java.util.EnumMap;
 import java.util.HashMap;
-import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Collectors;
+
+import javax.annotation.PostConstruct;
+import javax.annotation.PreDestroy;
 
 import lombok.Data;
 import lombok.NonNull;
@@ -45,6 +51,13 @@ import org.springframework.stereotype.Component;
 
 import com.google.common.base.Objects;
 
+/**
+ * Retry the task instance execution events until they are acknowledged by the master.
+ * <p>
+ * The events of a task instance are coalesced, only the latest event of each type is kept, and the finish event
+ * supersedes the running and running info events. If the outbox persistence is enabled, the events are also stored in
+ * the {@link MessageOutbox}, and will be replayed once the worker restarts.
+ */
 @Component
 @Slf4j
 public class MessageRetryRunner extends BaseDaemonThread {
@@ -53,16 +66,46 @@ public class MessageRetryRunner extends BaseDaemonThread {
         super("WorkerMessageRetryRunnerThread");
     }
 
-    private static final long MESSAGE_RETRY_WINDOW = Duration.ofMinutes(5L).toMillis();
-
     @Lazy
     @Autowired
     private List<TaskInstanceExecutionEventSender> messageSenders;
 
+    @Autowired
+    private WorkerConfig workerConfig;
+
     private final Map<ITaskInstanceExecutionEvent.TaskInstanceExecutionEventType, TaskInstanceExecutionEventSender<ITaskInstanceExecutionEvent>> messageSenderMap =
             new HashMap<>();
 
-    private final Map<Integer, List<TaskInstanceMessage>> needToRetryMessages = new ConcurrentHashMap<>();
+    private final Map<Integer, Map<TaskInstanceExecutionEventType, TaskInstanceMessage>> needToRetryMessages =
+            new ConcurrentHashMap<>();
+
+    private MessageOutbox messageOutbox;
+
+    @PostConstruct
+    public void init() {
+        MessageOutboxConfig messageOutboxConfig = workerConfig.getMessageOutbox();
+        if (!messageOutboxConfig.isPersistenceEnabled()) {
+            return;
+        }
+        MessageOutbox outbox = new MessageOutbox(Paths.get(messageOutboxConfig.getPath()),
+                messageOutboxConfig.getMaxSegmentSize().toBytes());
+        try {
+            List<MessageOutbox.OutboxRecord> outboxRecords = outbox.open();
+            synchronized (this) {
+                for (MessageOutbox.OutboxRecord outboxRecord : outboxRecords) {
+                    replayOutboxRecord(outboxRecord);
+                }
+                outbox.compact(getAllEvents());
+            }
+            messageOutbox = outbox;
+            log.info("Replayed {} task instance execution events from the message outbox", getAllEvents().size());
+        } catch (Exception ex) {
+            // The worker can still work without the outbox, the events will only be kept in memory.
+            log.error("Open the message outbox: {} failed, the events will not be persisted",
+                    messageOutboxConfig.getPath(), ex);
+            outbox.close();
+        }
+    }
 
     @Override
     public synchronized void start() {
@@ -75,31 +118,44 @@ public class MessageRetryRunner extends BaseDaemonThread {
         log.info("Message retry runner started");
     }
 
-    public void addRetryMessage(int taskInstanceId, @NonNull ITaskInstanceExecutionEvent iTaskInstanceExecutionEvent) {
-        needToRetryMessages.computeIfAbsent(taskInstanceId, k -> Collections.synchronizedList(new ArrayList<>()))
-                .add(TaskInstanceMessage.of(taskInstanceId, iTaskInstanceExecutionEvent.getEventType(),
-                        iTaskInstanceExecutionEvent));
+    public synchronized void addRetryMessage(int taskInstanceId,
+                                             @NonNull ITaskInstanceExecutionEvent iTaskInstanceExecutionEvent) {
+        if (putMessage(taskInstanceId, iTaskInstanceExecutionEvent,
+                System.currentTimeMillis() + getRetryInterval(0))) {
+            persist(outbox -> outbox.put(iTaskInstanceExecutionEvent));
+        }
     }
 
-    public void removeRetryMessage(int taskInstanceId,
-                                   @NonNull ITaskInstanceExecutionEvent.TaskInstanceExecutionEventType eventType) {
-        List<TaskInstanceMessage> taskInstanceMessages = needToRetryMessages.get(taskInstanceId);
-        if (taskInstanceMessages != null) {
-            taskInstanceMessages.remove(TaskInstanceMessage.of(taskInstanceId, eventType, null));
+    public synchronized void removeRetryMessage(int taskInstanceId,
+                                                @NonNull TaskInstanceExecutionEventType eventType) {
+        Map<TaskInstanceExecutionEventType, TaskInstanceMessage> taskInstanceMessages =
+                needToRetryMessages.get(taskInstanceId);
+        if (taskInstanceMessages == null || taskInstanceMessages.remove(eventType) == null) {
+            return;
+        }
+        if (taskInstanceMessages.isEmpty()) {
+            needToRetryMessages.remove(taskInstanceId);
         }
+        persist(outbox -> outbox.remove(taskInstanceId, eventType));
     }
 
-    public void removeRetryMessages(int taskInstanceId) {
-        needToRetryMessages.remove(taskInstanceId);
+    public synchronized void removeRetryMessages(int taskInstanceId) {
+        if (needToRetryMessages.remove(taskInstanceId) != null) {
+            persist(outbox -> outbox.removeAll(taskInstanceId));
+        }
     }
 
-    public boolean updateMessageHost(int taskInstanceId, String messageReceiverHost) {
-        List<TaskInstanceMessage> taskInstanceMessages = this.needToRetryMessages.get(taskInstanceId);
-        if (CollectionUtils.isEmpty(taskInstanceMessages)) {
+    public synchronized boolean updateMessageHost(int taskInstanceId, String messageReceiverHost) {
+        Map<TaskInstanceExecutionEventType, TaskInstanceMessage> taskInstanceMessages =
+                this.needToRetryMessages.get(taskInstanceId);
+        if (MapUtils.isEmpty(taskInstanceMessages)) {
             return false;
         }
-        taskInstanceMessages.forEach(taskInstanceMessage -> {
+        taskInstanceMessages.values().forEach(taskInstanceMessage -> {
             taskInstanceMessage.getEvent().setWorkflowInstanceHost(messageReceiverHost);
+            // Retry to the new host at once
+            taskInstanceMessage.setNextRetryTime(System.currentTimeMillis());
+            persist(outbox -> outbox.put(taskInstanceMessage.getEvent()));
         });
         return true;
     }
@@ -107,39 +163,9 @@ public class MessageRetryRunner extends BaseDaemonThread {
     public void run() {
         while (!ServerLifeCycleManager.isStopped()) {
             try {
-                if (MapUtils.isEmpty(needToRetryMessages)) {
-                    Thread.sleep(MESSAGE_RETRY_WINDOW);
-                }
-
-                long now = System.currentTimeMillis();
-                Iterator<Map.Entry<Integer, List<TaskInstanceMessage>>> iterator =
-                        needToRetryMessages.entrySet().iterator();
-                while (iterator.hasNext()) {
-                    Map.Entry<Integer, List<TaskInstanceMessage>> taskEntry = iterator.next();
-                    Integer taskInstanceId = taskEntry.getKey();
-                    List<TaskInstanceMessage> taskInstanceMessages = taskEntry.getValue();
-                    if (taskInstanceMessages.isEmpty()) {
-                        iterator.remove();
-                        continue;
-                    }
-                    LogUtils.setTaskInstanceIdMDC(taskInstanceId);
-                    try {
-                        for (TaskInstanceMessage taskInstanceMessage : taskInstanceMessages) {
-                            ITaskInstanceExecutionEvent.TaskInstanceExecutionEventType eventType =
-                                    taskInstanceMessage.getEventType();
-                            ITaskInstanceExecutionEvent event = taskInstanceMessage.getEvent();
-                            if (now - event.getEventSendTime() > MESSAGE_RETRY_WINDOW) {
-                                log.info("Begin retry send message to master, event: {}", event);
-                                event.setEventSendTime(now);
-                                messageSenderMap.get(eventType).sendEvent(event);
-                                log.info("Success send message to master, event: {}", event);
-                            }
-                        }
-                    } catch (Exception e) {
-                        log.warn("Retry send message to master error", e);
-                    } finally {
-                        LogUtils.removeTaskInstanceIdMDC();
-                    }
+                if (!MapUtils.isEmpty(needToRetryMessages)) {
+                    retryMessages(System.currentTimeMillis());
+                    compactOutboxIfNeeded();
                 }
                 Thread.sleep(Constants.SLEEP_TIME_MILLIS);
             } catch (InterruptedException instance) {
@@ -152,8 +178,133 @@ public class MessageRetryRunner extends BaseDaemonThread {
         }
     }
 
-    public void clearMessage() {
+    void retryMessages(long now) {
+        List<TaskInstanceMessage> dueMessages;
+        synchronized (this) {
+            dueMessages = needToRetryMessages.values().stream()
+                    .flatMap(taskInstanceMessages -> taskInstanceMessages.values().stream())
+                    .filter(taskInstanceMessage -> taskInstanceMessage.getNextRetryTime() <= now)
+                    .collect(Collectors.toList());
+        }
+        // Send the messages out of the lock, so the acknowledgements will not be blocked by the slow master.
+        for (TaskInstanceMessage taskInstanceMessage : dueMessages) {
+            ITaskInstanceExecutionEvent event = taskInstanceMessage.getEvent();
+            LogUtils.setTaskInstanceIdMDC((int) taskInstanceMessage.getTaskInstanceId());
+            try {
+                taskInstanceMessage.setRetryTimes(taskInstanceMessage.getRetryTimes() + 1);
+                taskInstanceMessage.setNextRetryTime(now + getRetryInterval(taskInstanceMessage.getRetryTimes()));
+                log.info("Begin retry send message to master, retry times: {}, event: {}",
+                        taskInstanceMessage.getRetryTimes(), event);
+                event.setEventSendTime(now);
+                // The retried messages are pipelined, a slow master will not delay the retry of the other messages.
+                messageSenderMap.get(taskInstanceMessage.getEventType()).sendEvent(event).whenComplete((r, ex) -> {
+                    if (ex != null) {
+                        log.warn("Retry send message to master error, event: {}", event, ex);
+                        return;
+                    }
+                    log.info("Success send message to master, event: {}", event);
+                });
+            } catch (Exception e) {
+                log.warn("Retry send message to master error, will retry after {}/ms",
+                        taskInstanceMessage.getNextRetryTime() - now, e);
+            } finally {
+                LogUtils.removeTaskInstanceIdMDC();
+            }
+        }
+    }
+
+    public synchronized void clearMessage() {
         needToRetryMessages.clear();
+        persist(MessageOutbox::clear);
+    }
+
+    @PreDestroy
+    public void close() {
+        if (messageOutbox != null) {
+            messageOutbox.close();
+        }
+    }
+
+    /**
+     * Put the message into the retry map, the superseded messages of the same task instance will be removed.
+     *
+     * @return false if the message is superseded by an existing message, e.g. the task instance is already finished.
+     */
+    private boolean putMessage(int taskInstanceId, ITaskInstanceExecutionEvent event, long nextRetryTime) {
+        Map<TaskInstanceExecutionEventType, TaskInstanceMessage> taskInstanceMessages = needToRetryMessages
+                .computeIfAbsent(taskInstanceId, k -> new EnumMap<>(TaskInstanceExecutionEventType.class));
+        if (event.getEventType() == TaskInstanceExecutionEventType.FINISH) {
+            // The finish event contains all the information of the running events.
+            taskInstanceMessages.clear();
+        } else if (taskInstanceMessages.containsKey(TaskInstanceExecutionEventType.FINISH)) {
+            return false;
+        }
+        TaskInstanceMessage taskInstanceMessage =
+                TaskInstanceMessage.of(taskInstanceId, event.getEventType(), event);
+        taskInstanceMessage.setNextRetryTime(nextRetryTime);
+        taskInstanceMessages.put(event.getEventType(), taskInstanceMessage);
+        return true;
+    }
+
+    private void replayOutboxRecord(MessageOutbox.OutboxRecord outboxRecord) {
+        int taskInstanceId = outboxRecord.getTaskInstanceId();
+        switch (outboxRecord.getOperation()) {
+            case PUT:
+                // Retry the replayed events at once, they may be lost when the worker is down.
+                putMessage(taskInstanceId, outboxRecord.getEvent(), System.currentTimeMillis());
+                break;
+            case REMOVE:
+                Map<TaskInstanceExecutionEventType, TaskInstanceMessage> taskInstanceMessages =
+                        needToRetryMessages.get(taskInstanceId);
+                if (taskInstanceMessages != null) {
+                    taskInstanceMessages.remove(outboxRecord.getEventType());
+                    if (taskInstanceMessages.isEmpty()) {
+                        needToRetryMessages.remove(taskInstanceId);
+                    }
+                }
+                break;
+            case REMOVE_ALL:
+                needToRetryMessages.remove(taskInstanceId);
+                break;
+            default:
+                log.warn("Unknown outbox record: {}", outboxRecord);
+        }
+    }
+
+    private synchronized void compactOutboxIfNeeded() {
+        if (messageOutbox != null && messageOutbox.needCompact()) {
+            persist(outbox -> outbox.compact(getAllEvents()));
+        }
+    }
+
+    private List<ITaskInstanceExecutionEvent> getAllEvents() {
+        List<ITaskInstanceExecutionEvent> events = new ArrayList<>();
+        needToRetryMessages.values().forEach(taskInstanceMessages -> taskInstanceMessages.values()
+                .forEach(taskInstanceMessage -> events.add(taskInstanceMessage.getEvent())));
+        return events;
+    }
+
+    private long getRetryInterval(int retryTimes) {
+        MessageOutboxConfig messageOutboxConfig = workerConfig.getMessageOutbox();
+        long retryInterval = messageOutboxConfig.getRetryInitialInterval().toMillis() << Math.min(retryTimes, 20);
+        return Math.min(retryInterval, messageOutboxConfig.getRetryMaxInterval().toMillis());
+    }
+
+    private void persist(OutboxOperation outboxOperation) {
+        if (messageOutbox == null) {
+            return;
+        }
+        try {
+            outboxOperation.apply(messageOutbox);
+        } catch (IOException ex) {
+            // The event is still kept in memory, only lost if the worker restarts.
+            log.error("Persist the task instance execution event into the message outbox failed", ex);
+        }
+    }
+
+    private interface OutboxOperation {
+
+        void apply(MessageOutbox messageOutbox) throws IOException;
     }
 
     /**
@@ -165,6 +316,8 @@ public class MessageRetryRunner extends BaseDaemonThread {
         private long taskInstanceId;
         private ITaskInstanceExecutionEvent.TaskInstanceExecutionEventType eventType;
         private ITaskInstanceExecutionEvent event;
+        private volatile int retryTimes;
+        private volatile long nextRetryTime;
 
         public static TaskInstanceMessage of(long taskInstanceId,
                                              ITaskInstanceExecutionEvent.TaskInstanceExecutionEventType eventType,
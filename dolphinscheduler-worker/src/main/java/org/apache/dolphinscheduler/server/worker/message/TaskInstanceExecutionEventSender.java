@@ -20,13 +20,16 @@ package org.apache.dolphinscheduler.server.worker.message;
 import org.apache.dolphinscheduler.extract.master.transportor.ITaskInstanceExecutionEvent;
 import org.apache.dolphinscheduler.plugin.task.api.TaskExecutionContext;
 
+import java.util.concurrent.CompletableFuture;
+
 public interface TaskInstanceExecutionEventSender<T extends ITaskInstanceExecutionEvent> {
 
     /**
-     * Send the message
+     * Send the message asynchronously, the requests to the same master are pipelined in one channel.
      *
+     * @return the future which will be completed once the master received the message.
      */
-    void sendEvent(T message);
+    CompletableFuture<Void> sendEvent(T message);
 
     /**
      * Build the message from task context and message received address.
@@ -23,6 +23,8 @@ import org.apache.dolphinscheduler.extract.master.transportor.ITaskInstanceExecu
 import org.apache.dolphinscheduler.extract.master.transportor.TaskInstanceExecutionFinishEvent;
 import org.apache.dolphinscheduler.plugin.task.api.TaskExecutionContext;
 
+import java.util.concurrent.CompletableFuture;
+
 import org.springframework.stereotype.Component;
 
 @Component
@@ -31,12 +33,12 @@ public class TaskInstanceExecutionFinishEventSender
             TaskInstanceExecutionEventSender<TaskInstanceExecutionFinishEvent> {
 
     @Override
-    public void sendEvent(TaskInstanceExecutionFinishEvent taskInstanceExecutionFinishEvent) {
+    public CompletableFuture<Void> sendEvent(TaskInstanceExecutionFinishEvent taskInstanceExecutionFinishEvent) {
         ITaskInstanceExecutionEventListener iTaskInstanceExecutionEventListener =
                 SingletonJdkDynamicRpcClientProxyFactory
                         .getProxyClient(taskInstanceExecutionFinishEvent.getWorkflowInstanceHost(),
                                 ITaskInstanceExecutionEventListener.class);
-        iTaskInstanceExecutionEventListener.onTaskInstanceExecutionFinish(taskInstanceExecutionFinishEvent);
+        return iTaskInstanceExecutionEventListener.onTaskInstanceExecutionFinish(taskInstanceExecutionFinishEvent);
     }
 
     @Override
@@ -23,6 +23,8 @@ import org.apache.dolphinscheduler.extract.master.transportor.ITaskInstanceExecu
 import org.apache.dolphinscheduler.extract.master.transportor.TaskInstanceExecutionInfoEvent;
 import org.apache.dolphinscheduler.plugin.task.api.TaskExecutionContext;
 
+import java.util.concurrent.CompletableFuture;
+
 import lombok.NonNull;
 
 import org.springframework.stereotype.Component;
@@ -33,12 +35,12 @@ public class TaskInstanceExecutionInfoUpdateEventSender
             TaskInstanceExecutionEventSender<TaskInstanceExecutionInfoEvent> {
 
     @Override
-    public void sendEvent(TaskInstanceExecutionInfoEvent taskInstanceExecutionInfoEvent) {
+    public CompletableFuture<Void> sendEvent(TaskInstanceExecutionInfoEvent taskInstanceExecutionInfoEvent) {
         ITaskInstanceExecutionEventListener iTaskInstanceExecutionEventListener =
                 SingletonJdkDynamicRpcClientProxyFactory
                         .getProxyClient(taskInstanceExecutionInfoEvent.getWorkflowInstanceHost(),
                                 ITaskInstanceExecutionEventListener.class);
-        iTaskInstanceExecutionEventListener.onTaskInstanceExecutionInfoUpdate(taskInstanceExecutionInfoEvent);
+        return iTaskInstanceExecutionEventListener.onTaskInstanceExecutionInfoUpdate(taskInstanceExecutionInfoEvent);
     }
 
     @Override
@@ -23,6 +23,8 @@ import org.apache.dolphinscheduler.extract.master.transportor.ITaskInstanceExecu
 import org.apache.dolphinscheduler.extract.master.transportor.TaskInstanceExecutionRunningEvent;
 import org.apache.dolphinscheduler.plugin.task.api.TaskExecutionContext;
 
+import java.util.concurrent.CompletableFuture;
+
 import lombok.NonNull;
 
 import org.springframework.stereotype.Component;
@@ -33,12 +35,12 @@ public class TaskInstanceExecutionRunningEventSender
             TaskInstanceExecutionEventSender<TaskInstanceExecutionRunningEvent> {
 
     @Override
-    public void sendEvent(TaskInstanceExecutionRunningEvent taskInstanceExecutionRunningEvent) {
+    public CompletableFuture<Void> sendEvent(TaskInstanceExecutionRunningEvent taskInstanceExecutionRunningEvent) {
         ITaskInstanceExecutionEventListener iTaskInstanceExecutionEventListener =
                 SingletonJdkDynamicRpcClientProxyFactory
                         .getProxyClient(taskInstanceExecutionRunningEvent.getWorkflowInstanceHost(),
                                 ITaskInstanceExecutionEventListener.class);
-        iTaskInstanceExecutionEventListener.onTaskInstanceExecutionRunning(taskInstanceExecutionRunningEvent);
+        return iTaskInstanceExecutionEventListener.onTaskInstanceExecutionRunning(taskInstanceExecutionRunningEvent);
     }
 
     @Override
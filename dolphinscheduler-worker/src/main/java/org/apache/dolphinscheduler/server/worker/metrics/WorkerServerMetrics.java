@@ -67,6 +67,35 @@ public class WorkerServerMetrics {
                     .description("size of downloaded resource files on worker")
                     .register(Metrics.globalRegistry);
 
+    private final Counter workerResourceCacheHitCounter =
+            Counter.builder("ds.worker.resource.cache.count")
+                    .tag("result", "hit")
+                    .description("worker resource cache hit count")
+                    .register(Metrics.globalRegistry);
+
+    private final Counter workerResourceCacheMissCounter =
+            Counter.builder("ds.worker.resource.cache.count")
+                    .tag("result", "miss")
+                    .description("worker resource cache miss count")
+                    .register(Metrics.globalRegistry);
+
+    private final Counter workerResourceCacheCoalescedCounter =
+            Counter.builder("ds.worker.resource.cache.count")
+                    .tag("result", "coalesced")
+                    .description("worker resource cache count which waits for the same file being downloaded")
+                    .register(Metrics.globalRegistry);
+
+    private final Counter workerResourceCacheSavedBytesCounter =
+            Counter.builder("ds.worker.resource.cache.saved.bytes")
+                    .baseUnit("bytes")
+                    .description("bytes of the resource files which are not downloaded because of the cache")
+                    .register(Metrics.globalRegistry);
+
+    private final Counter workerResourceCacheEvictionCounter =
+            Counter.builder("ds.worker.resource.cache.eviction.count")
+                    .description("worker resource cache eviction count")
+                    .register(Metrics.globalRegistry);
+
     public void incWorkerOverloadCount() {
         workerOverloadCounter.increment();
     }
@@ -91,6 +120,33 @@ public class WorkerServerMetrics {
         workerResourceDownloadSizeDistribution.record(size);
     }
 
+    public void incWorkerResourceCacheHitCount() {
+        workerResourceCacheHitCounter.increment();
+    }
+
+    public void incWorkerResourceCacheMissCount() {
+        workerResourceCacheMissCounter.increment();
+    }
+
+    public void incWorkerResourceCacheCoalescedCount() {
+        workerResourceCacheCoalescedCounter.increment();
+    }
+
+    public void incWorkerResourceCacheSavedBytes(final long bytes) {
+        workerResourceCacheSavedBytesCounter.increment(bytes);
+    }
+
+    public void incWorkerResourceCacheEvictionCount() {
+        workerResourceCacheEvictionCounter.increment();
+    }
+
+    public void registerWorkerResourceCacheSizeGauge(final Supplier<Number> supplier) {
+        Gauge.builder("ds.worker.resource.cache.size", supplier)
+                .baseUnit("bytes")
+                .description("total size of the cached resource files on worker")
+                .register(Metrics.globalRegistry);
+    }
+
     public void registerWorkerTaskTotalGauge(final Supplier<Number> supplier) {
         Gauge.builder("ds.worker.task", supplier)
                 .description("total number of tasks on worker")
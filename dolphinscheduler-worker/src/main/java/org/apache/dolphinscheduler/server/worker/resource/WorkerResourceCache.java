@@ -0,0 +1,448 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.dolphinscheduler.server.worker.resource;
+
+import org.apache.dolphinscheduler.common.utils.FileUtils;
+import org.apache.dolphinscheduler.plugin.storage.api.StorageEntity;
+import org.apache.dolphinscheduler.plugin.storage.api.StorageOperate;
+import org.apache.dolphinscheduler.server.worker.config.ResourceCacheConfig;
+import org.apache.dolphinscheduler.server.worker.config.WorkerConfig;
+import org.apache.dolphinscheduler.server.worker.metrics.WorkerServerMetrics;
+import org.apache.dolphinscheduler.spi.enums.ResourceType;
+
+import org.apache.commons.codec.digest.DigestUtils;
+
+import java.io.IOException;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.attribute.PosixFilePermission;
+import java.nio.file.attribute.PosixFilePermissions;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import javax.annotation.PostConstruct;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+
+import org.springframework.stereotype.Component;
+
+/**
+ * The worker local cache of the files downloaded from the storage, so the same file used by many tasks on this worker
+ * will only be downloaded once.
+ * <p>
+ * Each file is cached by its storage path and version (the size and the last modified time in the storage), a changed
+ * file will be cached as a new entry, and the stale entry will be evicted as the least recently used one when the total
+ * size exceeds the quota. The concurrent downloads of the same file are merged into one.
+ * <p>
+ * The file being downloaded into the cache is counted in the quota by its size in the storage, and if the storage keeps
+ * the partially downloaded file of a failed download to resume the next download, the partial file stays counted until
+ * it is cached or evicted, so the temporary files don't make the cache directory exceed the quota.
+ * <p>
+ * The cached file is read-only, and it is hard linked into the task working directory if the task doesn't write it, so
+ * evicting the cached file will not affect the running tasks. If the task may write the file, e.g. the upstream files,
+ * or the hard link is not supported, e.g. the cache directory is in another file system, the cached file will be
+ * copied, so the shared cached file is never changed by the tasks.
+ */
+@Slf4j
+@Component
+public class WorkerResourceCache {
+
+    private static final String TMP_FILE_SUFFIX = ".tmp";
+
+    private static final Set<PosixFilePermission> READ_ONLY_PERMISSION = PosixFilePermissions.fromString("r-xr-xr-x");
+
+    private final ResourceCacheConfig resourceCacheConfig;
+
+    /**
+     * The cached files in the access order, guarded by this.
+     */
+    private final LinkedHashMap<String, CachedFile> cachedFiles = new LinkedHashMap<>(16, 0.75f, true);
+
+    /**
+     * The sizes of the files being downloaded into the cache and the kept partial files by their cache keys, in the
+     * order of the reservation, guarded by this.
+     */
+    private final LinkedHashMap<String, Long> partialFiles = new LinkedHashMap<>();
+
+    private final Map<String, CompletableFuture<CachedFile>> downloadingFiles = new ConcurrentHashMap<>();
+
+    private Path cacheDirectory;
+
+    private long totalSize;
+
+    public WorkerResourceCache(WorkerConfig workerConfig) {
+        this.resourceCacheConfig = workerConfig.getResourceCache();
+    }
+
+    @PostConstruct
+    public void init() throws IOException {
+        if (!resourceCacheConfig.isEnabled()) {
+            return;
+        }
+        cacheDirectory = Paths.get(resourceCacheConfig.getPath());
+        Files.createDirectories(cacheDirectory);
+        loadCachedFiles();
+        WorkerServerMetrics.registerWorkerResourceCacheSizeGauge(this::getTotalSize);
+    }
+
+    /**
+     * Download the file in the storage to the local file, the existing local file will be overwritten.
+     * <p>
+     * The file will be materialized from the cache if the same version is cached, otherwise it will be downloaded into
+     * the cache first. The files whose version cannot be got from the storage or larger than the quota are downloaded
+     * directly.
+     *
+     * @param writable if true, the local file is always a writable copy, otherwise it may be hard linked to the
+     *                 read-only cached file
+     */
+    public void download(StorageOperate storageOperate,
+                         String tenantCode,
+                         String srcFilePath,
+                         String dstFile,
+                         boolean writable) throws IOException {
+        Path dstFilePath = Paths.get(dstFile);
+        if (!resourceCacheConfig.isEnabled()) {
+            downloadDirectly(storageOperate, srcFilePath, dstFilePath);
+            return;
+        }
+        StorageEntity storageEntity = getFileStatus(storageOperate, tenantCode, srcFilePath);
+        if (storageEntity == null) {
+            downloadDirectly(storageOperate, srcFilePath, dstFilePath);
+            return;
+        }
+        if (storageEntity.getSize() > resourceCacheConfig.getMaxSize().toBytes()) {
+            log.info("The file: {} size: {} is larger than the cache max size, will not be cached", srcFilePath,
+                    storageEntity.getSize());
+            downloadDirectly(storageOperate, srcFilePath, dstFilePath);
+            return;
+        }
+        String fileVersion = storageEntity.getSize() + "-" + storageEntity.getUpdateTime().getTime();
+        String cacheKey = DigestUtils.sha256Hex(srcFilePath + "@" + fileVersion);
+        CachedFile cachedFile =
+                getOrDownload(storageOperate, srcFilePath, cacheKey, storageEntity.getSize(), dstFilePath);
+        if (cachedFile == null) {
+            return;
+        }
+        try {
+            materialize(cachedFile.getPath(), dstFilePath, writable);
+        } catch (NoSuchFileException ex) {
+            // the cached file is evicted before materialized
+            log.info("The cached file of {} is evicted, will download it directly", srcFilePath);
+            downloadDirectly(storageOperate, srcFilePath, dstFilePath);
+        }
+    }
+
+    public synchronized long getTotalSize() {
+        return totalSize;
+    }
+
+    public synchronized int size() {
+        return cachedFiles.size();
+    }
+
+    /**
+     * @return the status of the file, or null if the version of the file cannot be got
+     */
+    private StorageEntity getFileStatus(StorageOperate storageOperate, String tenantCode, String srcFilePath) {
+        try {
+            StorageEntity storageEntity = storageOperate.getFileStatus(srcFilePath, "", tenantCode, ResourceType.FILE);
+            if (storageEntity == null || storageEntity.isDirectory() || storageEntity.getUpdateTime() == null) {
+                return null;
+            }
+            return storageEntity;
+        } catch (Exception ex) {
+            log.warn("Get the status of the file: {} failed, the file will not be cached", srcFilePath, ex);
+            return null;
+        }
+    }
+
+    private void downloadDirectly(StorageOperate storageOperate,
+                                  String srcFilePath,
+                                  Path dstFilePath) throws IOException {
+        storageOperate.download(srcFilePath, dstFilePath.toString(), true);
+        FileUtils.setFileTo755(dstFilePath.toFile());
+    }
+
+    /**
+     * Get the cached file, or download the file into the cache.
+     *
+     * @return the cached file, or null if the file cannot be cached, e.g. the file is larger than the quota, then the
+     * file is already downloaded to the dst file directly.
+     */
+    private CachedFile getOrDownload(StorageOperate storageOperate,
+                                     String srcFilePath,
+                                     String cacheKey,
+                                     long fileSize,
+                                     Path dstFilePath) throws IOException {
+        CachedFile cachedFile = getCachedFile(cacheKey);
+        if (cachedFile != null) {
+            WorkerServerMetrics.incWorkerResourceCacheHitCount();
+            WorkerServerMetrics.incWorkerResourceCacheSavedBytes(cachedFile.getSize());
+            return cachedFile;
+        }
+
+        CompletableFuture<CachedFile> downloadFuture = new CompletableFuture<>();
+        CompletableFuture<CachedFile> existingDownloadFuture = downloadingFiles.putIfAbsent(cacheKey, downloadFuture);
+        if (existingDownloadFuture != null) {
+            WorkerServerMetrics.incWorkerResourceCacheCoalescedCount();
+            cachedFile = waitDownloading(existingDownloadFuture, srcFilePath);
+            if (cachedFile == null) {
+                downloadDirectly(storageOperate, srcFilePath, dstFilePath);
+                return null;
+            }
+            WorkerServerMetrics.incWorkerResourceCacheSavedBytes(cachedFile.getSize());
+            return cachedFile;
+        }
+
+        try {
+            // the file may be cached by another thread before this thread started downloading
+            cachedFile = getCachedFile(cacheKey);
+            if (cachedFile == null) {
+                WorkerServerMetrics.incWorkerResourceCacheMissCount();
+                cachedFile = downloadToCache(storageOperate, srcFilePath, cacheKey, fileSize, dstFilePath);
+            }
+            downloadFuture.complete(cachedFile);
+            return cachedFile;
+        } catch (IOException | RuntimeException ex) {
+            downloadFuture.completeExceptionally(ex);
+            throw ex;
+        } finally {
+            downloadingFiles.remove(cacheKey, downloadFuture);
+        }
+    }
+
+    private CachedFile waitDownloading(CompletableFuture<CachedFile> downloadFuture,
+                                       String srcFilePath) throws IOException {
+        try {
+            return downloadFuture.join();
+        } catch (CompletionException ex) {
+            throw new IOException("Download the file: " + srcFilePath + " by another task failed", ex.getCause());
+        }
+    }
+
+    private CachedFile downloadToCache(StorageOperate storageOperate,
+                                       String srcFilePath,
+                                       String cacheKey,
+                                       long expectedFileSize,
+                                       Path dstFilePath) throws IOException {
+        // The concurrent downloads of the same key are coalesced, so the temporary file name can be stable, then the
+        // storage can resume the partially downloaded file of the last failed download.
+        Path tmpFile = cacheDirectory.resolve(cacheKey + TMP_FILE_SUFFIX);
+        reservePartialFile(cacheKey, expectedFileSize);
+        boolean partialFileKept = false;
+        try {
+            storageOperate.download(srcFilePath, tmpFile.toString(), true);
+            long fileSize = Files.size(tmpFile);
+            if (fileSize > resourceCacheConfig.getMaxSize().toBytes()) {
+                // The file is changed after its status is got, use the downloaded file rather than download it again
+                log.warn("The file: {} size: {} is larger than the cache max size, will not be cached", srcFilePath,
+                        fileSize);
+                createParentDirectories(dstFilePath);
+                Files.move(tmpFile, dstFilePath, StandardCopyOption.REPLACE_EXISTING);
+                FileUtils.setFileTo755(dstFilePath.toFile());
+                return null;
+            }
+            setReadOnly(tmpFile);
+            Path cachedFilePath = cacheDirectory.resolve(cacheKey);
+            Files.move(tmpFile, cachedFilePath, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            CachedFile cachedFile = new CachedFile(cachedFilePath, fileSize);
+            addCachedFile(cacheKey, cachedFile);
+            log.info("Cached the file: {} under: {}, size: {}", srcFilePath, cachedFilePath, fileSize);
+            return cachedFile;
+        } catch (IOException | RuntimeException ex) {
+            partialFileKept = !listPartialFiles(cacheKey).isEmpty();
+            throw ex;
+        } finally {
+            Files.deleteIfExists(tmpFile);
+            if (!partialFileKept) {
+                releasePartialFile(cacheKey);
+            }
+        }
+    }
+
+    private void materialize(Path cachedFilePath, Path dstFilePath, boolean writable) throws IOException {
+        createParentDirectories(dstFilePath);
+        Files.deleteIfExists(dstFilePath);
+        if (!writable) {
+            try {
+                Files.createLink(dstFilePath, cachedFilePath);
+                return;
+            } catch (NoSuchFileException ex) {
+                // the cached file is evicted, no need to copy
+                throw ex;
+            } catch (IOException | UnsupportedOperationException ex) {
+                log.debug("Hard link the cached file: {} to: {} failed, will copy it", cachedFilePath, dstFilePath, ex);
+            }
+        }
+        // The copy is owned by the task, so it can be changed without affecting the cached file
+        Files.copy(cachedFilePath, dstFilePath, StandardCopyOption.REPLACE_EXISTING);
+        FileUtils.setFileTo755(dstFilePath.toFile());
+    }
+
+    private void createParentDirectories(Path filePath) throws IOException {
+        Path parentDirectory = filePath.toAbsolutePath().getParent();
+        if (parentDirectory != null) {
+            Files.createDirectories(parentDirectory);
+        }
+    }
+
+    /**
+     * The cached file is shared by the linked files of the tasks, it should not be written.
+     */
+    private void setReadOnly(Path file) {
+        try {
+            Files.setPosixFilePermissions(file, READ_ONLY_PERMISSION);
+        } catch (IOException | UnsupportedOperationException ex) {
+            log.debug("Set the cached file: {} read-only failed", file, ex);
+        }
+    }
+
+    private synchronized CachedFile getCachedFile(String cacheKey) {
+        return cachedFiles.get(cacheKey);
+    }
+
+    private synchronized void addCachedFile(String cacheKey, CachedFile cachedFile) {
+        releasePartialFile(cacheKey);
+        CachedFile oldCachedFile = cachedFiles.put(cacheKey, cachedFile);
+        if (oldCachedFile != null) {
+            totalSize -= oldCachedFile.getSize();
+        }
+        totalSize += cachedFile.getSize();
+        evictIfNeeded(cacheKey);
+    }
+
+    private synchronized void reservePartialFile(String cacheKey, long fileSize) {
+        Long oldFileSize = partialFiles.put(cacheKey, fileSize);
+        totalSize += fileSize - (oldFileSize == null ? 0 : oldFileSize);
+        evictIfNeeded(cacheKey);
+    }
+
+    private synchronized void releasePartialFile(String cacheKey) {
+        Long fileSize = partialFiles.remove(cacheKey);
+        if (fileSize != null) {
+            totalSize -= fileSize;
+        }
+    }
+
+    /**
+     * Evict the kept partial files and then the least recently used files until the total size doesn't exceed the
+     * quota, the file with the given key is kept since it is being used, and so are the files being downloaded.
+     */
+    private synchronized void evictIfNeeded(String keepCacheKey) {
+        long maxSize = resourceCacheConfig.getMaxSize().toBytes();
+        Iterator<Map.Entry<String, Long>> partialFileIterator = partialFiles.entrySet().iterator();
+        while (totalSize > maxSize && partialFileIterator.hasNext()) {
+            Map.Entry<String, Long> entry = partialFileIterator.next();
+            if (entry.getKey().equals(keepCacheKey) || downloadingFiles.containsKey(entry.getKey())) {
+                continue;
+            }
+            partialFileIterator.remove();
+            totalSize -= entry.getValue();
+            WorkerServerMetrics.incWorkerResourceCacheEvictionCount();
+            for (Path partialFile : listPartialFiles(entry.getKey())) {
+                try {
+                    Files.deleteIfExists(partialFile);
+                } catch (IOException ex) {
+                    log.warn("Delete the evicted partial file: {} failed", partialFile, ex);
+                }
+            }
+        }
+        Iterator<Map.Entry<String, CachedFile>> iterator = cachedFiles.entrySet().iterator();
+        while (totalSize > maxSize && iterator.hasNext()) {
+            Map.Entry<String, CachedFile> entry = iterator.next();
+            if (entry.getKey().equals(keepCacheKey)) {
+                continue;
+            }
+            iterator.remove();
+            totalSize -= entry.getValue().getSize();
+            WorkerServerMetrics.incWorkerResourceCacheEvictionCount();
+            try {
+                Files.deleteIfExists(entry.getValue().getPath());
+            } catch (IOException ex) {
+                log.warn("Delete the evicted cached file: {} failed", entry.getValue().getPath(), ex);
+            }
+        }
+    }
+
+    /**
+     * Load the files cached before the worker restarted, the broken temporary files and the partially downloaded files
+     * are deleted.
+     */
+    private synchronized void loadCachedFiles() throws IOException {
+        List<Path> files;
+        try (Stream<Path> fileStream = Files.list(cacheDirectory)) {
+            files = fileStream.filter(Files::isRegularFile).collect(Collectors.toList());
+        }
+        files.sort(Comparator.comparingLong(file -> file.toFile().lastModified()));
+        for (Path file : files) {
+            String fileName = file.getFileName().toString();
+            // The cached file is named by its key, any other file is left by a download interrupted by the restart.
+            if (fileName.contains(".")) {
+                Files.deleteIfExists(file);
+                continue;
+            }
+            setReadOnly(file);
+            CachedFile cachedFile = new CachedFile(file, Files.size(file));
+            cachedFiles.put(fileName, cachedFile);
+            totalSize += cachedFile.getSize();
+        }
+        evictIfNeeded(null);
+        log.info("Load {} cached files from: {}, total size: {}", cachedFiles.size(), cacheDirectory, totalSize);
+    }
+
+    /**
+     * @return the temporary files of the given key, including the partially downloaded file kept by the storage
+     */
+    private List<Path> listPartialFiles(String cacheKey) {
+        List<Path> files = new ArrayList<>();
+        try (
+                DirectoryStream<Path> directoryStream =
+                        Files.newDirectoryStream(cacheDirectory, cacheKey + TMP_FILE_SUFFIX + "*")) {
+            directoryStream.forEach(files::add);
+        } catch (IOException ex) {
+            log.warn("List the partial files of: {} under: {} failed", cacheKey, cacheDirectory, ex);
+        }
+        return files;
+    }
+
+    @Getter
+    @AllArgsConstructor
+    private static class CachedFile {
+
+        private final Path path;
+
+        private final long size;
+    }
+
+}
@@ -18,6 +18,8 @@
 package org.apache.dolphinscheduler.server.worker.rpc;
 
 import org.apache.dolphinscheduler.extract.worker.ITaskInstanceOperator;
+import org.apache.dolphinscheduler.extract.worker.transportor.TaskInstanceBatchDispatchRequest;
+import org.apache.dolphinscheduler.extract.worker.transportor.TaskInstanceBatchDispatchResponse;
 import org.apache.dolphinscheduler.extract.worker.transportor.TaskInstanceDispatchRequest;
 import org.apache.dolphinscheduler.extract.worker.transportor.TaskInstanceDispatchResponse;
 import org.apache.dolphinscheduler.extract.worker.transportor.TaskInstanceKillRequest;
@@ -26,11 +28,19 @@ import org.apache.dolphinscheduler.extract.worker.transportor.TaskInstancePauseR
 import org.apache.dolphinscheduler.extract.worker.transportor.TaskInstancePauseResponse;
 import org.apache.dolphinscheduler.extract.worker.transportor.UpdateWorkflowHostRequest;
 import org.apache.dolphinscheduler.extract.worker.transportor.UpdateWorkflowHostResponse;
+import org.apache.dolphinscheduler.plugin.task.api.TaskExecutionContext;
 import org.apache.dolphinscheduler.server.worker.runner.operator.TaskInstanceOperationFunctionManager;
 
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+import lombok.extern.slf4j.Slf4j;
+
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Component;
 
+@Slf4j
 @Component
 public class TaskInstanceOperatorImpl implements ITaskInstanceOperator {
 
@@ -38,7 +48,29 @@ public class TaskInstanceOperatorImpl implements ITaskInstanceOperator {
     private TaskInstanceOperationFunctionManager taskInstanceOperationFunctionManager;
 
     @Override
-    public TaskInstanceDispatchResponse dispatchTask(TaskInstanceDispatchRequest taskInstanceDispatchRequest) {
+    public CompletableFuture<TaskInstanceDispatchResponse> dispatchTask(TaskInstanceDispatchRequest taskInstanceDispatchRequest) {
+        // The dispatch only submits the task to the executor, so it is completed in the rpc thread.
+        return CompletableFuture.completedFuture(doDispatchTask(taskInstanceDispatchRequest));
+    }
+
+    @Override
+    public CompletableFuture<TaskInstanceBatchDispatchResponse> batchDispatchTask(TaskInstanceBatchDispatchRequest batchDispatchRequest) {
+        List<TaskInstanceDispatchResponse> taskInstanceDispatchResponses = new ArrayList<>();
+        for (TaskExecutionContext taskExecutionContext : batchDispatchRequest.getTaskExecutionContexts()) {
+            // Each task is dispatched independently, the failure of one task should not affect the others.
+            try {
+                taskInstanceDispatchResponses
+                        .add(doDispatchTask(new TaskInstanceDispatchRequest(taskExecutionContext)));
+            } catch (Exception ex) {
+                log.error("Dispatch task: {} failed", taskExecutionContext.getTaskName(), ex);
+                taskInstanceDispatchResponses.add(
+                        TaskInstanceDispatchResponse.failed(taskExecutionContext.getTaskInstanceId(), ex.getMessage()));
+            }
+        }
+        return CompletableFuture.completedFuture(new TaskInstanceBatchDispatchResponse(taskInstanceDispatchResponses));
+    }
+
+    private TaskInstanceDispatchResponse doDispatchTask(TaskInstanceDispatchRequest taskInstanceDispatchRequest) {
         return taskInstanceOperationFunctionManager.getTaskInstanceDispatchOperationFunction()
                 .operate(taskInstanceDispatchRequest);
     }
@@ -53,10 +53,17 @@ public class WorkerLogServiceImpl implements ILogService {
 
     @Override
     public TaskInstanceLogPageQueryResponse pageQueryTaskInstanceLog(TaskInstanceLogPageQueryRequest taskInstanceLogPageQueryRequest) {
-        List<String> lines = LogUtils.readPartFileContent(
-                taskInstanceLogPageQueryRequest.getTaskInstanceLogAbsolutePath(),
-                taskInstanceLogPageQueryRequest.getSkipLineNum(),
-                taskInstanceLogPageQueryRequest.getLimit());
+        List<String> lines;
+        if (taskInstanceLogPageQueryRequest.isTail()) {
+            lines = LogUtils.readLastPartFileContent(
+                    taskInstanceLogPageQueryRequest.getTaskInstanceLogAbsolutePath(),
+                    taskInstanceLogPageQueryRequest.getLimit());
+        } else {
+            lines = LogUtils.readPartFileContent(
+                    taskInstanceLogPageQueryRequest.getTaskInstanceLogAbsolutePath(),
+                    taskInstanceLogPageQueryRequest.getSkipLineNum(),
+                    taskInstanceLogPageQueryRequest.getLimit());
+        }
 
         String logContent = LogUtils.rollViewLogLines(lines);
         return new TaskInstanceLogPageQueryResponse(logContent);
@@ -63,7 +63,13 @@ public class WorkerMessageSender {
         ITaskInstanceExecutionEvent iTaskInstanceExecutionEvent = messageSender.buildEvent(taskExecutionContext);
         try {
             messageRetryRunner.addRetryMessage(taskExecutionContext.getTaskInstanceId(), iTaskInstanceExecutionEvent);
-            messageSender.sendEvent(iTaskInstanceExecutionEvent);
+            // The message will be retried until the master acknowledges it, so don't wait for the response here.
+            messageSender.sendEvent(iTaskInstanceExecutionEvent).whenComplete((r, ex) -> {
+                if (ex != null) {
+                    log.error("Send message error, eventType: {}, event: {}", eventType, iTaskInstanceExecutionEvent,
+                            ex);
+                }
+            });
         } catch (Exception e) {
             log.error("Send message error, eventType: {}, event: {}", eventType, iTaskInstanceExecutionEvent);
         }
@@ -78,7 +84,12 @@ public class WorkerMessageSender {
         }
         ITaskInstanceExecutionEvent iTaskInstanceExecutionEvent = messageSender.buildEvent(taskExecutionContext);
         try {
-            messageSender.sendEvent(iTaskInstanceExecutionEvent);
+            messageSender.sendEvent(iTaskInstanceExecutionEvent).whenComplete((r, ex) -> {
+                if (ex != null) {
+                    log.error("Send message error, eventType: {}, event: {}", taskInstanceExecutionEventType,
+                            iTaskInstanceExecutionEvent, ex);
+                }
+            });
         } catch (Exception e) {
             log.error("Send message error, eventType: {}, event: {}", taskInstanceExecutionEventType,
                     iTaskInstanceExecutionEvent);
@@ -50,6 +50,7 @@ import org.apache.dolphinscheduler.plugin.task.api.utils.LogUtils;
 import org.apache.dolphinscheduler.plugin.task.api.utils.ProcessUtils;
 import org.apache.dolphinscheduler.server.worker.config.WorkerConfig;
 import org.apache.dolphinscheduler.server.worker.registry.WorkerRegistryClient;
+import org.apache.dolphinscheduler.server.worker.resource.WorkerResourceCache;
 import org.apache.dolphinscheduler.server.worker.rpc.WorkerMessageSender;
 import org.apache.dolphinscheduler.server.worker.utils.TaskExecutionContextUtils;
 import org.apache.dolphinscheduler.server.worker.utils.TaskFilesTransferUtils;
@@ -77,6 +78,7 @@ public abstract class WorkerTaskExecutor implements Runnable {
     protected final WorkerMessageSender workerMessageSender;
     protected final @Nullable StorageOperate storageOperate;
     protected final WorkerRegistryClient workerRegistryClient;
+    protected final WorkerResourceCache workerResourceCache;
 
     protected @Nullable AbstractTask task;
 
@@ -85,12 +87,14 @@ public abstract class WorkerTaskExecutor implements Runnable {
                                  @NonNull WorkerConfig workerConfig,
                                  @NonNull WorkerMessageSender workerMessageSender,
                                  @Nullable StorageOperate storageOperate,
-                                 @NonNull WorkerRegistryClient workerRegistryClient) {
+                                 @NonNull WorkerRegistryClient workerRegistryClient,
+                                 @NonNull WorkerResourceCache workerResourceCache) {
         this.taskExecutionContext = taskExecutionContext;
         this.workerConfig = workerConfig;
         this.workerMessageSender = workerMessageSender;
         this.storageOperate = storageOperate;
         this.workerRegistryClient = workerRegistryClient;
+        this.workerResourceCache = workerResourceCache;
         SensitiveDataConverter.addMaskPattern(K8S_CONFIG_REGEX);
     }
 
@@ -224,11 +228,11 @@ public abstract class WorkerTaskExecutor implements Runnable {
         log.info("Create TaskChannel: {} successfully", taskChannel.getClass().getName());
 
         ResourceContext resourceContext = TaskExecutionContextUtils.downloadResourcesIfNeeded(originTenant, taskChannel,
-                storageOperate, taskExecutionContext);
+                storageOperate, workerResourceCache, taskExecutionContext);
         taskExecutionContext.setResourceContext(resourceContext);
         log.info("Download resources successfully: \n{}", taskExecutionContext.getResourceContext());
 
-        TaskFilesTransferUtils.downloadUpstreamFiles(taskExecutionContext, storageOperate);
+        TaskFilesTransferUtils.downloadUpstreamFiles(taskExecutionContext, storageOperate, workerResourceCache);
         log.info("Download upstream files: {} successfully",
                 TaskFilesTransferUtils.getFileLocalParams(taskExecutionContext, Direct.IN));
 
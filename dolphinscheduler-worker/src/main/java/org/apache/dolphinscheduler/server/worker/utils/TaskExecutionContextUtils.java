@@ -31,6 +31,7 @@ import org.apache.dolphinscheduler.plugin.task.api.resource.ResourceContext;
 import org.apache.dolphinscheduler.server.worker.config.TenantConfig;
 import org.apache.dolphinscheduler.server.worker.config.WorkerConfig;
 import org.apache.dolphinscheduler.server.worker.metrics.WorkerServerMetrics;
+import org.apache.dolphinscheduler.server.worker.resource.WorkerResourceCache;
 
 import org.apache.commons.collections4.CollectionUtils;
 import org.apache.commons.lang3.SystemUtils;
@@ -110,6 +111,7 @@ public class TaskExecutionContextUtils {
     public static ResourceContext downloadResourcesIfNeeded(String tenant,
                                                             TaskChannel taskChannel,
                                                             StorageOperate storageOperate,
+                                                            WorkerResourceCache workerResourceCache,
                                                             TaskExecutionContext taskExecutionContext) {
         AbstractParameters abstractParameters = taskChannel.parseParameters(
                 ParametersNode.builder()
@@ -134,10 +136,11 @@ public class TaskExecutionContextUtils {
             if (!file.exists()) {
                 try {
                     long resourceDownloadStartTime = System.currentTimeMillis();
-                    storageOperate.download(resourceAbsolutePathInStorage, resourceAbsolutePathInLocal, true);
+                    // The resource file is executable, and it may be linked to the read-only cached file
+                    workerResourceCache.download(storageOperate, tenant, resourceAbsolutePathInStorage,
+                            resourceAbsolutePathInLocal, false);
                     log.debug("Download resource file {} under: {} successfully", resourceAbsolutePathInStorage,
                             resourceAbsolutePathInLocal);
-                    FileUtils.setFileTo755(file);
                     WorkerServerMetrics
                             .recordWorkerResourceDownloadTime(System.currentTimeMillis() - resourceDownloadStartTime);
                     WorkerServerMetrics
@@ -28,6 +28,7 @@ import org.apache.dolphinscheduler.plugin.task.api.TaskExecutionContext;
 import org.apache.dolphinscheduler.plugin.task.api.enums.DataType;
 import org.apache.dolphinscheduler.plugin.task.api.enums.Direct;
 import org.apache.dolphinscheduler.plugin.task.api.model.Property;
+import org.apache.dolphinscheduler.server.worker.resource.WorkerResourceCache;
 
 import org.apache.commons.lang3.StringUtils;
 
@@ -134,9 +135,12 @@ public class TaskFilesTransferUtils {
      *
      * @param taskExecutionContext is the context of task
      * @param storageOperate       is the storage operate
+     * @param workerResourceCache  is the worker local cache of the downloaded files
      * @throws TaskException task exception
      */
-    public static void downloadUpstreamFiles(TaskExecutionContext taskExecutionContext, StorageOperate storageOperate) {
+    public static void downloadUpstreamFiles(TaskExecutionContext taskExecutionContext,
+                                             StorageOperate storageOperate,
+                                             WorkerResourceCache workerResourceCache) {
         List<Property> varPools = getVarPools(taskExecutionContext);
         // get map of varPools for quick search
         Map<String, Property> varPoolsMap = varPools.stream().collect(Collectors.toMap(Property::getProp, x -> x));
@@ -178,7 +182,9 @@ public class TaskFilesTransferUtils {
                 String resourceWholePath =
                         storageOperate.getResourceFullName(taskExecutionContext.getTenantCode(), resourcePath);
                 log.info("{} --- Remote:{} to Local:{}", property, resourceWholePath, downloadPath);
-                storageOperate.download(resourceWholePath, downloadPath, true);
+                // The upstream file may be written by the task, so it should not be linked to the cached file
+                workerResourceCache.download(storageOperate, taskExecutionContext.getTenantCode(), resourceWholePath,
+                        downloadPath, true);
             } catch (IOException ex) {
                 throw new TaskException("Download file from storage error", ex);
             }
@@ -0,0 +1,151 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.dolphinscheduler.server.worker.message;
+
+import org.apache.dolphinscheduler.extract.master.transportor.ITaskInstanceExecutionEvent.TaskInstanceExecutionEventType;
+import org.apache.dolphinscheduler.extract.master.transportor.TaskInstanceExecutionFinishEvent;
+import org.apache.dolphinscheduler.extract.master.transportor.TaskInstanceExecutionRunningEvent;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+class MessageOutboxTest {
+
+    @TempDir
+    Path outboxDirectory;
+
+    @Test
+    void testReplay() throws IOException {
+        try (MessageOutbox messageOutbox = new MessageOutbox(outboxDirectory, 1024 * 1024)) {
+            Assertions.assertTrue(messageOutbox.open().isEmpty());
+            messageOutbox.put(runningEvent(1));
+            messageOutbox.put(finishEvent(2));
+            messageOutbox.remove(1, TaskInstanceExecutionEventType.RUNNING);
+            messageOutbox.removeAll(3);
+        }
+
+        try (MessageOutbox messageOutbox = new MessageOutbox(outboxDirectory, 1024 * 1024)) {
+            List<MessageOutbox.OutboxRecord> records = messageOutbox.open();
+            Assertions.assertEquals(4, records.size());
+
+            Assertions.assertEquals(MessageOutbox.Operation.PUT, records.get(0).getOperation());
+            Assertions.assertEquals(runningEvent(1), records.get(0).getEvent());
+            Assertions.assertEquals(finishEvent(2), records.get(1).getEvent());
+
+            Assertions.assertEquals(MessageOutbox.Operation.REMOVE, records.get(2).getOperation());
+            Assertions.assertEquals(1, records.get(2).getTaskInstanceId());
+            Assertions.assertEquals(TaskInstanceExecutionEventType.RUNNING, records.get(2).getEventType());
+
+            Assertions.assertEquals(MessageOutbox.Operation.REMOVE_ALL, records.get(3).getOperation());
+            Assertions.assertEquals(3, records.get(3).getTaskInstanceId());
+            Assertions.assertNull(records.get(3).getEvent());
+        }
+    }
+
+    @Test
+    void testCompact() throws IOException {
+        try (MessageOutbox messageOutbox = new MessageOutbox(outboxDirectory, 1024)) {
+            messageOutbox.open();
+            for (int i = 0; i < 10; i++) {
+                messageOutbox.put(runningEvent(i));
+                messageOutbox.removeAll(i);
+            }
+            messageOutbox.put(finishEvent(100));
+            Assertions.assertTrue(messageOutbox.needCompact());
+
+            messageOutbox.compact(Collections.singletonList(finishEvent(100)));
+            Assertions.assertFalse(messageOutbox.needCompact());
+            Assertions.assertEquals(1, listSegments().size());
+        }
+
+        try (MessageOutbox messageOutbox = new MessageOutbox(outboxDirectory, 1024)) {
+            List<MessageOutbox.OutboxRecord> records = messageOutbox.open();
+            Assertions.assertEquals(1, records.size());
+            Assertions.assertEquals(finishEvent(100), records.get(0).getEvent());
+
+            messageOutbox.clear();
+        }
+
+        try (MessageOutbox messageOutbox = new MessageOutbox(outboxDirectory, 1024)) {
+            Assertions.assertTrue(messageOutbox.open().isEmpty());
+        }
+    }
+
+    @Test
+    void testIgnoreBrokenTail() throws IOException {
+        try (MessageOutbox messageOutbox = new MessageOutbox(outboxDirectory, 1024 * 1024)) {
+            messageOutbox.open();
+            messageOutbox.put(runningEvent(1));
+            messageOutbox.put(finishEvent(1));
+        }
+        Path segment = listSegments().get(0);
+        byte[] segmentBytes = Files.readAllBytes(segment);
+        Files.write(segment, Arrays.copyOf(segmentBytes, segmentBytes.length - 3),
+                StandardOpenOption.TRUNCATE_EXISTING);
+
+        try (MessageOutbox messageOutbox = new MessageOutbox(outboxDirectory, 1024 * 1024)) {
+            List<MessageOutbox.OutboxRecord> records = messageOutbox.open();
+            Assertions.assertEquals(1, records.size());
+            Assertions.assertEquals(runningEvent(1), records.get(0).getEvent());
+
+            // The new records should not be appended after the broken tail
+            messageOutbox.put(finishEvent(1));
+        }
+
+        try (MessageOutbox messageOutbox = new MessageOutbox(outboxDirectory, 1024 * 1024)) {
+            List<MessageOutbox.OutboxRecord> records = messageOutbox.open();
+            Assertions.assertEquals(2, records.size());
+            Assertions.assertEquals(finishEvent(1), records.get(1).getEvent());
+        }
+    }
+
+    private List<Path> listSegments() throws IOException {
+        try (Stream<Path> paths = Files.list(outboxDirectory)) {
+            return paths.filter(path -> path.getFileName().toString().endsWith(".log"))
+                    .sorted()
+                    .collect(Collectors.toList());
+        }
+    }
+
+    private TaskInstanceExecutionRunningEvent runningEvent(int taskInstanceId) {
+        TaskInstanceExecutionRunningEvent runningEvent = new TaskInstanceExecutionRunningEvent();
+        runningEvent.setTaskInstanceId(taskInstanceId);
+        runningEvent.setWorkflowInstanceHost("127.0.0.1:5678");
+        runningEvent.setLogPath("/tmp/" + taskInstanceId + ".log");
+        return runningEvent;
+    }
+
+    private TaskInstanceExecutionFinishEvent finishEvent(int taskInstanceId) {
+        TaskInstanceExecutionFinishEvent finishEvent = new TaskInstanceExecutionFinishEvent();
+        finishEvent.setTaskInstanceId(taskInstanceId);
+        finishEvent.setWorkflowInstanceHost("127.0.0.1:5678");
+        finishEvent.setEndTime(1000L);
+        return finishEvent;
+    }
+}
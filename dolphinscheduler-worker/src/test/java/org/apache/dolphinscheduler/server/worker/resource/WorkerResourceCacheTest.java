@@ -0,0 +1,312 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.dolphinscheduler.server.worker.resource;
+
+import static org.awaitility.Awaitility.await;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyBoolean;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import org.apache.dolphinscheduler.plugin.storage.api.StorageEntity;
+import org.apache.dolphinscheduler.plugin.storage.api.StorageOperate;
+import org.apache.dolphinscheduler.server.worker.config.WorkerConfig;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.attribute.PosixFilePermissions;
+import java.time.Duration;
+import java.util.Date;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+import org.springframework.util.unit.DataSize;
+
+import io.micrometer.core.instrument.Metrics;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+@ExtendWith(MockitoExtension.class)
+@MockitoSettings(strictness = Strictness.LENIENT)
+class WorkerResourceCacheTest {
+
+    @TempDir
+    Path tempDir;
+
+    @Mock
+    private StorageOperate storageOperate;
+
+    private WorkerConfig workerConfig;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        workerConfig = new WorkerConfig();
+        workerConfig.getResourceCache().setPath(tempDir.resolve("cache").toString());
+        mockStorageFile("/res/a.jar", "content-a", 1000L);
+        mockStorageFile("/res/b.jar", "content-b", 1000L);
+    }
+
+    @Test
+    void testDownloadOnceForSameVersion() throws Exception {
+        WorkerResourceCache workerResourceCache = createWorkerResourceCache();
+        Path dstFile1 = tempDir.resolve("task1/a.jar");
+        Path dstFile2 = tempDir.resolve("task2/a.jar");
+
+        workerResourceCache.download(storageOperate, "tenant", "/res/a.jar", dstFile1.toString(), false);
+        workerResourceCache.download(storageOperate, "tenant", "/res/a.jar", dstFile2.toString(), false);
+
+        verify(storageOperate, times(1)).download(eq("/res/a.jar"), anyString(), anyBoolean());
+        Assertions.assertEquals("content-a", readFile(dstFile1));
+        Assertions.assertEquals("content-a", readFile(dstFile2));
+        Assertions.assertEquals(1, workerResourceCache.size());
+    }
+
+    @Test
+    void testDownloadAgainWhenVersionChanged() throws Exception {
+        WorkerResourceCache workerResourceCache = createWorkerResourceCache();
+        workerResourceCache
+                .download(storageOperate, "tenant", "/res/a.jar", tempDir.resolve("task1/a.jar").toString(), false);
+
+        mockStorageFile("/res/a.jar", "content-a-v2", 2000L);
+        Path dstFile = tempDir.resolve("task2/a.jar");
+        workerResourceCache.download(storageOperate, "tenant", "/res/a.jar", dstFile.toString(), false);
+
+        verify(storageOperate, times(2)).download(eq("/res/a.jar"), anyString(), anyBoolean());
+        Assertions.assertEquals("content-a-v2", readFile(dstFile));
+        Assertions.assertEquals(2, workerResourceCache.size());
+    }
+
+    @Test
+    void testEvictLeastRecentlyUsedFile() throws Exception {
+        workerConfig.getResourceCache().setMaxSize(DataSize.ofBytes(15));
+        WorkerResourceCache workerResourceCache = createWorkerResourceCache();
+        Path dstFile = tempDir.resolve("task1/a.jar");
+
+        workerResourceCache.download(storageOperate, "tenant", "/res/a.jar", dstFile.toString(), false);
+        workerResourceCache
+                .download(storageOperate, "tenant", "/res/b.jar", tempDir.resolve("task1/b.jar").toString(), false);
+
+        Assertions.assertEquals(1, workerResourceCache.size());
+        Assertions.assertEquals(9, workerResourceCache.getTotalSize());
+        // the linked file is not affected by the eviction
+        Assertions.assertEquals("content-a", readFile(dstFile));
+
+        workerResourceCache
+                .download(storageOperate, "tenant", "/res/a.jar", tempDir.resolve("task2/a.jar").toString(), false);
+        verify(storageOperate, times(2)).download(eq("/res/a.jar"), anyString(), anyBoolean());
+    }
+
+    @Test
+    void testEvictPartialFileKeptByFailedDownload() throws Exception {
+        workerConfig.getResourceCache().setMaxSize(DataSize.ofBytes(15));
+        doAnswer(invocation -> {
+            // the storage keeps the partially downloaded file to resume the next download
+            writeFile(Paths.get(invocation.getArgument(1, String.class) + ".downloading"), "content-a");
+            throw new IOException("download failed");
+        }).when(storageOperate).download(eq("/res/a.jar"), anyString(), anyBoolean());
+        WorkerResourceCache workerResourceCache = createWorkerResourceCache();
+
+        Assertions.assertThrows(IOException.class, () -> workerResourceCache
+                .download(storageOperate, "tenant", "/res/a.jar", tempDir.resolve("task1/a.jar").toString(), false));
+        Assertions.assertEquals(0, workerResourceCache.size());
+        Assertions.assertEquals(9, workerResourceCache.getTotalSize());
+
+        workerResourceCache
+                .download(storageOperate, "tenant", "/res/b.jar", tempDir.resolve("task1/b.jar").toString(), false);
+
+        Assertions.assertEquals(1, workerResourceCache.size());
+        Assertions.assertEquals(9, workerResourceCache.getTotalSize());
+        try (Stream<Path> cachedFiles = Files.list(tempDir.resolve("cache"))) {
+            Assertions.assertEquals(1, cachedFiles.count());
+        }
+    }
+
+    @Test
+    void testLinkReadOnlyCachedFile() throws Exception {
+        WorkerResourceCache workerResourceCache = createWorkerResourceCache();
+        Path linkedFile1 = tempDir.resolve("task1/a.jar");
+        Path linkedFile2 = tempDir.resolve("task2/a.jar");
+        Path copiedFile = tempDir.resolve("task3/a.jar");
+
+        workerResourceCache.download(storageOperate, "tenant", "/res/a.jar", linkedFile1.toString(), false);
+        workerResourceCache.download(storageOperate, "tenant", "/res/a.jar", linkedFile2.toString(), false);
+        workerResourceCache.download(storageOperate, "tenant", "/res/a.jar", copiedFile.toString(), true);
+
+        verify(storageOperate, times(1)).download(eq("/res/a.jar"), anyString(), anyBoolean());
+        // the linked files share the read-only cached file
+        Assertions.assertTrue(Files.isSameFile(linkedFile1, linkedFile2));
+        Assertions.assertEquals("r-xr-xr-x", PosixFilePermissions.toString(Files.getPosixFilePermissions(linkedFile1)));
+        // the writable file is a copy, writing it will not change the cached file
+        Assertions.assertFalse(Files.isSameFile(linkedFile1, copiedFile));
+        Assertions.assertEquals("rwxr-xr-x", PosixFilePermissions.toString(Files.getPosixFilePermissions(copiedFile)));
+        writeFile(copiedFile, "changed");
+        Assertions.assertEquals("content-a", readFile(linkedFile1));
+    }
+
+    @Test
+    void testDownloadDirectlyWhenFileLargerThanMaxSize() throws Exception {
+        workerConfig.getResourceCache().setMaxSize(DataSize.ofBytes(5));
+        WorkerResourceCache workerResourceCache = createWorkerResourceCache();
+        Path dstFile = tempDir.resolve("task1/a.jar");
+
+        workerResourceCache.download(storageOperate, "tenant", "/res/a.jar", dstFile.toString(), false);
+
+        verify(storageOperate, times(1)).download(eq("/res/a.jar"), anyString(), anyBoolean());
+        verify(storageOperate).download("/res/a.jar", dstFile.toString(), true);
+        Assertions.assertEquals("content-a", readFile(dstFile));
+        Assertions.assertEquals(0, workerResourceCache.size());
+    }
+
+    @Test
+    void testMoveDownloadedFileLargerThanMaxSize() throws Exception {
+        workerConfig.getResourceCache().setMaxSize(DataSize.ofBytes(5));
+        // the file is changed after its status is got
+        mockStorageFile("/res/a.jar", "content-a", 5, 1000L);
+        WorkerResourceCache workerResourceCache = createWorkerResourceCache();
+        Path dstFile = tempDir.resolve("task1/a.jar");
+
+        workerResourceCache.download(storageOperate, "tenant", "/res/a.jar", dstFile.toString(), false);
+
+        verify(storageOperate, times(1)).download(eq("/res/a.jar"), anyString(), anyBoolean());
+        Assertions.assertEquals("content-a", readFile(dstFile));
+        Assertions.assertEquals(0, workerResourceCache.size());
+        try (Stream<Path> cachedFiles = Files.list(tempDir.resolve("cache"))) {
+            Assertions.assertEquals(0, cachedFiles.count());
+        }
+    }
+
+    @Test
+    void testDownloadDirectlyWhenVersionUnknown() throws Exception {
+        when(storageOperate.getFileStatus(eq("/res/a.jar"), anyString(), anyString(), any()))
+                .thenThrow(new IOException("not supported"));
+        WorkerResourceCache workerResourceCache = createWorkerResourceCache();
+        Path dstFile = tempDir.resolve("task1/a.jar");
+
+        workerResourceCache.download(storageOperate, "tenant", "/res/a.jar", dstFile.toString(), false);
+
+        verify(storageOperate).download("/res/a.jar", dstFile.toString(), true);
+        Assertions.assertEquals(0, workerResourceCache.size());
+    }
+
+    @Test
+    void testMergeConcurrentDownloads() throws Exception {
+        CountDownLatch downloadStarted = new CountDownLatch(1);
+        CountDownLatch downloadAllowed = new CountDownLatch(1);
+        doAnswer(invocation -> {
+            downloadStarted.countDown();
+            downloadAllowed.await(10, TimeUnit.SECONDS);
+            writeFile(Paths.get(invocation.getArgument(1, String.class)), "content-a");
+            return null;
+        }).when(storageOperate).download(eq("/res/a.jar"), anyString(), anyBoolean());
+        WorkerResourceCache workerResourceCache = createWorkerResourceCache();
+
+        SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+        Metrics.addRegistry(meterRegistry);
+        ExecutorService executorService = Executors.newFixedThreadPool(2);
+        try {
+            Future<?> future1 = executorService.submit(() -> download(workerResourceCache, "task1/a.jar"));
+            Assertions.assertTrue(downloadStarted.await(10, TimeUnit.SECONDS));
+            Future<?> future2 = executorService.submit(() -> download(workerResourceCache, "task2/a.jar"));
+            // The first download is blocked in the storage, so the second download can only wait for it
+            await().atMost(Duration.ofSeconds(10)).until(() -> meterRegistry.get("ds.worker.resource.cache.count")
+                    .tag("result", "coalesced").counter().count() == 1);
+            downloadAllowed.countDown();
+            future1.get(10, TimeUnit.SECONDS);
+            future2.get(10, TimeUnit.SECONDS);
+        } finally {
+            executorService.shutdownNow();
+            Metrics.removeRegistry(meterRegistry);
+        }
+
+        verify(storageOperate, times(1)).download(eq("/res/a.jar"), anyString(), anyBoolean());
+        Assertions.assertEquals("content-a", readFile(tempDir.resolve("task2/a.jar")));
+    }
+
+    @Test
+    void testLoadCachedFilesAfterRestart() throws Exception {
+        createWorkerResourceCache()
+                .download(storageOperate, "tenant", "/res/a.jar", tempDir.resolve("task1/a.jar").toString(), false);
+
+        WorkerResourceCache restartedWorkerResourceCache = createWorkerResourceCache();
+        restartedWorkerResourceCache
+                .download(storageOperate, "tenant", "/res/a.jar", tempDir.resolve("task2/a.jar").toString(), false);
+
+        Assertions.assertEquals(1, restartedWorkerResourceCache.size());
+        verify(storageOperate, times(1)).download(eq("/res/a.jar"), anyString(), anyBoolean());
+    }
+
+    private WorkerResourceCache createWorkerResourceCache() throws IOException {
+        WorkerResourceCache workerResourceCache = new WorkerResourceCache(workerConfig);
+        workerResourceCache.init();
+        return workerResourceCache;
+    }
+
+    private Void download(WorkerResourceCache workerResourceCache, String dstFile) throws IOException {
+        workerResourceCache
+                .download(storageOperate, "tenant", "/res/a.jar", tempDir.resolve(dstFile).toString(), false);
+        return null;
+    }
+
+    private void mockStorageFile(String path, String content, long updateTime) throws IOException {
+        mockStorageFile(path, content, content.length(), updateTime);
+    }
+
+    private void mockStorageFile(String path, String content, long size, long updateTime) throws IOException {
+        StorageEntity storageEntity = new StorageEntity();
+        storageEntity.setFullName(path);
+        storageEntity.setSize(size);
+        storageEntity.setUpdateTime(new Date(updateTime));
+        try {
+            when(storageOperate.getFileStatus(eq(path), anyString(), anyString(), any())).thenReturn(storageEntity);
+        } catch (Exception ex) {
+            throw new IOException(ex);
+        }
+        doAnswer(invocation -> {
+            writeFile(Paths.get(invocation.getArgument(1, String.class)), content);
+            return null;
+        }).when(storageOperate).download(eq(path), anyString(), anyBoolean());
+    }
+
+    private static void writeFile(Path path, String content) throws IOException {
+        Files.createDirectories(path.getParent());
+        Files.write(path, content.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static String readFile(Path path) throws IOException {
+        return new String(Files.readAllBytes(path), StandardCharsets.UTF_8);
+    }
+}
@@ -25,6 +25,7 @@ import org.apache.dolphinscheduler.plugin.task.api.TaskExecutionContext;
 import org.apache.dolphinscheduler.server.worker.config.TaskExecuteThreadsFullPolicy;
 import org.apache.dolphinscheduler.server.worker.config.WorkerConfig;
 import org.apache.dolphinscheduler.server.worker.registry.WorkerRegistryClient;
+import org.apache.dolphinscheduler.server.worker.resource.WorkerResourceCache;
 import org.apache.dolphinscheduler.server.worker.rpc.WorkerMessageSender;
 import org.apache.dolphinscheduler.spi.enums.ResourceType;
 
@@ -175,7 +176,7 @@ class WorkerTaskExecutorThreadPoolTest {
                                                            ResourceType type) throws Exception {
                             return null;
                         }
-                    }, new WorkerRegistryClient());
+                    }, new WorkerRegistryClient(), new WorkerResourceCache(new WorkerConfig()));
             this.runnable = runnable;
         }
 
@@ -23,6 +23,7 @@ import org.apache.dolphinscheduler.plugin.task.api.TaskExecutionContext;
 import org.apache.dolphinscheduler.plugin.task.api.enums.DataType;
 import org.apache.dolphinscheduler.plugin.task.api.enums.Direct;
 import org.apache.dolphinscheduler.plugin.task.api.model.Property;
+import org.apache.dolphinscheduler.server.worker.resource.WorkerResourceCache;
 
 import org.apache.curator.shaded.com.google.common.io.Files;
 
@@ -155,9 +156,11 @@ public class TaskFilesTransferUtilsTest {
                 .build();
 
         StorageOperate storageOperate = Mockito.mock(StorageOperate.class);
+        WorkerResourceCache workerResourceCache = Mockito.mock(WorkerResourceCache.class);
         Mockito.mockStatic(ZipUtil.class);
         Assertions.assertDoesNotThrow(
-                () -> TaskFilesTransferUtils.downloadUpstreamFiles(taskExecutionContext, storageOperate));
+                () -> TaskFilesTransferUtils.downloadUpstreamFiles(taskExecutionContext, storageOperate,
+                        workerResourceCache));
     }
 
     @Test